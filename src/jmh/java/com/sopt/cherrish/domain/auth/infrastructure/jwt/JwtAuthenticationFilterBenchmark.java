@@ -0,0 +1,145 @@
+package com.sopt.cherrish.domain.auth.infrastructure.jwt;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Base64;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.sopt.cherrish.domain.auth.domain.model.SocialProvider;
+import com.sopt.cherrish.domain.auth.domain.repository.AccessTokenBlacklistRepository;
+import com.sopt.cherrish.domain.user.domain.model.User;
+import com.sopt.cherrish.domain.user.domain.repository.UserRepository;
+import com.sopt.cherrish.domain.user.infrastructure.cache.UserExistenceCache;
+import com.sopt.cherrish.global.security.UserPrincipal;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+/**
+ * JwtAuthenticationFilter 인증 경로 벤치마크.
+ *
+ * <p>기존 경로(요청마다 validateToken, isAccessToken, getUserId가 각각 서명을 검증하고 사용자를 조회)와
+ * 단일 파싱 경로(토큰 캐시 비활성/활성)를 비교합니다. 저장소는 목 객체로 대체하여 JWT 처리 비용만 측정합니다.</p>
+ *
+ * <pre>./gradlew jmh</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+	private static final String SECRET_KEY = Base64.getEncoder()
+		.encodeToString("cherrish-benchmark-secret-key-32-bytes!!".getBytes());
+	private static final Long USER_ID = 1L;
+
+	private String accessToken;
+	private SecretKey legacySecretKey;
+	private UserRepository userRepository;
+	private AccessTokenBlacklistRepository blacklistRepository;
+	private JwtAuthenticationFilter singleParseFilter;
+	private JwtAuthenticationFilter cachedFilter;
+	private MockHttpServletRequest request;
+
+	@Setup
+	public void setUp() {
+		userRepository = mock(UserRepository.class);
+		blacklistRepository = mock(AccessTokenBlacklistRepository.class);
+		User user = User.builder()
+			.name("사용자")
+			.age(0)
+			.socialProvider(SocialProvider.KAKAO)
+			.socialId("benchmark")
+			.build();
+		ReflectionTestUtils.setField(user, "id", USER_ID);
+		when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
+		when(userRepository.existsById(anyLong())).thenReturn(true);
+
+		JwtTokenProvider uncachedProvider = createProvider(0);
+		JwtTokenProvider cachedProvider = createProvider(10_000);
+		singleParseFilter = new JwtAuthenticationFilter(
+			uncachedProvider, new UserExistenceCache(userRepository), blacklistRepository);
+		cachedFilter = new JwtAuthenticationFilter(
+			cachedProvider, new UserExistenceCache(userRepository), blacklistRepository);
+
+		accessToken = cachedProvider.createAccessToken(USER_ID).token();
+		legacySecretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET_KEY));
+
+		request = new MockHttpServletRequest();
+		request.addHeader("Authorization", "Bearer " + accessToken);
+	}
+
+	private JwtTokenProvider createProvider(long cacheSize) {
+		JwtProperties properties = new JwtProperties();
+		properties.setSecretKey(SECRET_KEY);
+		properties.setAccessTokenExpiration(TimeUnit.HOURS.toMillis(1));
+		properties.setRefreshTokenExpiration(TimeUnit.DAYS.toMillis(14));
+		properties.setVerifiedTokenCacheSize(cacheSize);
+		JwtTokenProvider provider = new JwtTokenProvider(properties);
+		provider.init();
+		return provider;
+	}
+
+	/**
+	 * 기존 필터 경로: 요청마다 파서를 만들고 서명 검증과 디코딩을 세 번 수행합니다.
+	 */
+	@Benchmark
+	public Object legacyTripleParse() {
+		legacyParse(accessToken);
+		boolean isAccessToken = "access".equals(legacyParse(accessToken).get("type", String.class));
+		if (!isAccessToken || blacklistRepository.isBlacklisted(accessToken)) {
+			return null;
+		}
+		Long userId = Long.parseLong(legacyParse(accessToken).getSubject());
+		UserPrincipal principal = UserPrincipal.of(userRepository.findById(userId).orElseThrow().getId());
+		SecurityContextHolder.getContext().setAuthentication(
+			new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+		SecurityContextHolder.clearContext();
+		return principal;
+	}
+
+	@Benchmark
+	public Object filterSingleParse() throws Exception {
+		return runFilter(singleParseFilter);
+	}
+
+	@Benchmark
+	public Object filterSingleParseCached() throws Exception {
+		return runFilter(cachedFilter);
+	}
+
+	private Object runFilter(JwtAuthenticationFilter filter) throws Exception {
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+		Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+		SecurityContextHolder.clearContext();
+		return principal;
+	}
+
+	private Claims legacyParse(String token) {
+		return Jwts.parser()
+			.verifyWith(legacySecretKey)
+			.build()
+			.parseSignedClaims(token)
+			.getPayload();
+	}
+}
@@ -0,0 +1,78 @@
+package com.sopt.cherrish.domain.auth.infrastructure.jwt;
+
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JwtTokenProvider 발급/검증 벤치마크.
+ *
+ * <p>검증 결과 캐시를 끈 경우(매번 서명 검증)와 켠 경우를 나누어 측정합니다.</p>
+ *
+ * <pre>./gradlew jmh -Pjmh.includes=JwtTokenProviderBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtTokenProviderBenchmark {
+
+	private static final String SECRET_KEY = Base64.getEncoder()
+		.encodeToString("cherrish-benchmark-secret-key-32-bytes!!".getBytes());
+	private static final Long USER_ID = 1L;
+
+	private JwtTokenProvider uncachedProvider;
+	private JwtTokenProvider cachedProvider;
+	private String accessToken;
+
+	@Setup
+	public void setUp() {
+		uncachedProvider = createProvider(0);
+		cachedProvider = createProvider(10_000);
+		accessToken = cachedProvider.createAccessToken(USER_ID).token();
+	}
+
+	private JwtTokenProvider createProvider(long cacheSize) {
+		JwtProperties properties = new JwtProperties();
+		properties.setSecretKey(SECRET_KEY);
+		properties.setAccessTokenExpiration(TimeUnit.HOURS.toMillis(1));
+		properties.setRefreshTokenExpiration(TimeUnit.DAYS.toMillis(14));
+		properties.setVerifiedTokenCacheSize(cacheSize);
+		JwtTokenProvider provider = new JwtTokenProvider(properties);
+		provider.init();
+		return provider;
+	}
+
+	@Benchmark
+	public IssuedToken createAccessToken() {
+		return uncachedProvider.createAccessToken(USER_ID);
+	}
+
+	@Benchmark
+	public String validateToken() {
+		uncachedProvider.validateToken(accessToken);
+		return accessToken;
+	}
+
+	@Benchmark
+	public String validateTokenCached() {
+		cachedProvider.validateToken(accessToken);
+		return accessToken;
+	}
+
+	@Benchmark
+	public Long getUserId() {
+		return uncachedProvider.getUserId(accessToken);
+	}
+
+	@Benchmark
+	public Long getUserIdCached() {
+		return cachedProvider.getUserId(accessToken);
+	}
+}
@@ -0,0 +1,89 @@
+package com.sopt.cherrish.domain.auth.infrastructure.social;
+
+import static com.sopt.cherrish.domain.auth.fixture.SocialProviderStandInServer.JWKS_PATH;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sopt.cherrish.domain.auth.fixture.SocialProviderStandInServer;
+import com.sopt.cherrish.domain.auth.fixture.TestSigningKey;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * AppleAuthClient Identity Token 검증 벤치마크.
+ *
+ * <p>Apple처럼 JWKS에 키 3개를 게시한 로컬 서버를 사용합니다. 공개키는 설정 단계에서 한 번만 받아오므로
+ * 측정 구간에는 kid 매칭과 RS256 서명 검증만 포함됩니다.</p>
+ * <ul>
+ *   <li>{@code verifyIdentityToken}: 헤더 파싱, kid 매칭, 서명 및 클레임 검증 전체</li>
+ *   <li>{@code signatureOnly}: 미리 찾은 키의 파서로 서명 및 클레임만 검증 (kid 매칭 비용 비교용)</li>
+ * </ul>
+ *
+ * <pre>./gradlew jmh -Pjmh.includes=AppleAuthClientBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AppleAuthClientBenchmark {
+
+	private static final String APPLE_ISSUER = "https://appleid.apple.com";
+	private static final String CLIENT_ID = "com.benchmark.app";
+
+	private SocialProviderStandInServer server;
+	private AppleAuthClient appleAuthClient;
+	private JwtParser directParser;
+	private String identityToken;
+
+	@Setup
+	public void setUp() {
+		TestSigningKey first = TestSigningKey.generate("apple-key-1");
+		TestSigningKey second = TestSigningKey.generate("apple-key-2");
+		TestSigningKey third = TestSigningKey.generate("apple-key-3");
+
+		server = SocialProviderStandInServer.start();
+		server.publishKeys(first, second, third);
+
+		appleAuthClient = new AppleAuthClient(
+			new RestTemplate(), new ObjectMapper(), Clock.systemUTC(), CLIENT_ID, server.url(JWKS_PATH));
+		directParser = Jwts.parser()
+			.verifyWith(third.keyPair().getPublic())
+			.requireIssuer(APPLE_ISSUER)
+			.requireAudience(CLIENT_ID)
+			.build();
+
+		identityToken = third.idTokenBuilder(APPLE_ISSUER, CLIENT_ID, "apple-user", Instant.now().plusSeconds(3600))
+			.claim("email", "apple-user@privaterelay.appleid.com")
+			.compact();
+		appleAuthClient.getUserInfo(identityToken);
+	}
+
+	@TearDown
+	public void tearDown() {
+		server.close();
+	}
+
+	@Benchmark
+	public SocialUserInfo verifyIdentityToken() {
+		return appleAuthClient.getUserInfo(identityToken);
+	}
+
+	@Benchmark
+	public Claims signatureOnly() {
+		return directParser.parseSignedClaims(identityToken).getPayload();
+	}
+}
@@ -0,0 +1,286 @@
+package com.sopt.cherrish.domain.challenge.core.application.service;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * 루틴 일괄 업데이트 벤치마크 (엔티티 로드 + 행별 UPDATE vs 잠금 프로젝션 조회 + 단일 UPDATE).
+ *
+ * <p>PostgreSQL 컨테이너에서 한 트랜잭션 동안 실행되는 SQL을 그대로 재현합니다.</p>
+ * <ul>
+ *   <li>perRow: Routine/Challenge/Statistics Fetch Join 조회(IN 절 길이 = 루틴 수) 후 바뀐 루틴마다 UPDATE (JDBC 배치)</li>
+ *   <li>setBased: 잠금 프로젝션 조회 1 + 바뀐 루틴 토글 UPDATE 1 (IN 절 파라미터 패딩 적용)</li>
+ * </ul>
+ * <p>두 방식 모두 마지막에 통계 UPDATE 1회를 실행합니다.</p>
+ *
+ * <pre>./gradlew jmh -Pjmh.includes=ChallengeRoutineBatchUpdateBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class ChallengeRoutineBatchUpdateBenchmark {
+
+	private static final int CHALLENGE_COUNT = 2_000;
+	private static final int ROUTINES_PER_CHALLENGE = 120;
+
+	@Param({"1", "20", "120"})
+	private int batchSize;
+
+	private PostgreSQLContainer<?> postgres;
+	private Connection connection;
+
+	private PreparedStatement perRowSelect;
+	private PreparedStatement perRowUpdate;
+	private PreparedStatement statisticsUpdate;
+	private final Map<Integer, PreparedStatement> setBasedSelects = new HashMap<>();
+	private final Map<Integer, PreparedStatement> setBasedUpdates = new HashMap<>();
+
+	@Setup
+	public void setUp() throws SQLException {
+		postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+		postgres.start();
+		connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("""
+				CREATE TABLE challenges (
+					id BIGSERIAL PRIMARY KEY,
+					user_id BIGINT NOT NULL,
+					title VARCHAR(100) NOT NULL,
+					start_date DATE NOT NULL,
+					end_date DATE NOT NULL
+				);
+				CREATE TABLE challenge_statistics (
+					id BIGSERIAL PRIMARY KEY,
+					challenge_id BIGINT NOT NULL UNIQUE,
+					completed_count INTEGER NOT NULL DEFAULT 0,
+					total_routine_count INTEGER NOT NULL,
+					version BIGINT NOT NULL DEFAULT 0,
+					updated_at TIMESTAMP(6)
+				);
+				CREATE TABLE challenge_routines (
+					id BIGSERIAL PRIMARY KEY,
+					challenge_id BIGINT NOT NULL,
+					name VARCHAR(100) NOT NULL,
+					scheduled_date DATE NOT NULL,
+					is_complete BOOLEAN NOT NULL DEFAULT FALSE,
+					created_at TIMESTAMP(6) NOT NULL DEFAULT now(),
+					updated_at TIMESTAMP(6)
+				);
+				CREATE INDEX idx_challenge_scheduled ON challenge_routines (challenge_id, scheduled_date);
+				""");
+			statement.execute("""
+				INSERT INTO challenges (user_id, title, start_date, end_date)
+				SELECT c, '챌린지', DATE '2024-01-01', DATE '2024-12-31'
+				FROM generate_series(1, %d) c
+				""".formatted(CHALLENGE_COUNT));
+			statement.execute("""
+				INSERT INTO challenge_statistics (challenge_id, total_routine_count)
+				SELECT c, %d FROM generate_series(1, %d) c
+				""".formatted(ROUTINES_PER_CHALLENGE, CHALLENGE_COUNT));
+			statement.execute("""
+				INSERT INTO challenge_routines (challenge_id, name, scheduled_date, is_complete)
+				SELECT c, '루틴 ' || r, DATE '2024-01-01' + (r / 3), random() < 0.5
+				FROM generate_series(1, %d) c, generate_series(0, %d) r
+				ORDER BY c, r
+				""".formatted(CHALLENGE_COUNT, ROUTINES_PER_CHALLENGE - 1));
+			statement.execute("VACUUM ANALYZE");
+		}
+		connection.setAutoCommit(false);
+
+		perRowSelect = connection.prepareStatement("""
+			SELECT r.id, r.challenge_id, r.name, r.scheduled_date, r.is_complete, r.created_at, r.updated_at,
+				c.id, c.user_id, c.title, c.start_date, c.end_date,
+				s.id, s.completed_count, s.total_routine_count, s.version
+			FROM challenge_routines r
+			JOIN challenges c ON c.id = r.challenge_id
+			JOIN challenge_statistics s ON s.challenge_id = c.id
+			WHERE r.id IN (%s)
+			""".formatted(placeholders(batchSize)));
+		perRowUpdate = connection.prepareStatement("""
+			UPDATE challenge_routines SET challenge_id = ?, name = ?, scheduled_date = ?, is_complete = ?, updated_at = now()
+			WHERE id = ?
+			""");
+		statisticsUpdate = connection.prepareStatement("""
+			UPDATE challenge_statistics
+			SET completed_count = LEAST(GREATEST(completed_count + ?, 0), total_routine_count),
+				version = version + 1, updated_at = now()
+			WHERE challenge_id = ?
+			""");
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		connection.close();
+		postgres.stop();
+	}
+
+	@Benchmark
+	public int perRow() throws SQLException {
+		long challengeId = randomChallengeId();
+		long[] routineIds = routineIds(challengeId);
+		boolean[] requested = randomStates();
+
+		for (int i = 0; i < routineIds.length; i++) {
+			perRowSelect.setLong(i + 1, routineIds[i]);
+		}
+		Map<Long, Object[]> rows = new HashMap<>();
+		try (ResultSet resultSet = perRowSelect.executeQuery()) {
+			while (resultSet.next()) {
+				rows.put(resultSet.getLong(1), new Object[] {
+					resultSet.getLong(2), resultSet.getString(3), resultSet.getDate(4), resultSet.getBoolean(5)
+				});
+			}
+		}
+
+		int delta = 0;
+		for (int i = 0; i < routineIds.length; i++) {
+			Object[] row = rows.get(routineIds[i]);
+			if ((boolean) row[3] == requested[i]) {
+				continue;
+			}
+			perRowUpdate.setLong(1, (long) row[0]);
+			perRowUpdate.setString(2, (String) row[1]);
+			perRowUpdate.setDate(3, (Date) row[2]);
+			perRowUpdate.setBoolean(4, requested[i]);
+			perRowUpdate.setLong(5, routineIds[i]);
+			perRowUpdate.addBatch();
+			delta += requested[i] ? 1 : -1;
+		}
+		perRowUpdate.executeBatch();
+		return finish(challengeId, delta);
+	}
+
+	@Benchmark
+	public int setBased() throws SQLException {
+		long challengeId = randomChallengeId();
+		long[] routineIds = routineIds(challengeId);
+		boolean[] requested = randomStates();
+
+		PreparedStatement select = setBasedSelects.computeIfAbsent(paddedSize(routineIds.length), this::prepareSetBasedSelect);
+		bindPadded(select, routineIds, routineIds.length);
+		Map<Long, Boolean> current = new HashMap<>();
+		try (ResultSet resultSet = select.executeQuery()) {
+			while (resultSet.next()) {
+				current.put(resultSet.getLong(1), resultSet.getBoolean(4));
+			}
+		}
+
+		List<Long> changedIds = new ArrayList<>();
+		int delta = 0;
+		for (int i = 0; i < routineIds.length; i++) {
+			if (current.get(routineIds[i]) != requested[i]) {
+				changedIds.add(routineIds[i]);
+				delta += requested[i] ? 1 : -1;
+			}
+		}
+		if (!changedIds.isEmpty()) {
+			PreparedStatement update = setBasedUpdates.computeIfAbsent(
+				paddedSize(changedIds.size()), this::prepareSetBasedUpdate);
+			bindPadded(update, changedIds.stream().mapToLong(Long::longValue).toArray(), changedIds.size());
+			update.executeUpdate();
+		}
+		return finish(challengeId, delta);
+	}
+
+	private int finish(long challengeId, int delta) throws SQLException {
+		if (delta != 0) {
+			statisticsUpdate.setInt(1, delta);
+			statisticsUpdate.setLong(2, challengeId);
+			statisticsUpdate.executeUpdate();
+		}
+		connection.commit();
+		return delta;
+	}
+
+	private PreparedStatement prepareSetBasedSelect(int size) {
+		return prepare("""
+			SELECT r.id, r.name, r.scheduled_date, r.is_complete, c.id, c.user_id, c.start_date, c.end_date
+			FROM challenge_routines r
+			JOIN challenges c ON c.id = r.challenge_id
+			WHERE r.id IN (%s)
+			ORDER BY r.id
+			FOR UPDATE
+			""".formatted(placeholders(size)));
+	}
+
+	private PreparedStatement prepareSetBasedUpdate(int size) {
+		return prepare("""
+			UPDATE challenge_routines
+			SET is_complete = CASE WHEN is_complete = true THEN false ELSE true END, updated_at = now()
+			WHERE id IN (%s)
+			""".formatted(placeholders(size)));
+	}
+
+	private PreparedStatement prepare(String sql) {
+		try {
+			return connection.prepareStatement(sql);
+		} catch (SQLException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Hibernate의 in_clause_parameter_padding과 같이 남는 자리를 마지막 값으로 채움
+	 */
+	private void bindPadded(PreparedStatement statement, long[] ids, int size) throws SQLException {
+		int paddedSize = paddedSize(size);
+		for (int i = 0; i < paddedSize; i++) {
+			statement.setLong(i + 1, ids[Math.min(i, size - 1)]);
+		}
+	}
+
+	private long randomChallengeId() {
+		return ThreadLocalRandom.current().nextLong(1, CHALLENGE_COUNT + 1);
+	}
+
+	private long[] routineIds(long challengeId) {
+		long firstId = (challengeId - 1) * ROUTINES_PER_CHALLENGE + 1;
+		long[] routineIds = new long[batchSize];
+		for (int i = 0; i < batchSize; i++) {
+			routineIds[i] = firstId + i;
+		}
+		return routineIds;
+	}
+
+	private boolean[] randomStates() {
+		boolean[] states = new boolean[batchSize];
+		for (int i = 0; i < batchSize; i++) {
+			states[i] = ThreadLocalRandom.current().nextBoolean();
+		}
+		return states;
+	}
+
+	private static int paddedSize(int size) {
+		return Integer.highestOneBit(size) == size ? size : Integer.highestOneBit(size) << 1;
+	}
+
+	private static String placeholders(int size) {
+		return String.join(", ", Collections.nCopies(size, "?"));
+	}
+}
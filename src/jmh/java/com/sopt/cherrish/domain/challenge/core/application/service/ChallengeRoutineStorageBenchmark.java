@@ -0,0 +1,169 @@
+package com.sopt.cherrish.domain.challenge.core.application.service;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * 챌린지 루틴 저장 방식 벤치마크 (행 모델 vs 압축 저장 모델).
+ *
+ * <p>PostgreSQL 컨테이너에 두 모델을 같은 데이터로 채운 뒤, 상세 조회(오늘의 루틴)와 토글 UPDATE의 지연 시간을 비교합니다.
+ * 테이블 크기(인덱스 포함)는 Setup 단계에서 출력합니다.</p>
+ *
+ * <pre>./gradlew jmh -Pjmh.includes=ChallengeRoutineStorageBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+public class ChallengeRoutineStorageBenchmark {
+
+	private static final int CHALLENGE_COUNT = 10_000;
+	private static final int ROUTINES_PER_DAY = 3;
+	private static final int TOTAL_DAYS = 7;
+
+	private PostgreSQLContainer<?> postgres;
+	private Connection connection;
+
+	private PreparedStatement rowsDetail;
+	private PreparedStatement compactDetail;
+	private PreparedStatement rowsToggle;
+	private PreparedStatement compactToggle;
+
+	@Setup
+	public void setUp() throws SQLException {
+		postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+		postgres.start();
+		connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("""
+				CREATE TABLE challenge_routines (
+					id BIGSERIAL PRIMARY KEY,
+					challenge_id BIGINT NOT NULL,
+					name VARCHAR(100) NOT NULL,
+					scheduled_date DATE NOT NULL,
+					is_complete BOOLEAN NOT NULL DEFAULT FALSE,
+					created_at TIMESTAMP(6) NOT NULL DEFAULT now(),
+					updated_at TIMESTAMP(6)
+				);
+				CREATE INDEX idx_challenge_scheduled ON challenge_routines (challenge_id, scheduled_date);
+				CREATE INDEX idx_challenge_complete ON challenge_routines (challenge_id, is_complete);
+
+				CREATE TABLE challenge_routine_definitions (
+					id BIGSERIAL PRIMARY KEY,
+					challenge_id BIGINT NOT NULL,
+					name VARCHAR(100) NOT NULL,
+					start_day INTEGER NOT NULL,
+					completion_bitmap BIGINT NOT NULL DEFAULT 0,
+					created_at TIMESTAMP(6) NOT NULL DEFAULT now(),
+					updated_at TIMESTAMP(6)
+				);
+				CREATE INDEX idx_routine_definition_challenge ON challenge_routine_definitions (challenge_id);
+				""");
+
+			statement.execute("""
+				INSERT INTO challenge_routines (challenge_id, name, scheduled_date, is_complete)
+				SELECT c, '루틴 ' || r, DATE '2024-01-01' + d, random() < 0.5
+				FROM generate_series(1, %d) c, generate_series(0, %d) d, generate_series(1, %d) r
+				ORDER BY c, d, r
+				""".formatted(CHALLENGE_COUNT, TOTAL_DAYS - 1, ROUTINES_PER_DAY));
+			statement.execute("""
+				INSERT INTO challenge_routine_definitions (challenge_id, name, start_day, completion_bitmap)
+				SELECT c, '루틴 ' || r, 0, (random() * 127)::BIGINT
+				FROM generate_series(1, %d) c, generate_series(1, %d) r
+				ORDER BY c, r
+				""".formatted(CHALLENGE_COUNT, ROUTINES_PER_DAY));
+			statement.execute("VACUUM ANALYZE");
+
+			printTableSize(statement, "challenge_routines");
+			printTableSize(statement, "challenge_routine_definitions");
+		}
+
+		rowsDetail = connection.prepareStatement("""
+			SELECT id, name, scheduled_date, is_complete FROM challenge_routines
+			WHERE challenge_id = ? AND scheduled_date = DATE '2024-01-01' + ?
+			""");
+		compactDetail = connection.prepareStatement("""
+			SELECT id, name, start_day, completion_bitmap FROM challenge_routine_definitions
+			WHERE challenge_id = ? ORDER BY id
+			""");
+		rowsToggle = connection.prepareStatement("""
+			UPDATE challenge_routines SET is_complete = NOT is_complete, updated_at = now()
+			WHERE id = ?
+			""");
+		compactToggle = connection.prepareStatement("""
+			UPDATE challenge_routine_definitions
+			SET completion_bitmap = completion_bitmap # (1::BIGINT << ?), updated_at = now()
+			WHERE id = ?
+			""");
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		connection.close();
+		postgres.stop();
+	}
+
+	@Benchmark
+	public void rowsDetail(Blackhole blackhole) throws SQLException {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		rowsDetail.setLong(1, random.nextLong(1, CHALLENGE_COUNT + 1));
+		rowsDetail.setInt(2, random.nextInt(TOTAL_DAYS));
+		consume(rowsDetail, blackhole);
+	}
+
+	@Benchmark
+	public void compactDetail(Blackhole blackhole) throws SQLException {
+		compactDetail.setLong(1, ThreadLocalRandom.current().nextLong(1, CHALLENGE_COUNT + 1));
+		consume(compactDetail, blackhole);
+	}
+
+	@Benchmark
+	public int rowsToggle() throws SQLException {
+		rowsToggle.setLong(1, ThreadLocalRandom.current().nextLong(1, (long) CHALLENGE_COUNT * ROUTINES_PER_DAY * TOTAL_DAYS + 1));
+		return rowsToggle.executeUpdate();
+	}
+
+	@Benchmark
+	public int compactToggle() throws SQLException {
+		ThreadLocalRandom random = ThreadLocalRandom.current();
+		compactToggle.setInt(1, random.nextInt(TOTAL_DAYS));
+		compactToggle.setLong(2, random.nextLong(1, (long) CHALLENGE_COUNT * ROUTINES_PER_DAY + 1));
+		return compactToggle.executeUpdate();
+	}
+
+	private void consume(PreparedStatement statement, Blackhole blackhole) throws SQLException {
+		try (ResultSet resultSet = statement.executeQuery()) {
+			while (resultSet.next()) {
+				blackhole.consume(resultSet.getLong(1));
+				blackhole.consume(resultSet.getString(2));
+			}
+		}
+	}
+
+	private void printTableSize(Statement statement, String table) throws SQLException {
+		try (ResultSet resultSet = statement.executeQuery(
+			"SELECT count(*), pg_size_pretty(pg_total_relation_size('" + table + "')) FROM " + table)) {
+			resultSet.next();
+			System.out.printf("%s: %d rows, %s (including indexes)%n", table, resultSet.getLong(1), resultSet.getString(2));
+		}
+	}
+}
@@ -0,0 +1,174 @@
+package com.sopt.cherrish.global.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyStore;
+import java.util.concurrent.TimeUnit;
+
+import javax.net.ssl.HttpsURLConnection;
+import javax.net.ssl.KeyManagerFactory;
+import javax.net.ssl.SSLContext;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.DefaultClientTlsStrategy;
+import org.apache.hc.core5.ssl.SSLContexts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import com.sopt.cherrish.domain.auth.infrastructure.social.SocialHttpClientProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpsConfigurator;
+import com.sun.net.httpserver.HttpsServer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 소셜 로그인 HTTP 클라이언트 벤치마크.
+ *
+ * <p>로컬 HTTPS 서버(카카오 사용자 정보 API 대역)를 대상으로 세 가지 경로를 비교합니다.</p>
+ * <ul>
+ *   <li>{@code jdkDefaultFactory}: 기존 기본 RestTemplate (HttpURLConnection)</li>
+ *   <li>{@code newConnectionPerRequest}: 요청마다 TCP + TLS 핸드셰이크를 새로 수행</li>
+ *   <li>{@code pooledKeepAlive}: 제공자별 커넥션 풀 (RestTemplateConfig와 동일한 설정)</li>
+ * </ul>
+ *
+ * <pre>./gradlew jmh -Pjmh.includes=SocialHttpClientBenchmark</pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SocialHttpClientBenchmark {
+
+	private static final String USER_INFO_PATH = "/v2/user/me";
+	private static final String STORE_PASSWORD = "benchmark";
+	private static final byte[] RESPONSE_BODY =
+		"{\"id\":12345,\"kakao_account\":{\"email\":\"bench@kakao.com\"}}".getBytes(StandardCharsets.UTF_8);
+
+	private HttpsServer server;
+	private String url;
+	private HttpEntity<Void> request;
+	private CloseableHttpClient pooledClient;
+	private CloseableHttpClient nonReusingClient;
+	private RestTemplate jdkDefault;
+	private RestTemplate pooled;
+	private RestTemplate newConnectionPerRequest;
+
+	@Setup
+	public void setUp() throws Exception {
+		KeyStore keyStore = generateLocalhostKeyStore();
+		SSLContext serverContext = SSLContext.getInstance("TLS");
+		KeyManagerFactory keyManagerFactory = KeyManagerFactory.getInstance(KeyManagerFactory.getDefaultAlgorithm());
+		keyManagerFactory.init(keyStore, STORE_PASSWORD.toCharArray());
+		serverContext.init(keyManagerFactory.getKeyManagers(), null, null);
+
+		server = HttpsServer.create(new InetSocketAddress("localhost", 0), 0);
+		server.setHttpsConfigurator(new HttpsConfigurator(serverContext));
+		server.createContext(USER_INFO_PATH, this::handle);
+		server.start();
+		url = "https://localhost:" + server.getAddress().getPort() + USER_INFO_PATH;
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setBearerAuth("benchmark-access-token");
+		request = new HttpEntity<>(headers);
+
+		SSLContext clientContext = SSLContexts.custom().loadTrustMaterial(keyStore, null).build();
+		DefaultClientTlsStrategy tlsStrategy = new DefaultClientTlsStrategy(clientContext);
+
+		HttpsURLConnection.setDefaultSSLSocketFactory(clientContext.getSocketFactory());
+		jdkDefault = new RestTemplate();
+
+		pooledClient = RestTemplateConfig.pooledHttpClient(
+			"benchmark", new SocialHttpClientProperties.Pool(), new SimpleMeterRegistry(), tlsStrategy);
+		pooled = new RestTemplate(new HttpComponentsClientHttpRequestFactory(pooledClient));
+
+		nonReusingClient = HttpClients.custom()
+			.setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+				.setTlsSocketStrategy(tlsStrategy)
+				.build())
+			.setConnectionReuseStrategy((httpRequest, httpResponse, context) -> false)
+			.build();
+		newConnectionPerRequest = new RestTemplate(new HttpComponentsClientHttpRequestFactory(nonReusingClient));
+	}
+
+	@TearDown
+	public void tearDown() throws IOException {
+		pooledClient.close();
+		nonReusingClient.close();
+		server.stop(0);
+	}
+
+	@Benchmark
+	public String jdkDefaultFactory() {
+		return jdkDefault.exchange(url, HttpMethod.GET, request, String.class).getBody();
+	}
+
+	@Benchmark
+	public String newConnectionPerRequest() {
+		return newConnectionPerRequest.exchange(url, HttpMethod.GET, request, String.class).getBody();
+	}
+
+	@Benchmark
+	public String pooledKeepAlive() {
+		return pooled.exchange(url, HttpMethod.GET, request, String.class).getBody();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try (InputStream requestBody = exchange.getRequestBody()) {
+			requestBody.readAllBytes();
+		}
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(200, RESPONSE_BODY.length);
+		try (OutputStream responseBody = exchange.getResponseBody()) {
+			responseBody.write(RESPONSE_BODY);
+		}
+	}
+
+	/**
+	 * localhost용 자체 서명 인증서를 JDK keytool로 생성합니다.
+	 */
+	private KeyStore generateLocalhostKeyStore() throws Exception {
+		Path directory = Files.createTempDirectory("social-http-benchmark");
+		Path keyStorePath = directory.resolve("localhost.p12");
+		Path keytool = Path.of(System.getProperty("java.home"), "bin", "keytool");
+
+		Process process = new ProcessBuilder(
+			keytool.toString(), "-genkeypair",
+			"-alias", "localhost",
+			"-keyalg", "RSA", "-keysize", "2048",
+			"-dname", "CN=localhost",
+			"-ext", "SAN=dns:localhost",
+			"-validity", "1",
+			"-storetype", "PKCS12",
+			"-keystore", keyStorePath.toString(),
+			"-storepass", STORE_PASSWORD)
+			.inheritIO()
+			.start();
+		if (process.waitFor() != 0) {
+			throw new IllegalStateException("keytool failed to generate benchmark certificate");
+		}
+
+		KeyStore keyStore = KeyStore.getInstance("PKCS12");
+		try (InputStream inputStream = Files.newInputStream(keyStorePath)) {
+			keyStore.load(inputStream, STORE_PASSWORD.toCharArray());
+		}
+		return keyStore;
+	}
+}
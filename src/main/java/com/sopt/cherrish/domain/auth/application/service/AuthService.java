@@ -1,16 +1,18 @@
 package com.sopt.cherrish.domain.auth.application.service;
 
-import java.nio.charset.StandardCharsets;
-import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.sopt.cherrish.domain.auth.domain.repository.AccessTokenBlacklistRepository;
 import com.sopt.cherrish.domain.auth.domain.repository.RefreshTokenRepository;
+import com.sopt.cherrish.domain.auth.domain.repository.RefreshTokenRotationResult;
 import com.sopt.cherrish.domain.auth.exception.AuthErrorCode;
 import com.sopt.cherrish.domain.auth.exception.AuthException;
+import com.sopt.cherrish.domain.auth.infrastructure.jwt.IssuedToken;
+import com.sopt.cherrish.domain.auth.infrastructure.jwt.JwtClaims;
 import com.sopt.cherrish.domain.auth.infrastructure.jwt.JwtTokenProvider;
 import com.sopt.cherrish.domain.auth.infrastructure.social.SocialUserInfo;
 import com.sopt.cherrish.domain.auth.presentation.dto.request.SocialLoginRequestDto;
@@ -18,7 +20,9 @@ import com.sopt.cherrish.domain.auth.presentation.dto.request.TokenRefreshReques
 import com.sopt.cherrish.domain.auth.presentation.dto.response.LoginResponseDto;
 import com.sopt.cherrish.domain.auth.presentation.dto.response.TokenResponseDto;
 import com.sopt.cherrish.domain.user.domain.model.User;
+import com.sopt.cherrish.domain.user.domain.repository.SocialUserUpsertResult;
 import com.sopt.cherrish.domain.user.domain.repository.UserRepository;
+import com.sopt.cherrish.domain.user.infrastructure.cache.UserExistenceCache;
 
 import lombok.RequiredArgsConstructor;
 
@@ -26,10 +30,12 @@ import lombok.RequiredArgsConstructor;
  * 인증 관련 비즈니스 로직을 처리하는 서비스.
  *
  * <p>소셜 로그인, 토큰 재발급, 로그아웃 기능을 제공합니다.</p>
+ *
+ * <p>외부 HTTP 호출과 Redis 작업이 대부분이므로 서비스 단위 트랜잭션을 두지 않습니다.
+ * DB 작업은 저장소 메서드 단위의 짧은 트랜잭션으로만 수행되며, 로그아웃은 DB에 접근하지 않습니다.</p>
  */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class AuthService {
 
 	private static final String DEFAULT_NAME = "사용자";
@@ -40,6 +46,8 @@ public class AuthService {
 	private final JwtTokenProvider jwtTokenProvider;
 	private final RefreshTokenRepository refreshTokenRepository;
 	private final AccessTokenBlacklistRepository accessTokenBlacklistRepository;
+	private final UserExistenceCache userExistenceCache;
+	private final Clock clock;
 
 	/**
 	 * 소셜 로그인을 처리합니다.
@@ -47,76 +55,90 @@ public class AuthService {
 	 * <p>소셜 토큰을 검증하고, 신규 사용자인 경우 회원가입을 진행합니다.
 	 * 이후 Access Token과 Refresh Token을 발급합니다.</p>
 	 *
+	 * <p>소셜 제공자 HTTP 검증은 트랜잭션 밖에서 수행하고,
+	 * 사용자 조회/생성은 단일 upsert 문장의 짧은 트랜잭션으로 처리합니다.</p>
+	 *
 	 * @param request 소셜 로그인 요청 (provider, token)
 	 * @return 로그인 응답 (userId, isNewUser, accessToken, refreshToken)
 	 * @throws AuthException 소셜 토큰이 유효하지 않은 경우
 	 */
-	@Transactional
 	public LoginResponseDto login(SocialLoginRequestDto request) {
 		SocialUserInfo socialUserInfo = socialLoginService.authenticate(
 			request.provider(),
-			request.token()
+			request.token(),
+			request.idToken()
 		);
 
-		Optional<User> existingUser = userRepository.findBySocialProviderAndSocialId(
-			request.provider(),
-			socialUserInfo.socialId()
+		Optional<SocialUserUpsertResult> upserted = userRepository.upsertBySocialAccount(
+			request.provider().name(),
+			socialUserInfo.socialId(),
+			socialUserInfo.email(),
+			DEFAULT_NAME,
+			DEFAULT_AGE,
+			LocalDateTime.now(clock)
 		);
 
-		boolean isNewUser = existingUser.isEmpty();
-		User user;
-
-		if (isNewUser) {
-			user = User.builder()
-				.name(DEFAULT_NAME)
-				.age(DEFAULT_AGE)
-				.socialProvider(request.provider())
-				.socialId(socialUserInfo.socialId())
-				.email(socialUserInfo.email())
-				.build();
-			user = userRepository.save(user);
+		Long userId;
+		boolean isNewUser;
+		if (upserted.isPresent()) {
+			userId = upserted.get().getId();
+			isNewUser = Boolean.TRUE.equals(upserted.get().getCreated());
 		} else {
-			user = existingUser.get();
+			userId = userRepository.findBySocialProviderAndSocialId(request.provider(), socialUserInfo.socialId())
+				.map(User::getId)
+				.orElseThrow(() -> new AuthException(AuthErrorCode.USER_NOT_FOUND));
+			isNewUser = false;
 		}
 
-		TokenResponseDto tokens = issueTokenPair(user.getId());
+		TokenResponseDto tokens = issueTokenPair(userId);
 
-		return new LoginResponseDto(user.getId(), isNewUser, tokens.accessToken(), tokens.refreshToken());
+		return new LoginResponseDto(userId, isNewUser, tokens.accessToken(), tokens.refreshToken());
 	}
 
 	/**
 	 * Refresh Token으로 새로운 토큰 쌍을 발급합니다.
 	 *
-	 * <p>Refresh Token Rotation(RTR) 방식을 적용하여 재발급시 새로운 Refresh Token도 함께 발급합니다.</p>
+	 * <p>Refresh Token Rotation(RTR) 방식을 적용하여 재발급시 새로운 Refresh Token도 함께 발급합니다.
+	 * 저장된 토큰 ID 비교와 교체는 Redis에서 원자적으로 수행되므로,
+	 * 같은 Refresh Token으로 동시에 재발급을 요청하면 하나만 성공합니다.</p>
 	 *
 	 * @param request 토큰 재발급 요청 (refreshToken)
 	 * @return 새로운 Access Token과 Refresh Token
 	 * @throws AuthException Refresh Token이 유효하지 않거나 만료된 경우
 	 */
-	@Transactional
 	public TokenResponseDto refresh(TokenRefreshRequestDto request) {
 		String refreshToken = request.refreshToken();
 
-		jwtTokenProvider.validateToken(refreshToken);
+		JwtClaims claims = jwtTokenProvider.parse(refreshToken);
 
-		if (!jwtTokenProvider.isRefreshToken(refreshToken)) {
+		if (!claims.isRefreshToken()) {
 			throw new AuthException(AuthErrorCode.INVALID_REFRESH_TOKEN);
 		}
 
-		Long userId = jwtTokenProvider.getUserId(refreshToken);
+		Long userId = claims.userId();
 
-		if (!userRepository.existsById(userId)) {
+		if (!userExistenceCache.exists(userId)) {
 			throw new AuthException(AuthErrorCode.USER_NOT_FOUND);
 		}
 
-		String storedToken = refreshTokenRepository.findByUserId(userId)
-			.orElseThrow(() -> new AuthException(AuthErrorCode.REFRESH_TOKEN_NOT_FOUND));
+		IssuedToken newAccessToken = jwtTokenProvider.createAccessToken(userId);
+		IssuedToken newRefreshToken = jwtTokenProvider.createRefreshToken(userId);
+
+		RefreshTokenRotationResult result = refreshTokenRepository.rotate(
+			userId,
+			claims.tokenIdOrElse(refreshToken),
+			newRefreshToken.tokenId(),
+			jwtTokenProvider.getRefreshTokenExpiration()
+		);
 
-		if (!constantTimeEquals(storedToken, refreshToken)) {
+		if (result == RefreshTokenRotationResult.NOT_FOUND) {
+			throw new AuthException(AuthErrorCode.REFRESH_TOKEN_NOT_FOUND);
+		}
+		if (result == RefreshTokenRotationResult.MISMATCH) {
 			throw new AuthException(AuthErrorCode.INVALID_REFRESH_TOKEN);
 		}
 
-		return issueTokenPair(userId);
+		return new TokenResponseDto(newAccessToken.token(), newRefreshToken.token());
 	}
 
 	/**
@@ -128,37 +150,36 @@ public class AuthService {
 	 * @param userId 로그아웃할 사용자 ID
 	 * @param authorizationHeader Authorization 헤더 값 (Bearer 토큰)
 	 */
-	@Transactional
 	public void logout(Long userId, String authorizationHeader) {
 		refreshTokenRepository.deleteByUserId(userId);
 
 		String accessToken = jwtTokenProvider.extractToken(authorizationHeader);
-		if (accessToken != null) {
-			long remainingExpiration = jwtTokenProvider.getRemainingExpiration(accessToken);
-			accessTokenBlacklistRepository.add(accessToken, remainingExpiration);
+		if (accessToken == null) {
+			return;
 		}
+
+		JwtClaims claims;
+		try {
+			claims = jwtTokenProvider.parse(accessToken);
+		} catch (AuthException e) {
+			return;
+		}
+		accessTokenBlacklistRepository.add(
+			claims.tokenIdOrElse(accessToken),
+			claims.remainingMillis(System.currentTimeMillis())
+		);
 	}
 
 	private TokenResponseDto issueTokenPair(Long userId) {
-		String accessToken = jwtTokenProvider.createAccessToken(userId);
-		String refreshToken = jwtTokenProvider.createRefreshToken(userId);
+		IssuedToken accessToken = jwtTokenProvider.createAccessToken(userId);
+		IssuedToken refreshToken = jwtTokenProvider.createRefreshToken(userId);
 
 		refreshTokenRepository.save(
 			userId,
-			refreshToken,
+			refreshToken.tokenId(),
 			jwtTokenProvider.getRefreshTokenExpiration()
 		);
 
-		return new TokenResponseDto(accessToken, refreshToken);
-	}
-
-	private boolean constantTimeEquals(String a, String b) {
-		if (a == null || b == null) {
-			return false;
-		}
-		return MessageDigest.isEqual(
-			a.getBytes(StandardCharsets.UTF_8),
-			b.getBytes(StandardCharsets.UTF_8)
-		);
+		return new TokenResponseDto(accessToken.token(), refreshToken.token());
 	}
 }
@@ -24,14 +24,20 @@ public class SocialLoginService {
 	/**
 	 * 소셜 토큰을 검증하고 사용자 정보를 반환합니다.
 	 *
+	 * <p>카카오는 OIDC ID Token이 전달되고 ID Token 검증이 활성화된 경우 서버에서 직접 검증하며,
+	 * 그렇지 않으면 Access Token으로 사용자 정보 API를 호출합니다.</p>
+	 *
 	 * @param provider 소셜 플랫폼 (KAKAO, APPLE)
 	 * @param token 소셜 플랫폼에서 발급한 토큰
+	 * @param idToken 카카오 OIDC ID Token (없을 수 있음)
 	 * @return 소셜 사용자 정보
 	 * @throws com.sopt.cherrish.domain.auth.exception.AuthException 토큰이 유효하지 않은 경우
 	 */
-	public SocialUserInfo authenticate(SocialProvider provider, String token) {
+	public SocialUserInfo authenticate(SocialProvider provider, String token, String idToken) {
 		return switch (provider) {
-			case KAKAO -> kakaoAuthClient.getUserInfo(token);
+			case KAKAO -> idToken != null && !idToken.isBlank() && kakaoAuthClient.supportsIdToken()
+				? kakaoAuthClient.getUserInfoFromIdToken(idToken)
+				: kakaoAuthClient.getUserInfo(token);
 			case APPLE -> appleAuthClient.getUserInfo(token);
 		};
 	}
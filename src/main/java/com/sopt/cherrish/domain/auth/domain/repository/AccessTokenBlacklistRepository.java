@@ -5,34 +5,41 @@ import java.util.concurrent.TimeUnit;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Repository;
 
+import com.sopt.cherrish.domain.auth.infrastructure.blacklist.RevokedTokenFilter;
+
 import lombok.RequiredArgsConstructor;
 
 /**
  * Access Token 블랙리스트를 Redis에 관리하는 저장소.
  *
- * <p>로그아웃된 Access Token을 저장하여 만료 전까지 재사용을 방지합니다.
+ * <p>로그아웃된 Access Token의 토큰 ID(jti)를 저장하여 만료 전까지 재사용을 방지합니다.
+ * jti 도입 이전에 발급된 토큰은 토큰 원문이 식별자로 사용됩니다.
  * TTL은 토큰의 남은 만료 시간으로 설정되어 자동으로 정리됩니다.</p>
+ *
+ * <p>조회 시 {@link RevokedTokenFilter}가 확실히 없다고 판단한 토큰은 Redis를 조회하지 않습니다.</p>
  */
 @Repository
 @RequiredArgsConstructor
 public class AccessTokenBlacklistRepository {
 
-	private static final String KEY_PREFIX = "blacklist:";
+	public static final String KEY_PREFIX = "blacklist:";
 
 	private final RedisTemplate<String, String> redisTemplate;
+	private final RevokedTokenFilter revokedTokenFilter;
 
 	/**
 	 * Access Token을 블랙리스트에 추가합니다.
 	 *
-	 * @param token 블랙리스트에 추가할 Access Token
+	 * @param tokenId 블랙리스트에 추가할 Access Token의 토큰 ID
 	 * @param expirationMillis 토큰의 남은 만료 시간 (밀리초)
 	 */
-	public void add(String token, long expirationMillis) {
+	public void add(String tokenId, long expirationMillis) {
 		if (expirationMillis <= 0) {
 			return;
 		}
-		String key = KEY_PREFIX + token;
+		String key = KEY_PREFIX + tokenId;
 		redisTemplate.opsForValue().set(key, "blacklisted", expirationMillis, TimeUnit.MILLISECONDS);
+		revokedTokenFilter.publish(tokenId);
 	}
 
 	/**
@@ -40,11 +47,16 @@ public class AccessTokenBlacklistRepository {
 	 *
 	 * <p>Redis 연결 문제 등으로 null이 반환될 수 있으므로 null-safe 비교를 수행합니다.</p>
 	 *
-	 * @param token 확인할 Access Token
+	 * @param tokenId 확인할 Access Token의 토큰 ID
 	 * @return 블랙리스트에 있으면 true, 없거나 확인 불가 시 false
 	 */
-	public boolean isBlacklisted(String token) {
-		String key = KEY_PREFIX + token;
-		return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+	public boolean isBlacklisted(String tokenId) {
+		if (!revokedTokenFilter.mightBeRevoked(tokenId)) {
+			return false;
+		}
+		String key = KEY_PREFIX + tokenId;
+		boolean blacklisted = Boolean.TRUE.equals(redisTemplate.hasKey(key));
+		revokedTokenFilter.recordConfirmation(blacklisted);
+		return blacklisted;
 	}
 }
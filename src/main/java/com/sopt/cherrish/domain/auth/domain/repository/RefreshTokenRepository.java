@@ -1,9 +1,11 @@
 package com.sopt.cherrish.domain.auth.domain.repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 import lombok.RequiredArgsConstructor;
@@ -12,39 +14,82 @@ import lombok.RequiredArgsConstructor;
  * Refresh Token을 Redis에 저장하고 관리하는 저장소.
  *
  * <p>사용자별로 하나의 Refresh Token만 유효하도록 관리합니다.
+ * 토큰 원문 대신 토큰 ID(jti)를 저장하며, jti 도입 이전에 저장된 값은 토큰 원문입니다.
  * TTL이 설정되어 만료된 토큰은 자동으로 삭제됩니다.</p>
+ *
+ * <p>토큰 재발급 시에는 {@link #rotate}가 기존 토큰 ID 비교와 새 토큰 ID 저장을
+ * 하나의 Lua 스크립트로 원자적으로 수행하여 동시 재발급 요청 중 하나만 성공합니다.</p>
  */
 @Repository
 @RequiredArgsConstructor
 public class RefreshTokenRepository {
 
 	private static final String KEY_PREFIX = "refresh_token:";
+	private static final RedisScript<Long> ROTATE_SCRIPT = RedisScript.of("""
+		local current = redis.call('GET', KEYS[1])
+		if not current then
+			return -1
+		end
+		if current ~= ARGV[1] then
+			return 0
+		end
+		redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3])
+		return 1
+		""", Long.class);
 
 	private final RedisTemplate<String, String> redisTemplate;
 
 	/**
-	 * Refresh Token을 저장합니다.
+	 * Refresh Token의 토큰 ID를 저장합니다.
 	 *
 	 * <p>기존에 저장된 토큰이 있으면 덮어씁니다.
 	 * 만료 시간이 0 이하인 경우 저장하지 않습니다.</p>
 	 *
 	 * @param userId 사용자 ID
-	 * @param refreshToken 저장할 Refresh Token
+	 * @param refreshTokenId 저장할 Refresh Token의 토큰 ID
 	 * @param expirationMillis 만료 시간 (밀리초)
 	 */
-	public void save(Long userId, String refreshToken, long expirationMillis) {
+	public void save(Long userId, String refreshTokenId, long expirationMillis) {
 		if (expirationMillis <= 0) {
 			return;
 		}
 		String key = KEY_PREFIX + userId;
-		redisTemplate.opsForValue().set(key, refreshToken, expirationMillis, TimeUnit.MILLISECONDS);
+		redisTemplate.opsForValue().set(key, refreshTokenId, expirationMillis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * 저장된 Refresh Token ID가 기대값과 같을 때만 새 토큰 ID로 교체합니다.
+	 *
+	 * <p>비교와 교체는 한 번의 Redis 왕복으로 원자적으로 수행됩니다.</p>
+	 *
+	 * @param userId 사용자 ID
+	 * @param expectedTokenId 요청에 사용된 Refresh Token의 토큰 ID
+	 * @param newTokenId 새로 발급한 Refresh Token의 토큰 ID
+	 * @param expirationMillis 새 토큰의 만료 시간 (밀리초)
+	 * @return 교체 결과
+	 */
+	public RefreshTokenRotationResult rotate(
+		Long userId,
+		String expectedTokenId,
+		String newTokenId,
+		long expirationMillis
+	) {
+		String key = KEY_PREFIX + userId;
+		Long result = redisTemplate.execute(
+			ROTATE_SCRIPT,
+			List.of(key),
+			expectedTokenId,
+			newTokenId,
+			String.valueOf(expirationMillis)
+		);
+		return RefreshTokenRotationResult.from(result);
 	}
 
 	/**
-	 * 사용자의 Refresh Token을 조회합니다.
+	 * 사용자의 Refresh Token ID를 조회합니다.
 	 *
 	 * @param userId 사용자 ID
-	 * @return 저장된 Refresh Token, 없으면 빈 Optional
+	 * @return 저장된 Refresh Token ID, 없으면 빈 Optional
 	 */
 	public Optional<String> findByUserId(Long userId) {
 		String key = KEY_PREFIX + userId;
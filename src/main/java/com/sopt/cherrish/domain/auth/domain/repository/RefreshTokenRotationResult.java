@@ -0,0 +1,23 @@
+package com.sopt.cherrish.domain.auth.domain.repository;
+
+/**
+ * Refresh Token 교체(CAS) 결과.
+ */
+public enum RefreshTokenRotationResult {
+
+	/** 기존 토큰 ID가 일치하여 새 토큰 ID로 교체됨 */
+	ROTATED,
+
+	/** 저장된 토큰 ID가 달라 교체되지 않음 (이미 다른 요청이 교체했거나 재사용된 토큰) */
+	MISMATCH,
+
+	/** 저장된 토큰이 없음 (로그아웃 또는 만료) */
+	NOT_FOUND;
+
+	static RefreshTokenRotationResult from(Long scriptResult) {
+		if (scriptResult == null || scriptResult < 0) {
+			return NOT_FOUND;
+		}
+		return scriptResult == 1 ? ROTATED : MISMATCH;
+	}
+}
@@ -0,0 +1,106 @@
+package com.sopt.cherrish.domain.auth.infrastructure.blacklist;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 원소를 위한 스레드 안전 Bloom Filter.
+ *
+ * <p>{@link #mightContain(String)}이 false이면 원소는 확실히 없고, true이면 있을 수도 있습니다.
+ * 비트 배열은 {@link AtomicLongArray}로 관리하여 잠금 없이 동시에 추가/조회할 수 있습니다.</p>
+ */
+public class BloomFilter {
+
+	private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+	private static final long FNV_PRIME = 0x100000001b3L;
+	private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	private final AtomicLongArray bits;
+	private final long bitSize;
+	private final int hashFunctionCount;
+	private final AtomicLong bitCount = new AtomicLong();
+
+	/**
+	 * @param expectedInsertions 예상 원소 수
+	 * @param falsePositiveProbability 목표 오탐률 (0 초과 1 미만)
+	 */
+	public BloomFilter(long expectedInsertions, double falsePositiveProbability) {
+		if (expectedInsertions <= 0) {
+			throw new IllegalArgumentException("expectedInsertions must be positive");
+		}
+		if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+			throw new IllegalArgumentException("falsePositiveProbability must be between 0 and 1");
+		}
+		long optimalBits = (long)Math.ceil(
+			-expectedInsertions * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+		int words = (int)Math.max(1, (optimalBits + Long.SIZE - 1) / Long.SIZE);
+		this.bits = new AtomicLongArray(words);
+		this.bitSize = (long)words * Long.SIZE;
+		this.hashFunctionCount = Math.max(1, (int)Math.round((double)bitSize / expectedInsertions * Math.log(2)));
+	}
+
+	public void put(String element) {
+		long hash = hash(element);
+		long h1 = mix(hash);
+		long h2 = mix(hash ^ GOLDEN_GAMMA) | 1;
+		for (int i = 0; i < hashFunctionCount; i++) {
+			setBit(Math.floorMod(h1 + i * h2, bitSize));
+		}
+	}
+
+	public boolean mightContain(String element) {
+		long hash = hash(element);
+		long h1 = mix(hash);
+		long h2 = mix(hash ^ GOLDEN_GAMMA) | 1;
+		for (int i = 0; i < hashFunctionCount; i++) {
+			if (!getBit(Math.floorMod(h1 + i * h2, bitSize))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 현재 채워진 비트 비율로 계산한 오탐률 추정치를 반환합니다.
+	 *
+	 * @return 0~1 사이의 오탐률 추정치
+	 */
+	public double expectedFalsePositiveProbability() {
+		return Math.pow((double)bitCount.get() / bitSize, hashFunctionCount);
+	}
+
+	private void setBit(long index) {
+		int word = (int)(index >>> 6);
+		long mask = 1L << index;
+		long current;
+		do {
+			current = bits.get(word);
+			if ((current & mask) != 0) {
+				return;
+			}
+		} while (!bits.compareAndSet(word, current, current | mask));
+		bitCount.incrementAndGet();
+	}
+
+	private boolean getBit(long index) {
+		return (bits.get((int)(index >>> 6)) & (1L << index)) != 0;
+	}
+
+	private static long hash(String element) {
+		long hash = FNV_OFFSET_BASIS;
+		for (int i = 0; i < element.length(); i++) {
+			hash ^= element.charAt(i);
+			hash *= FNV_PRIME;
+		}
+		return hash;
+	}
+
+	private static long mix(long value) {
+		value ^= value >>> 33;
+		value *= 0xff51afd7ed558ccdL;
+		value ^= value >>> 33;
+		value *= 0xc4ceb9fe1a85ec53L;
+		value ^= value >>> 33;
+		return value;
+	}
+}
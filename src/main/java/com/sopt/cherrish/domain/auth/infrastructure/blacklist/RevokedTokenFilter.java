@@ -0,0 +1,271 @@
+package com.sopt.cherrish.domain.auth.infrastructure.blacklist;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.sopt.cherrish.domain.auth.domain.repository.AccessTokenBlacklistRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 블랙리스트에 등록된 토큰 ID를 담는 로컬 Bloom Filter.
+ *
+ * <p>대부분의 토큰은 블랙리스트에 없으므로, 필터가 "없음"이라고 답하면 Redis 조회를 생략합니다.
+ * "있을 수도 있음"인 경우에만 {@link AccessTokenBlacklistRepository}가 Redis를 조회합니다.</p>
+ *
+ * <p>동기화 방식은 다음과 같습니다.</p>
+ * <ul>
+ *   <li>애플리케이션 시작 시와 주기적으로 Redis의 블랙리스트 키를 SCAN하여 필터를 새로 만듭니다.
+ *       재구성 중 추가된 ID는 기존 필터와 새 필터 모두에 반영되며, 추가와 필터 교체는 같은 잠금으로 직렬화되어
+ *       교체 직전에 추가된 ID가 새 필터에서 빠지지 않습니다.</li>
+ *   <li>블랙리스트 추가는 Redis Pub/Sub으로 모든 인스턴스에 전파됩니다.</li>
+ *   <li>첫 재구성이 끝나기 전에는 모든 조회를 Redis로 보냅니다.</li>
+ * </ul>
+ *
+ * <p>오탐률(관측치/추정치)과 동기화 지연은 Micrometer 지표로 노출됩니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RevokedTokenFilter implements MessageListener {
+
+	public static final String CHANNEL = "blacklist:added";
+
+	private static final long MIN_EXPECTED_INSERTIONS = 100_000;
+	private static final double FALSE_POSITIVE_PROBABILITY = 0.01;
+	private static final int SCAN_COUNT = 1_000;
+	private static final String MESSAGE_DELIMITER = ":";
+	private static final String METRIC_PREFIX = "auth.blacklist.filter";
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+	private final MeterRegistry meterRegistry;
+
+	private final AtomicReference<BloomFilter> current = new AtomicReference<>();
+	/**
+	 * 추가와 필터 교체(current/rebuilding 변경)를 직렬화하는 잠금. SCAN 전체가 아닌 교체 순간에만 잡습니다.
+	 */
+	private final ReentrantLock swapLock = new ReentrantLock();
+	private BloomFilter rebuilding;
+	private volatile long expectedInsertions = MIN_EXPECTED_INSERTIONS;
+	private volatile long lastRebuiltAtMillis;
+
+	private Counter negativeCounter;
+	private Counter revokedCounter;
+	private Counter falsePositiveCounter;
+	private Timer syncLagTimer;
+
+	@PostConstruct
+	void init() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+
+		negativeCounter = lookupCounter("negative");
+		revokedCounter = lookupCounter("revoked");
+		falsePositiveCounter = lookupCounter("false_positive");
+		syncLagTimer = Timer.builder(METRIC_PREFIX + ".sync.lag")
+			.description("블랙리스트 추가 발행부터 로컬 필터 반영까지의 지연")
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".false.positive.rate", this, RevokedTokenFilter::observedFalsePositiveRate)
+			.description("필터가 있을 수도 있다고 답했지만 Redis에 없던 비율 (관측치)")
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".expected.false.positive.rate", this,
+				RevokedTokenFilter::expectedFalsePositiveRate)
+			.description("채워진 비트 비율로 계산한 오탐률 추정치")
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".rebuild.age", this, RevokedTokenFilter::secondsSinceLastRebuild)
+			.description("마지막 전체 재구성 이후 경과 시간")
+			.baseUnit("seconds")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 토큰 ID가 블랙리스트에 있을 수 있는지 확인합니다.
+	 *
+	 * @param tokenId 토큰 ID
+	 * @return 확실히 없으면 false, 있을 수도 있거나 필터가 아직 준비되지 않았으면 true
+	 */
+	public boolean mightBeRevoked(String tokenId) {
+		BloomFilter filter = current.get();
+		if (filter == null) {
+			return true;
+		}
+		if (!filter.mightContain(tokenId)) {
+			negativeCounter.increment();
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * 필터가 "있을 수도 있음"이라고 답한 조회의 Redis 확인 결과를 기록합니다.
+	 *
+	 * @param revoked Redis에 실제로 존재했는지 여부
+	 */
+	public void recordConfirmation(boolean revoked) {
+		if (current.get() == null) {
+			return;
+		}
+		if (revoked) {
+			revokedCounter.increment();
+		} else {
+			falsePositiveCounter.increment();
+		}
+	}
+
+	/**
+	 * 토큰 ID를 로컬 필터에 추가하고 다른 인스턴스에 전파합니다.
+	 *
+	 * @param tokenId 토큰 ID
+	 */
+	public void publish(String tokenId) {
+		add(tokenId);
+		try {
+			redisTemplate.convertAndSend(CHANNEL, System.currentTimeMillis() + MESSAGE_DELIMITER + tokenId);
+		} catch (DataAccessException e) {
+			log.warn("Failed to publish revoked token", e);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		int delimiterIndex = body.indexOf(MESSAGE_DELIMITER);
+		if (delimiterIndex < 0) {
+			log.warn("Invalid revoked token message");
+			return;
+		}
+		add(body.substring(delimiterIndex + 1));
+		try {
+			long publishedAt = Long.parseLong(body.substring(0, delimiterIndex));
+			syncLagTimer.record(Math.max(0, System.currentTimeMillis() - publishedAt), TimeUnit.MILLISECONDS);
+		} catch (NumberFormatException e) {
+			log.warn("Invalid revoked token message timestamp");
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onApplicationReady() {
+		rebuild();
+	}
+
+	/**
+	 * Redis의 블랙리스트 키로 필터를 새로 만듭니다.
+	 *
+	 * <p>만료된 ID를 비우고 유실된 Pub/Sub 메시지를 보정하기 위해 주기적으로 실행됩니다.</p>
+	 */
+	@Scheduled(fixedDelay = 10, initialDelay = 10, timeUnit = TimeUnit.MINUTES)
+	public synchronized void rebuild() {
+		BloomFilter next = new BloomFilter(expectedInsertions, FALSE_POSITIVE_PROBABILITY);
+		setRebuilding(next);
+		try {
+			long count = scanRevokedTokenIds(next);
+			swapLock.lock();
+			try {
+				current.set(next);
+				rebuilding = null;
+			} finally {
+				swapLock.unlock();
+			}
+			expectedInsertions = Math.max(MIN_EXPECTED_INSERTIONS, count * 2);
+			lastRebuiltAtMillis = System.currentTimeMillis();
+			log.debug("Revoked token filter rebuilt: {} ids", count);
+		} catch (DataAccessException e) {
+			log.warn("Failed to rebuild revoked token filter", e);
+		} finally {
+			setRebuilding(null);
+		}
+	}
+
+	private void setRebuilding(BloomFilter filter) {
+		swapLock.lock();
+		try {
+			rebuilding = filter;
+		} finally {
+			swapLock.unlock();
+		}
+	}
+
+	private long scanRevokedTokenIds(BloomFilter filter) {
+		String prefix = AccessTokenBlacklistRepository.KEY_PREFIX;
+		ScanOptions options = ScanOptions.scanOptions()
+			.match(prefix + "*")
+			.count(SCAN_COUNT)
+			.build();
+
+		long count = 0;
+		try (Cursor<String> cursor = redisTemplate.scan(options)) {
+			if (cursor == null) {
+				return 0;
+			}
+			while (cursor.hasNext()) {
+				filter.put(cursor.next().substring(prefix.length()));
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 현재 필터와 재구성 중인 필터에 ID를 추가합니다.
+	 *
+	 * <p>교체와 같은 잠금 안에서 두 필터를 읽고 추가하므로, 추가는 교체 전(재구성 중인 필터에도 반영) 또는
+	 * 교체 후(새 필터에 반영) 중 하나로만 일어납니다.</p>
+	 */
+	private void add(String tokenId) {
+		swapLock.lock();
+		try {
+			BloomFilter filter = current.get();
+			if (filter != null) {
+				filter.put(tokenId);
+			}
+			if (rebuilding != null) {
+				rebuilding.put(tokenId);
+			}
+		} finally {
+			swapLock.unlock();
+		}
+	}
+
+	private Counter lookupCounter(String result) {
+		return Counter.builder(METRIC_PREFIX + ".lookups")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	private double observedFalsePositiveRate() {
+		double falsePositives = falsePositiveCounter.count();
+		double notRevoked = negativeCounter.count() + falsePositives;
+		return notRevoked == 0 ? 0 : falsePositives / notRevoked;
+	}
+
+	private double expectedFalsePositiveRate() {
+		BloomFilter filter = current.get();
+		return filter == null ? 0 : filter.expectedFalsePositiveProbability();
+	}
+
+	private double secondsSinceLastRebuild() {
+		long rebuiltAt = lastRebuiltAtMillis;
+		return rebuiltAt == 0 ? -1 : (System.currentTimeMillis() - rebuiltAt) / 1000.0;
+	}
+}
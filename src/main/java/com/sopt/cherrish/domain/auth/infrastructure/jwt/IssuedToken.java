@@ -0,0 +1,13 @@
+package com.sopt.cherrish.domain.auth.infrastructure.jwt;
+
+/**
+ * 발급된 JWT와 그 토큰 ID(jti).
+ *
+ * @param token 서명된 JWT 문자열
+ * @param tokenId 토큰 ID (jti)
+ */
+public record IssuedToken(
+	String token,
+	String tokenId
+) {
+}
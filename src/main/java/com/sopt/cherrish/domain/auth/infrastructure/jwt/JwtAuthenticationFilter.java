@@ -10,8 +10,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import com.sopt.cherrish.domain.auth.domain.repository.AccessTokenBlacklistRepository;
 import com.sopt.cherrish.domain.auth.exception.AuthErrorCode;
 import com.sopt.cherrish.domain.auth.exception.AuthException;
-import com.sopt.cherrish.domain.user.domain.model.User;
-import com.sopt.cherrish.domain.user.domain.repository.UserRepository;
+import com.sopt.cherrish.domain.user.infrastructure.cache.UserExistenceCache;
 import com.sopt.cherrish.global.security.UserPrincipal;
 
 import jakarta.servlet.FilterChain;
@@ -27,6 +26,9 @@ import lombok.extern.slf4j.Slf4j;
  * <p>모든 요청에서 Authorization 헤더의 Bearer 토큰을 추출하여 검증합니다.
  * 토큰이 유효하면 SecurityContext에 인증 정보를 설정합니다.</p>
  *
+ * <p>인증 정보는 토큰 클레임으로 구성하며, 사용자 존재 여부는 {@link UserExistenceCache}로 확인하여
+ * 요청마다 사용자 테이블을 조회하지 않습니다.</p>
+ *
  * <p>토큰이 없거나 유효하지 않은 경우 인증을 설정하지 않고 다음 필터로 진행합니다.
  * 보호된 리소스 접근시 {@link com.sopt.cherrish.global.security.JwtAuthenticationEntryPoint}에서
  * 401 응답을 반환합니다.</p>
@@ -38,7 +40,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	private static final String AUTHORIZATION_HEADER = "Authorization";
 
 	private final JwtTokenProvider jwtTokenProvider;
-	private final UserRepository userRepository;
+	private final UserExistenceCache userExistenceCache;
 	private final AccessTokenBlacklistRepository accessTokenBlacklistRepository;
 
 	@Override
@@ -52,25 +54,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
 		if (token != null) {
 			try {
-				jwtTokenProvider.validateToken(token);
+				JwtClaims claims = jwtTokenProvider.parse(token);
 
-				if (!jwtTokenProvider.isAccessToken(token)) {
+				if (!claims.isAccessToken()) {
 					log.debug("Token is not an access token");
 					filterChain.doFilter(request, response);
 					return;
 				}
 
-				if (accessTokenBlacklistRepository.isBlacklisted(token)) {
+				if (accessTokenBlacklistRepository.isBlacklisted(claims.tokenIdOrElse(token))) {
 					log.debug("Token is blacklisted");
 					filterChain.doFilter(request, response);
 					return;
 				}
 
-				Long userId = jwtTokenProvider.getUserId(token);
-				User user = userRepository.findById(userId)
-					.orElseThrow(() -> new AuthException(AuthErrorCode.USER_NOT_FOUND));
+				if (!userExistenceCache.exists(claims.userId())) {
+					throw new AuthException(AuthErrorCode.USER_NOT_FOUND);
+				}
 
-				UserPrincipal userPrincipal = UserPrincipal.from(user);
+				UserPrincipal userPrincipal = UserPrincipal.of(claims.userId());
 				UsernamePasswordAuthenticationToken authentication =
 					new UsernamePasswordAuthenticationToken(
 						userPrincipal,
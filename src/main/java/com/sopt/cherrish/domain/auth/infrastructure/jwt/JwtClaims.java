@@ -0,0 +1,65 @@
+package com.sopt.cherrish.domain.auth.infrastructure.jwt;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증과 디코딩이 끝난 JWT 클레임.
+ *
+ * <p>{@link JwtTokenProvider#parse(String)}가 한 번의 검증으로 만들어내는 불변 객체이며,
+ * 필터와 서비스는 토큰을 다시 파싱하지 않고 이 값을 재사용합니다.</p>
+ *
+ * @param tokenId 토큰 ID (jti), jti 도입 이전에 발급된 토큰은 null
+ * @param userId 사용자 ID (subject)
+ * @param tokenType 토큰 타입 (access/refresh)
+ * @param expiresAt 만료 시각
+ */
+public record JwtClaims(
+	String tokenId,
+	Long userId,
+	String tokenType,
+	Instant expiresAt
+) {
+
+	static final String ACCESS_TOKEN_TYPE = "access";
+	static final String REFRESH_TOKEN_TYPE = "refresh";
+
+	public boolean isAccessToken() {
+		return ACCESS_TOKEN_TYPE.equals(tokenType);
+	}
+
+	public boolean isRefreshToken() {
+		return REFRESH_TOKEN_TYPE.equals(tokenType);
+	}
+
+	/**
+	 * 블랙리스트와 Refresh Token 저장소에서 사용할 토큰 식별자를 반환합니다.
+	 *
+	 * <p>jti가 없는 기존 토큰은 기존 저장 형식과 호환되도록 토큰 원문을 식별자로 사용합니다.</p>
+	 *
+	 * @param token 클레임을 추출한 JWT 원문
+	 * @return jti, 없으면 토큰 원문
+	 */
+	public String tokenIdOrElse(String token) {
+		return tokenId != null ? tokenId : token;
+	}
+
+	/**
+	 * 주어진 시각 기준으로 만료되었는지 확인합니다.
+	 *
+	 * @param nowMillis 현재 시각 (epoch 밀리초)
+	 * @return 만료되었으면 true
+	 */
+	public boolean isExpiredAt(long nowMillis) {
+		return expiresAt.toEpochMilli() <= nowMillis;
+	}
+
+	/**
+	 * 주어진 시각 기준 남은 만료 시간(밀리초)을 반환합니다.
+	 *
+	 * @param nowMillis 현재 시각 (epoch 밀리초)
+	 * @return 남은 만료 시간 (밀리초), 이미 만료된 경우 0
+	 */
+	public long remainingMillis(long nowMillis) {
+		return Math.max(0, expiresAt.toEpochMilli() - nowMillis);
+	}
+}
@@ -6,6 +6,7 @@ import org.springframework.validation.annotation.Validated;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -24,4 +25,10 @@ public class JwtProperties {
 
 	@Positive
 	private long refreshTokenExpiration;
+
+	/**
+	 * 검증된 토큰 클레임 캐시의 최대 항목 수. 0이면 캐시를 사용하지 않습니다.
+	 */
+	@PositiveOrZero
+	private long verifiedTokenCacheSize = 10_000;
 }
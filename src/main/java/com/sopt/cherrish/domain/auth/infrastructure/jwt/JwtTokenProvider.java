@@ -1,5 +1,7 @@
 package com.sopt.cherrish.domain.auth.infrastructure.jwt;
 
+import java.security.SecureRandom;
+import java.util.Base64;
 import java.util.Date;
 
 import javax.crypto.SecretKey;
@@ -11,9 +13,10 @@ import com.sopt.cherrish.domain.auth.exception.AuthException;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.RequiredTypeException;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -24,7 +27,10 @@ import lombok.extern.slf4j.Slf4j;
  * JWT 토큰 생성 및 검증을 담당하는 컴포넌트.
  *
  * <p>Access Token과 Refresh Token을 생성하고, 토큰의 유효성을 검증합니다.
- * 토큰에는 사용자 ID와 토큰 타입(access/refresh)이 포함됩니다.</p>
+ * 토큰에는 토큰 ID(jti), 사용자 ID와 토큰 타입(access/refresh)이 포함됩니다.</p>
+ *
+ * <p>검증은 {@link #parse(String)} 한 번으로 끝나며, 결과 클레임은 {@link VerifiedTokenCache}에
+ * 토큰 만료 시각까지 보관되어 같은 토큰의 반복 요청에서는 서명 검증을 생략합니다.</p>
  */
 @Slf4j
 @Component
@@ -32,12 +38,15 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtTokenProvider {
 
 	private static final String TOKEN_TYPE_CLAIM = "type";
-	private static final String ACCESS_TOKEN_TYPE = "access";
-	private static final String REFRESH_TOKEN_TYPE = "refresh";
 	private static final int MIN_SECRET_KEY_BYTES = 32;
+	private static final int TOKEN_ID_BYTES = 16;
+	private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+	private static final Base64.Encoder TOKEN_ID_ENCODER = Base64.getUrlEncoder().withoutPadding();
 
 	private final JwtProperties jwtProperties;
 	private SecretKey secretKey;
+	private JwtParser jwtParser;
+	private VerifiedTokenCache verifiedTokenCache;
 
 	@PostConstruct
 	protected void init() {
@@ -57,98 +66,88 @@ public class JwtTokenProvider {
 		}
 
 		this.secretKey = Keys.hmacShaKeyFor(keyBytes);
+		this.jwtParser = Jwts.parser()
+			.verifyWith(secretKey)
+			.build();
+		this.verifiedTokenCache = new VerifiedTokenCache(jwtProperties.getVerifiedTokenCacheSize());
 	}
 
 	/**
 	 * Access Token을 생성합니다.
 	 *
 	 * @param userId 사용자 ID
-	 * @return 생성된 Access Token 문자열
+	 * @return 생성된 Access Token과 토큰 ID
 	 */
-	public String createAccessToken(Long userId) {
-		return createToken(userId, ACCESS_TOKEN_TYPE, jwtProperties.getAccessTokenExpiration());
+	public IssuedToken createAccessToken(Long userId) {
+		return createToken(userId, JwtClaims.ACCESS_TOKEN_TYPE, jwtProperties.getAccessTokenExpiration());
 	}
 
 	/**
 	 * Refresh Token을 생성합니다.
 	 *
 	 * @param userId 사용자 ID
-	 * @return 생성된 Refresh Token 문자열
+	 * @return 생성된 Refresh Token과 토큰 ID
 	 */
-	public String createRefreshToken(Long userId) {
-		return createToken(userId, REFRESH_TOKEN_TYPE, jwtProperties.getRefreshTokenExpiration());
+	public IssuedToken createRefreshToken(Long userId) {
+		return createToken(userId, JwtClaims.REFRESH_TOKEN_TYPE, jwtProperties.getRefreshTokenExpiration());
 	}
 
-	private String createToken(Long userId, String tokenType, long expirationTime) {
+	private IssuedToken createToken(Long userId, String tokenType, long expirationTime) {
 		Date now = new Date();
 		Date expiration = new Date(now.getTime() + expirationTime);
+		String tokenId = generateTokenId();
 
-		return Jwts.builder()
+		String token = Jwts.builder()
+			.id(tokenId)
 			.subject(String.valueOf(userId))
 			.claim(TOKEN_TYPE_CLAIM, tokenType)
 			.issuedAt(now)
 			.expiration(expiration)
 			.signWith(secretKey)
 			.compact();
+		return new IssuedToken(token, tokenId);
 	}
 
-	/**
-	 * 토큰에서 사용자 ID를 추출합니다.
-	 *
-	 * @param token JWT 토큰
-	 * @return 사용자 ID
-	 * @throws AuthException subject가 유효한 사용자 ID가 아닌 경우
-	 */
-	public Long getUserId(String token) {
-		try {
-			Claims claims = parseClaims(token);
-			return Long.parseLong(claims.getSubject());
-		} catch (NumberFormatException | NullPointerException e) {
-			log.debug("Invalid user ID in token: {}", e.getMessage());
-			throw new AuthException(AuthErrorCode.INVALID_TOKEN);
-		}
+	private String generateTokenId() {
+		byte[] bytes = new byte[TOKEN_ID_BYTES];
+		SECURE_RANDOM.nextBytes(bytes);
+		return TOKEN_ID_ENCODER.encodeToString(bytes);
 	}
 
 	/**
-	 * 토큰의 유효성을 검증합니다.
+	 * 토큰을 한 번 검증하고 디코딩하여 클레임을 반환합니다.
 	 *
-	 * <p>토큰이 유효하면 정상 반환되고, 유효하지 않으면 예외가 발생합니다.</p>
+	 * <p>최근 검증된 토큰이면 캐시된 클레임을 그대로 반환합니다.</p>
 	 *
-	 * @param token 검증할 JWT 토큰
+	 * @param token JWT 토큰
+	 * @return 검증된 클레임
 	 * @throws AuthException 토큰이 만료되었거나 유효하지 않은 경우
 	 */
-	public void validateToken(String token) {
-		try {
-			parseClaims(token);
-		} catch (ExpiredJwtException e) {
-			log.debug("Expired JWT token: {}", e.getMessage());
-			throw new AuthException(AuthErrorCode.TOKEN_EXPIRED);
-		} catch (UnsupportedJwtException | MalformedJwtException | SecurityException | IllegalArgumentException e) {
-			log.debug("Invalid JWT token: {}", e.getMessage());
-			throw new AuthException(AuthErrorCode.INVALID_TOKEN);
-		}
+	public JwtClaims parse(String token) {
+		return verifiedTokenCache.getOrVerify(token, this::verify);
 	}
 
 	/**
-	 * 토큰이 Access Token인지 확인합니다.
+	 * 토큰에서 사용자 ID를 추출합니다.
 	 *
 	 * @param token JWT 토큰
-	 * @return Access Token이면 true, Refresh Token이면 false
+	 * @return 사용자 ID
+	 * @throws AuthException 토큰이 유효하지 않거나 subject가 유효한 사용자 ID가 아닌 경우
 	 */
-	public boolean isAccessToken(String token) {
-		Claims claims = parseClaims(token);
-		return ACCESS_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
+	public Long getUserId(String token) {
+		return parse(token).userId();
 	}
 
 	/**
-	 * 토큰이 Refresh Token인지 확인합니다.
+	 * 토큰의 유효성을 검증합니다.
 	 *
-	 * @param token JWT 토큰
-	 * @return Refresh Token이면 true, Access Token이면 false
+	 * <p>토큰이 유효하면 정상 반환되고, 유효하지 않으면 예외가 발생합니다.</p>
+	 *
+	 * @param token 검증할 JWT 토큰
+	 * @throws AuthException 토큰이 만료되었거나 유효하지 않은 경우
 	 */
-	public boolean isRefreshToken(String token) {
-		Claims claims = parseClaims(token);
-		return REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM, String.class));
+	public void validateToken(String token) {
+		parse(token);
 	}
 
 	/**
@@ -160,28 +159,6 @@ public class JwtTokenProvider {
 		return jwtProperties.getRefreshTokenExpiration();
 	}
 
-	/**
-	 * 토큰의 남은 만료 시간(밀리초)을 반환합니다.
-	 *
-	 * @param token JWT 토큰
-	 * @return 남은 만료 시간 (밀리초), 이미 만료되었거나 유효하지 않은 경우 0
-	 */
-	public long getRemainingExpiration(String token) {
-		try {
-			Claims claims = parseClaims(token);
-			Date expiration = claims.getExpiration();
-			long remaining = expiration.getTime() - System.currentTimeMillis();
-			return Math.max(0, remaining);
-		} catch (ExpiredJwtException | UnsupportedJwtException | MalformedJwtException
-				 | SecurityException | IllegalArgumentException e) {
-			log.debug("Expected JWT exception in getRemainingExpiration: {}", e.getMessage());
-			return 0;
-		} catch (Exception e) {
-			log.warn("Unexpected exception in getRemainingExpiration: {}", e.getMessage(), e);
-			return 0;
-		}
-	}
-
 	/**
 	 * Authorization 헤더에서 Bearer 토큰을 추출합니다.
 	 *
@@ -195,11 +172,28 @@ public class JwtTokenProvider {
 		return null;
 	}
 
-	private Claims parseClaims(String token) {
-		return Jwts.parser()
-			.verifyWith(secretKey)
-			.build()
-			.parseSignedClaims(token)
-			.getPayload();
+	private JwtClaims verify(String token) {
+		Claims claims;
+		try {
+			claims = jwtParser.parseSignedClaims(token).getPayload();
+		} catch (ExpiredJwtException e) {
+			log.debug("Expired JWT token: {}", e.getMessage());
+			throw new AuthException(AuthErrorCode.TOKEN_EXPIRED);
+		} catch (JwtException | IllegalArgumentException e) {
+			log.debug("Invalid JWT token: {}", e.getMessage());
+			throw new AuthException(AuthErrorCode.INVALID_TOKEN);
+		}
+
+		try {
+			return new JwtClaims(
+				claims.getId(),
+				Long.parseLong(claims.getSubject()),
+				claims.get(TOKEN_TYPE_CLAIM, String.class),
+				claims.getExpiration().toInstant()
+			);
+		} catch (NumberFormatException | NullPointerException | RequiredTypeException e) {
+			log.debug("Invalid claims in token: {}", e.getMessage());
+			throw new AuthException(AuthErrorCode.INVALID_TOKEN);
+		}
 	}
 }
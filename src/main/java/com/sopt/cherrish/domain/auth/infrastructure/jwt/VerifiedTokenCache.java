@@ -0,0 +1,92 @@
+package com.sopt.cherrish.domain.auth.infrastructure.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+/**
+ * 서명 검증이 끝난 토큰의 클레임을 보관하는 로컬 캐시.
+ *
+ * <p>토큰 원문 대신 SHA-256 다이제스트를 키로 사용하므로 서명까지 동일한 토큰만 적중합니다.
+ * 각 항목은 토큰의 만료 시각에 맞춰 제거되고, 최대 개수를 넘으면 오래된 항목부터 밀려납니다.</p>
+ *
+ * <p>최대 개수가 0이면 캐시를 사용하지 않고 매번 검증합니다.</p>
+ */
+public class VerifiedTokenCache {
+
+	private final Cache<String, JwtClaims> cache;
+
+	public VerifiedTokenCache(long maximumSize) {
+		this.cache = maximumSize > 0
+			? Caffeine.newBuilder()
+				.maximumSize(maximumSize)
+				.expireAfter(new TokenExpiry())
+				.build()
+			: null;
+	}
+
+	/**
+	 * 캐시된 클레임을 반환하고, 없으면 검증 함수를 실행한 뒤 결과를 캐시합니다.
+	 *
+	 * <p>검증 함수에서 발생한 예외는 그대로 전파되며 실패한 결과는 캐시하지 않습니다.</p>
+	 *
+	 * @param token JWT 토큰
+	 * @param verifier 캐시 미스 시 서명을 검증하고 클레임을 만드는 함수
+	 * @return 검증된 클레임
+	 */
+	public JwtClaims getOrVerify(String token, Function<String, JwtClaims> verifier) {
+		if (cache == null) {
+			return verifier.apply(token);
+		}
+
+		String key = digest(token);
+		JwtClaims cached = cache.getIfPresent(key);
+		if (cached != null && !cached.isExpiredAt(System.currentTimeMillis())) {
+			return cached;
+		}
+
+		JwtClaims claims = verifier.apply(token);
+		cache.put(key, claims);
+		return claims;
+	}
+
+	public long size() {
+		return cache == null ? 0 : cache.estimatedSize();
+	}
+
+	private String digest(String token) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256")
+				.digest(token.getBytes(StandardCharsets.UTF_8));
+			return Base64.getEncoder().withoutPadding().encodeToString(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 algorithm is not available", e);
+		}
+	}
+
+	private static final class TokenExpiry implements Expiry<String, JwtClaims> {
+
+		@Override
+		public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+			long remainingMillis = claims.remainingMillis(System.currentTimeMillis());
+			return TimeUnit.MILLISECONDS.toNanos(remainingMillis);
+		}
+
+		@Override
+		public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+			return expireAfterCreate(key, claims, currentTime);
+		}
+
+		@Override
+		public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+			return currentDuration;
+		}
+	}
+}
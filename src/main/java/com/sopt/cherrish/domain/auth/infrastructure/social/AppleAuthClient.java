@@ -1,25 +1,20 @@
 package com.sopt.cherrish.domain.auth.infrastructure.social;
 
-import java.math.BigInteger;
-import java.security.KeyFactory;
-import java.security.PublicKey;
-import java.security.spec.RSAPublicKeySpec;
-import java.util.Base64;
-import java.util.List;
-import java.util.concurrent.TimeUnit;
+import java.time.Clock;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sopt.cherrish.domain.auth.exception.AuthErrorCode;
 import com.sopt.cherrish.domain.auth.exception.AuthException;
+import com.sopt.cherrish.domain.auth.infrastructure.social.jwks.JwksKeyStore;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import lombok.extern.slf4j.Slf4j;
 
@@ -27,7 +22,8 @@ import lombok.extern.slf4j.Slf4j;
  * Apple Sign In 토큰 검증 클라이언트.
  *
  * <p>Apple Identity Token을 검증하고 사용자 정보를 추출합니다.
- * Apple 공개키는 24시간 동안 캐싱되어 성능을 최적화합니다.</p>
+ * Apple 공개키는 {@link JwksKeyStore}가 kid별 검증 파서로 미리 만들어 캐싱하며,
+ * 만료 전에 백그라운드에서 갱신합니다.</p>
  *
  * @see <a href="https://developer.apple.com/documentation/sign_in_with_apple">Apple Sign In Documentation</a>
  */
@@ -35,22 +31,23 @@ import lombok.extern.slf4j.Slf4j;
 @Component
 public class AppleAuthClient implements SocialAuthClient {
 
-	private static final String APPLE_PUBLIC_KEY_URL = "https://appleid.apple.com/auth/keys";
 	private static final String APPLE_ISSUER = "https://appleid.apple.com";
-	private static final long CACHE_DURATION_HOURS = 24;
 
-	private final RestTemplate restTemplate;
-	private final ObjectMapper objectMapper;
+	private final JwksKeyStore keyStore;
 
-	@Value("${social.apple.client-id}")
-	private String clientId;
-
-	private volatile ApplePublicKeys cachedKeys;
-	private volatile long cacheExpireTime;
-
-	public AppleAuthClient(RestTemplate restTemplate, ObjectMapper objectMapper) {
-		this.restTemplate = restTemplate;
-		this.objectMapper = objectMapper;
+	public AppleAuthClient(
+		@Qualifier("appleRestTemplate") RestTemplate restTemplate,
+		ObjectMapper objectMapper,
+		Clock clock,
+		@Value("${social.apple.client-id}") String clientId,
+		@Value("${social.apple.jwks-uri:https://appleid.apple.com/auth/keys}") String jwksUri
+	) {
+		this.keyStore = new JwksKeyStore(jwksUri, restTemplate, objectMapper, clock,
+			publicKey -> Jwts.parser()
+				.verifyWith(publicKey)
+				.requireIssuer(APPLE_ISSUER)
+				.requireAudience(clientId)
+				.build());
 	}
 
 	/**
@@ -65,39 +62,7 @@ public class AppleAuthClient implements SocialAuthClient {
 	@Override
 	public SocialUserInfo getUserInfo(String identityToken) {
 		try {
-			ApplePublicKeys applePublicKeys = getApplePublicKeys();
-
-			String[] tokenParts = identityToken.split("\\.");
-			if (tokenParts.length != 3) {
-				throw new AuthException(AuthErrorCode.INVALID_SOCIAL_TOKEN);
-			}
-
-			String headerJson = new String(Base64.getUrlDecoder().decode(tokenParts[0]));
-			JsonNode headerNode = objectMapper.readTree(headerJson);
-			String kid = headerNode.get("kid").asText();
-			String alg = headerNode.get("alg").asText();
-
-			ApplePublicKey matchedKey = findMatchingKey(applePublicKeys, kid, alg);
-
-			if (matchedKey == null) {
-				log.info("Apple public key not found in cache, refreshing keys for kid: {}", kid);
-				applePublicKeys = refreshApplePublicKeys();
-				matchedKey = findMatchingKey(applePublicKeys, kid, alg);
-
-				if (matchedKey == null) {
-					throw new AuthException(AuthErrorCode.INVALID_SOCIAL_TOKEN);
-				}
-			}
-
-			PublicKey publicKey = generatePublicKey(matchedKey);
-
-			Claims claims = Jwts.parser()
-				.verifyWith(publicKey)
-				.requireIssuer(APPLE_ISSUER)
-				.requireAudience(clientId)
-				.build()
-				.parseSignedClaims(identityToken)
-				.getPayload();
+			Claims claims = keyStore.verify(identityToken);
 
 			return new SocialUserInfo(
 				claims.getSubject(),
@@ -109,94 +74,12 @@ public class AppleAuthClient implements SocialAuthClient {
 			throw new AuthException(AuthErrorCode.TOKEN_EXPIRED);
 		} catch (AuthException e) {
 			throw e;
+		} catch (JwtException e) {
+			log.warn("Invalid Apple identity token: {}", e.getMessage());
+			throw new AuthException(AuthErrorCode.INVALID_SOCIAL_TOKEN);
 		} catch (Exception e) {
 			log.error("Apple auth error: {}", e.getMessage(), e);
 			throw new AuthException(AuthErrorCode.SOCIAL_AUTH_FAILED);
 		}
 	}
-
-	private PublicKey generatePublicKey(ApplePublicKey appleKey) {
-		try {
-			byte[] nBytes = Base64.getUrlDecoder().decode(appleKey.n());
-			byte[] eBytes = Base64.getUrlDecoder().decode(appleKey.e());
-
-			BigInteger modulus = new BigInteger(1, nBytes);
-			BigInteger exponent = new BigInteger(1, eBytes);
-
-			RSAPublicKeySpec spec = new RSAPublicKeySpec(modulus, exponent);
-			KeyFactory factory = KeyFactory.getInstance("RSA");
-			return factory.generatePublic(spec);
-		} catch (Exception e) {
-			log.error("Failed to generate Apple public key: {}", e.getMessage(), e);
-			throw new AuthException(AuthErrorCode.SOCIAL_AUTH_FAILED);
-		}
-	}
-
-	private ApplePublicKeys getApplePublicKeys() {
-		long now = System.currentTimeMillis();
-
-		if (cachedKeys != null && now < cacheExpireTime) {
-			return cachedKeys;
-		}
-
-		return refreshApplePublicKeys();
-	}
-
-	private synchronized ApplePublicKeys refreshApplePublicKeys() {
-		long now = System.currentTimeMillis();
-
-		if (cachedKeys != null && now < cacheExpireTime) {
-			return cachedKeys;
-		}
-
-		try {
-			ApplePublicKeys keys = restTemplate.getForObject(
-				APPLE_PUBLIC_KEY_URL,
-				ApplePublicKeys.class
-			);
-
-			if (keys == null || keys.keys() == null) {
-				if (cachedKeys != null) {
-					log.warn("Failed to fetch Apple public keys, using cached keys");
-					return cachedKeys;
-				}
-				throw new AuthException(AuthErrorCode.SOCIAL_AUTH_FAILED);
-			}
-
-			cachedKeys = keys;
-			cacheExpireTime = now + TimeUnit.HOURS.toMillis(CACHE_DURATION_HOURS);
-			log.info("Apple public keys cached successfully, {} keys loaded", keys.keys().size());
-
-			return cachedKeys;
-		} catch (RestClientException e) {
-			if (cachedKeys != null) {
-				log.warn("Failed to refresh Apple public keys: {}, using cached keys", e.getMessage());
-				return cachedKeys;
-			}
-			log.error("Failed to fetch Apple public keys and no cache available: {}", e.getMessage());
-			throw new AuthException(AuthErrorCode.SOCIAL_AUTH_FAILED);
-		}
-	}
-
-	private ApplePublicKey findMatchingKey(ApplePublicKeys keys, String kid, String alg) {
-		return keys.keys().stream()
-			.filter(key -> key.kid().equals(kid) && key.alg().equals(alg))
-			.findFirst()
-			.orElse(null);
-	}
-
-	private record ApplePublicKeys(
-		List<ApplePublicKey> keys
-	) {
-	}
-
-	private record ApplePublicKey(
-		String kty,
-		String kid,
-		String use,
-		String alg,
-		String n,
-		String e
-	) {
-	}
 }
@@ -1,5 +1,9 @@
 package com.sopt.cherrish.domain.auth.infrastructure.social;
 
+import java.time.Clock;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -10,10 +14,15 @@ import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sopt.cherrish.domain.auth.exception.AuthErrorCode;
 import com.sopt.cherrish.domain.auth.exception.AuthException;
+import com.sopt.cherrish.domain.auth.infrastructure.social.jwks.JwksKeyStore;
 
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -21,16 +30,88 @@ import lombok.extern.slf4j.Slf4j;
  *
  * <p>카카오 Access Token을 사용하여 카카오 API에서 사용자 정보를 조회합니다.</p>
  *
+ * <p>앱 키({@code social.kakao.client-id})가 설정되어 있으면 OIDC ID Token을 카카오 JWKS로
+ * 서버에서 직접 검증할 수 있어, 로그인마다 카카오 API를 호출하지 않아도 됩니다.
+ * 공개키 캐싱은 {@link JwksKeyStore}를 사용합니다.</p>
+ *
  * @see <a href="https://developers.kakao.com/docs/latest/ko/kakaologin/rest-api">카카오 로그인 API 문서</a>
+ * @see <a href="https://developers.kakao.com/docs/latest/ko/kakaologin/common#oidc">카카오 OIDC 문서</a>
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class KakaoAuthClient implements SocialAuthClient {
 
-	private static final String KAKAO_USER_INFO_URL = "https://kapi.kakao.com/v2/user/me";
+	private static final String KAKAO_ISSUER = "https://kauth.kakao.com";
 
 	private final RestTemplate restTemplate;
+	private final String userInfoUri;
+	private final JwksKeyStore keyStore;
+
+	public KakaoAuthClient(
+		@Qualifier("kakaoRestTemplate") RestTemplate restTemplate,
+		ObjectMapper objectMapper,
+		Clock clock,
+		@Value("${social.kakao.client-id:}") String clientId,
+		@Value("${social.kakao.jwks-uri:https://kauth.kakao.com/.well-known/jwks.json}") String jwksUri,
+		@Value("${social.kakao.user-info-uri:https://kapi.kakao.com/v2/user/me}") String userInfoUri
+	) {
+		this.restTemplate = restTemplate;
+		this.userInfoUri = userInfoUri;
+		this.keyStore = clientId == null || clientId.isBlank()
+			? null
+			: new JwksKeyStore(jwksUri, restTemplate, objectMapper, clock,
+				publicKey -> Jwts.parser()
+					.verifyWith(publicKey)
+					.requireIssuer(KAKAO_ISSUER)
+					.requireAudience(clientId)
+					.build());
+	}
+
+	/**
+	 * ID Token 검증을 사용할 수 있는지 확인합니다.
+	 *
+	 * @return 카카오 앱 키가 설정되어 있으면 true
+	 */
+	public boolean supportsIdToken() {
+		return keyStore != null;
+	}
+
+	/**
+	 * 카카오 OIDC ID Token을 검증하고 사용자 정보를 추출합니다.
+	 *
+	 * <p>카카오 JWKS 공개키로 서명을 검증하고 issuer와 audience(앱 키)를 확인합니다.
+	 * 네트워크 호출은 공개키 캐시가 비었거나 갱신될 때만 발생합니다.</p>
+	 *
+	 * @param idToken 카카오에서 발급한 ID Token
+	 * @return 소셜 사용자 정보 (socialId, email, nickname)
+	 * @throws AuthException 토큰이 유효하지 않거나 ID Token 검증이 비활성화된 경우
+	 */
+	public SocialUserInfo getUserInfoFromIdToken(String idToken) {
+		if (keyStore == null) {
+			throw new AuthException(AuthErrorCode.SOCIAL_AUTH_FAILED);
+		}
+
+		try {
+			Claims claims = keyStore.verify(idToken);
+
+			return new SocialUserInfo(
+				claims.getSubject(),
+				claims.get("email", String.class),
+				claims.get("nickname", String.class)
+			);
+		} catch (ExpiredJwtException e) {
+			log.error("Kakao id token expired");
+			throw new AuthException(AuthErrorCode.TOKEN_EXPIRED);
+		} catch (AuthException e) {
+			throw e;
+		} catch (JwtException e) {
+			log.warn("Invalid Kakao id token: {}", e.getMessage());
+			throw new AuthException(AuthErrorCode.INVALID_SOCIAL_TOKEN);
+		} catch (Exception e) {
+			log.error("Kakao id token auth error: {}", e.getMessage(), e);
+			throw new AuthException(AuthErrorCode.SOCIAL_AUTH_FAILED);
+		}
+	}
 
 	/**
 	 * 카카오 Access Token으로 사용자 정보를 조회합니다.
@@ -51,7 +132,7 @@ public class KakaoAuthClient implements SocialAuthClient {
 			HttpEntity<Void> entity = new HttpEntity<>(headers);
 
 			ResponseEntity<KakaoUserResponse> response = restTemplate.exchange(
-				KAKAO_USER_INFO_URL,
+				userInfoUri,
 				HttpMethod.GET,
 				entity,
 				KakaoUserResponse.class
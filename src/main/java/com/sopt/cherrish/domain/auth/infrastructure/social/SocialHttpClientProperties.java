@@ -0,0 +1,70 @@
+package com.sopt.cherrish.domain.auth.infrastructure.social;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 소셜 로그인 제공자별 HTTP 클라이언트 설정.
+ *
+ * <p>제공자마다 커넥션 풀과 타임아웃을 따로 두어, 한 제공자의 장애가 다른 제공자의 로그인까지
+ * 막지 않도록 합니다.</p>
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "social.http")
+public class SocialHttpClientProperties {
+
+	@Valid
+	@NotNull
+	private Pool kakao = new Pool();
+
+	@Valid
+	@NotNull
+	private Pool apple = new Pool();
+
+	@Getter
+	@Setter
+	public static class Pool {
+
+		/**
+		 * 최대 동시 커넥션 수. 모두 사용 중이면 요청은 connectionRequestTimeout 동안 대기합니다.
+		 */
+		@Positive
+		private int maxConnections = 20;
+
+		@NotNull
+		private Duration connectTimeout = Duration.ofSeconds(2);
+
+		@NotNull
+		private Duration responseTimeout = Duration.ofSeconds(3);
+
+		/**
+		 * 풀에서 커넥션을 얻기 위해 기다리는 최대 시간.
+		 */
+		@NotNull
+		private Duration connectionRequestTimeout = Duration.ofMillis(500);
+
+		/**
+		 * 이 시간 동안 사용되지 않은 커넥션은 풀에서 제거합니다.
+		 */
+		@NotNull
+		private Duration idleTimeout = Duration.ofSeconds(30);
+
+		/**
+		 * 커넥션 최대 수명. 제공자의 DNS 변경을 반영하기 위해 주기적으로 새 커넥션을 맺습니다.
+		 */
+		@NotNull
+		private Duration timeToLive = Duration.ofMinutes(5);
+	}
+}
@@ -0,0 +1,264 @@
+package com.sopt.cherrish.domain.auth.infrastructure.social.jwks;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sopt.cherrish.domain.auth.exception.AuthErrorCode;
+import com.sopt.cherrish.domain.auth.exception.AuthException;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * OIDC 제공자의 JWKS 공개키를 캐싱하고 ID Token 서명을 검증하는 저장소.
+ *
+ * <p>JWKS를 받아오면 kid별 {@link PublicKey}와 검증용 {@link JwtParser}를 미리 만들어
+ * 불변 맵으로 보관하고, 새 맵은 {@link AtomicReference}로 원자적으로 교체합니다.
+ * 요청 경로에서는 맵 조회 한 번으로 파서를 얻으며 잠금을 사용하지 않습니다.</p>
+ *
+ * <ul>
+ *   <li>만료 전 일정 시간(refresh-ahead)부터는 기존 키로 검증하면서 백그라운드에서 갱신합니다.</li>
+ *   <li>갱신에 실패하면 기존 키를 계속 사용합니다 (stale-while-revalidate).</li>
+ *   <li>알 수 없는 kid가 들어오면 즉시 갱신하되, 동시에 들어온 요청은 하나의 조회 결과를 공유합니다.
+ *       잘못된 kid로 제공자를 반복 호출하지 않도록 최소 갱신 간격을 둡니다.</li>
+ * </ul>
+ */
+@Slf4j
+public class JwksKeyStore {
+
+	private static final Duration TIME_TO_LIVE = Duration.ofHours(24);
+	private static final Duration REFRESH_AHEAD = Duration.ofHours(1);
+	private static final Duration MIN_REFRESH_INTERVAL = Duration.ofMinutes(1);
+	private static final Duration FETCH_WAIT_TIMEOUT = Duration.ofSeconds(10);
+
+	private final String jwksUri;
+	private final RestTemplate restTemplate;
+	private final ObjectMapper objectMapper;
+	private final Clock clock;
+	private final Function<PublicKey, JwtParser> parserFactory;
+	private final Executor refreshExecutor;
+
+	private final AtomicReference<KeySet> keySet = new AtomicReference<>(KeySet.EMPTY);
+	private final AtomicReference<CompletableFuture<KeySet>> inFlight = new AtomicReference<>();
+	private volatile long lastFetchAttemptMillis;
+
+	/**
+	 * @param jwksUri JWKS 엔드포인트 URI
+	 * @param restTemplate JWKS 조회에 사용할 RestTemplate
+	 * @param objectMapper JWT 헤더 파싱에 사용할 ObjectMapper
+	 * @param clock 캐시 만료 판단 기준 시계
+	 * @param parserFactory 공개키로 issuer/audience 검증까지 포함한 파서를 만드는 함수
+	 */
+	public JwksKeyStore(
+		String jwksUri,
+		RestTemplate restTemplate,
+		ObjectMapper objectMapper,
+		Clock clock,
+		Function<PublicKey, JwtParser> parserFactory
+	) {
+		this.jwksUri = jwksUri;
+		this.restTemplate = restTemplate;
+		this.objectMapper = objectMapper;
+		this.clock = clock;
+		this.parserFactory = parserFactory;
+		this.refreshExecutor = Executors.newThreadPerTaskExecutor(
+			Thread.ofVirtual().name("jwks-refresh-", 0).factory());
+	}
+
+	/**
+	 * ID Token의 서명과 클레임을 검증합니다.
+	 *
+	 * @param idToken 검증할 ID Token
+	 * @return 검증된 클레임
+	 * @throws AuthException 헤더가 잘못되었거나 kid에 해당하는 키가 없는 경우
+	 * @throws io.jsonwebtoken.JwtException 서명, 만료, issuer, audience 검증에 실패한 경우
+	 */
+	public Claims verify(String idToken) {
+		TokenHeader header = readHeader(idToken);
+		VerificationKey key = findKey(header.kid());
+
+		if (key == null || (key.alg() != null && !key.alg().equals(header.alg()))) {
+			throw new AuthException(AuthErrorCode.INVALID_SOCIAL_TOKEN);
+		}
+
+		return key.parser().parseSignedClaims(idToken).getPayload();
+	}
+
+	private VerificationKey findKey(String kid) {
+		VerificationKey key = currentKeySet().keys().get(kid);
+		if (key != null) {
+			return key;
+		}
+
+		CompletableFuture<KeySet> refreshing = inFlight.get();
+		if (refreshing == null && !refreshAllowed()) {
+			log.debug("Unknown kid {} from {}, refresh throttled", kid, jwksUri);
+			return keySet.get().keys().get(kid);
+		}
+
+		log.info("Unknown kid {} from {}, refreshing keys", kid, jwksUri);
+		return await(refreshing != null ? refreshing : refreshAsync()).keys().get(kid);
+	}
+
+	private KeySet currentKeySet() {
+		KeySet current = keySet.get();
+		if (current.keys().isEmpty()) {
+			return await(refreshAsync());
+		}
+		if (clock.millis() >= current.refreshAtMillis() && refreshAllowed()) {
+			refreshAsync();
+		}
+		return current;
+	}
+
+	private boolean refreshAllowed() {
+		return clock.millis() - lastFetchAttemptMillis >= MIN_REFRESH_INTERVAL.toMillis();
+	}
+
+	private CompletableFuture<KeySet> refreshAsync() {
+		while (true) {
+			CompletableFuture<KeySet> existing = inFlight.get();
+			if (existing != null) {
+				return existing;
+			}
+
+			CompletableFuture<KeySet> created = new CompletableFuture<>();
+			if (inFlight.compareAndSet(null, created)) {
+				refreshExecutor.execute(() -> {
+					try {
+						KeySet fetched = fetch();
+						keySet.set(fetched);
+						created.complete(fetched);
+					} catch (RuntimeException e) {
+						log.warn("Failed to refresh JWKS from {}: {}", jwksUri, e.getMessage());
+						created.completeExceptionally(e);
+					} finally {
+						inFlight.compareAndSet(created, null);
+					}
+				});
+				return created;
+			}
+		}
+	}
+
+	private KeySet await(CompletableFuture<KeySet> future) {
+		try {
+			return future.get(FETCH_WAIT_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		} catch (ExecutionException | TimeoutException e) {
+			log.debug("JWKS refresh did not complete: {}", e.getMessage());
+		}
+
+		KeySet current = keySet.get();
+		if (current.keys().isEmpty()) {
+			throw new AuthException(AuthErrorCode.SOCIAL_AUTH_FAILED);
+		}
+		return current;
+	}
+
+	private KeySet fetch() {
+		lastFetchAttemptMillis = clock.millis();
+		JwksResponse response = restTemplate.getForObject(jwksUri, JwksResponse.class);
+		if (response == null || response.keys() == null || response.keys().isEmpty()) {
+			throw new IllegalStateException("JWKS response has no keys");
+		}
+
+		Map<String, VerificationKey> keys = new HashMap<>();
+		for (Jwk jwk : response.keys()) {
+			if (!"RSA".equals(jwk.kty()) || jwk.kid() == null) {
+				continue;
+			}
+			keys.put(jwk.kid(), new VerificationKey(jwk.alg(), parserFactory.apply(toPublicKey(jwk))));
+		}
+
+		log.info("JWKS loaded from {}: {} keys", jwksUri, keys.size());
+		long refreshAt = clock.millis() + TIME_TO_LIVE.minus(REFRESH_AHEAD).toMillis();
+		return new KeySet(Map.copyOf(keys), refreshAt);
+	}
+
+	private PublicKey toPublicKey(Jwk jwk) {
+		try {
+			BigInteger modulus = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.n()));
+			BigInteger exponent = new BigInteger(1, Base64.getUrlDecoder().decode(jwk.e()));
+			return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent));
+		} catch (GeneralSecurityException | IllegalArgumentException e) {
+			throw new IllegalStateException("Invalid RSA key in JWKS: " + jwk.kid(), e);
+		}
+	}
+
+	private TokenHeader readHeader(String idToken) {
+		String[] tokenParts = idToken.split("\\.");
+		if (tokenParts.length != 3) {
+			throw new AuthException(AuthErrorCode.INVALID_SOCIAL_TOKEN);
+		}
+
+		try {
+			JsonNode headerNode = objectMapper.readTree(Base64.getUrlDecoder().decode(tokenParts[0]));
+			String kid = headerNode.path("kid").asText(null);
+			if (kid == null) {
+				throw new AuthException(AuthErrorCode.INVALID_SOCIAL_TOKEN);
+			}
+			return new TokenHeader(kid, headerNode.path("alg").asText(null));
+		} catch (IOException | IllegalArgumentException e) {
+			throw new AuthException(AuthErrorCode.INVALID_SOCIAL_TOKEN);
+		}
+	}
+
+	private record KeySet(
+		Map<String, VerificationKey> keys,
+		long refreshAtMillis
+	) {
+		private static final KeySet EMPTY = new KeySet(Map.of(), Long.MIN_VALUE);
+	}
+
+	private record VerificationKey(
+		String alg,
+		JwtParser parser
+	) {
+	}
+
+	private record TokenHeader(
+		String kid,
+		String alg
+	) {
+	}
+
+	private record JwksResponse(
+		List<Jwk> keys
+	) {
+	}
+
+	private record Jwk(
+		String kty,
+		String kid,
+		String use,
+		String alg,
+		String n,
+		String e
+	) {
+	}
+}
@@ -17,6 +17,11 @@ public record SocialLoginRequestDto(
 		example = "eyJhbGciOiJSUzI1NiIsInR5cCI6IkpXVCJ9...",
 		requiredMode = Schema.RequiredMode.REQUIRED)
 	@NotBlank(message = "소셜 토큰은 필수입니다")
-	String token
+	String token,
+
+	@Schema(description = "카카오 OIDC ID Token (선택). 전달되면 카카오 사용자 정보 API 호출 없이 서버에서 직접 검증합니다.",
+		example = "eyJraWQiOiI5ZjI1MmRhZGQ1ZjIzM2Y5M2QyZmE1MjhkMTJmZWEiLCJ0eXAiOiJKV1QiLCJhbGciOiJSUzI1NiJ9...",
+		requiredMode = Schema.RequiredMode.NOT_REQUIRED)
+	String idToken
 ) {
 }
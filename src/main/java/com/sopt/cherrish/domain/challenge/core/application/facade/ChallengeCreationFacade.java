@@ -3,15 +3,22 @@ package com.sopt.cherrish.domain.challenge.core.application.facade;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.sopt.cherrish.domain.challenge.core.application.service.ChallengeRoutineService;
 import com.sopt.cherrish.domain.challenge.core.application.service.ChallengeService;
 import com.sopt.cherrish.domain.challenge.core.application.service.ChallengeStatisticsService;
+import com.sopt.cherrish.domain.challenge.core.application.service.CompactChallengeRoutineService;
+import com.sopt.cherrish.domain.challenge.core.domain.event.ChallengeDetailChangedEvent;
+import com.sopt.cherrish.domain.challenge.core.domain.event.ChallengeStatisticsChangedEvent;
 import com.sopt.cherrish.domain.challenge.core.domain.model.Challenge;
 import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeRoutine;
+import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeStatistics;
+import com.sopt.cherrish.domain.challenge.core.domain.model.RoutineDay;
 import com.sopt.cherrish.domain.challenge.core.presentation.dto.request.ChallengeCreateRequestDto;
 import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeCreateResponseDto;
 import com.sopt.cherrish.domain.challenge.homecare.domain.model.HomecareRoutine;
@@ -28,7 +35,9 @@ public class ChallengeCreationFacade {
 	private final ChallengeService challengeService;
 	private final ChallengeRoutineService routineService;
 	private final ChallengeStatisticsService statisticsService;
+	private final Optional<CompactChallengeRoutineService> compactRoutineService;
 	private final UserRepository userRepository;
+	private final ApplicationEventPublisher eventPublisher;
 	private final Clock clock;
 
 	/**
@@ -49,25 +58,39 @@ public class ChallengeCreationFacade {
 			throw new UserException(UserErrorCode.USER_NOT_FOUND);
 		}
 
-		// 2. 활성 챌린지 중복 확인
-		challengeService.validateNoDuplicateActiveChallenge(userId);
-
-		// 3. HomecareRoutine 변환 및 유효성 검증
+		// 2. HomecareRoutine 변환 및 유효성 검증
 		HomecareRoutine routine = HomecareRoutine.fromId(request.homecareRoutineId());
 
-		// 4. 챌린지 생성
+		// 3. 챌린지 생성 (활성 챌린지 중복은 부분 유니크 인덱스로 검증)
 		LocalDate startDate = LocalDate.now(clock);
 
-		Challenge challenge = challengeService.createChallenge(userId, routine, startDate);
+		Challenge challenge = challengeService.createChallenge(userId, routine, startDate, request.totalDays());
+
+		// 커밋 이후 챌린지 상세 캐시 무효화
+		eventPublisher.publishEvent(new ChallengeDetailChangedEvent(userId));
 
-		// 5. 챌린지 루틴 Batch Insert (routineNames × 7일)
+		// 압축 저장 모델: 루틴명당 정의 1행
+		if (compactRoutineService.isPresent()) {
+			List<RoutineDay> routineDays = compactRoutineService.get().createAndSaveRoutines(
+				challenge, request.routineNames());
+			ChallengeStatistics statistics = statisticsService.initializeDailyStatistics(
+				challenge, request.routineNames().size());
+			eventPublisher.publishEvent(ChallengeStatisticsChangedEvent.of(userId, statistics));
+			return ChallengeCreateResponseDto.fromRoutineDays(challenge, routineDays, statistics.getTotalRoutineCount());
+		}
+
+		// 4. 1일차 루틴 Batch Insert (이후 일차는 날짜별 첫 조회 시 생성)
 		List<ChallengeRoutine> routines = routineService.createAndSaveRoutines(
 			challenge, request.routineNames());
 
-		// 6. 통계 초기화
-		statisticsService.initializeStatistics(challenge, routines);
+		// 5. 통계 초기화 (일차별 루틴 개수 = 루틴명 개수, 전체 루틴 개수 = 루틴명 개수 × 챌린지 기간)
+		ChallengeStatistics statistics = statisticsService.initializeDailyStatistics(
+			challenge, request.routineNames().size());
+
+		// 커밋 이후 체리 랭킹에 진행률 0%로 등록
+		eventPublisher.publishEvent(ChallengeStatisticsChangedEvent.of(userId, statistics));
 
-		// 7. Response DTO 변환
-		return ChallengeCreateResponseDto.from(challenge, routines, routines.size());
+		// 6. Response DTO 변환
+		return ChallengeCreateResponseDto.from(challenge, routines, statistics.getTotalRoutineCount());
 	}
 }
@@ -3,16 +3,22 @@ package com.sopt.cherrish.domain.challenge.core.application.facade;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.sopt.cherrish.domain.challenge.core.application.service.ChallengeRoutineService;
 import com.sopt.cherrish.domain.challenge.core.application.service.ChallengeService;
+import com.sopt.cherrish.domain.challenge.core.application.service.ChallengeStatisticsService;
+import com.sopt.cherrish.domain.challenge.core.application.service.CompactChallengeRoutineService;
+import com.sopt.cherrish.domain.challenge.core.domain.event.ChallengeDetailChangedEvent;
+import com.sopt.cherrish.domain.challenge.core.domain.event.ChallengeStatisticsChangedEvent;
 import com.sopt.cherrish.domain.challenge.core.domain.model.Challenge;
 import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeRoutine;
 import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeStatistics;
-import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRoutineRepository;
+import com.sopt.cherrish.domain.challenge.core.domain.model.RoutineDay;
 import com.sopt.cherrish.domain.challenge.core.exception.ChallengeErrorCode;
 import com.sopt.cherrish.domain.challenge.core.exception.ChallengeException;
 import com.sopt.cherrish.domain.challenge.core.presentation.dto.request.CustomRoutineAddRequestDto;
@@ -30,7 +36,9 @@ public class ChallengeCustomRoutineFacade {
 	private final UserService userService;
 	private final ChallengeService challengeService;
 	private final ChallengeRoutineService routineService;
-	private final ChallengeRoutineRepository routineRepository;
+	private final ChallengeStatisticsService statisticsService;
+	private final Optional<CompactChallengeRoutineService> compactRoutineService;
+	private final ApplicationEventPublisher eventPublisher;
 	private final Clock clock;
 
 	/**
@@ -38,6 +46,9 @@ public class ChallengeCustomRoutineFacade {
 	 *
 	 * 트랜잭션 경계: 이 메서드 전체
 	 *
+	 * 동시성 제어:
+	 * - 루틴을 추가한 뒤 통계 행을 잠그고 수정하므로 토글과 잠금 순서(루틴 → 통계)가 같고, 동시 토글과 충돌(409)하지 않음
+	 *
 	 * @param userId 사용자 ID
 	 * @param request 커스텀 루틴 추가 요청 DTO
 	 * @return 커스텀 루틴 추가 응답 DTO
@@ -57,28 +68,51 @@ public class ChallengeCustomRoutineFacade {
 		LocalDate today = LocalDate.now(clock);
 
 		// 4. 하루 최대 루틴 개수 제한 검증
-		long todayRoutineCount = routineRepository.countByChallengeIdAndScheduledDate(
-			challenge.getId(), today
-		);
+		long todayRoutineCount = compactRoutineService
+			.map(service -> service.countRoutinesByDate(challenge, today))
+			.orElseGet(() -> (long) routineService.getOrCreateRoutinesByDate(challenge, today).size());
 		if (todayRoutineCount >= MAX_DAILY_ROUTINE_COUNT) {
 			throw new ChallengeException(ChallengeErrorCode.CUSTOM_ROUTINE_LIMIT_EXCEEDED);
 		}
 
-		// 5. 커스텀 루틴 Batch Insert
+		// 압축 저장 모델: 커스텀 루틴도 정의 1행
+		if (compactRoutineService.isPresent()) {
+			List<RoutineDay> routineDays = compactRoutineService.get().createAndSaveCustomRoutine(
+				challenge, request.routineName(), today
+			);
+			ChallengeStatistics statistics = statisticsService.getStatisticsForUpdate(challenge.getId());
+			statistics.incrementTotalRoutineCount(routineDays.size());
+			statistics.addDailyRoutines(challenge.getDayIndex(today), 1);
+			statistics.updateCherryLevel();
+			eventPublisher.publishEvent(new ChallengeDetailChangedEvent(userId));
+			eventPublisher.publishEvent(ChallengeStatisticsChangedEvent.of(userId, statistics));
+			return CustomRoutineAddResponseDto.fromRoutineDays(
+				challenge, request.routineName(), routineDays, statistics.getTotalRoutineCount()
+			);
+		}
+
+		// 5. 커스텀 루틴 Batch Insert (이미 생성된 날짜에만, 이후 날짜는 생성 시 포함)
 		List<ChallengeRoutine> routines = routineService.createAndSaveCustomRoutine(
 			challenge, request.routineName(), today
 		);
 
-		// 6. 통계 업데이트 (totalRoutineCount 증가, cherryLevel 재계산)
-		ChallengeStatistics statistics = challenge.getStatistics();
-		statistics.incrementTotalRoutineCount(routines.size());
+		// 6. 통계 잠금 후 업데이트 (오늘부터 종료일까지 하루 1개씩 totalRoutineCount와 일차별 루틴 개수 증가, cherryLevel 재계산)
+		int addedCount = challenge.getRemainingDays(today);
+		ChallengeStatistics statistics = statisticsService.getStatisticsForUpdate(challenge.getId());
+		statistics.incrementTotalRoutineCount(addedCount);
+		statistics.addDailyRoutines(challenge.getDayIndex(today), 1);
 		statistics.updateCherryLevel();
 
-		// 7. Response DTO 변환
+		// 7. 커밋 이후 챌린지 상세 캐시 무효화, 체리 랭킹 갱신 (전체 루틴 개수가 늘어 진행률이 바뀜)
+		eventPublisher.publishEvent(new ChallengeDetailChangedEvent(userId));
+		eventPublisher.publishEvent(ChallengeStatisticsChangedEvent.of(userId, statistics));
+
+		// 8. Response DTO 변환
 		return CustomRoutineAddResponseDto.from(
 			challenge,
 			request.routineName(),
 			routines,
+			addedCount,
 			statistics.getTotalRoutineCount()
 		);
 	}
@@ -3,17 +3,29 @@ package com.sopt.cherrish.domain.challenge.core.application.facade;
 import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import com.sopt.cherrish.domain.challenge.core.application.service.BufferedChallengeRoutineService;
 import com.sopt.cherrish.domain.challenge.core.application.service.CheeringMessageGenerator;
 import com.sopt.cherrish.domain.challenge.core.application.service.ChallengeRoutineService;
 import com.sopt.cherrish.domain.challenge.core.application.service.ChallengeService;
+import com.sopt.cherrish.domain.challenge.core.application.service.CompactChallengeRoutineService;
 import com.sopt.cherrish.domain.challenge.core.domain.model.Challenge;
 import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeRoutine;
 import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeStatistics;
+import com.sopt.cherrish.domain.challenge.core.domain.model.RoutineDay;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeHistory;
+import com.sopt.cherrish.domain.challenge.core.exception.ChallengeErrorCode;
+import com.sopt.cherrish.domain.challenge.core.exception.ChallengeException;
+import com.sopt.cherrish.domain.challenge.core.infrastructure.cache.ChallengeDetailCache;
+import com.sopt.cherrish.domain.challenge.core.infrastructure.leaderboard.ChallengeLeaderboard;
+import com.sopt.cherrish.domain.challenge.core.infrastructure.leaderboard.LeaderboardEntry;
 import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeDetailResponseDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeHistoryPageResponseDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeLeaderboardResponseDto;
 
 import lombok.RequiredArgsConstructor;
 
@@ -24,38 +36,126 @@ public class ChallengeQueryFacade {
 	private final ChallengeService challengeService;
 	private final ChallengeRoutineService routineService;
 	private final CheeringMessageGenerator cheeringMessageGenerator;
+	private final Optional<CompactChallengeRoutineService> compactRoutineService;
+	private final Optional<BufferedChallengeRoutineService> bufferedRoutineService;
+	private final Optional<ChallengeDetailCache> challengeDetailCache;
+	private final Optional<ChallengeLeaderboard> challengeLeaderboard;
 	private final Clock clock;
 
 	/**
 	 * 활성 챌린지 상세 조회
 	 *
-	 * 쿼리 최적화:
+	 * 캐시:
+	 * - 사용자 + 날짜별로 조립된 응답을 캐싱 (적중 시 DB 조회 없음)
+	 * - 루틴 토글/추가, 챌린지 생성, 자정 만료 시 커밋 이후 무효화 (ChallengeDetailCacheInvalidator)
+	 *
+	 * 쿼리 최적화 (캐시 미적중 시):
 	 * - Challenge와 Statistics를 Fetch Join으로 한 번에 조회 (쿼리 1)
-	 * - 오늘의 루틴을 별도 조회 (쿼리 2)
+	 * - 오늘의 루틴을 별도 조회 (쿼리 2, 그 날짜의 첫 조회라면 챌린지 잠금 후 루틴 생성)
 	 *
 	 * @param userId 사용자 ID
 	 * @return 챌린지 상세 응답
 	 */
-	@Transactional(readOnly = true)
 	public ChallengeDetailResponseDto getActiveChallengeDetail(Long userId) {
 		// 0. 오늘 날짜 계산 (한 번만)
 		LocalDate today = LocalDate.now(clock);
 
+		return challengeDetailCache
+			.map(cache -> cache.get(userId, today, () -> loadActiveChallengeDetail(userId, today)))
+			.orElseGet(() -> loadActiveChallengeDetail(userId, today));
+	}
+
+	/**
+	 * 지정한 날짜 기준의 활성 챌린지 상세 응답을 미리 조립 (자정 전 캐시 채우기용)
+	 *
+	 * 활성 챌린지가 없거나 그 날짜 전에 종료되어 자정에 만료될 챌린지면 빈 값을 반환합니다.
+	 *
+	 * @param userId 사용자 ID
+	 * @param date 응답 날짜 (보통 내일)
+	 * @return 챌린지 상세 응답
+	 */
+	public Optional<ChallengeDetailResponseDto> prepareActiveChallengeDetail(Long userId, LocalDate date) {
+		return challengeService.findActiveChallengeWithStatistics(userId)
+			.filter(challenge -> !challenge.getEndDate().isBefore(date))
+			.map(challenge -> buildActiveChallengeDetail(challenge, date));
+	}
+
+	/**
+	 * 종료된 챌린지 기록 조회
+	 *
+	 * 쿼리 최적화:
+	 * - 챌린지와 최종 통계를 프로젝션 한 번으로 조회 (루틴 미조회)
+	 * - 일차별 완료 요약은 통계의 일차별 개수 배열로 계산
+	 * - 다음 페이지 존재 여부는 페이지 크기보다 1개 더 조회하여 판단 (COUNT 쿼리 없음)
+	 *
+	 * @param userId 사용자 ID
+	 * @param cursorEndDate 이전 페이지 마지막 기록의 종료일 (첫 페이지면 null)
+	 * @param cursorId 이전 페이지 마지막 기록의 챌린지 ID (첫 페이지면 null)
+	 * @param size 페이지 크기
+	 * @return 챌린지 기록 페이지 응답
+	 */
+	public ChallengeHistoryPageResponseDto getChallengeHistory(Long userId, LocalDate cursorEndDate, Long cursorId, int size) {
+		List<ChallengeHistory> histories = challengeService.findChallengeHistory(userId, cursorEndDate, cursorId, size + 1);
+		return ChallengeHistoryPageResponseDto.of(histories, size);
+	}
+
+	/**
+	 * 체리 랭킹 조회
+	 *
+	 * 쿼리 최적화:
+	 * - Redis Sorted Set에서 상위 N명(O(log n + N))과 내 순위(O(log n))를 조회 (DB 조회 없음)
+	 * - 랭킹은 통계 변경 커밋 이후 갱신되고, Redis가 초기화되면 ChallengeLeaderboardRebuildScheduler가 DB로 재구성
+	 *
+	 * @param userId 사용자 ID
+	 * @param size 상위 랭킹 인원
+	 * @return 상위 랭킹과 내 순위 (진행 중인 챌린지가 없으면 내 순위 없음)
+	 */
+	public ChallengeLeaderboardResponseDto getLeaderboard(Long userId, int size) {
+		ChallengeLeaderboard leaderboard = challengeLeaderboard
+			.orElseThrow(() -> new ChallengeException(ChallengeErrorCode.LEADERBOARD_UNAVAILABLE));
+		try {
+			List<LeaderboardEntry> topEntries = leaderboard.findTop(size);
+			Optional<LeaderboardEntry> myEntry = leaderboard.findRank(userId);
+			return ChallengeLeaderboardResponseDto.of(topEntries, myEntry);
+		} catch (DataAccessException e) {
+			throw new ChallengeException(ChallengeErrorCode.LEADERBOARD_UNAVAILABLE);
+		}
+	}
+
+	private ChallengeDetailResponseDto loadActiveChallengeDetail(Long userId, LocalDate today) {
 		// 1. 활성 챌린지 조회 (통계와 함께 Fetch Join으로 한 번에 조회)
 		Challenge challenge = challengeService.getActiveChallengeWithStatistics(userId);
+		return buildActiveChallengeDetail(challenge, today);
+	}
 
-		// 2. 오늘의 루틴 조회 (날짜를 직접 전달)
-		List<ChallengeRoutine> todayRoutines = routineService.getRoutinesByDate(challenge.getId(), today);
-
-		// 3. 통계는 Challenge에서 가져옴 (이미 Fetch Join으로 로드됨)
+	private ChallengeDetailResponseDto buildActiveChallengeDetail(Challenge challenge, LocalDate today) {
+		// 2. 통계는 Challenge에서 가져옴 (이미 Fetch Join으로 로드됨)
 		ChallengeStatistics statistics = challenge.getStatistics();
 
-		// 4. 현재 일차 계산
+		// 3. 현재 일차 계산
 		int currentDay = challenge.getCurrentDay(today);
 
-		// 5. 응원 메시지 생성
+		// 4. 응원 메시지 생성
 		String cheeringMessage = cheeringMessageGenerator.generate(currentDay, challenge.getTotalDays());
 
+		// 압축 저장 모델: 챌린지의 루틴 정의 몇 행으로 오늘의 루틴 구성
+		if (compactRoutineService.isPresent()) {
+			List<RoutineDay> todayRoutines = compactRoutineService.get().getRoutinesByDate(challenge, today);
+			return ChallengeDetailResponseDto.fromRoutineDays(
+				challenge, currentDay, statistics, todayRoutines, cheeringMessage);
+		}
+
+		// 쓰기 지연 모드: 아직 DB에 반영되지 않은 토글을 루틴과 통계에 덮어씀
+		if (bufferedRoutineService.isPresent()) {
+			BufferedChallengeRoutineService bufferedService = bufferedRoutineService.get();
+			List<RoutineDay> todayRoutines = bufferedService.getRoutinesByDate(challenge, today);
+			return ChallengeDetailResponseDto.fromRoutineDays(
+				challenge, currentDay, bufferedService.getStatistics(challenge), todayRoutines, cheeringMessage);
+		}
+
+		// 5. 오늘의 루틴 조회 (날짜를 직접 전달, 오늘 처음 조회하면 생성)
+		List<ChallengeRoutine> todayRoutines = routineService.getOrCreateRoutinesByDate(challenge, today);
+
 		// 6. 응답 DTO 생성
 		return ChallengeDetailResponseDto.from(
 			challenge,
@@ -0,0 +1,41 @@
+package com.sopt.cherrish.domain.challenge.core.application.scheduler;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 자정 전 챌린지 상세 캐시 미리 채우기 설정.
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "challenge.detail-cache.prewarm")
+public class ChallengeDetailPrewarmProperties {
+
+	/**
+	 * 이 기간 안에 챌린지 상세를 조회한 사용자만 미리 채웁니다.
+	 */
+	@NotNull
+	private Duration activeWindow = Duration.ofDays(3);
+
+	/**
+	 * 최근 조회 사용자 목록에서 한 번에 읽을 사용자 수.
+	 */
+	@Positive
+	private int chunkSize = 200;
+
+	/**
+	 * 초당 미리 채울 최대 사용자 수. 실시간 요청과 DB 커넥션을 다투지 않도록 낮게 유지합니다.
+	 */
+	@Positive
+	private int maxUsersPerSecond = 100;
+}
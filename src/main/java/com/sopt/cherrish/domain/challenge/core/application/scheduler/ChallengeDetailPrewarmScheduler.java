@@ -0,0 +1,183 @@
+package com.sopt.cherrish.domain.challenge.core.application.scheduler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.sopt.cherrish.domain.challenge.core.application.facade.ChallengeQueryFacade;
+import com.sopt.cherrish.domain.challenge.core.infrastructure.cache.ChallengeDetailCache;
+import com.sopt.cherrish.global.scheduler.SchedulerLockRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 자정 전에 다음 날짜의 챌린지 상세 응답을 미리 Redis에 채우는 스케줄러.
+ *
+ * <p>오늘의 루틴, 현재 일차, 응원 메시지는 00시(Asia/Seoul)에 함께 바뀌므로 자정 직후 요청이 모두 캐시를 놓치고 DB로 몰립니다.
+ * 최근 조회한 사용자의 다음 날짜 응답을 날짜 키로 미리 저장해 두면, 날짜가 바뀌는 순간 별도 전환 없이 첫 조회부터 Redis에서 응답합니다.</p>
+ *
+ * <p>Redis 임대 잠금을 잡은 인스턴스만 실행하고, 초당 처리 수를 제한하며, 자정이 되면 남은 사용자를 건너뜁니다.
+ * 미리 채운 뒤 사용자의 데이터가 바뀌면 평소처럼 세대가 올라가 미리 채운 값은 읽히지 않습니다.</p>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "challenge.detail-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnProperty(prefix = "challenge.detail-cache.prewarm", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ChallengeDetailPrewarmScheduler {
+
+	static final String LOCK_NAME = "challenge-detail-prewarm";
+	private static final String METRIC_PREFIX = "challenge.detail.prewarm";
+
+	private final ChallengeDetailCache challengeDetailCache;
+	private final ChallengeQueryFacade challengeQueryFacade;
+	private final SchedulerLockRepository schedulerLockRepository;
+	private final ChallengeDetailPrewarmProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final Clock clock;
+
+	private Counter leaderRunCounter;
+	private Counter skippedRunCounter;
+	private Counter warmedUserCounter;
+	private Counter skippedUserCounter;
+	private Counter failedUserCounter;
+	private Timer durationTimer;
+
+	@PostConstruct
+	void init() {
+		leaderRunCounter = runCounter("leader");
+		skippedRunCounter = runCounter("skipped");
+		warmedUserCounter = userCounter("warmed");
+		skippedUserCounter = userCounter("skipped");
+		failedUserCounter = userCounter("failed");
+		durationTimer = Timer.builder(METRIC_PREFIX + ".duration")
+			.description("미리 채우기 소요 시간 (리더로 실행한 경우만)")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 매일 23시 50분(Asia/Seoul)에 최근 조회 사용자의 다음 날짜 챌린지 상세 응답을 미리 채웁니다.
+	 */
+	@Scheduled(cron = "${challenge.detail-cache.prewarm.cron:0 50 23 * * *}", zone = "Asia/Seoul")
+	public void prewarmNextDay() {
+		LocalDateTime now = LocalDateTime.now(clock);
+		LocalDate nextDate = now.toLocalDate().plusDays(1);
+		LocalDateTime deadline = nextDate.atStartOfDay();
+		// 자정 직후 적중률 집계 구간까지 유지하고, 이후에는 평소 TTL로 다시 채워짐
+		Duration ttl = Duration.between(now, deadline).plus(ChallengeDetailCache.ROLLOVER_WINDOW);
+
+		try {
+			// 해제하지 않고 TTL까지 잡아 두어 같은 밤에 다른 인스턴스가 다시 실행하지 않음
+			Optional<String> leaseToken = schedulerLockRepository.tryAcquire(LOCK_NAME, ttl);
+			if (leaseToken.isEmpty()) {
+				skippedRunCounter.increment();
+				log.info("챌린지 상세 미리 채우기 건너뜀: 다른 인스턴스가 처리 중 ({})", nextDate);
+				return;
+			}
+		} catch (DataAccessException e) {
+			// 캐시도 같은 Redis를 쓰므로 잠금을 잡을 수 없으면 미리 채울 수도 없음
+			skippedRunCounter.increment();
+			log.warn("챌린지 상세 미리 채우기 잠금 획득 실패, 건너뜀: {}", nextDate, e);
+			return;
+		}
+		leaderRunCounter.increment();
+
+		log.info("챌린지 상세 미리 채우기 시작: {}", nextDate);
+		Timer.Sample sample = Timer.start(meterRegistry);
+		int warmed = 0;
+		try {
+			warmed = prewarm(nextDate, deadline, ttl);
+		} finally {
+			sample.stop(durationTimer);
+		}
+		log.info("챌린지 상세 미리 채우기 완료: {}명", warmed);
+	}
+
+	private int prewarm(LocalDate nextDate, LocalDateTime deadline, Duration ttl) {
+		long total = challengeDetailCache.snapshotRecentlyActiveUsers(
+			clock.instant().minus(properties.getActiveWindow()), ttl);
+		int chunkSize = properties.getChunkSize();
+		long intervalNanos = TimeUnit.SECONDS.toNanos(1) / properties.getMaxUsersPerSecond();
+		long nextSlot = System.nanoTime();
+		int processed = 0;
+		int warmed = 0;
+
+		for (long offset = 0; offset < total; offset += chunkSize) {
+			List<Long> userIds = challengeDetailCache.findActiveUserSnapshot(offset, chunkSize);
+			for (Long userId : userIds) {
+				if (!LocalDateTime.now(clock).isBefore(deadline)) {
+					log.warn("챌린지 상세 미리 채우기 중단: 자정까지 끝내지 못함 ({}/{}명 처리)", processed, total);
+					return warmed;
+				}
+				// 실시간 요청과 DB 커넥션을 다투지 않도록 사용자 사이에 간격을 둠
+				nextSlot = pace(nextSlot, intervalNanos);
+				if (Thread.currentThread().isInterrupted()) {
+					return warmed;
+				}
+				if (prewarmUser(userId, nextDate, ttl)) {
+					warmed++;
+				}
+				processed++;
+			}
+		}
+		return warmed;
+	}
+
+	private boolean prewarmUser(Long userId, LocalDate nextDate, Duration ttl) {
+		try {
+			boolean warmed = challengeDetailCache.prewarm(
+				userId, nextDate, ttl, () -> challengeQueryFacade.prepareActiveChallengeDetail(userId, nextDate));
+			if (warmed) {
+				warmedUserCounter.increment();
+			} else {
+				skippedUserCounter.increment();
+			}
+			return warmed;
+		} catch (RuntimeException e) {
+			failedUserCounter.increment();
+			log.warn("Failed to prewarm challenge detail. userId={}", userId, e);
+			return false;
+		}
+	}
+
+	/**
+	 * 다음 처리 시각까지 기다린 뒤 그다음 처리 시각을 반환합니다. 늦어진 만큼 몰아서 처리하지 않습니다.
+	 */
+	private long pace(long nextSlot, long intervalNanos) {
+		long waitNanos = nextSlot - System.nanoTime();
+		while (waitNanos > 0 && !Thread.currentThread().isInterrupted()) {
+			LockSupport.parkNanos(waitNanos);
+			waitNanos = nextSlot - System.nanoTime();
+		}
+		return Math.max(nextSlot, System.nanoTime() - intervalNanos) + intervalNanos;
+	}
+
+	private Counter runCounter(String result) {
+		return Counter.builder(METRIC_PREFIX + ".runs")
+			.description("미리 채우기 실행 수 (leader: 처리, skipped: 다른 인스턴스가 처리했거나 잠금 저장소 장애)")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	private Counter userCounter(String result) {
+		return Counter.builder(METRIC_PREFIX + ".users")
+			.description("미리 채우기 대상 사용자 수 (warmed: 저장, skipped: 이미 캐시됨 또는 활성 챌린지 없음, failed: 조립 실패)")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
@@ -0,0 +1,35 @@
+package com.sopt.cherrish.domain.challenge.core.application.scheduler;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 챌린지 만료 스케줄러 설정.
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "challenge.expiry")
+public class ChallengeExpiryProperties {
+
+	/**
+	 * 한 트랜잭션에서 비활성화할 최대 챌린지 수.
+	 */
+	@Positive
+	private int chunkSize = 500;
+
+	/**
+	 * 리더 잠금 임대 시간. 청크마다 연장하며, 작업이 끝나도 해제하지 않아 같은 자정에 다른 인스턴스가 다시 실행하지 않습니다.
+	 */
+	@NotNull
+	private Duration lockLease = Duration.ofMinutes(10);
+}
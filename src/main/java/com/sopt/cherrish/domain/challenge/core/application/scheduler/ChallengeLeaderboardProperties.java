@@ -0,0 +1,41 @@
+package com.sopt.cherrish.domain.challenge.core.application.scheduler;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 체리 랭킹 재구성 설정.
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "challenge.leaderboard")
+public class ChallengeLeaderboardProperties {
+
+	/**
+	 * 재구성 시 DB에서 한 번에 읽어 랭킹에 채울 활성 챌린지 수.
+	 */
+	@Positive
+	private int chunkSize = 1000;
+
+	/**
+	 * 재구성 주기. 마지막 재구성 후 이 시간이 지나면 커밋 후 갱신이 놓친 점수를 DB 값으로 바로잡습니다.
+	 */
+	@NotNull
+	private Duration rebuildInterval = Duration.ofDays(1);
+
+	/**
+	 * 리더 잠금 임대 시간. 재구성 중 청크마다 연장합니다.
+	 */
+	@NotNull
+	private Duration lockLease = Duration.ofMinutes(10);
+}
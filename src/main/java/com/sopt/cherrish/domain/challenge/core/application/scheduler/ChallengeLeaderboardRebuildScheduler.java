@@ -0,0 +1,133 @@
+package com.sopt.cherrish.domain.challenge.core.application.scheduler;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.sopt.cherrish.domain.challenge.core.application.service.ChallengeStatisticsService;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRanking;
+import com.sopt.cherrish.domain.challenge.core.infrastructure.leaderboard.ChallengeLeaderboard;
+import com.sopt.cherrish.global.scheduler.SchedulerLockRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 체리 랭킹을 DB의 활성 챌린지 통계로 재구성하는 스케줄러.
+ *
+ * <p>주기적으로 랭킹의 준비 표시를 확인하여, 표시가 없으면(Redis 초기화, 최초 배포, 재구성 주기 경과) 재구성합니다.
+ * 활성 챌린지 통계를 챌린지 ID 순으로 청크 단위로 읽어 임시 키에 채운 뒤 한 번에 교체하며,
+ * 재구성 중 들어온 갱신은 {@link ChallengeLeaderboard}가 임시 키에도 기록하므로 잃지 않습니다.</p>
+ *
+ * <p>Redis 임대 잠금을 잡은 인스턴스만 실행하고, 청크마다 잠금을 연장합니다. 잠금을 잃으면 중단하고 다음 확인 때 다시 시작합니다.</p>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "challenge.leaderboard", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ChallengeLeaderboardRebuildScheduler {
+
+	static final String LOCK_NAME = "challenge-leaderboard-rebuild";
+	private static final String METRIC_PREFIX = "challenge.leaderboard.rebuild";
+
+	private final ChallengeLeaderboard challengeLeaderboard;
+	private final ChallengeStatisticsService challengeStatisticsService;
+	private final SchedulerLockRepository schedulerLockRepository;
+	private final ChallengeLeaderboardProperties properties;
+	private final MeterRegistry meterRegistry;
+
+	private Counter leaderRunCounter;
+	private Counter skippedRunCounter;
+	private Counter abortedRunCounter;
+	private Timer durationTimer;
+
+	@PostConstruct
+	void init() {
+		leaderRunCounter = runCounter("leader");
+		skippedRunCounter = runCounter("skipped");
+		abortedRunCounter = runCounter("aborted");
+		durationTimer = Timer.builder(METRIC_PREFIX + ".duration")
+			.description("랭킹 재구성 소요 시간 (리더로 실행한 경우만)")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 랭킹 준비 표시를 확인하고, 없으면 재구성합니다. 기동 직후 첫 확인으로 비어 있는 랭킹을 채웁니다.
+	 */
+	@Scheduled(
+		fixedDelayString = "${challenge.leaderboard.check-interval-ms:60000}",
+		initialDelayString = "${challenge.leaderboard.check-interval-ms:60000}"
+	)
+	public void rebuildIfNeeded() {
+		Optional<String> leaseToken;
+		try {
+			if (challengeLeaderboard.isReady()) {
+				return;
+			}
+			leaseToken = schedulerLockRepository.tryAcquire(LOCK_NAME, properties.getLockLease());
+		} catch (DataAccessException e) {
+			// 랭킹도 같은 Redis를 쓰므로 잠금을 잡을 수 없으면 재구성할 수도 없음
+			skippedRunCounter.increment();
+			log.warn("체리 랭킹 재구성 확인 실패, 건너뜀", e);
+			return;
+		}
+		if (leaseToken.isEmpty()) {
+			skippedRunCounter.increment();
+			log.info("체리 랭킹 재구성 건너뜀: 다른 인스턴스가 처리 중");
+			return;
+		}
+		leaderRunCounter.increment();
+
+		log.info("체리 랭킹 재구성 시작");
+		Timer.Sample sample = Timer.start(meterRegistry);
+		try {
+			rebuild(leaseToken.get());
+		} catch (DataAccessException e) {
+			abortedRunCounter.increment();
+			log.warn("체리 랭킹 재구성 실패, 다음 확인 때 재시도", e);
+		} finally {
+			sample.stop(durationTimer);
+		}
+	}
+
+	private void rebuild(String leaseToken) {
+		challengeLeaderboard.startRebuild(properties.getLockLease());
+		int chunkSize = properties.getChunkSize();
+		long afterId = 0L;
+		int staged = 0;
+
+		while (true) {
+			List<ChallengeRanking> rankings = challengeStatisticsService.findActiveChallengeRankings(afterId, chunkSize);
+			challengeLeaderboard.stage(rankings, properties.getLockLease());
+			staged += rankings.size();
+			if (rankings.size() < chunkSize) {
+				break;
+			}
+			afterId = rankings.getLast().getChallengeId();
+			if (!schedulerLockRepository.renew(LOCK_NAME, leaseToken, properties.getLockLease())) {
+				// 임대가 만료되어 다른 인스턴스가 재구성을 다시 시작했을 수 있으므로 교체하지 않음
+				abortedRunCounter.increment();
+				log.warn("체리 랭킹 재구성 중단: 잠금을 잃음 ({}명 채움)", staged);
+				return;
+			}
+		}
+
+		long size = challengeLeaderboard.finishRebuild(properties.getRebuildInterval());
+		log.info("체리 랭킹 재구성 완료: {}명", size);
+	}
+
+	private Counter runCounter(String result) {
+		return Counter.builder(METRIC_PREFIX + ".runs")
+			.description("랭킹 재구성 실행 수 (leader: 처리, skipped: 다른 인스턴스가 처리 중이거나 Redis 장애, aborted: 도중 실패)")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+}
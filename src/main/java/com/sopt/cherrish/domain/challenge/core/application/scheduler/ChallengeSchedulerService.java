@@ -2,36 +2,142 @@ package com.sopt.cherrish.domain.challenge.core.application.scheduler;
 
 import java.time.Clock;
 import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRepository;
+import com.sopt.cherrish.domain.challenge.core.application.service.ChallengeService;
+import com.sopt.cherrish.domain.challenge.core.domain.event.ChallengesExpiredEvent;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ExpiringChallenge;
+import com.sopt.cherrish.global.scheduler.SchedulerLockRepository;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * 종료일이 지난 챌린지를 비활성화하는 스케줄러.
+ *
+ * <p>모든 인스턴스에서 같은 시각에 실행되지만, Redis 임대 잠금을 잡은 인스턴스(리더)만 실제로 처리합니다.
+ * 만료 대상은 ID 키셋으로 청크 단위로 조회하고, 청크마다 짧은 트랜잭션으로 비활성화하여 자정 직후 행 잠금을 오래 잡지 않습니다.</p>
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ChallengeSchedulerService {
 
-	private final ChallengeRepository challengeRepository;
+	static final String LOCK_NAME = "challenge-expiry";
+	private static final String METRIC_PREFIX = "challenge.expiry";
+	private static final long FIRST_ID = 0L;
+
+	private final ChallengeService challengeService;
+	private final SchedulerLockRepository schedulerLockRepository;
+	private final ChallengeExpiryProperties properties;
+	private final ApplicationEventPublisher eventPublisher;
+	private final MeterRegistry meterRegistry;
 	private final Clock clock;
 
+	private Counter leaderRunCounter;
+	private Counter skippedRunCounter;
+	private Counter lockUnavailableRunCounter;
+	private Counter expiredChallengeCounter;
+	private Counter chunkCounter;
+	private Timer durationTimer;
+
+	@PostConstruct
+	void init() {
+		leaderRunCounter = runCounter("leader");
+		skippedRunCounter = runCounter("skipped");
+		lockUnavailableRunCounter = runCounter("lock_unavailable");
+		expiredChallengeCounter = Counter.builder(METRIC_PREFIX + ".expired.challenges")
+			.description("비활성화한 챌린지 수")
+			.register(meterRegistry);
+		chunkCounter = Counter.builder(METRIC_PREFIX + ".chunks")
+			.description("처리한 청크 수 (청크당 트랜잭션 1회)")
+			.register(meterRegistry);
+		durationTimer = Timer.builder(METRIC_PREFIX + ".duration")
+			.description("만료 처리 소요 시간 (리더로 실행한 경우만)")
+			.register(meterRegistry);
+	}
+
 	/**
 	 * 매일 00시(Asia/Seoul)에 만료된 챌린지를 비활성화합니다.
-	 * 벌크 업데이트를 사용하여 단일 UPDATE 쿼리로 모든 만료된 챌린지를 한 번에 처리합니다.
+	 * 청크마다 커밋 이후 만료된 챌린지 사용자의 챌린지 상세 캐시를 무효화합니다.
 	 */
 	@Scheduled(cron = "0 0 0 * * *", zone = "Asia/Seoul")
-	@Transactional
 	public void expireCompletedChallenges() {
 		LocalDate today = LocalDate.now(clock);
+		Optional<String> leaseToken;
+		try {
+			leaseToken = schedulerLockRepository.tryAcquire(LOCK_NAME, properties.getLockLease());
+			if (leaseToken.isEmpty()) {
+				skippedRunCounter.increment();
+				log.info("챌린지 만료 스케줄러 건너뜀: 다른 인스턴스가 처리 중 ({})", today);
+				return;
+			}
+			leaderRunCounter.increment();
+		} catch (DataAccessException e) {
+			// 청크 UPDATE가 만료 조건을 다시 확인하므로 여러 인스턴스가 함께 실행해도 결과는 같음
+			lockUnavailableRunCounter.increment();
+			log.warn("챌린지 만료 스케줄러 잠금 획득 실패, 잠금 없이 진행: {}", today, e);
+			leaseToken = Optional.empty();
+		}
+
 		log.info("챌린지 만료 스케줄러 시작: {}", today);
+		Timer.Sample sample = Timer.start(meterRegistry);
+		int expiredCount = 0;
+		try {
+			int chunkSize = properties.getChunkSize();
+			long afterId = FIRST_ID;
+			List<ExpiringChallenge> chunk;
+			do {
+				chunk = challengeService.findExpiredChallenges(today, afterId, chunkSize);
+				if (chunk.isEmpty()) {
+					break;
+				}
+				List<Long> challengeIds = chunk.stream().map(ExpiringChallenge::getChallengeId).toList();
+				int expired = challengeService.expireChallenges(challengeIds, today);
+				expiredCount += expired;
+				expiredChallengeCounter.increment(expired);
+				chunkCounter.increment();
 
-		int updatedCount = challengeRepository.bulkUpdateExpiredChallenges(today);
+				// 청크가 커밋된 뒤 해당 사용자들의 챌린지 상세 캐시만 무효화
+				if (expired > 0) {
+					eventPublisher.publishEvent(new ChallengesExpiredEvent(
+						today, chunk.stream().map(ExpiringChallenge::getUserId).toList()));
+				}
+
+				afterId = challengeIds.getLast();
+				leaseToken.ifPresent(this::renewLease);
+			} while (chunk.size() == chunkSize);
+		} finally {
+			sample.stop(durationTimer);
+		}
+
+		log.info("챌린지 만료 스케줄러 완료: {}개 처리", expiredCount);
+	}
+
+	private void renewLease(String leaseToken) {
+		try {
+			if (!schedulerLockRepository.renew(LOCK_NAME, leaseToken, properties.getLockLease())) {
+				log.warn("챌린지 만료 스케줄러 잠금 임대가 만료됨, 남은 청크는 계속 처리");
+			}
+		} catch (DataAccessException e) {
+			log.warn("챌린지 만료 스케줄러 잠금 연장 실패", e);
+		}
+	}
 
-		log.info("챌린지 만료 스케줄러 완료: {}개 처리", updatedCount);
+	private Counter runCounter(String result) {
+		return Counter.builder(METRIC_PREFIX + ".runs")
+			.description("만료 스케줄 실행 수 (leader: 처리, skipped: 다른 인스턴스가 처리, lock_unavailable: 잠금 없이 처리)")
+			.tag("result", result)
+			.register(meterRegistry);
 	}
 }
@@ -0,0 +1,130 @@
+package com.sopt.cherrish.domain.challenge.core.application.scheduler;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.sopt.cherrish.domain.challenge.core.application.service.ChallengeRoutineService;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.RoutineCompletionBufferRepository;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.RoutineCompletionFlushBatch;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 쓰기 지연 버퍼에 모인 루틴 완료 상태를 주기적으로 DB에 반영합니다.
+ *
+ * <p>챌린지마다 버퍼를 플러시 중 상태로 옮긴 뒤 한 트랜잭션으로 반영하고, 커밋이 끝난 뒤에만 버퍼에서 지웁니다.
+ * 반영 도중 죽으면 플러시 중 상태가 남아 다음 실행(다른 인스턴스 포함)에서 다시 반영되며, 최종 상태를 저장하므로 두 번 반영해도 결과가 같습니다.</p>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "challenge.toggle-buffer", name = "enabled", havingValue = "true")
+@ConditionalOnProperty(prefix = "challenge", name = "routine-storage", havingValue = "rows", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RoutineCompletionBufferFlusher {
+
+	private static final String METRIC_PREFIX = "challenge.routine.buffer";
+
+	private final RoutineCompletionBufferRepository bufferRepository;
+	private final ChallengeRoutineService routineService;
+	private final MeterRegistry meterRegistry;
+
+	private Counter flushedChallengeCounter;
+	private Counter bufferedRoutineCounter;
+	private Counter changedRoutineCounter;
+	private Counter failureCounter;
+
+	@PostConstruct
+	void init() {
+		flushedChallengeCounter = Counter.builder(METRIC_PREFIX + ".flushed.challenges")
+			.description("DB에 반영한 챌린지 수 (챌린지당 트랜잭션 1회)")
+			.register(meterRegistry);
+		bufferedRoutineCounter = Counter.builder(METRIC_PREFIX + ".flushed.routines")
+			.description("플러시한 루틴 상태 수")
+			.register(meterRegistry);
+		changedRoutineCounter = Counter.builder(METRIC_PREFIX + ".changed.routines")
+			.description("플러시로 DB 상태가 실제로 바뀐 루틴 수")
+			.register(meterRegistry);
+		failureCounter = Counter.builder(METRIC_PREFIX + ".flush.failures")
+			.description("반영에 실패해 다음 실행으로 넘어간 챌린지 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 반영할 상태가 남아 있는 모든 챌린지를 플러시합니다.
+	 *
+	 * <p>한 챌린지의 실패가 다른 챌린지에 영향을 주지 않도록 챌린지 단위로 처리합니다.</p>
+	 *
+	 * @return DB에 반영한 챌린지 수
+	 */
+	@Scheduled(fixedDelayString = "${challenge.toggle-buffer.flush-interval-ms:3000}")
+	public int flushAll() {
+		Set<Long> challengeIds = bufferRepository.findDirtyChallengeIds();
+		int flushed = 0;
+		for (Long challengeId : challengeIds) {
+			try {
+				if (flush(challengeId)) {
+					flushed++;
+				}
+			} catch (RuntimeException e) {
+				failureCounter.increment();
+				log.warn("Failed to flush buffered routine completions of challenge {}", challengeId, e);
+			}
+		}
+		return flushed;
+	}
+
+	/**
+	 * 종료 시 남은 버퍼를 반영합니다. 실패해도 버퍼가 Redis에 남아 있으므로 다음 기동 후 반영됩니다.
+	 */
+	@PreDestroy
+	void flushOnShutdown() {
+		try {
+			flushAll();
+		} catch (RuntimeException e) {
+			log.warn("Failed to flush buffered routine completions on shutdown", e);
+		}
+	}
+
+	private boolean flush(Long challengeId) {
+		Optional<RoutineCompletionFlushBatch> batch = bufferRepository.beginFlush(challengeId);
+		if (batch.isEmpty()) {
+			return false;
+		}
+
+		RoutineCompletionFlushBatch flushBatch = batch.get();
+		boolean hasStates = !flushBatch.states().isEmpty();
+		if (hasStates) {
+			int changed = apply(challengeId, flushBatch);
+			bufferedRoutineCounter.increment(flushBatch.states().size());
+			changedRoutineCounter.increment(changed);
+		}
+
+		if (!bufferRepository.completeFlush(challengeId, flushBatch)) {
+			log.warn("Flush lock of challenge {} expired before completion; buffered state will be re-applied", challengeId);
+			return false;
+		}
+		if (hasStates) {
+			flushedChallengeCounter.increment();
+		}
+		return hasStates;
+	}
+
+	private int apply(Long challengeId, RoutineCompletionFlushBatch flushBatch) {
+		try {
+			return routineService.applyBufferedCompletions(challengeId, flushBatch.states());
+		} catch (RuntimeException e) {
+			// 플러시 중 상태는 남겨 두고 잠금만 풀어 다음 실행에서 바로 다시 반영
+			bufferRepository.releaseFlush(challengeId, flushBatch);
+			throw e;
+		}
+	}
+}
@@ -0,0 +1,145 @@
+package com.sopt.cherrish.domain.challenge.core.application.scheduler;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.sopt.cherrish.domain.challenge.core.infrastructure.partition.RoutinePartitionRepository;
+import com.sopt.cherrish.domain.challenge.core.infrastructure.partition.RoutineTable;
+import com.sopt.cherrish.global.scheduler.SchedulerLockRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 루틴 테이블의 월 파티션을 관리하는 스케줄러 (PostgreSQL 전용).
+ *
+ * <p>기동 시와 매일 새벽에 다음 두 작업을 수행합니다.</p>
+ * <ul>
+ *   <li>이번 달부터 {@code premake-months}개월 뒤까지 파티션이 없으면 미리 만듭니다. 파티션이 없는 날짜의 루틴은 저장할 수 없습니다.</li>
+ *   <li>지난달 이전 파티션 중 기간이 걸친 활성 챌린지가 없는 달을 분리하여 보관 스키마로 옮깁니다.
+ *       끝난 챌린지의 루틴은 조회/수정 경로에서 읽지 않으므로, 붙어 있는 파티션 수가 이력과 무관하게 유지됩니다.</li>
+ * </ul>
+ *
+ * <p>Redis 임대 잠금을 잡은 인스턴스만 실행합니다. 루틴 테이블이 아직 파티션 테이블이 아니면(Flyway V5 이전) 건너뜁니다.
+ * DB 오류는 테이블 단위로 기록하고 실패 메트릭을 올린 뒤 넘어가므로, 기동 시 점검이 실패해도 애플리케이션 기동은 막지 않고
+ * 다음 실행에서 다시 시도합니다.</p>
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "challenge.routine-partition", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class RoutinePartitionMaintenanceScheduler {
+
+	static final String LOCK_NAME = "routine-partition-maintenance";
+	private static final String METRIC_PREFIX = "challenge.routine.partition";
+
+	private final RoutinePartitionRepository partitionRepository;
+	private final SchedulerLockRepository schedulerLockRepository;
+	private final RoutinePartitionProperties properties;
+	private final MeterRegistry meterRegistry;
+	private final Clock clock;
+
+	private Counter createdCounter;
+	private Counter archivedCounter;
+	private Counter archiveFailureCounter;
+	private Counter failureCounter;
+
+	@PostConstruct
+	void init() {
+		createdCounter = Counter.builder(METRIC_PREFIX + ".created")
+			.description("미리 만든 월 파티션 수")
+			.register(meterRegistry);
+		archivedCounter = Counter.builder(METRIC_PREFIX + ".archived")
+			.description("분리하여 보관 스키마로 옮긴 월 파티션 수")
+			.register(meterRegistry);
+		archiveFailureCounter = Counter.builder(METRIC_PREFIX + ".archive.failures")
+			.description("잠금 대기 시간 초과 등으로 분리하지 못해 다음 실행으로 넘긴 월 파티션 수")
+			.register(meterRegistry);
+		failureCounter = Counter.builder(METRIC_PREFIX + ".failures")
+			.description("DB 오류로 중단되어 다음 실행으로 넘긴 테이블별 파티션 관리 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 기동 직후 파티션을 점검하여, 스케줄 시각 전에 배포되어도 다음 달 루틴을 저장할 수 있도록 합니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void maintainOnStartup() {
+		maintainPartitions();
+	}
+
+	/**
+	 * 매일 04시 30분(Asia/Seoul)에 파티션을 미리 만들고, 끝난 달의 파티션을 보관합니다.
+	 */
+	@Scheduled(cron = "${challenge.routine-partition.cron:0 30 4 * * *}", zone = "Asia/Seoul")
+	public void maintainPartitions() {
+		try {
+			if (schedulerLockRepository.tryAcquire(LOCK_NAME, properties.getLockLease()).isEmpty()) {
+				log.info("루틴 파티션 관리 건너뜀: 다른 인스턴스가 처리 중");
+				return;
+			}
+		} catch (DataAccessException e) {
+			// 파티션 생성은 IF NOT EXISTS, 분리는 붙어 있는 파티션만 대상으로 하므로 잠금 없이 실행해도 결과는 같음
+			log.warn("루틴 파티션 관리 잠금 획득 실패, 잠금 없이 진행", e);
+		}
+
+		YearMonth currentMonth = YearMonth.now(clock);
+		for (RoutineTable table : RoutineTable.values()) {
+			try {
+				maintainTable(table, currentMonth);
+			} catch (DataAccessException e) {
+				failureCounter.increment();
+				log.error("루틴 파티션 관리 실패, 다음 실행에서 재시도: {}", table.getTableName(), e);
+			}
+		}
+	}
+
+	private void maintainTable(RoutineTable table, YearMonth currentMonth) {
+		if (!partitionRepository.isPartitioned(table)) {
+			log.info("루틴 파티션 관리 건너뜀: {}가 파티션 테이블이 아님", table.getTableName());
+			return;
+		}
+		List<YearMonth> months = partitionRepository.findPartitionMonths(table);
+		createAheadPartitions(table, months, currentMonth);
+		archiveFinishedPartitions(table, months, currentMonth);
+	}
+
+	private void createAheadPartitions(RoutineTable table, List<YearMonth> months, YearMonth currentMonth) {
+		for (int offset = 0; offset <= properties.getPremakeMonths(); offset++) {
+			YearMonth month = currentMonth.plusMonths(offset);
+			if (!months.contains(month)) {
+				partitionRepository.createPartition(table, month);
+				createdCounter.increment();
+				log.info("루틴 파티션 생성: {}", RoutinePartitionRepository.partitionName(table, month));
+			}
+		}
+	}
+
+	private void archiveFinishedPartitions(RoutineTable table, List<YearMonth> months, YearMonth currentMonth) {
+		for (YearMonth month : months) {
+			if (!month.isBefore(currentMonth) || partitionRepository.hasActiveChallengeIn(table, month)) {
+				continue;
+			}
+			try {
+				partitionRepository.archivePartition(table, month, properties.getLockTimeout());
+				archivedCounter.increment();
+				log.info("루틴 파티션 보관: {}", RoutinePartitionRepository.partitionName(table, month));
+			} catch (DataAccessException e) {
+				archiveFailureCounter.increment();
+				log.warn("루틴 파티션 보관 실패, 다음 실행에서 재시도: {}",
+					RoutinePartitionRepository.partitionName(table, month), e);
+			}
+		}
+	}
+}
@@ -0,0 +1,42 @@
+package com.sopt.cherrish.domain.challenge.core.application.scheduler;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 루틴 테이블 월 파티션 관리 설정.
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "challenge.routine-partition")
+public class RoutinePartitionProperties {
+
+	/**
+	 * 이번 달 이후 미리 만들어 둘 파티션 개월 수.
+	 * 날짜별 루틴은 그 날짜(또는 전날 미리 채울 때)에 만들어지므로 챌린지 기간이 길어도 다음 달 파티션까지만 있으면 됩니다.
+	 */
+	@Positive
+	private int premakeMonths = 3;
+
+	/**
+	 * 파티션 분리 시 부모 테이블 잠금 대기 시간. 넘기면 다음 실행에서 다시 시도합니다.
+	 */
+	@NotNull
+	private Duration lockTimeout = Duration.ofSeconds(3);
+
+	/**
+	 * 리더 잠금 임대 시간.
+	 */
+	@NotNull
+	private Duration lockLease = Duration.ofMinutes(10);
+}
@@ -0,0 +1,158 @@
+package com.sopt.cherrish.domain.challenge.core.application.service;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import com.sopt.cherrish.domain.challenge.core.domain.event.ChallengeDetailChangedEvent;
+import com.sopt.cherrish.domain.challenge.core.domain.model.Challenge;
+import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeRoutine;
+import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeStatistics;
+import com.sopt.cherrish.domain.challenge.core.domain.model.RoutineDay;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRoutineRepository;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.RoutineCompletionBufferRepository;
+import com.sopt.cherrish.domain.challenge.core.exception.ChallengeErrorCode;
+import com.sopt.cherrish.domain.challenge.core.exception.ChallengeException;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.request.RoutineUpdateItemRequestDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.request.RoutineUpdateRequestDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.RoutineBatchUpdateResponseDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.RoutineCompletionResponseDto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 쓰기 지연 루틴 서비스 ({@code challenge.toggle-buffer.enabled=true}, 행 저장 모델 전용).
+ *
+ * <p>루틴 완료 토글과 일괄 업데이트를 DB 대신 {@link RoutineCompletionBufferRepository}에 기록하고,
+ * {@code RoutineCompletionBufferFlusher}가 몇 초마다 챌린지 단위로 모아 한 번에 DB에 반영합니다.
+ * 조회는 버퍼 상태를 덮어써서 반환하므로 사용자는 변경 결과를 바로 확인할 수 있습니다.</p>
+ *
+ * <p>검증(소유자/기간)은 기존과 같이 DB에서 수행하며, 쓰기만 지연됩니다.
+ * 버퍼는 Redis에 있으므로 애플리케이션이 죽어도 유실되지 않습니다. Redis 자체의 장애에 대비하려면 AOF를 켜야 합니다.</p>
+ */
+@Service
+@ConditionalOnProperty(prefix = "challenge.toggle-buffer", name = "enabled", havingValue = "true")
+@ConditionalOnProperty(prefix = "challenge", name = "routine-storage", havingValue = "rows", matchIfMissing = true)
+@RequiredArgsConstructor
+public class BufferedChallengeRoutineService {
+
+	private static final int MAX_TOGGLE_ATTEMPTS = 3;
+
+	private final ChallengeRoutineService routineService;
+	private final ChallengeRoutineRepository routineRepository;
+	private final RoutineCompletionBufferRepository bufferRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	// ===== 수정 메서드 =====
+
+	/**
+	 * 루틴 완료 상태 토글 (버퍼에 기록)
+	 *
+	 * 쿼리 구성:
+	 * - 검증용 조회 1 (Routine, Challenge, Statistics Fetch Join), DB 쓰기 없음
+	 *
+	 * DB 값을 읽는 사이 플러시가 끝나 값이 낡았을 수 있으면 다시 조회해서 토글함
+	 *
+	 * @param userId 사용자 ID (소유자 검증용)
+	 * @param routineId 루틴 ID
+	 * @return 완료 응답 (버퍼에 기록된 상태)
+	 */
+	public RoutineCompletionResponseDto toggleCompletion(Long userId, Long routineId) {
+		for (int attempt = 0; attempt < MAX_TOGGLE_ATTEMPTS; attempt++) {
+			ChallengeRoutine routine = routineService.getValidatedRoutine(userId, routineId);
+			Long challengeId = routine.getChallenge().getId();
+
+			// 세대를 먼저 읽은 뒤 DB 값을 다시 읽어야 그 사이 끝난 플러시를 감지할 수 있음
+			String epoch = bufferRepository.currentEpoch(challengeId);
+			boolean persistedComplete = !routineRepository.findCompletedIdsByIdIn(List.of(routineId)).isEmpty();
+
+			Optional<Boolean> toggled = bufferRepository.toggle(challengeId, routineId, persistedComplete, epoch);
+			if (toggled.isPresent()) {
+				eventPublisher.publishEvent(new ChallengeDetailChangedEvent(userId));
+				return RoutineCompletionResponseDto.from(toRoutineDay(routine, toggled.get()));
+			}
+		}
+		throw new ChallengeException(ChallengeErrorCode.ROUTINE_UPDATE_CONFLICT);
+	}
+
+	/**
+	 * 여러 루틴의 완료 상태 일괄 업데이트 (버퍼에 기록)
+	 *
+	 * 목표 상태를 그대로 기록하므로 DB 값을 읽을 필요가 없음
+	 *
+	 * @param userId 사용자 ID (소유자 검증용)
+	 * @param request 업데이트 요청 (routineId와 isComplete 리스트)
+	 * @return 업데이트된 루틴 목록 (버퍼에 기록된 상태)
+	 * @throws ChallengeException 검증 실패 시
+	 */
+	public RoutineBatchUpdateResponseDto updateMultipleRoutines(Long userId, RoutineUpdateRequestDto request) {
+		List<Long> routineIds = request.routines().stream()
+			.map(RoutineUpdateItemRequestDto::routineId)
+			.toList();
+		List<ChallengeRoutine> routines = routineService.getValidatedRoutines(userId, routineIds);
+
+		Map<Long, Boolean> states = new LinkedHashMap<>();
+		request.routines().forEach(item -> states.put(item.routineId(), item.isComplete()));
+		bufferRepository.putAll(routines.getFirst().getChallenge().getId(), states);
+		eventPublisher.publishEvent(new ChallengeDetailChangedEvent(userId));
+
+		Map<Long, ChallengeRoutine> routinesById = new LinkedHashMap<>();
+		routines.forEach(routine -> routinesById.put(routine.getId(), routine));
+		return RoutineBatchUpdateResponseDto.fromRoutineDays(routineIds.stream()
+			.map(routineId -> toRoutineDay(routinesById.get(routineId), states.get(routineId)))
+			.toList());
+	}
+
+	// ===== 조회 메서드 =====
+
+	/**
+	 * 특정 날짜의 루틴 조회 (버퍼 상태 반영, 루틴이 없으면 생성)
+	 * @param challenge 챌린지
+	 * @param scheduledDate 예정일
+	 * @return 날짜별 루틴 리스트
+	 */
+	public List<RoutineDay> getRoutinesByDate(Challenge challenge, LocalDate scheduledDate) {
+		Map<Long, Boolean> buffered = bufferRepository.findBuffered(challenge.getId());
+		return routineService.getOrCreateRoutinesByDate(challenge, scheduledDate).stream()
+			.map(routine -> toRoutineDay(routine, buffered.getOrDefault(routine.getId(), routine.getIsComplete())))
+			.toList();
+	}
+
+	/**
+	 * 챌린지 통계 조회 (버퍼 상태 반영)
+	 *
+	 * 버퍼에 있는 루틴의 DB 완료 여부와 비교해 아직 반영되지 않은 완료 개수 변화를 계산함
+	 *
+	 * @param challenge 챌린지 (Statistics 포함)
+	 * @return 버퍼 상태가 반영된 통계
+	 */
+	public ChallengeStatistics getStatistics(Challenge challenge) {
+		ChallengeStatistics statistics = challenge.getStatistics();
+		Map<Long, Boolean> buffered = bufferRepository.findBuffered(challenge.getId());
+		if (buffered.isEmpty()) {
+			return statistics;
+		}
+
+		Set<Long> persistedCompletedIds = new HashSet<>(routineRepository.findCompletedIdsByIdIn(buffered.keySet()));
+		int pendingDelta = 0;
+		for (Map.Entry<Long, Boolean> entry : buffered.entrySet()) {
+			boolean persistedComplete = persistedCompletedIds.contains(entry.getKey());
+			if (entry.getValue() != persistedComplete) {
+				pendingDelta += entry.getValue() ? 1 : -1;
+			}
+		}
+		return statistics.withPendingCompletedDelta(pendingDelta);
+	}
+
+	private RoutineDay toRoutineDay(ChallengeRoutine routine, boolean isComplete) {
+		return new RoutineDay(routine.getId(), routine.getName(), routine.getScheduledDate(), isComplete);
+	}
+}
@@ -2,18 +2,29 @@ package com.sopt.cherrish.domain.challenge.core.application.service;
 
 import java.time.Clock;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.sopt.cherrish.domain.challenge.core.domain.event.ChallengeDetailChangedEvent;
+import com.sopt.cherrish.domain.challenge.core.domain.event.ChallengeStatisticsChangedEvent;
 import com.sopt.cherrish.domain.challenge.core.domain.model.Challenge;
 import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeRoutine;
 import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeStatistics;
+import com.sopt.cherrish.domain.challenge.core.domain.model.RoutineDay;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRepository;
 import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRoutineRepository;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeStatisticsRepository;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.RoutineBatchUpdateTarget;
 import com.sopt.cherrish.domain.challenge.core.exception.ChallengeErrorCode;
 import com.sopt.cherrish.domain.challenge.core.exception.ChallengeException;
 import com.sopt.cherrish.domain.challenge.core.presentation.dto.request.RoutineUpdateItemRequestDto;
@@ -29,24 +40,36 @@ import lombok.RequiredArgsConstructor;
 public class ChallengeRoutineService {
 
 	private final ChallengeRoutineRepository routineRepository;
+	private final ChallengeRepository challengeRepository;
+	private final ChallengeStatisticsRepository statisticsRepository;
+	private final ApplicationEventPublisher eventPublisher;
 	private final Clock clock;
 
 	// ===== 생성 메서드 =====
 
 	/**
-	 * 챌린지 루틴 생성 및 Batch Insert
+	 * 챌린지 1일차 루틴 생성 및 Batch Insert
+	 *
+	 * 이후 일차의 루틴은 그 날짜에 처음 조회할 때 직전에 생성된 날짜의 루틴명을 복사하여 만듭니다
+	 * ({@link #getOrCreateRoutinesByDate}). 챌린지 기간과 무관하게 루틴명 개수만큼만 저장합니다.
+	 *
 	 * @param challenge 챌린지
 	 * @param routineNames 루틴명 리스트
-	 * @return 생성된 루틴 리스트
+	 * @return 생성된 1일차 루틴 리스트
 	 */
 	@Transactional
 	public List<ChallengeRoutine> createAndSaveRoutines(Challenge challenge, List<String> routineNames) {
-		List<ChallengeRoutine> routines = challenge.createChallengeRoutines(routineNames);
+		List<ChallengeRoutine> routines = challenge.createRoutinesOn(routineNames, challenge.getStartDate());
 		return routineRepository.saveAll(routines);
 	}
 
 	/**
 	 * 커스텀 루틴 추가 및 Batch Insert
+	 *
+	 * 오늘 루틴이 아직 없으면 먼저 생성한 뒤, 오늘부터 종료일 사이에 이미 생성된 날짜(오늘, 자정 전 미리 채운 내일)에만 추가합니다.
+	 * 그 이후 날짜는 생성 시 오늘 루틴명을 복사하므로 커스텀 루틴이 함께 포함됩니다.
+	 * 날짜별 루틴 생성과 같은 챌린지 잠금을 잡아, 추가 도중 다른 요청이 다음 날짜를 복사하지 않도록 합니다.
+	 *
 	 * @param challenge 챌린지
 	 * @param routineName 루틴명
 	 * @param today 현재 날짜
@@ -58,7 +81,13 @@ public class ChallengeRoutineService {
 		String routineName,
 		LocalDate today
 	) {
-		List<ChallengeRoutine> routines = challenge.createCustomRoutinesFromToday(routineName, today);
+		challenge.validateOperationDateWithinChallengePeriod(today);
+		materializeRoutines(challenge, today);
+
+		List<ChallengeRoutine> routines = routineRepository
+			.findScheduledDates(challenge.getId(), today, challenge.getEndDate()).stream()
+			.flatMap(date -> challenge.createRoutinesOn(List.of(routineName), date).stream())
+			.toList();
 		return routineRepository.saveAll(routines);
 	}
 
@@ -84,19 +113,37 @@ public class ChallengeRoutineService {
 		return routineRepository.findByChallengeIdAndScheduledDate(challengeId, scheduledDate);
 	}
 
+	/**
+	 * 특정 날짜의 루틴 조회 (없으면 생성)
+	 *
+	 * 챌린지 기간 안의 날짜에 루틴이 아직 없으면, 그 이전에 루틴이 생성된 가장 늦은 날짜의 루틴명을 복사하여 미완료 상태로 생성합니다.
+	 * 이미 생성된 날짜는 조회 1회로 끝나며, 생성은 날짜마다 한 번만 일어납니다.
+	 *
+	 * @param challenge 챌린지
+	 * @param scheduledDate 예정일
+	 * @return 루틴 리스트
+	 */
+	@Transactional
+	public List<ChallengeRoutine> getOrCreateRoutinesByDate(Challenge challenge, LocalDate scheduledDate) {
+		List<ChallengeRoutine> routines = getRoutinesByDate(challenge.getId(), scheduledDate);
+		if (!routines.isEmpty() || !challenge.isWithinPeriod(scheduledDate)) {
+			return routines;
+		}
+		return materializeRoutines(challenge, scheduledDate);
+	}
+
 	// ===== 수정 메서드 =====
 
 	/**
 	 * 루틴 완료 상태 토글 및 통계 업데이트
 	 *
-	 * 쿼리 최적화:
-	 * - Routine, Challenge, Statistics를 Fetch Join으로 한 번에 조회 (쿼리 1개)
-	 * - 이미 로드된 Statistics 객체를 직접 조작 (중복 조회 없음)
-	 * - 총 3개 쿼리 (조회 1 + 루틴 업데이트 1 + 통계 업데이트 1)
+	 * 쿼리 구성:
+	 * - Routine, Challenge, Statistics를 Fetch Join으로 한 번에 조회 (소유자/기간 검증)
+	 * - 루틴 토글 UPDATE 1 + 토글 결과 조회 1 + 통계 잠금 조회 1 + 통계 UPDATE 1
 	 *
 	 * 동시성 제어:
-	 * - ChallengeStatistics에 낙관적 락(@Version) 적용
-	 * - 동시 수정 시 OptimisticLockingFailureException 발생
+	 * - 루틴 토글은 원자적 UPDATE, 통계(일차별 완료 개수, 연속 달성 기록 포함)는 행 잠금 후 수정하므로 동시 토글끼리 충돌(409)하지 않음
+	 * - 같은 루틴을 동시에 토글하면 행 잠금으로 순서대로 반영됨
 	 *
 	 * @param userId 사용자 ID (소유자 검증용)
 	 * @param routineId 루틴 ID
@@ -104,39 +151,110 @@ public class ChallengeRoutineService {
 	 */
 	@Transactional
 	public RoutineCompletionResponseDto toggleCompletion(Long userId, Long routineId) {
-		ChallengeRoutine routine = getRoutineByIdWithStatistics(routineId);
+		ChallengeRoutine routine = getValidatedRoutine(userId, routineId);
 
-		validateRoutineOwnerAndPeriod(routine, userId);
+		Challenge challenge = routine.getChallenge();
+		routineRepository.toggleCompletion(routineId, routine.getScheduledDate(), getCurrentDateTime());
 
-		routine.toggleCompletion();
+		ChallengeRoutine toggledRoutine = routineRepository.findByIdAndScheduledDate(routineId, routine.getScheduledDate())
+			.orElseThrow(() -> new ChallengeException(ChallengeErrorCode.ROUTINE_NOT_FOUND));
 
-		updateStatistics(routine);
+		applyCompletionChanges(userId, challenge.getId(), Map.of(
+			challenge.getDayIndex(routine.getScheduledDate()), toggledRoutine.getIsComplete() ? 1 : -1));
+		eventPublisher.publishEvent(new ChallengeDetailChangedEvent(userId));
 
-		return RoutineCompletionResponseDto.from(routine);
+		return RoutineCompletionResponseDto.from(toggledRoutine);
 	}
 
-	// ===== Private 헬퍼 메서드 =====
+	/**
+	 * 쓰기 지연 버퍼에 모인 최종 완료 상태를 DB에 한 번에 반영
+	 *
+	 * 쿼리 구성:
+	 * - 대상 루틴 프로젝션 조회 1 (행 잠금) + 루틴 UPDATE 최대 1 + 통계 잠금 조회/UPDATE 최대 1씩 (토글 횟수와 무관)
+	 *
+	 * 잠근 행의 상태가 다른 루틴만 변경하고 실제로 바뀐 루틴의 일차별로 통계를 조정하므로,
+	 * 같은 묶음을 다시 반영해도(플러시 도중 장애 후 재시도) 결과가 같음
+	 *
+	 * 상태가 바뀐 루틴이 있으면 직접 토글과 같이 통계/상세 변경 이벤트를 발행하여,
+	 * 커밋 이후 상세 캐시와 랭킹이 반영된 통계로 갱신됨
+	 *
+	 * @param challengeId 챌린지 ID
+	 * @param states 루틴 ID별 최종 완료 여부
+	 * @return 실제로 상태가 바뀐 루틴 수
+	 */
+	@Transactional
+	public int applyBufferedCompletions(Long challengeId, Map<Long, Boolean> states) {
+		List<RoutineBatchUpdateTarget> targets = findBatchUpdateTargets(List.copyOf(states.keySet()));
+
+		List<RoutineBatchUpdateTarget> changedTargets = updateRoutineStates(targets, states);
+		if (!changedTargets.isEmpty()) {
+			Long userId = changedTargets.getFirst().getUserId();
+			applyCompletionChanges(userId, challengeId, toCompletedDeltaByDay(changedTargets));
+			eventPublisher.publishEvent(new ChallengeDetailChangedEvent(userId));
+		}
+		return changedTargets.size();
+	}
+
+	// ===== 검증 메서드 =====
 
 	/**
-	 * 루틴 조회 (Challenge와 Statistics를 함께 로드)
+	 * 루틴 조회 및 소유자/작업 가능 날짜 검증
+	 * @param userId 사용자 ID (소유자 검증용)
 	 * @param routineId 루틴 ID
-	 * @return 루틴 (Challenge와 Statistics 포함)
+	 * @return 검증된 루틴 (Challenge와 Statistics 포함)
 	 */
-	private ChallengeRoutine getRoutineByIdWithStatistics(Long routineId) {
-		return routineRepository.findByIdWithChallengeAndStatistics(routineId)
-			.orElseThrow(() -> new ChallengeException(ChallengeErrorCode.ROUTINE_NOT_FOUND));
+	public ChallengeRoutine getValidatedRoutine(Long userId, Long routineId) {
+		ChallengeRoutine routine = getRoutineByIdWithStatistics(routineId);
+		validateRoutineOwnerAndPeriod(routine, userId);
+		return routine;
 	}
 
 	/**
-	 * 루틴 완료 상태에 따라 통계 업데이트
-	 * @param routine 루틴
+	 * 여러 루틴 조회 및 검증 (중복/존재 여부, 같은 챌린지, 소유자, 작업 가능 날짜)
+	 * @param userId 사용자 ID (소유자 검증용)
+	 * @param routineIds 루틴 ID 리스트
+	 * @return 검증된 루틴 리스트 (Challenge와 Statistics 포함)
 	 */
-	private void updateStatistics(ChallengeRoutine routine) {
-		ChallengeStatistics statistics = routine.getChallenge().getStatistics();
+	public List<ChallengeRoutine> getValidatedRoutines(Long userId, List<Long> routineIds) {
+		List<ChallengeRoutine> routines = fetchAndValidateRoutines(routineIds);
+		validateAndGetChallenge(routines, userId);
+		return routines;
+	}
 
-		int delta = routine.getIsComplete() ? 1 : -1;
-		statistics.adjustCompletedCount(delta);
-		statistics.updateCherryLevel();
+	// ===== Private 헬퍼 메서드 =====
+
+	/**
+	 * 챌린지 행을 잠근 뒤 날짜별 루틴 생성
+	 * 잠금을 기다리는 동안 다른 요청이 같은 날짜를 생성했을 수 있으므로 잠근 뒤 다시 확인합니다.
+	 */
+	private List<ChallengeRoutine> materializeRoutines(Challenge challenge, LocalDate scheduledDate) {
+		challengeRepository.findByIdForUpdate(challenge.getId())
+			.orElseThrow(() -> new ChallengeException(ChallengeErrorCode.CHALLENGE_NOT_FOUND));
+
+		List<ChallengeRoutine> routines = getRoutinesByDate(challenge.getId(), scheduledDate);
+		if (!routines.isEmpty()) {
+			return routines;
+		}
+
+		List<String> routineNames = routineRepository
+			.findLatestScheduledDate(challenge.getId(), challenge.getStartDate(), scheduledDate.minusDays(1))
+			.map(sourceDate -> routineRepository.findNamesByChallengeIdAndScheduledDate(challenge.getId(), sourceDate))
+			.orElse(List.of());
+		return routineRepository.saveAll(challenge.createRoutinesOn(routineNames, scheduledDate));
+	}
+
+	/**
+	 * 루틴 조회 (Challenge와 Statistics를 함께 로드)
+	 * @param routineId 루틴 ID
+	 * @return 루틴 (Challenge와 Statistics 포함)
+	 */
+	private ChallengeRoutine getRoutineByIdWithStatistics(Long routineId) {
+		LocalDate today = getCurrentDate();
+		return routineRepository.findByIdWithChallengeAndStatistics(
+				routineId, ChallengeRoutine.earliestOperableDate(today), ChallengeRoutine.latestOperableDate(today))
+			// 범위 밖 루틴은 수정할 수 없는 루틴이므로, 기간 외 예외를 구분하기 위해서만 전체 파티션 조회
+			.or(() -> routineRepository.findByIdWithChallengeAndStatistics(routineId))
+			.orElseThrow(() -> new ChallengeException(ChallengeErrorCode.ROUTINE_NOT_FOUND));
 	}
 
 	/**
@@ -146,6 +264,10 @@ public class ChallengeRoutineService {
 		return LocalDate.now(clock);
 	}
 
+	private LocalDateTime getCurrentDateTime() {
+		return LocalDateTime.now(clock);
+	}
+
 	/**
 	 * 루틴 소유자 및 작업 가능 날짜 검증 (공통 메서드)
 	 */
@@ -159,9 +281,13 @@ public class ChallengeRoutineService {
 	/**
 	 * 여러 루틴의 완료 상태 일괄 업데이트
 	 *
+	 * 쿼리 구성 (루틴 개수와 무관):
+	 * - 검증용 프로젝션 조회 1 (루틴 행 잠금, 엔티티 로드 없음)
+	 * - 루틴 UPDATE 최대 1 (상태가 바뀌는 루틴만 한 문장으로 토글) + 통계 잠금 조회/UPDATE 최대 1씩
+	 *
 	 * 동시성 제어:
-	 * - ChallengeStatistics에 낙관적 락(@Version) 적용
-	 * - 동시 수정 시 OptimisticLockingFailureException 발생 → 409 Conflict
+	 * - 대상 루틴 행을 잠근 뒤 조회한 완료 여부로 delta를 계산하므로, 동시 토글이 겹쳐도 실제 변경과 일치함
+	 * - 통계는 행 잠금 후 일차별로 조정 (409 없음)
 	 *
 	 * @param userId 사용자 ID (소유자 검증용)
 	 * @param request 업데이트 요청 (routineId와 isComplete 리스트)
@@ -174,14 +300,24 @@ public class ChallengeRoutineService {
 		RoutineUpdateRequestDto request
 	) {
 		List<Long> routineIds = extractRoutineIds(request);
-		List<ChallengeRoutine> routines = fetchAndValidateRoutines(routineIds);
+		validateNoDuplicateIds(routineIds);
 
-		Challenge challenge = validateAndGetChallenge(routines, userId);
+		List<RoutineBatchUpdateTarget> targets = findBatchUpdateTargets(routineIds);
+		Long challengeId = validateBatchUpdateTargets(targets, routineIds.size(), userId);
 
-		int completedDelta = updateRoutineStates(routines, request);
-		updateChallengeStatistics(challenge, completedDelta);
+		Map<Long, Boolean> requestedStates = request.routines().stream()
+			.collect(Collectors.toMap(RoutineUpdateItemRequestDto::routineId, RoutineUpdateItemRequestDto::isComplete));
+		List<RoutineBatchUpdateTarget> changedTargets = updateRoutineStates(targets, requestedStates);
+		if (!changedTargets.isEmpty()) {
+			applyCompletionChanges(userId, challengeId, toCompletedDeltaByDay(changedTargets));
+		}
+		eventPublisher.publishEvent(new ChallengeDetailChangedEvent(userId));
 
-		return RoutineBatchUpdateResponseDto.from(routines);
+		Map<Long, RoutineBatchUpdateTarget> targetsById = targets.stream()
+			.collect(Collectors.toMap(RoutineBatchUpdateTarget::getRoutineId, Function.identity()));
+		return RoutineBatchUpdateResponseDto.fromRoutineDays(routineIds.stream()
+			.map(routineId -> toRoutineDay(targetsById.get(routineId), requestedStates.get(routineId)))
+			.toList());
 	}
 
 	// ===== Private 헬퍼 메서드 (Batch Update) =====
@@ -195,14 +331,26 @@ public class ChallengeRoutineService {
 			.toList();
 	}
 
+	/**
+	 * 일괄 업데이트 대상 조회 및 행 잠금
+	 * 오늘 수정할 수 있는 예정일 범위로 월 파티션을 좁혀 조회하고,
+	 * 범위 밖 루틴이 섞여 있으면 기간 외/소유자 예외를 구분하기 위해서만 전체 파티션 조회
+	 */
+	private List<RoutineBatchUpdateTarget> findBatchUpdateTargets(List<Long> routineIds) {
+		LocalDate today = getCurrentDate();
+		List<RoutineBatchUpdateTarget> targets = routineRepository.findBatchUpdateTargetsByIdIn(
+			routineIds, ChallengeRoutine.earliestOperableDate(today), ChallengeRoutine.latestOperableDate(today));
+		if (targets.size() == routineIds.size()) {
+			return targets;
+		}
+		return routineRepository.findBatchUpdateTargetsByIdIn(routineIds);
+	}
+
 	/**
 	 * 루틴 조회 및 존재 여부 검증
 	 */
 	private List<ChallengeRoutine> fetchAndValidateRoutines(List<Long> routineIds) {
-		// 중복 ID 검증
-		if (routineIds.size() != new HashSet<>(routineIds).size()) {
-			throw new ChallengeException(ChallengeErrorCode.DUPLICATE_ROUTINE_IDS);
-		}
+		validateNoDuplicateIds(routineIds);
 
 		List<ChallengeRoutine> routines = routineRepository
 			.findByIdInWithChallengeAndStatistics(routineIds);
@@ -215,6 +363,46 @@ public class ChallengeRoutineService {
 		return routines;
 	}
 
+	/**
+	 * 중복 ID 검증
+	 */
+	private void validateNoDuplicateIds(List<Long> routineIds) {
+		if (routineIds.size() != new HashSet<>(routineIds).size()) {
+			throw new ChallengeException(ChallengeErrorCode.DUPLICATE_ROUTINE_IDS);
+		}
+	}
+
+	/**
+	 * 일괄 업데이트 대상 검증 후 챌린지 ID 반환
+	 * - 모든 루틴 존재 (빈 리스트 케이스 포함)
+	 * - 모든 루틴이 같은 챌린지에 속하는지 확인
+	 * - 소유자 검증
+	 * - 챌린지 기간 내 날짜 검증
+	 */
+	private Long validateBatchUpdateTargets(List<RoutineBatchUpdateTarget> targets, int requestedCount, Long userId) {
+		if (targets.isEmpty() || targets.size() != requestedCount) {
+			throw new ChallengeException(ChallengeErrorCode.ROUTINE_NOT_FOUND);
+		}
+
+		RoutineBatchUpdateTarget first = targets.getFirst();
+		boolean allSameChallenge = targets.stream()
+			.allMatch(target -> target.getChallengeId().equals(first.getChallengeId()));
+		if (!allSameChallenge) {
+			throw new ChallengeException(ChallengeErrorCode.ROUTINES_FROM_DIFFERENT_CHALLENGES);
+		}
+
+		if (!first.getUserId().equals(userId)) {
+			throw new ChallengeException(ChallengeErrorCode.UNAUTHORIZED_ACCESS);
+		}
+
+		LocalDate today = getCurrentDate();
+		if (today.isBefore(first.getStartDate()) || today.isAfter(first.getEndDate())) {
+			throw new ChallengeException(ChallengeErrorCode.ROUTINE_OUT_OF_CHALLENGE_PERIOD);
+		}
+
+		return first.getChallengeId();
+	}
+
 	/**
 	 * 챌린지 검증 및 반환
 	 * - 모든 루틴이 같은 챌린지에 속하는지 확인
@@ -252,43 +440,57 @@ public class ChallengeRoutineService {
 	}
 
 	/**
-	 * 루틴 상태 업데이트 및 delta 계산
+	 * 루틴 상태 업데이트
+	 * 잠근 행의 현재 상태와 요청 상태가 다른 루틴만 한 문장으로 토글하고, 토글한 루틴 목록 반환
 	 */
-	private int updateRoutineStates(List<ChallengeRoutine> routines, RoutineUpdateRequestDto request) {
-		Map<Long, Boolean> updateMap = request.routines().stream()
-			.collect(Collectors.toMap(
-				RoutineUpdateItemRequestDto::routineId,
-				RoutineUpdateItemRequestDto::isComplete
-			));
-
-		int completedDelta = 0;
-
-		for (ChallengeRoutine routine : routines) {
-			Boolean targetComplete = updateMap.get(routine.getId());
-			Boolean currentComplete = routine.getIsComplete();
-
-			// 상태가 변경되는 경우만 처리
-			if (!currentComplete.equals(targetComplete)) {
-				if (targetComplete) {
-					completedDelta++;  // 미완료 → 완료
-				} else {
-					completedDelta--;  // 완료 → 미완료
-				}
-				routine.toggleCompletion();
-			}
+	private List<RoutineBatchUpdateTarget> updateRoutineStates(
+		List<RoutineBatchUpdateTarget> targets,
+		Map<Long, Boolean> requestedStates
+	) {
+		List<RoutineBatchUpdateTarget> changedTargets = targets.stream()
+			.filter(target -> !target.getIsComplete().equals(requestedStates.get(target.getRoutineId())))
+			.toList();
+		if (changedTargets.isEmpty()) {
+			return changedTargets;
 		}
 
-		return completedDelta;
+		// 변경 대상의 예정일 범위로 월 파티션을 좁혀 수정
+		List<LocalDate> scheduledDates = changedTargets.stream()
+			.map(RoutineBatchUpdateTarget::getScheduledDate)
+			.sorted(Comparator.naturalOrder())
+			.toList();
+		routineRepository.toggleCompletionByIdIn(
+			changedTargets.stream().map(RoutineBatchUpdateTarget::getRoutineId).toList(),
+			scheduledDates.getFirst(),
+			scheduledDates.getLast(),
+			getCurrentDateTime()
+		);
+
+		return changedTargets;
 	}
 
 	/**
-	 * 챌린지 통계 업데이트 (delta 기반)
+	 * 토글한 루틴들의 일차별 완료 개수 변화 계산
 	 */
-	private void updateChallengeStatistics(Challenge challenge, int completedDelta) {
-		if (completedDelta != 0) {
-			ChallengeStatistics statistics = challenge.getStatistics();
-			statistics.adjustCompletedCount(completedDelta);
-			statistics.updateCherryLevel();
-		}
+	private Map<Integer, Integer> toCompletedDeltaByDay(List<RoutineBatchUpdateTarget> changedTargets) {
+		return changedTargets.stream()
+			.collect(Collectors.groupingBy(
+				target -> (int) ChronoUnit.DAYS.between(target.getStartDate(), target.getScheduledDate()),
+				Collectors.summingInt(target -> target.getIsComplete() ? -1 : 1)   // 완료 → 미완료 (-1), 미완료 → 완료 (+1)
+			));
+	}
+
+	/**
+	 * 통계 행을 잠근 뒤 일차별 완료 개수 변화 반영 (커밋 이후 체리 랭킹에 반영되도록 이벤트 발행)
+	 */
+	private void applyCompletionChanges(Long userId, Long challengeId, Map<Integer, Integer> completedDeltaByDay) {
+		ChallengeStatistics statistics = statisticsRepository.findByChallengeIdForUpdate(challengeId)
+			.orElseThrow(() -> new ChallengeException(ChallengeErrorCode.STATISTICS_NOT_FOUND));
+		statistics.applyCompletionChanges(completedDeltaByDay);
+		eventPublisher.publishEvent(ChallengeStatisticsChangedEvent.of(userId, statistics));
+	}
+
+	private RoutineDay toRoutineDay(RoutineBatchUpdateTarget target, boolean isComplete) {
+		return new RoutineDay(target.getRoutineId(), target.getName(), target.getScheduledDate(), isComplete);
 	}
 }
@@ -1,16 +1,22 @@
 package com.sopt.cherrish.domain.challenge.core.application.service;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.sopt.cherrish.domain.challenge.core.domain.model.Challenge;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeHistory;
 import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRepository;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ExpiringChallenge;
 import com.sopt.cherrish.domain.challenge.core.exception.ChallengeErrorCode;
 import com.sopt.cherrish.domain.challenge.core.exception.ChallengeException;
 import com.sopt.cherrish.domain.challenge.homecare.domain.model.HomecareRoutine;
+import com.sopt.cherrish.global.exception.ConstraintViolations;
 
 import lombok.RequiredArgsConstructor;
 
@@ -22,33 +28,51 @@ public class ChallengeService {
 	private final ChallengeRepository challengeRepository;
 
 	/**
-	 * 활성 챌린지 중복 검증
+	 * 챌린지 생성 및 저장 (기본 기간)
+	 *
 	 * @param userId 사용자 ID
+	 * @param routine 홈케어 루틴
+	 * @param startDate 시작일
+	 * @return 생성된 챌린지
 	 * @throws ChallengeException 이미 활성 챌린지가 있는 경우
 	 */
-	public void validateNoDuplicateActiveChallenge(Long userId) {
-		if (challengeRepository.existsByUserIdAndIsActiveTrue(userId)) {
-			throw new ChallengeException(ChallengeErrorCode.DUPLICATE_ACTIVE_CHALLENGE);
-		}
+	@Transactional
+	public Challenge createChallenge(Long userId, HomecareRoutine routine, LocalDate startDate) {
+		return createChallenge(userId, routine, startDate, null);
 	}
 
 	/**
 	 * 챌린지 생성 및 저장
+	 *
+	 * 활성 챌린지 중복은 부분 유니크 인덱스({@link Challenge#ACTIVE_USER_UNIQUE_INDEX})로 검증
+	 * - 동시에 생성 요청이 와도 하나만 저장됨 (조회 후 저장 사이의 경합은 인덱스가 막음)
+	 * - IDENTITY 전략이므로 save 시점에 INSERT가 실행되어 위반을 바로 감지
+	 *
 	 * @param userId 사용자 ID
 	 * @param routine 홈케어 루틴
 	 * @param startDate 시작일
+	 * @param totalDays 챌린지 기간 (null이면 기본 7일)
 	 * @return 생성된 챌린지
+	 * @throws ChallengeException 지원하지 않는 기간이거나 이미 활성 챌린지가 있는 경우
 	 */
 	@Transactional
-	public Challenge createChallenge(Long userId, HomecareRoutine routine, LocalDate startDate) {
+	public Challenge createChallenge(Long userId, HomecareRoutine routine, LocalDate startDate, Integer totalDays) {
 		Challenge challenge = Challenge.builder()
 			.userId(userId)
 			.homecareRoutine(routine)
 			.title(routine.getDescription())
 			.startDate(startDate)
+			.totalDays(totalDays)
 			.build();
 
-		return challengeRepository.save(challenge);
+		try {
+			return challengeRepository.save(challenge);
+		} catch (DataIntegrityViolationException e) {
+			if (ConstraintViolations.isViolationOf(e, Challenge.ACTIVE_USER_UNIQUE_INDEX)) {
+				throw new ChallengeException(ChallengeErrorCode.DUPLICATE_ACTIVE_CHALLENGE);
+			}
+			throw e;
+		}
 	}
 
 	/**
@@ -94,4 +118,47 @@ public class ChallengeService {
 		return challengeRepository.findById(challengeId)
 			.orElseThrow(() -> new ChallengeException(ChallengeErrorCode.CHALLENGE_NOT_FOUND));
 	}
+
+	/**
+	 * 사용자의 종료된 챌린지 기록 조회 (키셋 페이지네이션)
+	 * 챌린지와 통계 컬럼만 프로젝션으로 조회하므로 기록이 많아도 한 페이지 분량만 읽습니다.
+	 * @param userId 사용자 ID
+	 * @param cursorEndDate 이전 페이지 마지막 기록의 종료일 (첫 페이지면 null)
+	 * @param cursorId 이전 페이지 마지막 기록의 챌린지 ID (첫 페이지면 null)
+	 * @param limit 조회 개수
+	 * @return 챌린지 기록 (종료일, ID 내림차순)
+	 * @throws ChallengeException 커서 종료일과 커서 ID 중 하나만 전달된 경우
+	 */
+	public List<ChallengeHistory> findChallengeHistory(Long userId, LocalDate cursorEndDate, Long cursorId, int limit) {
+		if ((cursorEndDate == null) != (cursorId == null)) {
+			throw new ChallengeException(ChallengeErrorCode.INVALID_HISTORY_CURSOR);
+		}
+		if (cursorEndDate == null) {
+			return challengeRepository.findChallengeHistory(userId, Limit.of(limit));
+		}
+		return challengeRepository.findChallengeHistoryBefore(userId, cursorEndDate, cursorId, Limit.of(limit));
+	}
+
+	/**
+	 * 종료일이 지난 활성 챌린지를 청크 단위로 조회
+	 * @param currentDate 현재 날짜
+	 * @param afterId 이전 청크의 마지막 챌린지 ID (처음이면 0)
+	 * @param chunkSize 청크 크기
+	 * @return 만료 대상 챌린지 목록 (챌린지 ID 오름차순)
+	 */
+	public List<ExpiringChallenge> findExpiredChallenges(LocalDate currentDate, Long afterId, int chunkSize) {
+		return challengeRepository.findExpiredChallenges(currentDate, afterId, Limit.of(chunkSize));
+	}
+
+	/**
+	 * 만료 대상 챌린지 한 청크를 비활성화
+	 * 청크마다 짧은 트랜잭션으로 커밋하여 행 잠금을 오래 잡지 않습니다.
+	 * @param challengeIds 챌린지 ID 목록
+	 * @param currentDate 현재 날짜
+	 * @return 비활성화된 챌린지 개수
+	 */
+	@Transactional
+	public int expireChallenges(List<Long> challengeIds, LocalDate currentDate) {
+		return challengeRepository.expireChallengesByIdIn(challengeIds, currentDate);
+	}
 }
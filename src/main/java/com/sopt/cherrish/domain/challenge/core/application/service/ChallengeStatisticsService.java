@@ -1,13 +1,17 @@
 package com.sopt.cherrish.domain.challenge.core.application.service;
 
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.sopt.cherrish.domain.challenge.core.domain.model.Challenge;
 import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeRoutine;
 import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeStatistics;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRanking;
 import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeStatisticsRepository;
 import com.sopt.cherrish.domain.challenge.core.exception.ChallengeErrorCode;
 import com.sopt.cherrish.domain.challenge.core.exception.ChallengeException;
@@ -28,8 +32,16 @@ public class ChallengeStatisticsService {
 	 */
 	@Transactional
 	public void initializeStatistics(Challenge challenge, List<ChallengeRoutine> routines) {
-		int totalRoutineCount = routines.size();
+		initializeStatistics(challenge, routines.size());
+	}
 
+	/**
+	 * 챌린지 통계 초기화 (루틴 개수 기준)
+	 * @param challenge 챌린지
+	 * @param totalRoutineCount 날짜별 루틴 총 개수
+	 */
+	@Transactional
+	public void initializeStatistics(Challenge challenge, int totalRoutineCount) {
 		ChallengeStatistics statistics = ChallengeStatistics.builder()
 			.challenge(challenge)
 			.totalRoutineCount(totalRoutineCount)
@@ -38,6 +50,30 @@ public class ChallengeStatisticsService {
 		statisticsRepository.save(statistics);
 	}
 
+	/**
+	 * 챌린지 통계 초기화 (일차별 통계 포함)
+	 *
+	 * 챌린지 기간의 모든 일차에 같은 개수의 루틴이 있다고 보고 일차별 루틴 개수를 채웁니다.
+	 * 전체 루틴 개수는 하루 루틴 개수 × 챌린지 기간입니다.
+	 *
+	 * @param challenge 챌린지
+	 * @param dailyRoutineCount 하루 루틴 개수
+	 * @return 저장된 통계
+	 */
+	@Transactional
+	public ChallengeStatistics initializeDailyStatistics(Challenge challenge, int dailyRoutineCount) {
+		int[] dailyRoutineCounts = new int[challenge.getTotalDays()];
+		Arrays.fill(dailyRoutineCounts, dailyRoutineCount);
+
+		ChallengeStatistics statistics = ChallengeStatistics.builder()
+			.challenge(challenge)
+			.totalRoutineCount(dailyRoutineCount * challenge.getTotalDays())
+			.dailyRoutineCounts(dailyRoutineCounts)
+			.build();
+
+		return statisticsRepository.save(statistics);
+	}
+
 	/**
 	 * 통계 업데이트 (완료 개수 증가)
 	 * @param challengeId 챌린지 ID
@@ -66,6 +102,37 @@ public class ChallengeStatisticsService {
 		statistics.updateCherryLevel();
 	}
 
+	/**
+	 * 활성 챌린지의 랭킹 점수용 통계를 청크 단위로 조회
+	 * @param afterId 이전 청크의 마지막 챌린지 ID (처음이면 0)
+	 * @param chunkSize 청크 크기
+	 * @return 활성 챌린지 랭킹 통계 (챌린지 ID 오름차순)
+	 */
+	public List<ChallengeRanking> findActiveChallengeRankings(Long afterId, int chunkSize) {
+		return statisticsRepository.findActiveChallengeRankings(afterId, Limit.of(chunkSize));
+	}
+
+	/**
+	 * 사용자의 활성 챌린지 랭킹 점수용 통계 조회
+	 * @param userId 사용자 ID
+	 * @return 활성 챌린지 랭킹 통계 (활성 챌린지가 없으면 빈 값)
+	 */
+	public Optional<ChallengeRanking> findActiveChallengeRanking(Long userId) {
+		return statisticsRepository.findActiveChallengeRanking(userId);
+	}
+
+	/**
+	 * 챌린지 통계 조회 및 행 잠금
+	 * 루틴(또는 루틴 정의) 행을 먼저 수정한 뒤 호출하여 토글과 같은 잠금 순서(루틴 → 통계)를 지킵니다.
+	 * @param challengeId 챌린지 ID
+	 * @return 잠근 통계
+	 */
+	@Transactional
+	public ChallengeStatistics getStatisticsForUpdate(Long challengeId) {
+		return statisticsRepository.findByChallengeIdForUpdate(challengeId)
+			.orElseThrow(() -> new ChallengeException(ChallengeErrorCode.STATISTICS_NOT_FOUND));
+	}
+
 	/**
 	 * 챌린지 통계 조회
 	 * @param challengeId 챌린지 ID
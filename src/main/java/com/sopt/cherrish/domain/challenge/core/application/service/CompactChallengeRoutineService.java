@@ -0,0 +1,295 @@
+package com.sopt.cherrish.domain.challenge.core.application.service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sopt.cherrish.domain.challenge.core.domain.event.ChallengeDetailChangedEvent;
+import com.sopt.cherrish.domain.challenge.core.domain.event.ChallengeStatisticsChangedEvent;
+import com.sopt.cherrish.domain.challenge.core.domain.model.Challenge;
+import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeRoutine;
+import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeRoutineDefinition;
+import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeStatistics;
+import com.sopt.cherrish.domain.challenge.core.domain.model.RoutineDay;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRepository;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRoutineDefinitionRepository;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRoutineRepository;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeStatisticsRepository;
+import com.sopt.cherrish.domain.challenge.core.exception.ChallengeErrorCode;
+import com.sopt.cherrish.domain.challenge.core.exception.ChallengeException;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.request.RoutineUpdateItemRequestDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.request.RoutineUpdateRequestDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.RoutineBatchUpdateResponseDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.RoutineCompletionResponseDto;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 압축 저장 모델 루틴 서비스 ({@code challenge.routine-storage=compact}).
+ *
+ * <p>{@link ChallengeRoutineService}와 같은 API 계약을 루틴 정의 + 완료 비트맵으로 제공합니다.
+ * 7일 챌린지 기준 루틴명 하나당 7행 대신 1행만 저장하고, 상세 조회는 챌린지의 정의 몇 행만 읽습니다.</p>
+ */
+@Service
+@ConditionalOnProperty(prefix = "challenge", name = "routine-storage", havingValue = "compact")
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CompactChallengeRoutineService {
+
+	private final ChallengeRoutineDefinitionRepository definitionRepository;
+	private final ChallengeRoutineRepository routineRepository;
+	private final ChallengeRepository challengeRepository;
+	private final ChallengeStatisticsRepository statisticsRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final Clock clock;
+
+	// ===== 생성 메서드 =====
+
+	/**
+	 * 챌린지 루틴 정의 생성 및 저장
+	 * 루틴 ID의 일차 비트로 표현할 수 있는 {@link ChallengeRoutineDefinition#MAX_DAYS}일보다 긴 챌린지는 지원하지 않습니다.
+	 * @param challenge 챌린지
+	 * @param routineNames 루틴명 리스트
+	 * @return 날짜별 루틴 리스트 (행 모델과 같은 일차 → 루틴명 순서)
+	 * @throws ChallengeException 챌린지 기간이 루틴 ID로 표현할 수 있는 일수를 넘는 경우
+	 */
+	@Transactional
+	public List<RoutineDay> createAndSaveRoutines(Challenge challenge, List<String> routineNames) {
+		if (challenge.getTotalDays() > ChallengeRoutineDefinition.MAX_DAYS) {
+			throw new ChallengeException(ChallengeErrorCode.INVALID_CHALLENGE_TOTAL_DAYS);
+		}
+		List<ChallengeRoutineDefinition> definitions = definitionRepository.saveAll(
+			challenge.createRoutineDefinitions(routineNames));
+
+		List<RoutineDay> routines = new ArrayList<>();
+		for (int day = 0; day < challenge.getTotalDays(); day++) {
+			for (ChallengeRoutineDefinition definition : definitions) {
+				routines.add(definition.toRoutineDay(day));
+			}
+		}
+		return routines;
+	}
+
+	/**
+	 * 커스텀 루틴 정의 추가
+	 * @param challenge 챌린지
+	 * @param routineName 루틴명
+	 * @param today 현재 날짜
+	 * @return 오늘부터 종료일까지의 날짜별 루틴 리스트
+	 */
+	@Transactional
+	public List<RoutineDay> createAndSaveCustomRoutine(Challenge challenge, String routineName, LocalDate today) {
+		ChallengeRoutineDefinition definition = definitionRepository.save(
+			challenge.createCustomRoutineDefinitionFromToday(routineName, today));
+
+		List<RoutineDay> routines = new ArrayList<>();
+		for (int day = definition.getStartDay(); day < challenge.getTotalDays(); day++) {
+			routines.add(definition.toRoutineDay(day));
+		}
+		return routines;
+	}
+
+	// ===== 조회 메서드 =====
+
+	/**
+	 * 특정 날짜의 루틴 조회
+	 * @param challenge 챌린지
+	 * @param scheduledDate 예정일
+	 * @return 날짜별 루틴 리스트
+	 */
+	public List<RoutineDay> getRoutinesByDate(Challenge challenge, LocalDate scheduledDate) {
+		int dayIndex = challenge.getDayIndex(scheduledDate);
+
+		return definitionRepository.findByChallengeIdOrderByIdAsc(challenge.getId()).stream()
+			.filter(definition -> definition.isScheduledOn(dayIndex))
+			.map(definition -> definition.toRoutineDay(dayIndex))
+			.toList();
+	}
+
+	/**
+	 * 특정 날짜의 루틴 개수 조회 (하루 최대 루틴 개수 검증용)
+	 */
+	public long countRoutinesByDate(Challenge challenge, LocalDate scheduledDate) {
+		return getRoutinesByDate(challenge, scheduledDate).size();
+	}
+
+	// ===== 수정 메서드 =====
+
+	/**
+	 * 루틴 완료 상태 토글 및 통계 업데이트
+	 * @param userId 사용자 ID (소유자 검증용)
+	 * @param routineId 인코딩된 루틴 ID
+	 * @return 완료 응답
+	 */
+	@Transactional
+	public RoutineCompletionResponseDto toggleCompletion(Long userId, Long routineId) {
+		ChallengeRoutineDefinition definition = getDefinitionForUpdate(routineId);
+		int dayIndex = ChallengeRoutineDefinition.dayIndexOf(routineId);
+		Challenge challenge = definition.getChallenge();
+
+		validateOwnerAndPeriod(challenge, userId);
+
+		boolean isComplete = definition.toggleCompletion(dayIndex);
+		RoutineCompletionResponseDto response = RoutineCompletionResponseDto.from(definition.toRoutineDay(dayIndex));
+
+		applyCompletionChanges(userId, challenge.getId(), Map.of(dayIndex, isComplete ? 1 : -1));
+		eventPublisher.publishEvent(new ChallengeDetailChangedEvent(userId));
+
+		return response;
+	}
+
+	/**
+	 * 여러 루틴의 완료 상태 일괄 업데이트
+	 * @param userId 사용자 ID (소유자 검증용)
+	 * @param request 업데이트 요청 (routineId와 isComplete 리스트)
+	 * @return 업데이트된 루틴 목록
+	 */
+	@Transactional
+	public RoutineBatchUpdateResponseDto updateMultipleRoutines(Long userId, RoutineUpdateRequestDto request) {
+		List<Long> routineIds = request.routines().stream()
+			.map(RoutineUpdateItemRequestDto::routineId)
+			.toList();
+		if (routineIds.size() != new HashSet<>(routineIds).size()) {
+			throw new ChallengeException(ChallengeErrorCode.DUPLICATE_ROUTINE_IDS);
+		}
+
+		Map<Long, ChallengeRoutineDefinition> definitions = fetchDefinitions(routineIds);
+		Challenge challenge = validateAndGetChallenge(definitions, userId);
+
+		Map<Integer, Integer> completedDeltaByDay = new HashMap<>();
+		List<RoutineDay> updated = new ArrayList<>();
+		for (RoutineUpdateItemRequestDto item : request.routines()) {
+			ChallengeRoutineDefinition definition =
+				definitions.get(ChallengeRoutineDefinition.definitionIdOf(item.routineId()));
+			int dayIndex = ChallengeRoutineDefinition.dayIndexOf(item.routineId());
+
+			if (definition.updateCompletion(dayIndex, item.isComplete())) {
+				completedDeltaByDay.merge(dayIndex, item.isComplete() ? 1 : -1, Integer::sum);
+			}
+			updated.add(definition.toRoutineDay(dayIndex));
+		}
+
+		if (!completedDeltaByDay.isEmpty()) {
+			applyCompletionChanges(userId, challenge.getId(), completedDeltaByDay);
+		}
+		eventPublisher.publishEvent(new ChallengeDetailChangedEvent(userId));
+
+		return RoutineBatchUpdateResponseDto.fromRoutineDays(updated);
+	}
+
+	// ===== 마이그레이션 =====
+
+	/**
+	 * 행 모델 루틴을 루틴 정의로 옮깁니다. 이미 정의가 있으면 아무것도 하지 않습니다.
+	 *
+	 * <p>기존 행은 삭제하지 않지만 압축 모델에서 바뀐 완료 상태는 행에 반영되지 않으므로 전환은 단방향입니다.
+	 * 루틴 정의가 생긴 뒤에는 {@link RowRoutineStorageGuard}가 {@code routine-storage=rows} 기동을 막습니다.</p>
+	 *
+	 * @param challengeId 챌린지 ID
+	 * @return 생성된 루틴 정의 개수
+	 */
+	@Transactional
+	public int migrateChallenge(Long challengeId) {
+		if (definitionRepository.existsByChallengeId(challengeId)) {
+			return 0;
+		}
+
+		Challenge challenge = challengeRepository.findById(challengeId)
+			.orElseThrow(() -> new ChallengeException(ChallengeErrorCode.CHALLENGE_NOT_FOUND));
+		List<ChallengeRoutine> routines = routineRepository.findByChallengeId(challengeId);
+
+		return definitionRepository.saveAll(ChallengeRoutineDefinition.fromRoutineRows(challenge, routines)).size();
+	}
+
+	/**
+	 * 아직 루틴 정의가 없는 챌린지 ID 조회
+	 */
+	public List<Long> findChallengeIdsToMigrate() {
+		return routineRepository.findChallengeIdsWithoutDefinitions();
+	}
+
+	// ===== Private 헬퍼 메서드 =====
+
+	private ChallengeRoutineDefinition getDefinitionForUpdate(Long routineId) {
+		if (!ChallengeRoutineDefinition.isEncodedRoutineId(routineId)) {
+			throw new ChallengeException(ChallengeErrorCode.ROUTINE_NOT_FOUND);
+		}
+
+		ChallengeRoutineDefinition definition = definitionRepository
+			.findByIdForUpdate(ChallengeRoutineDefinition.definitionIdOf(routineId))
+			.orElseThrow(() -> new ChallengeException(ChallengeErrorCode.ROUTINE_NOT_FOUND));
+
+		if (!definition.isScheduledOn(ChallengeRoutineDefinition.dayIndexOf(routineId))) {
+			throw new ChallengeException(ChallengeErrorCode.ROUTINE_NOT_FOUND);
+		}
+		return definition;
+	}
+
+	/**
+	 * 루틴 ID들이 가리키는 정의를 한 번에 조회하고, 모든 루틴이 존재하는지 검증
+	 */
+	private Map<Long, ChallengeRoutineDefinition> fetchDefinitions(List<Long> routineIds) {
+		boolean allEncoded = routineIds.stream().allMatch(ChallengeRoutineDefinition::isEncodedRoutineId);
+		if (routineIds.isEmpty() || !allEncoded) {
+			throw new ChallengeException(ChallengeErrorCode.ROUTINE_NOT_FOUND);
+		}
+
+		Set<Long> definitionIds = routineIds.stream()
+			.map(ChallengeRoutineDefinition::definitionIdOf)
+			.collect(Collectors.toSet());
+
+		Map<Long, ChallengeRoutineDefinition> definitions = definitionRepository
+			.findByIdInForUpdate(definitionIds).stream()
+			.collect(Collectors.toMap(ChallengeRoutineDefinition::getId, Function.identity()));
+
+		boolean allScheduled = routineIds.stream().allMatch(routineId -> {
+			ChallengeRoutineDefinition definition = definitions.get(ChallengeRoutineDefinition.definitionIdOf(routineId));
+			return definition != null && definition.isScheduledOn(ChallengeRoutineDefinition.dayIndexOf(routineId));
+		});
+		if (!allScheduled) {
+			throw new ChallengeException(ChallengeErrorCode.ROUTINE_NOT_FOUND);
+		}
+
+		return definitions;
+	}
+
+	private Challenge validateAndGetChallenge(Map<Long, ChallengeRoutineDefinition> definitions, Long userId) {
+		Set<Long> challengeIds = definitions.values().stream()
+			.map(definition -> definition.getChallenge().getId())
+			.collect(Collectors.toSet());
+		if (challengeIds.size() != 1) {
+			throw new ChallengeException(ChallengeErrorCode.ROUTINES_FROM_DIFFERENT_CHALLENGES);
+		}
+
+		Challenge challenge = definitions.values().iterator().next().getChallenge();
+		validateOwnerAndPeriod(challenge, userId);
+		return challenge;
+	}
+
+	/**
+	 * 통계 행을 잠근 뒤 일차별 완료 개수 변화 반영 (루틴 정의 행 잠금 이후)
+	 */
+	private void applyCompletionChanges(Long userId, Long challengeId, Map<Integer, Integer> completedDeltaByDay) {
+		ChallengeStatistics statistics = statisticsRepository.findByChallengeIdForUpdate(challengeId)
+			.orElseThrow(() -> new ChallengeException(ChallengeErrorCode.STATISTICS_NOT_FOUND));
+		statistics.applyCompletionChanges(completedDeltaByDay);
+		eventPublisher.publishEvent(ChallengeStatisticsChangedEvent.of(userId, statistics));
+	}
+
+	private void validateOwnerAndPeriod(Challenge challenge, Long userId) {
+		challenge.validateOwner(userId);
+		challenge.validateOperationDateWithinChallengePeriod(LocalDate.now(clock));
+	}
+}
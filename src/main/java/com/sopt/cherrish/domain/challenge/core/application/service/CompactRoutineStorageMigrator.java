@@ -0,0 +1,52 @@
+package com.sopt.cherrish.domain.challenge.core.application.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 압축 저장 모델로 전환할 때 기존 행 모델 루틴을 루틴 정의로 옮깁니다.
+ *
+ * <p>챌린지 단위로 트랜잭션을 나누므로 중간에 실패해도 다음 기동 시 남은 챌린지부터 이어서 진행합니다.
+ * 전환은 단방향이며, 루틴 정의가 생긴 뒤에는 행 저장 모델로 기동할 수 없습니다 ({@link RowRoutineStorageGuard}).
+ * 따라서 옮기지 못한 챌린지가 하나라도 있으면(루틴과 토글이 사라진 채로 서비스되므로) 나머지를 모두 시도한 뒤 기동을 중단합니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "challenge", name = "routine-storage", havingValue = "compact")
+@RequiredArgsConstructor
+public class CompactRoutineStorageMigrator {
+
+	private final CompactChallengeRoutineService compactRoutineService;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void migrate() {
+		List<Long> challengeIds = compactRoutineService.findChallengeIdsToMigrate();
+		if (challengeIds.isEmpty()) {
+			return;
+		}
+
+		List<Long> failedChallengeIds = new ArrayList<>();
+		for (Long challengeId : challengeIds) {
+			try {
+				compactRoutineService.migrateChallenge(challengeId);
+			} catch (RuntimeException e) {
+				failedChallengeIds.add(challengeId);
+				log.error("Failed to migrate routines of challenge {}", challengeId, e);
+			}
+		}
+		log.info("Migrated routines of {}/{} challenges to compact storage",
+			challengeIds.size() - failedChallengeIds.size(), challengeIds.size());
+		if (!failedChallengeIds.isEmpty()) {
+			throw new IllegalStateException(
+				"Failed to migrate routines of challenges " + failedChallengeIds + " to compact storage");
+		}
+	}
+}
@@ -0,0 +1,34 @@
+package com.sopt.cherrish.domain.challenge.core.application.service;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRoutineDefinitionRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 행 저장 모델({@code challenge.routine-storage=rows})로 기동할 때 압축 저장 모델 데이터가 남아 있으면 기동을 막습니다.
+ *
+ * <p>압축 저장 모델로의 전환은 단방향입니다. 압축 모델에서는 루틴 정의와 완료 비트맵에만 기록하므로,
+ * 전환 이후 생성된 챌린지에는 루틴 행이 없고 기존 행에도 그 뒤의 완료 상태가 반영되지 않습니다.
+ * 이 상태로 행 모델을 사용하면 압축 모델에서 기록한 완료가 사라지고 통계와 루틴 행이 어긋나므로,
+ * 루틴 정의가 하나라도 있으면 애플리케이션을 시작하지 않습니다.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "challenge", name = "routine-storage", havingValue = "rows", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RowRoutineStorageGuard {
+
+	private final ChallengeRoutineDefinitionRepository definitionRepository;
+
+	@PostConstruct
+	void verifyNoCompactRoutines() {
+		if (definitionRepository.existsByIdIsNotNull()) {
+			throw new IllegalStateException(
+				"challenge.routine-storage=rows cannot be used after switching to compact storage: "
+					+ "challenge_routine_definitions has rows whose completions are not stored as routine rows");
+		}
+	}
+}
@@ -0,0 +1,12 @@
+package com.sopt.cherrish.domain.challenge.core.domain.event;
+
+/**
+ * 챌린지 상세 화면에 보이는 데이터가 바뀌었음을 알리는 이벤트.
+ *
+ * <p>루틴 토글/일괄 업데이트, 커스텀 루틴 추가, 챌린지 생성 시 발행되며,
+ * 트랜잭션 커밋 이후 해당 사용자의 챌린지 상세 캐시를 무효화하는 데 사용됩니다.</p>
+ *
+ * @param userId 챌린지 소유자 ID
+ */
+public record ChallengeDetailChangedEvent(Long userId) {
+}
@@ -0,0 +1,21 @@
+package com.sopt.cherrish.domain.challenge.core.domain.event;
+
+import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeStatistics;
+
+/**
+ * 챌린지 통계(진행률, 체리 레벨)가 바뀌었음을 알리는 이벤트.
+ *
+ * <p>루틴 토글/일괄 업데이트(쓰기 지연 반영 포함), 커스텀 루틴 추가, 챌린지 생성 시 발행되며,
+ * 트랜잭션 커밋 이후 체리 랭킹 갱신의 계기가 되며, 랭킹은 갱신 순서를 지키기 위해 커밋된 통계를 다시 읽어 반영합니다.
+ * 통계 엔티티 대신 값만 담아 커밋 이후 지연 로딩이 일어나지 않게 합니다.</p>
+ *
+ * @param userId 챌린지 소유자 ID
+ * @param progressPercentage 전체 진행률 (%)
+ * @param cherryLevel 체리 레벨
+ */
+public record ChallengeStatisticsChangedEvent(Long userId, int progressPercentage, int cherryLevel) {
+
+	public static ChallengeStatisticsChangedEvent of(Long userId, ChallengeStatistics statistics) {
+		return new ChallengeStatisticsChangedEvent(userId, statistics.getProgressPercentage(), statistics.getCherryLevel());
+	}
+}
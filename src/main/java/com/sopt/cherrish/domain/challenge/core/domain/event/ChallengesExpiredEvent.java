@@ -0,0 +1,16 @@
+package com.sopt.cherrish.domain.challenge.core.domain.event;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 기간이 끝난 챌린지들이 일괄 비활성화되었음을 알리는 이벤트.
+ *
+ * <p>만료 처리 청크마다 발행되며, 만료된 챌린지 사용자의 챌린지 상세 캐시만 무효화하는 데 사용됩니다.
+ * 나머지 사용자의 캐시(자정 전에 미리 채운 항목 포함)는 그대로 유지됩니다.</p>
+ *
+ * @param date 만료 처리 기준 날짜
+ * @param userIds 챌린지가 만료된 사용자 ID 목록
+ */
+public record ChallengesExpiredEvent(LocalDate date, List<Long> userIds) {
+}
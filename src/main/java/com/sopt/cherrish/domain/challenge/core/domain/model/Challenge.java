@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 import com.sopt.cherrish.domain.challenge.core.exception.ChallengeErrorCode;
 import com.sopt.cherrish.domain.challenge.core.exception.ChallengeException;
@@ -31,6 +32,26 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Challenge extends BaseTimeEntity {
 
+	/**
+	 * 사용자당 활성 챌린지를 1개로 제한하는 부분 유니크 인덱스 (user_id WHERE is_active, Flyway V4)
+	 */
+	public static final String ACTIVE_USER_UNIQUE_INDEX = "uk_challenges_active_user";
+
+	/**
+	 * 기간을 지정하지 않았을 때의 챌린지 기간 (일)
+	 */
+	public static final int DEFAULT_TOTAL_DAYS = 7;
+
+	/**
+	 * 선택할 수 있는 챌린지 기간 (일)
+	 */
+	public static final Set<Integer> SUPPORTED_TOTAL_DAYS = Set.of(7, 21, 30, 100);
+
+	/**
+	 * 챌린지 최대 기간 (일). 진행 중인 챌린지의 루틴이 있을 수 있는 예정일 범위 계산에 사용
+	 */
+	public static final int MAX_TOTAL_DAYS = 100;
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
@@ -52,7 +73,7 @@ public class Challenge extends BaseTimeEntity {
 	private Boolean isActive = true;
 
 	@Column(nullable = false, name = "total_days")
-	private Integer totalDays = 7;
+	private Integer totalDays = DEFAULT_TOTAL_DAYS;
 
 	@Column(nullable = false, name = "start_date")
 	private LocalDate startDate;
@@ -60,20 +81,30 @@ public class Challenge extends BaseTimeEntity {
 	@Column(nullable = false, name = "end_date")
 	private LocalDate endDate;
 
+	/**
+	 * @param totalDays 챌린지 기간 (일). null이면 {@link #DEFAULT_TOTAL_DAYS}
+	 * @throws ChallengeException 지원하지 않는 기간인 경우
+	 */
 	@Builder
 	private Challenge(Long userId, HomecareRoutine homecareRoutine,
-		String title, LocalDate startDate) {
+		String title, LocalDate startDate, Integer totalDays) {
+		if (totalDays != null && !SUPPORTED_TOTAL_DAYS.contains(totalDays)) {
+			throw new ChallengeException(ChallengeErrorCode.INVALID_CHALLENGE_TOTAL_DAYS);
+		}
 		this.userId = userId;
 		this.homecareRoutine = homecareRoutine;
 		this.title = title;
 		this.startDate = startDate;
-		this.endDate = startDate.plusDays(this.totalDays - 1); // 7일 챌린지
+		if (totalDays != null) {
+			this.totalDays = totalDays;
+		}
+		this.endDate = startDate.plusDays(this.totalDays - 1);
 	}
 
 	/**
-	 * 챌린지 루틴 생성 팩토리 메서드
+	 * 챌린지 루틴 생성 팩토리 메서드 (전체 기간)
 	 * @param routineNames 루틴명 리스트
-	 * @return 생성된 챌린지 루틴 리스트 (루틴명 개수 × 7일)
+	 * @return 생성된 챌린지 루틴 리스트 (루틴명 개수 × 전체 일수)
 	 */
 	public List<ChallengeRoutine> createChallengeRoutines(List<String> routineNames) {
 		List<ChallengeRoutine> routines = new ArrayList<>();
@@ -93,6 +124,72 @@ public class Challenge extends BaseTimeEntity {
 		return routines;
 	}
 
+	/**
+	 * 특정 날짜 하루치 챌린지 루틴 생성 (날짜별 루틴은 그 날짜에 처음 조회할 때 만듭니다)
+	 * @param routineNames 루틴명 리스트
+	 * @param scheduledDate 예정일
+	 * @return 생성된 챌린지 루틴 리스트 (루틴명 순서)
+	 */
+	public List<ChallengeRoutine> createRoutinesOn(List<String> routineNames, LocalDate scheduledDate) {
+		return routineNames.stream()
+			.map(routineName -> ChallengeRoutine.builder()
+				.challenge(this)
+				.name(routineName)
+				.scheduledDate(scheduledDate)
+				.build())
+			.toList();
+	}
+
+	/**
+	 * 주어진 날짜부터 종료일까지의 일수 (루틴 하나가 예정되는 날짜 수)
+	 * 날짜별 루틴을 미리 만들지 않으므로 통계의 전체 루틴 개수는 이 값으로 계산합니다.
+	 * @param from 시작 날짜 (포함)
+	 * @return 남은 일수 (종료일이 지났으면 0)
+	 */
+	public int getRemainingDays(LocalDate from) {
+		return (int) Math.max(0, ChronoUnit.DAYS.between(from, endDate) + 1);
+	}
+
+	/**
+	 * 날짜가 챌린지 기간 내인지 확인
+	 * @param date 날짜
+	 * @return 시작일과 종료일 사이(포함)면 true
+	 */
+	public boolean isWithinPeriod(LocalDate date) {
+		return !date.isBefore(startDate) && !date.isAfter(endDate);
+	}
+
+	/**
+	 * 챌린지 루틴 정의 생성 팩토리 메서드 (압축 저장 모델)
+	 * @param routineNames 루틴명 리스트
+	 * @return 생성된 루틴 정의 리스트 (루틴명 개수만큼, 1일차부터 예정)
+	 */
+	public List<ChallengeRoutineDefinition> createRoutineDefinitions(List<String> routineNames) {
+		return routineNames.stream()
+			.map(routineName -> ChallengeRoutineDefinition.builder()
+				.challenge(this)
+				.name(routineName)
+				.startDay(0)
+				.build())
+			.toList();
+	}
+
+	/**
+	 * 오늘부터 예정되는 커스텀 루틴 정의 생성 (압축 저장 모델)
+	 * @param routineName 루틴명
+	 * @param today 현재 날짜
+	 * @return 생성된 루틴 정의
+	 */
+	public ChallengeRoutineDefinition createCustomRoutineDefinitionFromToday(String routineName, LocalDate today) {
+		validateDateWithinChallengePeriod(today);
+
+		return ChallengeRoutineDefinition.builder()
+			.challenge(this)
+			.name(routineName)
+			.startDay(getDayIndex(today))
+			.build();
+	}
+
 	public void complete() {
 		this.isActive = false;
 	}
@@ -129,6 +226,24 @@ public class Challenge extends BaseTimeEntity {
 		return (int) ChronoUnit.DAYS.between(startDate, today) + 1;
 	}
 
+	/**
+	 * 시작일 기준 일차 계산 (0-indexed, 기간 보정 없음)
+	 * @param date 날짜
+	 * @return 시작일이면 0, 이후 하루마다 1씩 증가
+	 */
+	public int getDayIndex(LocalDate date) {
+		return (int) ChronoUnit.DAYS.between(startDate, date);
+	}
+
+	/**
+	 * 주어진 날짜가 챌린지 기간 내인지 검증 (루틴 수정 가능 여부 판단용)
+	 * @param date 검증할 날짜 (일반적으로 현재 날짜)
+	 * @throws ChallengeException 챌린지 기간 외의 날짜인 경우
+	 */
+	public void validateOperationDateWithinChallengePeriod(LocalDate date) {
+		validateDateWithinChallengePeriod(date);
+	}
+
 	/**
 	 * 오늘부터 챌린지 종료일까지 커스텀 루틴 생성
 	 * @param routineName 루틴명
@@ -159,7 +274,7 @@ public class Challenge extends BaseTimeEntity {
 	 * @throws ChallengeException 챌린지 기간 외의 날짜인 경우
 	 */
 	private void validateDateWithinChallengePeriod(LocalDate date) {
-		if (date.isBefore(startDate) || date.isAfter(endDate)) {
+		if (!isWithinPeriod(date)) {
 			throw new ChallengeException(
 				ChallengeErrorCode.ROUTINE_OUT_OF_CHALLENGE_PERIOD
 			);
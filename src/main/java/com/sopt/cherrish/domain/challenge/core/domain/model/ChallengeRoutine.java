@@ -15,6 +15,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -30,8 +31,13 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChallengeRoutine extends BaseTimeEntity {
 
+	/**
+	 * 챌린지 생성 시 루틴을 (루틴 수 × 7일)개씩 한 번에 저장하므로, IDENTITY 대신 pooled 시퀀스로
+	 * ID를 미리 할당받아 JDBC 배치 INSERT가 가능하도록 합니다.
+	 */
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "challenge_routines_id_seq")
+	@SequenceGenerator(name = "challenge_routines_id_seq", sequenceName = "challenge_routines_id_seq", allocationSize = 50)
 	private Long id;
 
 	@ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -92,6 +98,25 @@ public class ChallengeRoutine extends BaseTimeEntity {
 		}
 	}
 
+	/**
+	 * 오늘 수정할 수 있는 루틴의 가장 이른 예정일
+	 * 진행 중인 챌린지의 루틴은 오늘 기준 앞뒤로 챌린지 최대 기간 안에 있으므로, 이 범위로 월 파티션을 좁혀 조회
+	 * @param today 오늘 날짜
+	 * @return 예정일 하한
+	 */
+	public static LocalDate earliestOperableDate(LocalDate today) {
+		return today.minusDays(Challenge.MAX_TOTAL_DAYS - 1);
+	}
+
+	/**
+	 * 오늘 수정할 수 있는 루틴의 가장 늦은 예정일
+	 * @param today 오늘 날짜
+	 * @return 예정일 상한
+	 */
+	public static LocalDate latestOperableDate(LocalDate today) {
+		return today.plusDays(Challenge.MAX_TOTAL_DAYS - 1);
+	}
+
 	public boolean isScheduledFor(LocalDate date) {
 		return this.scheduledDate.equals(date);
 	}
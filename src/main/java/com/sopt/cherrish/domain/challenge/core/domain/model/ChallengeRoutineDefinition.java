@@ -0,0 +1,226 @@
+package com.sopt.cherrish.domain.challenge.core.domain.model;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import com.sopt.cherrish.global.entity.BaseTimeEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 챌린지 루틴 정의 (압축 저장 모델).
+ *
+ * <p>루틴명 하나당 한 행만 저장하고, 일차별 완료 여부는 {@code completion_bitmap}(64일 단위 long 배열)의 비트로 보관합니다.
+ * (원소 k의 비트 i = (64k + i)일차 완료, 0-indexed) 배열 길이는 챌린지 기간에 맞추므로 100일 챌린지도 담을 수 있습니다. 루틴은 {@code startDay}일차부터 챌린지 종료일까지 매일 예정됩니다.</p>
+ *
+ * <p>API에 노출되는 루틴 ID는 {@link #routineIdOf(long, int)}로 정의 ID와 일차를 인코딩한 값입니다.
+ * 행 모델의 루틴 ID와 겹치지 않도록 상위 비트({@link #ROUTINE_ID_FLAG})를 표시로 사용합니다.</p>
+ */
+@Entity
+@Table(name = "challenge_routine_definitions", indexes = {
+	@Index(name = "idx_routine_definition_challenge", columnList = "challenge_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChallengeRoutineDefinition extends BaseTimeEntity {
+
+	private static final int DAY_BITS = 7;
+
+	/**
+	 * 루틴 ID의 일차 비트로 표현할 수 있는 최대 일수
+	 */
+	public static final int MAX_DAYS = 1 << DAY_BITS;
+
+	private static final long DAY_MASK = (1L << DAY_BITS) - 1;
+	// JSON 숫자로 안전하게 표현되도록 2^53 미만으로 유지
+	// (일차 비트가 6비트이던 이전 인코딩은 1L << 50을 표시로 썼으므로, 이전 ID는 인코딩된 ID로 인식하지 않음)
+	private static final long ROUTINE_ID_FLAG = 1L << 51;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "challenge_routine_definitions_id_seq")
+	@SequenceGenerator(
+		name = "challenge_routine_definitions_id_seq",
+		sequenceName = "challenge_routine_definitions_id_seq",
+		allocationSize = 50
+	)
+	private Long id;
+
+	@ManyToOne(fetch = FetchType.LAZY, optional = false)
+	@JoinColumn(name = "challenge_id", nullable = false)
+	private Challenge challenge;
+
+	@Column(nullable = false, length = 100)
+	private String name;
+
+	@Column(nullable = false, name = "start_day")
+	private Integer startDay;
+
+	@JdbcTypeCode(SqlTypes.ARRAY)
+	@Column(nullable = false, name = "completion_bitmap")
+	private long[] completionBitmap = new long[0];
+
+	@Builder
+	private ChallengeRoutineDefinition(Challenge challenge, String name, Integer startDay) {
+		if (challenge.getTotalDays() > MAX_DAYS) {
+			throw new IllegalArgumentException("Challenge is longer than " + MAX_DAYS + " days");
+		}
+		this.challenge = challenge;
+		this.name = name;
+		this.startDay = startDay;
+		this.completionBitmap = new long[wordCount(challenge.getTotalDays())];
+	}
+
+	// ===== 루틴 ID 인코딩 =====
+
+	public static long routineIdOf(long definitionId, int dayIndex) {
+		return ROUTINE_ID_FLAG | (definitionId << DAY_BITS) | dayIndex;
+	}
+
+	/**
+	 * 루틴 ID가 압축 저장 모델에서 발급한 ID인지 확인합니다.
+	 */
+	public static boolean isEncodedRoutineId(long routineId) {
+		return routineId > 0 && (routineId & ROUTINE_ID_FLAG) != 0;
+	}
+
+	public static long definitionIdOf(long routineId) {
+		return (routineId & ~ROUTINE_ID_FLAG) >>> DAY_BITS;
+	}
+
+	public static int dayIndexOf(long routineId) {
+		return (int) (routineId & DAY_MASK);
+	}
+
+	// ===== 완료 상태 =====
+
+	/**
+	 * 해당 일차에 이 루틴이 예정되어 있는지 확인
+	 * @param dayIndex 일차 (0-indexed)
+	 */
+	public boolean isScheduledOn(int dayIndex) {
+		return dayIndex >= startDay && dayIndex < challenge.getTotalDays();
+	}
+
+	public boolean isCompleteOn(int dayIndex) {
+		int word = dayIndex / Long.SIZE;
+		return word < completionBitmap.length && (completionBitmap[word] & (1L << dayIndex)) != 0;
+	}
+
+	/**
+	 * 해당 일차의 완료 상태 토글
+	 * @param dayIndex 일차 (0-indexed)
+	 * @return 토글 후 완료 여부
+	 */
+	public boolean toggleCompletion(int dayIndex) {
+		// 변경 감지를 위해 복사본을 수정한 뒤 교체 (64일 이하였던 기존 행은 필요한 길이까지 늘림)
+		long[] bitmap = Arrays.copyOf(completionBitmap, Math.max(completionBitmap.length, wordCount(dayIndex + 1)));
+		bitmap[dayIndex / Long.SIZE] ^= 1L << dayIndex;
+		this.completionBitmap = bitmap;
+		return isCompleteOn(dayIndex);
+	}
+
+	/**
+	 * 해당 일차의 완료 상태 변경
+	 * @param dayIndex 일차 (0-indexed)
+	 * @param complete 목표 완료 여부
+	 * @return 상태가 실제로 바뀌었으면 true
+	 */
+	public boolean updateCompletion(int dayIndex, boolean complete) {
+		if (isCompleteOn(dayIndex) == complete) {
+			return false;
+		}
+		toggleCompletion(dayIndex);
+		return true;
+	}
+
+	/**
+	 * 이 정의가 만들어내는 날짜별 루틴 개수
+	 */
+	public int getScheduledDayCount() {
+		return Math.max(0, challenge.getTotalDays() - startDay);
+	}
+
+	public RoutineDay toRoutineDay(int dayIndex) {
+		return new RoutineDay(
+			routineIdOf(id, dayIndex),
+			name,
+			challenge.getStartDate().plusDays(dayIndex),
+			isCompleteOn(dayIndex)
+		);
+	}
+
+	// ===== 행 모델 마이그레이션 =====
+
+	/**
+	 * 행 모델(ChallengeRoutine)의 날짜별 루틴을 루틴 정의로 변환합니다.
+	 *
+	 * <p>같은 날짜에 같은 이름의 루틴이 여러 개 있으면 ID 순서대로 k번째끼리 같은 정의로 묶습니다.
+	 * 예를 들어 처음부터 있던 "세안"과 3일차에 추가한 커스텀 "세안"은 별도의 정의가 됩니다.</p>
+	 *
+	 * @param challenge 챌린지
+	 * @param routines 챌린지의 모든 날짜별 루틴
+	 * @return 루틴 정의 리스트 (생성 순서 유지)
+	 */
+	public static List<ChallengeRoutineDefinition> fromRoutineRows(Challenge challenge, List<ChallengeRoutine> routines) {
+		Map<DefinitionKey, ChallengeRoutineDefinition> definitions = new LinkedHashMap<>();
+		Map<DateNameKey, Integer> occurrences = new HashMap<>();
+
+		List<ChallengeRoutine> ordered = routines.stream()
+			.sorted(Comparator.comparing(ChallengeRoutine::getId))
+			.toList();
+
+		for (ChallengeRoutine routine : ordered) {
+			DateNameKey dateNameKey = new DateNameKey(routine.getScheduledDate(), routine.getName());
+			int occurrence = occurrences.merge(dateNameKey, 1, Integer::sum);
+			int dayIndex = challenge.getDayIndex(routine.getScheduledDate());
+
+			ChallengeRoutineDefinition definition = definitions.computeIfAbsent(
+				new DefinitionKey(routine.getName(), occurrence),
+				key -> ChallengeRoutineDefinition.builder()
+					.challenge(challenge)
+					.name(routine.getName())
+					.startDay(dayIndex)
+					.build()
+			);
+			definition.startDay = Math.min(definition.startDay, dayIndex);
+			if (routine.getIsComplete() && !definition.isCompleteOn(dayIndex)) {
+				definition.toggleCompletion(dayIndex);
+			}
+		}
+
+		return new ArrayList<>(definitions.values());
+	}
+
+	private static int wordCount(int days) {
+		return (days + Long.SIZE - 1) / Long.SIZE;
+	}
+
+	private record DefinitionKey(String name, int occurrence) {
+	}
+
+	private record DateNameKey(LocalDate date, String name) {
+	}
+}
@@ -1,5 +1,10 @@
 package com.sopt.cherrish.domain.challenge.core.domain.model;
 
+import java.util.Map;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
 import com.sopt.cherrish.global.entity.BaseTimeEntity;
 
 import jakarta.persistence.Column;
@@ -49,12 +54,47 @@ public class ChallengeStatistics extends BaseTimeEntity {
 	@Column(nullable = false, name = "cherry_level")
 	private Integer cherryLevel = 1;
 
+	/**
+	 * 일차별 루틴 개수 (인덱스 = 0부터 시작하는 일차). 일차별 통계가 없는 기존 챌린지는 빈 배열
+	 */
+	@JdbcTypeCode(SqlTypes.ARRAY)
+	@Column(nullable = false, name = "daily_routine_counts")
+	private int[] dailyRoutineCounts = new int[0];
+
+	/**
+	 * 일차별 완료 루틴 개수 (dailyRoutineCounts와 같은 길이)
+	 */
+	@JdbcTypeCode(SqlTypes.ARRAY)
+	@Column(nullable = false, name = "daily_completed_counts")
+	private int[] dailyCompletedCounts = new int[0];
+
+	/**
+	 * 모든 루틴을 완료한 일수
+	 */
+	@Column(nullable = false, name = "completed_days")
+	private Integer completedDays = 0;
+
+	/**
+	 * 모든 루틴을 완료한 날이 가장 길게 이어진 일수
+	 */
+	@Column(nullable = false, name = "best_streak")
+	private Integer bestStreak = 0;
+
+	/**
+	 * @param challenge 챌린지
+	 * @param totalRoutineCount 전체 루틴 개수
+	 * @param dailyRoutineCounts 일차별 루틴 개수 (null이면 일차별 통계 없이 생성)
+	 */
 	@Builder
-	private ChallengeStatistics(Challenge challenge, Integer totalRoutineCount) {
+	private ChallengeStatistics(Challenge challenge, Integer totalRoutineCount, int[] dailyRoutineCounts) {
 		this.challenge = challenge;
 		this.completedCount = 0;
 		this.totalRoutineCount = totalRoutineCount;
 		this.cherryLevel = 1;
+		this.dailyRoutineCounts = dailyRoutineCounts == null ? new int[0] : dailyRoutineCounts.clone();
+		this.dailyCompletedCounts = new int[this.dailyRoutineCounts.length];
+		this.completedDays = 0;
+		this.bestStreak = 0;
 	}
 
 	public void incrementCompletedCount() {
@@ -83,11 +123,139 @@ public class ChallengeStatistics extends BaseTimeEntity {
 		}
 	}
 
+	/**
+	 * 일차별 완료 개수 변화를 반영하고 전체 완료 개수, 체리 레벨, 연속 달성 기록을 함께 갱신
+	 *
+	 * 일차별 배열은 챌린지 기간(최대 100일) 길이이므로 루틴을 다시 조회하지 않고 메모리에서 다시 계산합니다.
+	 * 일차별 통계가 없는 일차(기존 챌린지 등)의 변화는 전체 완료 개수에만 반영합니다.
+	 *
+	 * @param completedDeltaByDay 일차 인덱스(0부터)별 완료 개수 변화 (양수: 완료, 음수: 완료 취소)
+	 */
+	public void applyCompletionChanges(Map<Integer, Integer> completedDeltaByDay) {
+		int[] completed = dailyCompletedCounts.clone();
+		int totalDelta = 0;
+		for (Map.Entry<Integer, Integer> entry : completedDeltaByDay.entrySet()) {
+			int dayIndex = entry.getKey();
+			int delta = entry.getValue();
+			totalDelta += delta;
+			if (hasDailyStatistics(dayIndex)) {
+				completed[dayIndex] = Math.clamp((long) completed[dayIndex] + delta, 0, dailyRoutineCounts[dayIndex]);
+			}
+		}
+
+		this.dailyCompletedCounts = completed;
+		adjustCompletedCount(totalDelta);
+		updateCherryLevel();
+		updateStreaks();
+	}
+
+	/**
+	 * 특정 일차부터 마지막 일차까지 하루 routineCount개씩 루틴 추가 (커스텀 루틴 추가용)
+	 *
+	 * @param fromDayIndex 루틴이 추가되는 첫 일차 인덱스 (0부터)
+	 * @param routineCount 하루에 추가되는 루틴 개수
+	 */
+	public void addDailyRoutines(int fromDayIndex, int routineCount) {
+		int[] routineCounts = dailyRoutineCounts.clone();
+		for (int dayIndex = Math.max(0, fromDayIndex); dayIndex < routineCounts.length; dayIndex++) {
+			routineCounts[dayIndex] += routineCount;
+		}
+
+		this.dailyRoutineCounts = routineCounts;
+		updateStreaks();
+	}
+
+	/**
+	 * 일차별 완료율 (반올림, 0-100)
+	 *
+	 * @param dayIndex 일차 인덱스 (0부터)
+	 * @return 완료율 (%), 루틴이 없거나 일차별 통계가 없으면 0
+	 */
+	public int getDailyCompletionRate(int dayIndex) {
+		if (!hasDailyStatistics(dayIndex)) {
+			return 0;
+		}
+		return calculateCompletionRate(dailyCompletedCounts[dayIndex], dailyRoutineCounts[dayIndex]);
+	}
+
+	/**
+	 * 일차별 통계가 있는 일수 (기존 챌린지는 0)
+	 */
+	public int getTrackedDays() {
+		return dailyRoutineCounts.length;
+	}
+
+	/**
+	 * 현재 연속 달성 일수
+	 *
+	 * 오늘까지 모든 루틴을 완료한 날이 이어진 일수입니다. 오늘을 아직 다 완료하지 않았다면 어제까지로 계산하여,
+	 * 하루가 끝나기 전에 연속 기록이 끊긴 것처럼 보이지 않게 합니다.
+	 * 날짜에 따라 달라지는 값이므로 저장하지 않고 저장된 일차별 개수로 계산합니다.
+	 *
+	 * @param currentDay 현재 일차 (1부터, {@link Challenge#getCurrentDay})
+	 * @return 현재 연속 달성 일수
+	 */
+	public int getCurrentStreak(int currentDay) {
+		int dayIndex = Math.min(currentDay, dailyRoutineCounts.length) - 1;
+		if (dayIndex >= 0 && !isCompletedDay(dayIndex)) {
+			dayIndex--;
+		}
+
+		int streak = 0;
+		while (dayIndex >= 0 && isCompletedDay(dayIndex)) {
+			streak++;
+			dayIndex--;
+		}
+		return streak;
+	}
+
+	/**
+	 * 아직 DB에 반영되지 않은 완료 개수 변화를 더한 조회용 사본 생성
+	 *
+	 * delta가 0이 아니면 영속화되지 않는 새 객체를 반환하므로 이 통계 자체는 변경되지 않습니다.
+	 * 일차별 통계와 연속 달성 기록은 마지막으로 DB에 반영된 값을 그대로 사용합니다.
+	 *
+	 * @param delta 반영 대기 중인 완료 개수 변화
+	 * @return delta가 반영된 통계 사본
+	 */
+	public ChallengeStatistics withPendingCompletedDelta(int delta) {
+		if (delta == 0) {
+			return this;
+		}
+		ChallengeStatistics view = new ChallengeStatistics(challenge, totalRoutineCount, dailyRoutineCounts);
+		view.dailyCompletedCounts = this.dailyCompletedCounts.clone();
+		view.completedDays = this.completedDays;
+		view.bestStreak = this.bestStreak;
+		view.completedCount = this.completedCount;
+		view.adjustCompletedCount(delta);
+		view.updateCherryLevel();
+		return view;
+	}
+
+	/**
+	 * 전체 진행률 (반올림, 0-100)
+	 *
+	 * @return 진행률 (%)
+	 */
 	public int getProgressPercentage() {
-		if (totalRoutineCount == 0) {
+		return calculateCompletionRate(completedCount, totalRoutineCount);
+	}
+
+	/**
+	 * 완료율 (반올림, 0-100)
+	 *
+	 * 엔티티를 로드하지 않는 프로젝션 조회(챌린지 기록 등)에서도 같은 계산을 쓰도록 정적 메서드로 둡니다.
+	 * 부동소수점 오차 없이 정수 연산으로 반올림합니다.
+	 *
+	 * @param completedCount 완료 루틴 개수
+	 * @param routineCount 전체 루틴 개수
+	 * @return 완료율 (%), 루틴이 없으면 0
+	 */
+	public static int calculateCompletionRate(int completedCount, int routineCount) {
+		if (routineCount == 0) {
 			return 0;
 		}
-		return (int) Math.round((double) completedCount / totalRoutineCount * 100);
+		return (int) ((200L * completedCount + routineCount) / (2L * routineCount));
 	}
 
 	/**
@@ -194,4 +362,35 @@ public class ChallengeStatistics extends BaseTimeEntity {
 		// 남은 개수 (음수 방지)
 		return Math.max(0, requiredCompletedCount - completedCount);
 	}
+
+	private boolean hasDailyStatistics(int dayIndex) {
+		return dayIndex >= 0 && dayIndex < dailyRoutineCounts.length;
+	}
+
+	/**
+	 * 루틴이 있고 모두 완료한 일차인지 확인
+	 */
+	private boolean isCompletedDay(int dayIndex) {
+		return dailyRoutineCounts[dayIndex] > 0 && dailyCompletedCounts[dayIndex] == dailyRoutineCounts[dayIndex];
+	}
+
+	/**
+	 * 완료 일수와 최장 연속 달성 일수 재계산
+	 */
+	private void updateStreaks() {
+		int days = 0;
+		int best = 0;
+		int streak = 0;
+		for (int dayIndex = 0; dayIndex < dailyRoutineCounts.length; dayIndex++) {
+			if (isCompletedDay(dayIndex)) {
+				days++;
+				streak++;
+				best = Math.max(best, streak);
+			} else {
+				streak = 0;
+			}
+		}
+		this.completedDays = days;
+		this.bestStreak = best;
+	}
 }
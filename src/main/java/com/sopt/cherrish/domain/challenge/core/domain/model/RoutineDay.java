@@ -0,0 +1,22 @@
+package com.sopt.cherrish.domain.challenge.core.domain.model;
+
+import java.time.LocalDate;
+
+/**
+ * 특정 날짜의 루틴 한 건.
+ *
+ * <p>압축 저장 모델({@link ChallengeRoutineDefinition})에서는 날짜별 루틴이 행으로 존재하지 않으므로,
+ * 루틴 정의와 일차로부터 이 값을 만들어 기존 응답 DTO에 그대로 전달합니다.</p>
+ *
+ * @param routineId 루틴 ID (루틴 정의 ID와 일차를 인코딩한 값)
+ * @param name 루틴명
+ * @param scheduledDate 예정일
+ * @param isComplete 완료 여부
+ */
+public record RoutineDay(
+	Long routineId,
+	String name,
+	LocalDate scheduledDate,
+	boolean isComplete
+) {
+}
@@ -0,0 +1,36 @@
+package com.sopt.cherrish.domain.challenge.core.domain.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 종료된 챌린지 기록 프로젝션.
+ *
+ * <p>챌린지와 최종 통계의 컬럼만 조회하며, 일차별 완료 요약은 통계의 일차별 개수 배열로 만들어
+ * 루틴 엔티티를 로드하지 않습니다.</p>
+ */
+public interface ChallengeHistory {
+
+	Long getChallengeId();
+
+	String getTitle();
+
+	LocalDate getStartDate();
+
+	LocalDate getEndDate();
+
+	Integer getTotalDays();
+
+	Integer getCompletedCount();
+
+	Integer getTotalRoutineCount();
+
+	Integer getCherryLevel();
+
+	Integer getCompletedDays();
+
+	Integer getBestStreak();
+
+	int[] getDailyRoutineCounts();
+
+	int[] getDailyCompletedCounts();
+}
@@ -0,0 +1,28 @@
+package com.sopt.cherrish.domain.challenge.core.domain.repository;
+
+import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeStatistics;
+
+/**
+ * 체리 랭킹 재구성/갱신용 활성 챌린지 통계 프로젝션.
+ *
+ * <p>키셋 페이지네이션에 쓰는 챌린지 ID와 랭킹 점수 계산에 필요한 통계 컬럼만 조회합니다.
+ * 통계 version은 랭킹 갱신이 늦게 도착해도 더 최신 점수를 덮지 않도록 순서를 비교하는 데 사용합니다.</p>
+ */
+public interface ChallengeRanking {
+
+	Long getChallengeId();
+
+	Long getUserId();
+
+	Integer getCompletedCount();
+
+	Integer getTotalRoutineCount();
+
+	Integer getCherryLevel();
+
+	Long getVersion();
+
+	default int getProgressPercentage() {
+		return ChallengeStatistics.calculateCompletionRate(getCompletedCount(), getTotalRoutineCount());
+	}
+}
@@ -1,23 +1,28 @@
 package com.sopt.cherrish.domain.challenge.core.domain.repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.sopt.cherrish.domain.challenge.core.domain.model.Challenge;
 
+import jakarta.persistence.LockModeType;
+
 public interface ChallengeRepository extends JpaRepository<Challenge, Long> {
 
-	/**
-	 * 사용자의 활성 챌린지 존재 여부 확인
-	 * @param userId 사용자 ID
-	 * @return 활성 챌린지 존재 여부
-	 */
-	boolean existsByUserIdAndIsActiveTrue(Long userId);
+	String HISTORY_SELECT = "SELECT c.id AS challengeId, c.title AS title, c.startDate AS startDate, c.endDate AS endDate, "
+		+ "c.totalDays AS totalDays, s.completedCount AS completedCount, s.totalRoutineCount AS totalRoutineCount, "
+		+ "s.cherryLevel AS cherryLevel, s.completedDays AS completedDays, s.bestStreak AS bestStreak, "
+		+ "s.dailyRoutineCounts AS dailyRoutineCounts, s.dailyCompletedCounts AS dailyCompletedCounts "
+		+ "FROM Challenge c INNER JOIN c.statistics s ";
 
 	/**
 	 * 사용자의 활성 챌린지 조회
@@ -37,13 +42,66 @@ public interface ChallengeRepository extends JpaRepository<Challenge, Long> {
 	Optional<Challenge> findActiveChallengeWithStatistics(@Param("userId") Long userId);
 
 	/**
-	 * 종료일이 지난 활성 챌린지를 벌크 업데이트로 비활성화
-	 * 단일 UPDATE 쿼리로 모든 만료된 챌린지를 한 번에 처리합니다.
+	 * 챌린지 조회 및 행 잠금
+	 * 날짜별 루틴 생성과 커스텀 루틴 추가를 챌린지 단위로 직렬화하여 같은 날짜의 루틴이 중복 생성되지 않도록 합니다.
+	 * @param id 챌린지 ID
+	 * @return 챌린지 (Optional)
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT c FROM Challenge c WHERE c.id = :id")
+	Optional<Challenge> findByIdForUpdate(@Param("id") Long id);
+
+	/**
+	 * 종료일이 지난 활성 챌린지를 ID 순서로 조회 (키셋 페이지네이션)
+	 * 활성 챌린지의 종료일 부분 인덱스(idx_challenges_active_end_date)로 만료 대상만 탐색합니다.
 	 * @param currentDate 현재 날짜
-	 * @return 업데이트된 챌린지 개수
+	 * @param afterId 이전 청크의 마지막 ID (처음이면 0)
+	 * @param limit 청크 크기
+	 * @return 만료 대상 챌린지 (챌린지 ID, 사용자 ID)
 	 */
-	@Modifying(clearAutomatically = true)
-	@Query("UPDATE Challenge c SET c.isActive = false WHERE c.isActive = true AND c.endDate < :currentDate")
-	int bulkUpdateExpiredChallenges(@Param("currentDate") LocalDate currentDate);
+	@Query("SELECT c.id AS challengeId, c.userId AS userId FROM Challenge c "
+		+ "WHERE c.isActive = true AND c.endDate < :currentDate AND c.id > :afterId ORDER BY c.id")
+	List<ExpiringChallenge> findExpiredChallenges(@Param("currentDate") LocalDate currentDate, @Param("afterId") Long afterId,
+		Limit limit);
+
+	/**
+	 * 사용자의 종료된 챌린지 기록 첫 페이지를 종료일 최신순으로 조회
+	 * 챌린지와 통계 컬럼만 프로젝션으로 조회하며 루틴은 로드하지 않습니다.
+	 * 종료 챌린지의 사용자별 부분 인덱스(idx_challenges_finished_user_end_date)를 따라 limit개만 읽습니다.
+	 * @param userId 사용자 ID
+	 * @param limit 조회 개수
+	 * @return 챌린지 기록 (종료일, ID 내림차순)
+	 */
+	@Query(HISTORY_SELECT
+		+ "WHERE c.userId = :userId AND c.isActive = false "
+		+ "ORDER BY c.endDate DESC, c.id DESC")
+	List<ChallengeHistory> findChallengeHistory(@Param("userId") Long userId, Limit limit);
+
+	/**
+	 * 사용자의 종료된 챌린지 기록을 커서 이후부터 조회 (키셋 페이지네이션)
+	 * (종료일, ID) 커서보다 앞선 기록만 조회하므로 페이지가 깊어져도 건너뛰는 행이 없습니다.
+	 * @param userId 사용자 ID
+	 * @param cursorEndDate 이전 페이지 마지막 기록의 종료일
+	 * @param cursorId 이전 페이지 마지막 기록의 챌린지 ID
+	 * @param limit 조회 개수
+	 * @return 챌린지 기록 (종료일, ID 내림차순)
+	 */
+	@Query(HISTORY_SELECT
+		+ "WHERE c.userId = :userId AND c.isActive = false "
+		+ "AND (c.endDate < :cursorEndDate OR (c.endDate = :cursorEndDate AND c.id < :cursorId)) "
+		+ "ORDER BY c.endDate DESC, c.id DESC")
+	List<ChallengeHistory> findChallengeHistoryBefore(@Param("userId") Long userId,
+		@Param("cursorEndDate") LocalDate cursorEndDate, @Param("cursorId") Long cursorId, Limit limit);
 
+	/**
+	 * 만료 대상 챌린지를 ID 목록 단위로 비활성화
+	 * 조회 이후 상태가 바뀐 챌린지는 건너뛰도록 만료 조건을 다시 확인합니다.
+	 * @param ids 챌린지 ID 목록
+	 * @param currentDate 현재 날짜
+	 * @return 비활성화된 챌린지 개수
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("UPDATE Challenge c SET c.isActive = false "
+		+ "WHERE c.id IN :ids AND c.isActive = true AND c.endDate < :currentDate")
+	int expireChallengesByIdIn(@Param("ids") Collection<Long> ids, @Param("currentDate") LocalDate currentDate);
 }
@@ -0,0 +1,56 @@
+package com.sopt.cherrish.domain.challenge.core.domain.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeRoutineDefinition;
+
+import jakarta.persistence.LockModeType;
+
+public interface ChallengeRoutineDefinitionRepository extends JpaRepository<ChallengeRoutineDefinition, Long> {
+
+	/**
+	 * 챌린지의 모든 루틴 정의 조회 (생성 순서)
+	 * @param challengeId 챌린지 ID
+	 * @return 루틴 정의 리스트
+	 */
+	List<ChallengeRoutineDefinition> findByChallengeIdOrderByIdAsc(Long challengeId);
+
+	/**
+	 * 챌린지에 루틴 정의가 있는지 확인 (마이그레이션 여부 판단용)
+	 * @param challengeId 챌린지 ID
+	 * @return 루틴 정의 존재 여부
+	 */
+	boolean existsByChallengeId(Long challengeId);
+
+	/**
+	 * 루틴 정의가 하나라도 있는지 확인 (압축 저장 모델 사용 여부 판단용)
+	 * @return 루틴 정의 존재 여부
+	 */
+	boolean existsByIdIsNotNull();
+
+	/**
+	 * 루틴 정의 조회 (쓰기 잠금)
+	 * 완료 비트맵은 여러 일차가 한 행을 공유하므로, 동시 토글이 서로의 비트를 덮어쓰지 않도록 행을 잠급니다.
+	 * @param id 루틴 정의 ID
+	 * @return 루틴 정의
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT d FROM ChallengeRoutineDefinition d WHERE d.id = :id")
+	Optional<ChallengeRoutineDefinition> findByIdForUpdate(@Param("id") Long id);
+
+	/**
+	 * 여러 루틴 정의 조회 (쓰기 잠금, ID 순서로 잠가 교착 상태 방지)
+	 * @param ids 루틴 정의 ID 목록
+	 * @return 루틴 정의 리스트
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT d FROM ChallengeRoutineDefinition d WHERE d.id IN :ids ORDER BY d.id")
+	List<ChallengeRoutineDefinition> findByIdInForUpdate(@Param("ids") Collection<Long> ids);
+}
@@ -1,15 +1,21 @@
 package com.sopt.cherrish.domain.challenge.core.domain.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeRoutine;
 
+import jakarta.persistence.LockModeType;
+
 public interface ChallengeRoutineRepository extends JpaRepository<ChallengeRoutine, Long> {
 
 	/**
@@ -19,6 +25,18 @@ public interface ChallengeRoutineRepository extends JpaRepository<ChallengeRouti
 	 */
 	List<ChallengeRoutine> findByChallengeId(Long challengeId);
 
+	/**
+	 * 루틴 정의로 아직 옮기지 않은 챌린지 ID 조회 (압축 저장 모델 마이그레이션용)
+	 * @return 행 모델 루틴만 있는 챌린지 ID 리스트
+	 */
+	@Query("""
+		SELECT DISTINCT r.challenge.id FROM ChallengeRoutine r
+		WHERE NOT EXISTS (
+			SELECT 1 FROM ChallengeRoutineDefinition d WHERE d.challenge = r.challenge
+		)
+	""")
+	List<Long> findChallengeIdsWithoutDefinitions();
+
 	/**
 	 * 챌린지의 특정 날짜 루틴 조회
 	 * @param challengeId 챌린지 ID
@@ -36,6 +54,57 @@ public interface ChallengeRoutineRepository extends JpaRepository<ChallengeRouti
 	 */
 	long countByChallengeIdAndScheduledDate(Long challengeId, LocalDate scheduledDate);
 
+	/**
+	 * 기간 안에서 루틴이 생성된 가장 늦은 날짜 조회 (날짜별 루틴 지연 생성 시 복사할 날짜)
+	 * @param challengeId 챌린지 ID
+	 * @param from 예정일 하한
+	 * @param to 예정일 상한
+	 * @return 가장 늦은 예정일 (루틴이 없으면 빈 값)
+	 */
+	@Query("""
+		SELECT MAX(r.scheduledDate) FROM ChallengeRoutine r
+		WHERE r.challenge.id = :challengeId AND r.scheduledDate BETWEEN :from AND :to
+	""")
+	Optional<LocalDate> findLatestScheduledDate(
+		@Param("challengeId") Long challengeId,
+		@Param("from") LocalDate from,
+		@Param("to") LocalDate to
+	);
+
+	/**
+	 * 특정 날짜의 루틴명 조회 (생성 순서)
+	 * @param challengeId 챌린지 ID
+	 * @param scheduledDate 예정일
+	 * @return 루틴명 리스트
+	 */
+	@Query("""
+		SELECT r.name FROM ChallengeRoutine r
+		WHERE r.challenge.id = :challengeId AND r.scheduledDate = :scheduledDate
+		ORDER BY r.id
+	""")
+	List<String> findNamesByChallengeIdAndScheduledDate(
+		@Param("challengeId") Long challengeId,
+		@Param("scheduledDate") LocalDate scheduledDate
+	);
+
+	/**
+	 * 기간 안에서 루틴이 생성된 날짜 조회 (커스텀 루틴 추가 시 이미 생성된 날짜에 함께 추가하기 위함)
+	 * @param challengeId 챌린지 ID
+	 * @param from 예정일 하한
+	 * @param to 예정일 상한
+	 * @return 예정일 리스트 (오름차순)
+	 */
+	@Query("""
+		SELECT DISTINCT r.scheduledDate FROM ChallengeRoutine r
+		WHERE r.challenge.id = :challengeId AND r.scheduledDate BETWEEN :from AND :to
+		ORDER BY r.scheduledDate
+	""")
+	List<LocalDate> findScheduledDates(
+		@Param("challengeId") Long challengeId,
+		@Param("from") LocalDate from,
+		@Param("to") LocalDate to
+	);
+
 	/**
 	 * 루틴 조회 (Challenge와 함께 fetch)
 	 * @param id 루틴 ID
@@ -59,6 +128,26 @@ public interface ChallengeRoutineRepository extends JpaRepository<ChallengeRouti
 	""")
 	Optional<ChallengeRoutine> findByIdWithChallengeAndStatistics(@Param("id") Long id);
 
+	/**
+	 * 예정일 범위 안의 루틴 조회 (Challenge와 Statistics를 함께 fetch)
+	 * 예정일 범위로 월 파티션을 좁혀 조회하며, 범위 밖의 루틴은 조회되지 않음
+	 * @param id 루틴 ID
+	 * @param from 루틴 예정일 하한
+	 * @param to 루틴 예정일 상한
+	 * @return 루틴 (Challenge와 Statistics 포함)
+	 */
+	@Query("""
+		SELECT r FROM ChallengeRoutine r
+		JOIN FETCH r.challenge c
+		INNER JOIN FETCH c.statistics
+		WHERE r.id = :id AND r.scheduledDate BETWEEN :from AND :to
+	""")
+	Optional<ChallengeRoutine> findByIdWithChallengeAndStatistics(
+		@Param("id") Long id,
+		@Param("from") LocalDate from,
+		@Param("to") LocalDate to
+	);
+
 	/**
 	 * 여러 루틴 조회 (Challenge와 Statistics를 함께 fetch)
 	 * N+1 쿼리 방지 및 통계 중복 조회 방지
@@ -79,4 +168,109 @@ public interface ChallengeRoutineRepository extends JpaRepository<ChallengeRouti
 		WHERE r.id IN :ids
 	""")
 	List<ChallengeRoutine> findByIdInWithChallengeAndStatistics(@Param("ids") List<Long> ids);
+
+	/**
+	 * 일괄 업데이트 대상 루틴 조회 및 행 잠금 (엔티티를 로드하지 않는 프로젝션 조회)
+	 *
+	 * 검증(존재/같은 챌린지/소유자/기간)에 필요한 챌린지 컬럼을 함께 조회하고,
+	 * 트랜잭션이 끝날 때까지 루틴 행을 잠가 조회한 완료 여부로 계산한 delta가 실제 변경과 일치하도록 보장
+	 * ID 순서로 잠가 동시 일괄 업데이트끼리 교착 상태가 생기지 않음
+	 *
+	 * @param ids 루틴 ID 목록
+	 * @return 일괄 업데이트 대상 (루틴 ID 오름차순)
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("""
+		SELECT r.id AS routineId, r.name AS name, r.scheduledDate AS scheduledDate, r.isComplete AS isComplete,
+			c.id AS challengeId, c.userId AS userId, c.startDate AS startDate, c.endDate AS endDate
+		FROM ChallengeRoutine r
+		JOIN r.challenge c
+		WHERE r.id IN :ids
+		ORDER BY r.id
+	""")
+	List<RoutineBatchUpdateTarget> findBatchUpdateTargetsByIdIn(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * 예정일 범위 안의 일괄 업데이트 대상 루틴 조회 및 행 잠금
+	 * 예정일 범위로 월 파티션을 좁혀 조회하며, 범위 밖의 루틴은 조회되지 않음
+	 *
+	 * @param ids 루틴 ID 목록
+	 * @param from 루틴 예정일 하한
+	 * @param to 루틴 예정일 상한
+	 * @return 일괄 업데이트 대상 (루틴 ID 오름차순)
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("""
+		SELECT r.id AS routineId, r.name AS name, r.scheduledDate AS scheduledDate, r.isComplete AS isComplete,
+			c.id AS challengeId, c.userId AS userId, c.startDate AS startDate, c.endDate AS endDate
+		FROM ChallengeRoutine r
+		JOIN r.challenge c
+		WHERE r.id IN :ids AND r.scheduledDate BETWEEN :from AND :to
+		ORDER BY r.id
+	""")
+	List<RoutineBatchUpdateTarget> findBatchUpdateTargetsByIdIn(
+		@Param("ids") Collection<Long> ids,
+		@Param("from") LocalDate from,
+		@Param("to") LocalDate to
+	);
+
+	/**
+	 * 주어진 루틴 중 DB 기준으로 완료된 루틴 ID 조회 (엔티티를 로드하지 않는 스칼라 조회)
+	 * @param ids 루틴 ID 목록
+	 * @return 완료된 루틴 ID 목록
+	 */
+	@Query("SELECT r.id FROM ChallengeRoutine r WHERE r.id IN :ids AND r.isComplete = true")
+	List<Long> findCompletedIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * 루틴 완료 상태를 원자적으로 토글
+	 * 동시에 같은 루틴을 토글해도 행 잠금으로 순서대로 반영되어 상태와 통계가 어긋나지 않음
+	 * 예정일을 함께 지정하여 해당 월 파티션만 수정
+	 * @param id 루틴 ID
+	 * @param scheduledDate 루틴 예정일
+	 * @param now 수정 시각
+	 * @return 수정된 행 수
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+		UPDATE ChallengeRoutine r
+		SET r.isComplete = CASE WHEN r.isComplete = true THEN false ELSE true END, r.updatedAt = :now
+		WHERE r.id = :id AND r.scheduledDate = :scheduledDate
+	""")
+	int toggleCompletion(
+		@Param("id") Long id,
+		@Param("scheduledDate") LocalDate scheduledDate,
+		@Param("now") LocalDateTime now
+	);
+
+	/**
+	 * 루틴 조회 (예정일로 파티션을 좁혀 조회)
+	 * @param id 루틴 ID
+	 * @param scheduledDate 루틴 예정일
+	 * @return 루틴
+	 */
+	Optional<ChallengeRoutine> findByIdAndScheduledDate(Long id, LocalDate scheduledDate);
+
+	/**
+	 * 여러 루틴의 완료 상태를 한 문장으로 토글
+	 * {@link #findBatchUpdateTargetsByIdIn(Collection, LocalDate, LocalDate)}로 잠근 행 중 상태가 바뀌어야 하는 루틴만 전달해야 함
+	 * 예정일 범위를 함께 지정하여 해당 월 파티션만 수정
+	 * @param ids 토글할 루틴 ID 목록
+	 * @param from 루틴 예정일 하한
+	 * @param to 루틴 예정일 상한
+	 * @param now 수정 시각
+	 * @return 수정된 행 수
+	 */
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("""
+		UPDATE ChallengeRoutine r
+		SET r.isComplete = CASE WHEN r.isComplete = true THEN false ELSE true END, r.updatedAt = :now
+		WHERE r.id IN :ids AND r.scheduledDate BETWEEN :from AND :to
+	""")
+	int toggleCompletionByIdIn(
+		@Param("ids") Collection<Long> ids,
+		@Param("from") LocalDate from,
+		@Param("to") LocalDate to,
+		@Param("now") LocalDateTime now
+	);
 }
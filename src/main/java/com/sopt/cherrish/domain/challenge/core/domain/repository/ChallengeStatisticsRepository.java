@@ -1,11 +1,18 @@
 package com.sopt.cherrish.domain.challenge.core.domain.repository;
 
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeStatistics;
 
+import jakarta.persistence.LockModeType;
+
 public interface ChallengeStatisticsRepository extends JpaRepository<ChallengeStatistics, Long> {
 
 	/**
@@ -14,4 +21,44 @@ public interface ChallengeStatisticsRepository extends JpaRepository<ChallengeSt
 	 * @return 통계 (Optional)
 	 */
 	Optional<ChallengeStatistics> findByChallengeId(Long challengeId);
+
+	/**
+	 * 챌린지별 통계 조회 및 행 잠금
+	 *
+	 * 동시성 제어:
+	 * - 완료 개수와 함께 일차별 완료 개수, 연속 달성 기록을 읽고-수정하고-쓰므로 통계 행을 잠가 동시 토글을 순서대로 반영
+	 * - 잠근 뒤 읽은 version으로 수정하므로 동시 토글끼리 충돌(409)하지 않음
+	 * - 루틴(또는 루틴 정의) 행을 먼저 잠근 뒤 통계 행을 잠그는 순서를 모든 수정 경로에서 지킴
+	 *
+	 * @param challengeId 챌린지 ID
+	 * @return 통계 (Optional)
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT s FROM ChallengeStatistics s WHERE s.challenge.id = :challengeId")
+	Optional<ChallengeStatistics> findByChallengeIdForUpdate(@Param("challengeId") Long challengeId);
+
+	/**
+	 * 활성 챌린지의 랭킹 점수용 통계를 챌린지 ID 순서로 조회 (키셋 페이지네이션)
+	 * 체리 랭킹을 재구성할 때만 사용하며, 통계 엔티티 대신 점수 계산에 필요한 컬럼만 조회합니다.
+	 * @param afterId 이전 청크의 마지막 챌린지 ID (처음이면 0)
+	 * @param limit 청크 크기
+	 * @return 활성 챌린지 랭킹 통계 (챌린지 ID 오름차순)
+	 */
+	@Query("SELECT c.id AS challengeId, c.userId AS userId, s.completedCount AS completedCount, "
+		+ "s.totalRoutineCount AS totalRoutineCount, s.cherryLevel AS cherryLevel, s.version AS version "
+		+ "FROM ChallengeStatistics s INNER JOIN s.challenge c "
+		+ "WHERE c.isActive = true AND c.id > :afterId ORDER BY c.id")
+	List<ChallengeRanking> findActiveChallengeRankings(@Param("afterId") Long afterId, Limit limit);
+
+	/**
+	 * 사용자의 활성 챌린지 랭킹 점수용 통계 조회
+	 * 체리 랭킹을 갱신할 때 이벤트 값 대신 커밋된 통계와 그 version을 읽는 데 사용합니다.
+	 * @param userId 사용자 ID
+	 * @return 활성 챌린지 랭킹 통계 (활성 챌린지가 없으면 빈 값)
+	 */
+	@Query("SELECT c.id AS challengeId, c.userId AS userId, s.completedCount AS completedCount, "
+		+ "s.totalRoutineCount AS totalRoutineCount, s.cherryLevel AS cherryLevel, s.version AS version "
+		+ "FROM ChallengeStatistics s INNER JOIN s.challenge c "
+		+ "WHERE c.userId = :userId AND c.isActive = true")
+	Optional<ChallengeRanking> findActiveChallengeRanking(@Param("userId") Long userId);
 }
@@ -0,0 +1,13 @@
+package com.sopt.cherrish.domain.challenge.core.domain.repository;
+
+/**
+ * 만료 대상 챌린지 프로젝션.
+ *
+ * <p>키셋 페이지네이션에 쓰는 챌린지 ID와 캐시 무효화에 쓰는 사용자 ID만 조회합니다.</p>
+ */
+public interface ExpiringChallenge {
+
+	Long getChallengeId();
+
+	Long getUserId();
+}
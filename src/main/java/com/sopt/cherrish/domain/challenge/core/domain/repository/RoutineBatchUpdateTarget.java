@@ -0,0 +1,27 @@
+package com.sopt.cherrish.domain.challenge.core.domain.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 루틴 일괄 업데이트 대상 프로젝션.
+ *
+ * <p>엔티티를 로드하지 않고 검증(소유자/기간)과 delta 계산, 응답 조립에 필요한 컬럼만 조회합니다.</p>
+ */
+public interface RoutineBatchUpdateTarget {
+
+	Long getRoutineId();
+
+	String getName();
+
+	LocalDate getScheduledDate();
+
+	Boolean getIsComplete();
+
+	Long getChallengeId();
+
+	Long getUserId();
+
+	LocalDate getStartDate();
+
+	LocalDate getEndDate();
+}
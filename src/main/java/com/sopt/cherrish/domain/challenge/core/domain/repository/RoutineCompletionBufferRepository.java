@@ -0,0 +1,288 @@
+package com.sopt.cherrish.domain.challenge.core.domain.repository;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 루틴 완료 토글을 Redis에 먼저 기록하는 쓰기 지연(write-behind) 버퍼.
+ *
+ * <p>챌린지마다 다음 키를 사용합니다.</p>
+ * <ul>
+ *   <li>{@code pending}: 아직 DB에 반영되지 않은 루틴별 최종 완료 상태 (Hash, 루틴 ID → "1"/"0")</li>
+ *   <li>{@code processing}: 플러시 중인 상태. 플러시가 끝나기 전에 죽으면 남아 있다가 다음 플러시에서 다시 반영됩니다.</li>
+ *   <li>{@code epoch}: 플러시가 끝날 때마다 증가하는 값. 토글 시 읽은 DB 값이 그 사이 바뀌지 않았는지 확인합니다.</li>
+ *   <li>{@code owner}: 플러시 잠금. 여러 인스턴스가 같은 챌린지를 동시에 반영하지 않도록 합니다.</li>
+ * </ul>
+ *
+ * <p>토글 횟수가 아니라 최종 상태를 저장하므로 같은 묶음을 여러 번 반영해도 결과가 같습니다(멱등).
+ * 모든 상태 변경은 Lua 스크립트로 원자적으로 수행합니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class RoutineCompletionBufferRepository {
+
+	private static final String KEY_PREFIX = "routine_completion_buffer:";
+	private static final String DIRTY_KEY = KEY_PREFIX + "dirty";
+	private static final String COMPLETE = "1";
+	private static final String INCOMPLETE = "0";
+	private static final String INITIAL_EPOCH = "0";
+	private static final long FLUSH_LOCK_MILLIS = 30_000L;
+
+	private static final RedisScript<Long> TOGGLE_SCRIPT = RedisScript.of("""
+		local current = redis.call('HGET', KEYS[1], ARGV[1])
+		if not current then
+			current = redis.call('HGET', KEYS[2], ARGV[1])
+		end
+		if not current then
+			local epoch = redis.call('GET', KEYS[3]) or '0'
+			if epoch ~= ARGV[3] then
+				return -1
+			end
+			current = ARGV[2]
+		end
+		local next = '1'
+		if current == '1' then
+			next = '0'
+		end
+		redis.call('HSET', KEYS[1], ARGV[1], next)
+		redis.call('SADD', KEYS[4], ARGV[4])
+		return tonumber(next)
+		""", Long.class);
+
+	private static final RedisScript<Long> PUT_ALL_SCRIPT = RedisScript.of("""
+		for i = 2, #ARGV, 2 do
+			redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1])
+		end
+		redis.call('SADD', KEYS[2], ARGV[1])
+		return 1
+		""", Long.class);
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> FIND_SCRIPT = RedisScript.of("""
+		local result = redis.call('HGETALL', KEYS[2])
+		for _, value in ipairs(redis.call('HGETALL', KEYS[1])) do
+			table.insert(result, value)
+		end
+		return result
+		""", List.class);
+
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> BEGIN_FLUSH_SCRIPT = RedisScript.of("""
+		if not redis.call('SET', KEYS[3], ARGV[1], 'NX', 'PX', ARGV[2]) then
+			return false
+		end
+		if redis.call('EXISTS', KEYS[2]) == 0 and redis.call('EXISTS', KEYS[1]) == 1 then
+			redis.call('RENAME', KEYS[1], KEYS[2])
+		end
+		return redis.call('HGETALL', KEYS[2])
+		""", List.class);
+
+	private static final RedisScript<Long> COMPLETE_FLUSH_SCRIPT = RedisScript.of("""
+		if redis.call('GET', KEYS[3]) ~= ARGV[1] then
+			return 0
+		end
+		redis.call('DEL', KEYS[2], KEYS[3])
+		redis.call('INCR', KEYS[4])
+		if redis.call('EXISTS', KEYS[1]) == 0 then
+			redis.call('SREM', KEYS[5], ARGV[2])
+		end
+		return 1
+		""", Long.class);
+
+	private static final RedisScript<Long> RELEASE_FLUSH_SCRIPT = RedisScript.of("""
+		if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+			return 0
+		end
+		return redis.call('DEL', KEYS[1])
+		""", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	/**
+	 * 현재 플러시 세대를 조회합니다.
+	 *
+	 * <p>DB에서 완료 상태를 읽기 전에 호출하고, 그 값을 {@link #toggle}에 전달합니다.</p>
+	 *
+	 * @param challengeId 챌린지 ID
+	 * @return 플러시 세대 (없으면 "0")
+	 */
+	public String currentEpoch(Long challengeId) {
+		String epoch = redisTemplate.opsForValue().get(epochKey(challengeId));
+		return epoch == null ? INITIAL_EPOCH : epoch;
+	}
+
+	/**
+	 * 루틴 완료 상태를 버퍼에서 토글합니다.
+	 *
+	 * <p>버퍼에 상태가 있으면 그 값을, 없으면 DB 값을 기준으로 뒤집습니다.
+	 * DB 값을 읽은 뒤 플러시가 끝나 세대가 바뀌었으면 DB 값이 낡았을 수 있으므로 기록하지 않습니다.</p>
+	 *
+	 * @param challengeId 챌린지 ID
+	 * @param routineId 루틴 ID
+	 * @param persistedComplete DB에 저장된 완료 여부
+	 * @param epoch DB 조회 전에 읽은 플러시 세대
+	 * @return 토글 후 완료 여부, 세대가 바뀌어 다시 시도해야 하면 빈 Optional
+	 */
+	public Optional<Boolean> toggle(Long challengeId, Long routineId, boolean persistedComplete, String epoch) {
+		Long result = redisTemplate.execute(
+			TOGGLE_SCRIPT,
+			List.of(pendingKey(challengeId), processingKey(challengeId), epochKey(challengeId), DIRTY_KEY),
+			String.valueOf(routineId),
+			encode(persistedComplete),
+			epoch,
+			String.valueOf(challengeId)
+		);
+		if (result == null || result < 0) {
+			return Optional.empty();
+		}
+		return Optional.of(result == 1L);
+	}
+
+	/**
+	 * 여러 루틴의 목표 완료 상태를 버퍼에 기록합니다.
+	 *
+	 * @param challengeId 챌린지 ID
+	 * @param states 루틴 ID별 목표 완료 여부
+	 */
+	public void putAll(Long challengeId, Map<Long, Boolean> states) {
+		List<String> args = new ArrayList<>(states.size() * 2 + 1);
+		args.add(String.valueOf(challengeId));
+		states.forEach((routineId, isComplete) -> {
+			args.add(String.valueOf(routineId));
+			args.add(encode(isComplete));
+		});
+		redisTemplate.execute(
+			PUT_ALL_SCRIPT,
+			List.of(pendingKey(challengeId), DIRTY_KEY),
+			args.toArray()
+		);
+	}
+
+	/**
+	 * 아직 DB에 반영되지 않은 완료 상태를 조회합니다 (플러시 중인 상태 포함, 대기 중인 상태 우선).
+	 *
+	 * @param challengeId 챌린지 ID
+	 * @return 루틴 ID별 완료 여부
+	 */
+	public Map<Long, Boolean> findBuffered(Long challengeId) {
+		List<?> entries = redisTemplate.execute(
+			FIND_SCRIPT,
+			List.of(pendingKey(challengeId), processingKey(challengeId))
+		);
+		return decode(entries);
+	}
+
+	/**
+	 * 반영할 상태가 남아 있는 챌린지 ID를 조회합니다.
+	 *
+	 * @return 챌린지 ID 집합
+	 */
+	public Set<Long> findDirtyChallengeIds() {
+		Set<String> members = redisTemplate.opsForSet().members(DIRTY_KEY);
+		Set<Long> challengeIds = new HashSet<>();
+		if (members != null) {
+			members.forEach(member -> challengeIds.add(Long.valueOf(member)));
+		}
+		return challengeIds;
+	}
+
+	/**
+	 * 챌린지의 플러시를 시작합니다.
+	 *
+	 * <p>플러시 잠금을 얻은 뒤, 이전 플러시가 남긴 상태가 있으면 그것을, 없으면 대기 중인 상태를 플러시 중 상태로 옮겨 반환합니다.</p>
+	 *
+	 * @param challengeId 챌린지 ID
+	 * @return 반영할 상태 묶음, 다른 플러시가 진행 중이면 빈 Optional
+	 */
+	public Optional<RoutineCompletionFlushBatch> beginFlush(Long challengeId) {
+		String token = UUID.randomUUID().toString();
+		List<?> entries = redisTemplate.execute(
+			BEGIN_FLUSH_SCRIPT,
+			List.of(pendingKey(challengeId), processingKey(challengeId), ownerKey(challengeId)),
+			token,
+			String.valueOf(FLUSH_LOCK_MILLIS)
+		);
+		if (entries == null) {
+			return Optional.empty();
+		}
+		return Optional.of(new RoutineCompletionFlushBatch(token, decode(entries)));
+	}
+
+	/**
+	 * DB 반영이 끝난 플러시 상태를 삭제하고 잠금을 해제합니다.
+	 *
+	 * <p>대기 중인 상태가 더 없으면 챌린지를 반영 대상에서 제외합니다.</p>
+	 *
+	 * @param challengeId 챌린지 ID
+	 * @param batch {@link #beginFlush}로 받은 상태 묶음
+	 * @return 잠금이 만료되어 다른 플러시에 넘어갔으면 false
+	 */
+	public boolean completeFlush(Long challengeId, RoutineCompletionFlushBatch batch) {
+		Long result = redisTemplate.execute(
+			COMPLETE_FLUSH_SCRIPT,
+			List.of(
+				pendingKey(challengeId),
+				processingKey(challengeId),
+				ownerKey(challengeId),
+				epochKey(challengeId),
+				DIRTY_KEY
+			),
+			batch.token(),
+			String.valueOf(challengeId)
+		);
+		return Long.valueOf(1L).equals(result);
+	}
+
+	/**
+	 * DB 반영에 실패한 플러시의 잠금만 해제합니다. 플러시 중 상태는 남겨 두어 다음 플러시에서 다시 반영합니다.
+	 *
+	 * @param challengeId 챌린지 ID
+	 * @param batch {@link #beginFlush}로 받은 상태 묶음
+	 */
+	public void releaseFlush(Long challengeId, RoutineCompletionFlushBatch batch) {
+		redisTemplate.execute(RELEASE_FLUSH_SCRIPT, List.of(ownerKey(challengeId)), batch.token());
+	}
+
+	private Map<Long, Boolean> decode(List<?> entries) {
+		Map<Long, Boolean> states = new HashMap<>();
+		if (entries == null) {
+			return states;
+		}
+		for (int i = 0; i + 1 < entries.size(); i += 2) {
+			states.put(Long.valueOf(entries.get(i).toString()), COMPLETE.equals(entries.get(i + 1).toString()));
+		}
+		return states;
+	}
+
+	private String encode(boolean isComplete) {
+		return isComplete ? COMPLETE : INCOMPLETE;
+	}
+
+	private String pendingKey(Long challengeId) {
+		return KEY_PREFIX + challengeId + ":pending";
+	}
+
+	private String processingKey(Long challengeId) {
+		return KEY_PREFIX + challengeId + ":processing";
+	}
+
+	private String epochKey(Long challengeId) {
+		return KEY_PREFIX + challengeId + ":epoch";
+	}
+
+	private String ownerKey(Long challengeId) {
+		return KEY_PREFIX + challengeId + ":owner";
+	}
+}
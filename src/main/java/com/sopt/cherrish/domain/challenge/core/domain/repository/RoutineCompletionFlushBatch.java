@@ -0,0 +1,15 @@
+package com.sopt.cherrish.domain.challenge.core.domain.repository;
+
+import java.util.Map;
+
+/**
+ * 쓰기 지연 버퍼에서 한 번에 DB로 반영할 챌린지 단위 완료 상태 묶음.
+ *
+ * @param token 플러시 잠금 토큰 (완료 처리 시 소유자 확인용)
+ * @param states 루틴 ID별 최종 완료 여부
+ */
+public record RoutineCompletionFlushBatch(
+	String token,
+	Map<Long, Boolean> states
+) {
+}
@@ -20,7 +20,11 @@ public enum ChallengeErrorCode implements ErrorType {
 	DUPLICATE_ROUTINE_IDS("CH009", "중복된 루틴 ID가 포함되어 있습니다", 400),
 	CHALLENGE_NOT_ACTIVE("CH010", "비활성 챌린지에는 루틴을 추가할 수 없습니다", 400),
 	CUSTOM_ROUTINE_LIMIT_EXCEEDED("CH011", "최대로 추가할 수 있는 루틴은 20개입니다", 400),
-	INVALID_CHERRY_LEVEL("CH012", "유효하지 않은 체리 레벨입니다 (0-4)", 400);
+	INVALID_CHERRY_LEVEL("CH012", "유효하지 않은 체리 레벨입니다 (0-4)", 400),
+	ROUTINE_UPDATE_CONFLICT("CH013", "루틴 상태를 반영하는 중입니다. 잠시 후 다시 시도해주세요", 409),
+	INVALID_CHALLENGE_TOTAL_DAYS("CH014", "지원하지 않는 챌린지 기간입니다 (7, 21, 30, 100일)", 400),
+	INVALID_HISTORY_CURSOR("CH015", "커서 종료일과 커서 ID는 함께 전달해야 합니다", 400),
+	LEADERBOARD_UNAVAILABLE("CH016", "랭킹을 일시적으로 조회할 수 없습니다", 503);
 
 	private final String code;
 	private final String message;
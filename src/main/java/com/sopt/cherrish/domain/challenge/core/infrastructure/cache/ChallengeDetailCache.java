@@ -0,0 +1,416 @@
+package com.sopt.cherrish.domain.challenge.core.infrastructure.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeDetailResponseDto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자별 챌린지 상세 응답 캐시 (로컬 Caffeine + Redis 2단계).
+ *
+ * <p>키는 사용자 ID와 조회 날짜입니다. 로컬에 없으면 Redis를, Redis에도 없으면 DB에서 조립한 뒤 두 단계에 모두 저장합니다.</p>
+ *
+ * <p>무효화는 {@link ChallengeDetailCacheInvalidator}가 변경 트랜잭션 커밋 이후 수행합니다.
+ * 무효화 직전에 시작된 조회가 낡은 값을 다시 저장하지 않도록 다음과 같이 처리합니다.</p>
+ * <ul>
+ *   <li>로컬: 조립은 맵 잠금 밖에서 하고, 조립을 시작한 뒤 같은 사용자(구간)의 무효화가 있었으면 결과를 로컬에 저장하지 않습니다.
+ *       조립이 느려도 같은 맵 구간의 다른 사용자 조회와 무효화를 막지 않습니다.</li>
+ *   <li>Redis: 사용자 세대를 키에 포함하고, 조회 시작 시점의 세대가 그대로일 때만 저장합니다.
+ *       무효화는 세대를 올리므로 이전 값은 더 이상 읽히지 않고 TTL로 정리됩니다.</li>
+ * </ul>
+ *
+ * <p>자정 전환 대비:</p>
+ * <ul>
+ *   <li>Redis 조회 시 사용자를 최근 조회 사용자 목록(Sorted Set, 점수 = 조회 시각)에 기록합니다.</li>
+ *   <li>{@link #prewarm}으로 다음 날짜의 응답을 미리 Redis에 저장해 두면, 날짜가 바뀐 뒤 첫 조회가 Redis에서 응답합니다.</li>
+ *   <li>자정 직후 {@link #ROLLOVER_WINDOW} 동안의 적중률을 별도 지표로 집계합니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "challenge.detail-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ChallengeDetailCache {
+
+	/**
+	 * 자정 직후 적중률을 따로 집계하는 구간
+	 */
+	public static final Duration ROLLOVER_WINDOW = Duration.ofMinutes(10);
+
+	private static final String KEY_PREFIX = "challenge_detail:";
+	private static final String ACTIVE_USERS_KEY = KEY_PREFIX + "active_users";
+	private static final String ACTIVE_USERS_SNAPSHOT_KEY = ACTIVE_USERS_KEY + ":snapshot";
+	private static final String SKIP_ACTIVITY = "";
+	private static final long LOCAL_MAXIMUM_SIZE = 50_000;
+	private static final int LOCAL_EVICTION_STRIPES = 1024;
+	private static final Duration LOCAL_EXPIRE_AFTER_WRITE = Duration.ofMinutes(1);
+	private static final Duration REDIS_TTL = Duration.ofMinutes(10);
+	private static final Duration GENERATION_TTL = Duration.ofDays(1);
+	private static final String METRIC_PREFIX = "challenge.detail.cache";
+
+	// 반환: {사용자 세대, 값(없으면 빈 문자열)}. ARGV[4]가 있으면 최근 조회 사용자로 기록
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> READ_SCRIPT = RedisScript.of("""
+		local generation = redis.call('GET', KEYS[1]) or '0'
+		local value = redis.call('GET', ARGV[1] .. ARGV[2] .. ':' .. generation .. ':' .. ARGV[3])
+		if ARGV[4] ~= '' then
+			redis.call('ZADD', KEYS[2], ARGV[4], ARGV[2])
+		end
+		return {generation, value or ''}
+		""", List.class);
+
+	private static final RedisScript<Long> WRITE_SCRIPT = RedisScript.of("""
+		local generation = redis.call('GET', KEYS[1]) or '0'
+		if generation ~= ARGV[4] then
+			return 0
+		end
+		redis.call('SET', ARGV[1] .. ARGV[2] .. ':' .. generation .. ':' .. ARGV[3], ARGV[5], 'PX', ARGV[6])
+		return 1
+		""", Long.class);
+
+	private static final RedisScript<Long> EVICT_SCRIPT = RedisScript.of("""
+		for _, key in ipairs(KEYS) do
+			redis.call('INCR', key)
+			redis.call('PEXPIRE', key, ARGV[1])
+		end
+		return #KEYS
+		""", Long.class);
+
+	private static final RedisScript<Long> SNAPSHOT_SCRIPT = RedisScript.of("""
+		redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', '(' .. ARGV[1])
+		redis.call('ZUNIONSTORE', KEYS[2], 1, KEYS[1])
+		redis.call('PEXPIRE', KEYS[2], ARGV[2])
+		return redis.call('ZCARD', KEYS[2])
+		""", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+	private final ObjectMapper objectMapper;
+	private final Clock clock;
+	private final Cache<Long, CachedDetail> localCache;
+	// 사용자 ID 구간별 로컬 무효화 횟수. 조립 중 무효화가 있었는지 판단하는 데 사용
+	private final AtomicLongArray localEvictionStamps = new AtomicLongArray(LOCAL_EVICTION_STRIPES);
+
+	private final Counter localHitCounter;
+	private final Counter redisHitCounter;
+	private final Counter missCounter;
+	private final Counter rolloverHitCounter;
+	private final Counter rolloverMissCounter;
+	private final AtomicReference<RolloverWindow> rolloverWindow = new AtomicReference<>();
+
+	public ChallengeDetailCache(
+		RedisTemplate<String, String> redisTemplate,
+		ObjectMapper objectMapper,
+		MeterRegistry meterRegistry,
+		Clock clock
+	) {
+		this.redisTemplate = redisTemplate;
+		this.objectMapper = objectMapper;
+		this.clock = clock;
+		this.localCache = Caffeine.newBuilder()
+			.maximumSize(LOCAL_MAXIMUM_SIZE)
+			.expireAfterWrite(LOCAL_EXPIRE_AFTER_WRITE)
+			.build();
+
+		this.localHitCounter = lookupCounter(meterRegistry, "local_hit");
+		this.redisHitCounter = lookupCounter(meterRegistry, "redis_hit");
+		this.missCounter = lookupCounter(meterRegistry, "miss");
+		this.rolloverHitCounter = rolloverCounter(meterRegistry, "hit");
+		this.rolloverMissCounter = rolloverCounter(meterRegistry, "miss");
+		Gauge.builder(METRIC_PREFIX + ".hit.ratio", this, ChallengeDetailCache::hitRatio)
+			.description("로컬 또는 Redis에서 응답한 비율")
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".rollover.hit.ratio", this, ChallengeDetailCache::rolloverHitRatio)
+			.description("가장 최근 자정 직후 10분 동안 로컬 또는 Redis에서 응답한 비율")
+			.register(meterRegistry);
+		Gauge.builder(METRIC_PREFIX + ".local.size", localCache, Cache::estimatedSize)
+			.description("로컬 캐시 항목 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * 챌린지 상세 응답을 캐시에서 조회하고, 없으면 조립하여 저장합니다.
+	 *
+	 * <p>조립 중 발생한 예외(활성 챌린지 없음 등)는 그대로 전파되며 캐싱되지 않습니다.</p>
+	 *
+	 * @param userId 사용자 ID
+	 * @param date 조회 날짜
+	 * @param loader 캐시에 없을 때 DB에서 응답을 조립하는 함수
+	 * @return 챌린지 상세 응답
+	 */
+	public ChallengeDetailResponseDto get(Long userId, LocalDate date, Supplier<ChallengeDetailResponseDto> loader) {
+		CachedDetail cached = localCache.getIfPresent(userId);
+		if (cached != null && cached.date().equals(date)) {
+			localHitCounter.increment();
+			recordRollover(date, true);
+			return cached.detail();
+		}
+
+		long evictionStamp = localEvictionStamps.get(evictionStripe(userId));
+		ChallengeDetailResponseDto detail = loadFromRedisOrSource(userId, date, loader);
+		CachedDetail loaded = new CachedDetail(date, detail);
+		localCache.asMap().compute(userId, (id, existing) -> {
+			boolean evictedWhileLoading = localEvictionStamps.get(evictionStripe(id)) != evictionStamp;
+			boolean newerExists = existing != null && existing.date().isAfter(date);
+			return evictedWhileLoading || newerExists ? existing : loaded;
+		});
+		return detail;
+	}
+
+	/**
+	 * 지정한 날짜의 챌린지 상세 응답을 Redis에 미리 저장합니다.
+	 *
+	 * <p>이미 저장된 값이 있거나 조립할 응답이 없으면 저장하지 않습니다.
+	 * 세대를 먼저 읽고 조립하므로, 조립 이후 사용자의 데이터가 바뀌면 미리 저장한 값은 읽히지 않습니다.</p>
+	 *
+	 * @param userId 사용자 ID
+	 * @param date 응답 날짜
+	 * @param ttl Redis 보관 시간
+	 * @param loader 응답을 조립하는 함수 (미리 채울 대상이 아니면 빈 Optional)
+	 * @return 저장했으면 true
+	 */
+	public boolean prewarm(Long userId, LocalDate date, Duration ttl, Supplier<Optional<ChallengeDetailResponseDto>> loader) {
+		List<?> read = readFromRedis(userId, date, SKIP_ACTIVITY);
+		if (read == null || read.size() != 2 || !read.get(1).toString().isEmpty()) {
+			return false;
+		}
+		return loader.get()
+			.map(detail -> writeToRedis(userId, date, read.get(0).toString(), detail, ttl))
+			.orElse(false);
+	}
+
+	/**
+	 * 주어진 시각 이후에 챌린지 상세를 조회한 사용자를 스냅샷으로 복사합니다.
+	 *
+	 * <p>그 이전에 마지막으로 조회한 사용자는 최근 조회 사용자 목록에서 제거합니다.
+	 * 스냅샷은 복사 이후의 조회로 바뀌지 않으므로 {@link #findActiveUserSnapshot}으로 순서대로 나눠 읽을 수 있습니다.</p>
+	 *
+	 * @param since 기준 시각
+	 * @param ttl 스냅샷 보관 시간
+	 * @return 스냅샷의 사용자 수
+	 */
+	public long snapshotRecentlyActiveUsers(Instant since, Duration ttl) {
+		Long size = redisTemplate.execute(
+			SNAPSHOT_SCRIPT,
+			List.of(ACTIVE_USERS_KEY, ACTIVE_USERS_SNAPSHOT_KEY),
+			String.valueOf(since.toEpochMilli()),
+			String.valueOf(ttl.toMillis())
+		);
+		return size == null ? 0 : size;
+	}
+
+	/**
+	 * 최근 조회 사용자 스냅샷에서 사용자 ID를 조회 시각 순으로 읽습니다.
+	 *
+	 * @param offset 건너뛸 사용자 수
+	 * @param count 최대 사용자 수
+	 * @return 사용자 ID 목록
+	 */
+	public List<Long> findActiveUserSnapshot(long offset, int count) {
+		Set<String> members = redisTemplate.opsForZSet().range(ACTIVE_USERS_SNAPSHOT_KEY, offset, offset + count - 1);
+		List<Long> userIds = new ArrayList<>();
+		if (members != null) {
+			members.forEach(member -> userIds.add(Long.valueOf(member)));
+		}
+		return userIds;
+	}
+
+	/**
+	 * 사용자의 챌린지 상세 캐시를 모든 날짜에 대해 무효화합니다 (Redis와 이 인스턴스의 로컬 캐시).
+	 *
+	 * @param userId 사용자 ID
+	 */
+	public void evict(Long userId) {
+		evict(List.of(userId));
+	}
+
+	/**
+	 * 여러 사용자의 챌린지 상세 캐시를 모든 날짜에 대해 무효화합니다 (Redis와 이 인스턴스의 로컬 캐시).
+	 *
+	 * @param userIds 사용자 ID 목록
+	 */
+	public void evict(Collection<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+		try {
+			redisTemplate.execute(
+				EVICT_SCRIPT,
+				userIds.stream().map(this::generationKey).toList(),
+				String.valueOf(GENERATION_TTL.toMillis())
+			);
+		} catch (DataAccessException e) {
+			log.warn("Failed to evict challenge detail cache in Redis. userIds={}", userIds, e);
+		}
+		evictLocal(userIds);
+	}
+
+	/**
+	 * 이 인스턴스의 로컬 캐시에서 사용자 항목을 제거합니다.
+	 *
+	 * @param userIds 사용자 ID 목록
+	 */
+	public void evictLocal(Collection<Long> userIds) {
+		// 무효화 횟수를 먼저 올려, 무효화 직전에 시작된 조립이 이후에 낡은 값을 저장하지 않도록 함
+		userIds.forEach(userId -> localEvictionStamps.incrementAndGet(evictionStripe(userId)));
+		localCache.invalidateAll(userIds);
+	}
+
+	private ChallengeDetailResponseDto loadFromRedisOrSource(
+		Long userId,
+		LocalDate date,
+		Supplier<ChallengeDetailResponseDto> loader
+	) {
+		List<?> read = readFromRedis(userId, date, String.valueOf(clock.millis()));
+		if (read != null && read.size() == 2 && !read.get(1).toString().isEmpty()) {
+			try {
+				ChallengeDetailResponseDto detail = objectMapper.readValue(
+					read.get(1).toString(), ChallengeDetailResponseDto.class);
+				redisHitCounter.increment();
+				recordRollover(date, true);
+				return detail;
+			} catch (JsonProcessingException e) {
+				log.warn("Failed to deserialize cached challenge detail. userId={}", userId, e);
+			}
+		}
+
+		missCounter.increment();
+		recordRollover(date, false);
+		ChallengeDetailResponseDto detail = loader.get();
+		if (read != null && read.size() == 2) {
+			writeToRedis(userId, date, read.get(0).toString(), detail, REDIS_TTL);
+		}
+		return detail;
+	}
+
+	private List<?> readFromRedis(Long userId, LocalDate date, String activityScore) {
+		try {
+			return redisTemplate.execute(
+				READ_SCRIPT,
+				List.of(generationKey(userId), ACTIVE_USERS_KEY),
+				KEY_PREFIX,
+				String.valueOf(userId),
+				date.toString(),
+				activityScore
+			);
+		} catch (DataAccessException e) {
+			log.warn("Failed to read challenge detail cache from Redis. userId={}", userId, e);
+			return null;
+		}
+	}
+
+	private boolean writeToRedis(
+		Long userId,
+		LocalDate date,
+		String generation,
+		ChallengeDetailResponseDto detail,
+		Duration ttl
+	) {
+		try {
+			Long written = redisTemplate.execute(
+				WRITE_SCRIPT,
+				List.of(generationKey(userId)),
+				KEY_PREFIX,
+				String.valueOf(userId),
+				date.toString(),
+				generation,
+				objectMapper.writeValueAsString(detail),
+				String.valueOf(ttl.toMillis())
+			);
+			return written != null && written == 1L;
+		} catch (JsonProcessingException | DataAccessException e) {
+			log.warn("Failed to write challenge detail cache to Redis. userId={}", userId, e);
+			return false;
+		}
+	}
+
+	/**
+	 * 조회 날짜의 자정 직후 구간이면 적중 여부를 집계합니다. 날짜가 바뀌면 비율 계산 구간을 새로 시작합니다.
+	 */
+	private void recordRollover(LocalDate date, boolean hit) {
+		if (!LocalDate.now(clock).equals(date) || LocalTime.now(clock).isAfter(LocalTime.MIDNIGHT.plus(ROLLOVER_WINDOW))) {
+			return;
+		}
+		RolloverWindow window = rolloverWindow.updateAndGet(
+			current -> current != null && current.date().equals(date) ? current : new RolloverWindow(date));
+		if (hit) {
+			window.hits().increment();
+			rolloverHitCounter.increment();
+		} else {
+			window.misses().increment();
+			rolloverMissCounter.increment();
+		}
+	}
+
+	private static int evictionStripe(Long userId) {
+		return (int) Math.floorMod(userId, (long) LOCAL_EVICTION_STRIPES);
+	}
+
+	private String generationKey(Long userId) {
+		return KEY_PREFIX + "generation:" + userId;
+	}
+
+	private double hitRatio() {
+		double hits = localHitCounter.count() + redisHitCounter.count();
+		double total = hits + missCounter.count();
+		return total == 0 ? 0 : hits / total;
+	}
+
+	private double rolloverHitRatio() {
+		RolloverWindow window = rolloverWindow.get();
+		if (window == null) {
+			return 0;
+		}
+		double hits = window.hits().sum();
+		double total = hits + window.misses().sum();
+		return total == 0 ? 0 : hits / total;
+	}
+
+	private static Counter lookupCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder(METRIC_PREFIX + ".lookups")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	private static Counter rolloverCounter(MeterRegistry meterRegistry, String result) {
+		return Counter.builder(METRIC_PREFIX + ".rollover.lookups")
+			.description("자정 직후 10분 동안의 조회 수")
+			.tag("result", result)
+			.register(meterRegistry);
+	}
+
+	private record CachedDetail(LocalDate date, ChallengeDetailResponseDto detail) {
+	}
+
+	private record RolloverWindow(LocalDate date, LongAdder hits, LongAdder misses) {
+
+		RolloverWindow(LocalDate date) {
+			this(date, new LongAdder(), new LongAdder());
+		}
+	}
+}
@@ -0,0 +1,87 @@
+package com.sopt.cherrish.domain.challenge.core.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.sopt.cherrish.domain.challenge.core.domain.event.ChallengeDetailChangedEvent;
+import com.sopt.cherrish.domain.challenge.core.domain.event.ChallengesExpiredEvent;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 챌린지 상세 데이터 변경을 모든 서버 인스턴스의 {@link ChallengeDetailCache}에 전파하는 컴포넌트.
+ *
+ * <p>변경 트랜잭션이 커밋되면 Redis 세대를 올리고 로컬 캐시를 비운 뒤, Redis Pub/Sub 채널로 사용자 ID(여러 명이면 쉼표로 구분)를 발행합니다.
+ * 다른 인스턴스는 같은 채널을 구독하여 자신의 로컬 캐시에서 해당 항목을 제거합니다.
+ * 챌린지 만료도 만료된 사용자만 무효화하므로, 다른 사용자의 미리 채운 다음 날짜 응답은 자정 이후에도 유지됩니다.
+ * 쓰기 지연 모드처럼 트랜잭션 밖에서 발행된 이벤트는 즉시 처리합니다.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "challenge.detail-cache", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ChallengeDetailCacheInvalidator implements MessageListener {
+
+	public static final String CHANNEL = "challenge:detail:evicted";
+	private static final String DELIMITER = ",";
+
+	private final ChallengeDetailCache challengeDetailCache;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	@PostConstruct
+	void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleDetailChanged(ChallengeDetailChangedEvent event) {
+		challengeDetailCache.evict(event.userId());
+		publish(String.valueOf(event.userId()));
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleChallengesExpired(ChallengesExpiredEvent event) {
+		if (event.userIds().isEmpty()) {
+			return;
+		}
+		challengeDetailCache.evict(event.userIds());
+		publish(event.userIds().stream().map(String::valueOf).collect(Collectors.joining(DELIMITER)));
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		try {
+			List<Long> userIds = Arrays.stream(body.split(DELIMITER))
+				.map(Long::parseLong)
+				.toList();
+			challengeDetailCache.evictLocal(userIds);
+		} catch (NumberFormatException e) {
+			log.warn("Invalid challenge detail eviction message: {}", body);
+		}
+	}
+
+	private void publish(String message) {
+		try {
+			redisTemplate.convertAndSend(CHANNEL, message);
+		} catch (DataAccessException e) {
+			log.warn("Failed to publish challenge detail eviction. message={}", message, e);
+		}
+	}
+}
@@ -0,0 +1,265 @@
+package com.sopt.cherrish.domain.challenge.core.infrastructure.leaderboard;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRanking;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 활성 챌린지 사용자의 체리 랭킹 (Redis Sorted Set).
+ *
+ * <p>멤버는 사용자 ID(사용자당 활성 챌린지 1개), 점수는 {@code 체리 레벨 × 1000 + 진행률}입니다.
+ * 체리 레벨이 높을수록, 같은 레벨이면 진행률이 높을수록 앞 순위이며, 상위 N명 조회는 O(log n + N), 내 순위 조회는 O(log n)입니다.
+ * 통계가 바뀔 때마다 {@link ChallengeLeaderboardUpdater}가 커밋 이후 점수를 갱신합니다.</p>
+ *
+ * <p>갱신 순서: 사용자별로 마지막에 반영한 (챌린지 ID, 통계 version)을 함께 저장하고, 더 최신인 갱신만 반영합니다(compare-and-set).
+ * 커밋 이후 리스너는 트랜잭션마다 다른 스레드에서 실행되므로, 먼저 커밋된 통계의 갱신이 늦게 도착해도 최신 점수를 덮지 않습니다.</p>
+ *
+ * <p>재구성 (Redis 초기화 대비):</p>
+ * <ul>
+ *   <li>재구성이 끝나면 준비 표시 키를 TTL과 함께 저장합니다. 표시가 없으면(Redis 초기화, TTL 만료) 다시 재구성해야 합니다.</li>
+ *   <li>재구성은 임시 키에 DB 값을 채운 뒤 한 번에 교체하므로, 조회 중에 일부만 채워진 랭킹이 보이지 않습니다.</li>
+ *   <li>재구성 중에 들어온 갱신은 임시 키에도 기록하고, DB 값은 임시 키에 없는 사용자만 채우므로(NX) 더 최신 값이 덮이지 않습니다.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "challenge.leaderboard", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ChallengeLeaderboard {
+
+	private static final String KEY_PREFIX = "challenge_leaderboard:";
+	private static final String RANKING_KEY = KEY_PREFIX + "ranking";
+	private static final String STAGING_KEY = KEY_PREFIX + "ranking:staging";
+	private static final String REBUILDING_KEY = KEY_PREFIX + "rebuilding";
+	private static final String READY_KEY = KEY_PREFIX + "ready";
+	private static final String VERSIONS_KEY = KEY_PREFIX + "versions";
+	private static final long LEVEL_WEIGHT = 1_000;
+
+	// ARGV: 멤버, 점수, 챌린지 ID, 통계 version / 반환: 반영했으면 1, 더 최신 값이 이미 반영되어 있으면 0
+	private static final RedisScript<Long> UPDATE_SCRIPT = RedisScript.of("""
+		local applied = redis.call('HGET', KEYS[4], ARGV[1])
+		if applied then
+			local separator = string.find(applied, ':', 1, true)
+			local appliedChallengeId = tonumber(string.sub(applied, 1, separator - 1))
+			local appliedVersion = tonumber(string.sub(applied, separator + 1))
+			local challengeId = tonumber(ARGV[3])
+			if challengeId < appliedChallengeId
+				or (challengeId == appliedChallengeId and tonumber(ARGV[4]) <= appliedVersion) then
+				return 0
+			end
+		end
+		redis.call('HSET', KEYS[4], ARGV[1], ARGV[3] .. ':' .. ARGV[4])
+		redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1])
+		if redis.call('EXISTS', KEYS[3]) == 1 then
+			redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1])
+		end
+		return 1
+		""", Long.class);
+
+	private static final RedisScript<Long> REMOVE_SCRIPT = RedisScript.of("""
+		for _, member in ipairs(ARGV) do
+			redis.call('ZREM', KEYS[1], member)
+			redis.call('ZREM', KEYS[2], member)
+			redis.call('HDEL', KEYS[3], member)
+		end
+		return #ARGV
+		""", Long.class);
+
+	// 반환: {순위(0부터), 점수}, 랭킹에 없으면 빈 배열
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> RANK_SCRIPT = RedisScript.of("""
+		local rank = redis.call('ZREVRANK', KEYS[1], ARGV[1])
+		if not rank then
+			return {}
+		end
+		return {rank, redis.call('ZSCORE', KEYS[1], ARGV[1])}
+		""", List.class);
+
+	// 반환: {멤버, 점수, 멤버, 점수, ...}
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> TOP_SCRIPT = RedisScript.of("""
+		return redis.call('ZREVRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1, 'WITHSCORES')
+		""", List.class);
+
+	private static final RedisScript<Long> START_REBUILD_SCRIPT = RedisScript.of("""
+		redis.call('DEL', KEYS[1])
+		redis.call('SET', KEYS[2], '1', 'PX', ARGV[1])
+		return 1
+		""", Long.class);
+
+	// ARGV[1]: 임시 키 보관 시간, ARGV[2..]: 점수, 멤버 반복
+	private static final RedisScript<Long> STAGE_SCRIPT = RedisScript.of("""
+		local added = redis.call('ZADD', KEYS[1], 'NX', unpack(ARGV, 2))
+		redis.call('PEXPIRE', KEYS[1], ARGV[1])
+		return added
+		""", Long.class);
+
+	private static final RedisScript<Long> FINISH_REBUILD_SCRIPT = RedisScript.of("""
+		if redis.call('EXISTS', KEYS[2]) == 1 then
+			redis.call('RENAME', KEYS[2], KEYS[1])
+			redis.call('PERSIST', KEYS[1])
+		else
+			redis.call('DEL', KEYS[1])
+		end
+		redis.call('DEL', KEYS[3])
+		redis.call('SET', KEYS[4], '1', 'PX', ARGV[1])
+		return redis.call('ZCARD', KEYS[1])
+		""", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	/**
+	 * 사용자의 랭킹 점수를 갱신합니다. Redis 장애는 기록만 하고 넘어가며, 다음 재구성 때 DB 값으로 맞춰집니다.
+	 *
+	 * <p>이미 반영한 통계보다 오래된 통계(이전 챌린지, 같은 챌린지의 같거나 낮은 version)는 반영하지 않습니다.</p>
+	 *
+	 * @param ranking 커밋된 활성 챌린지 랭킹 통계
+	 * @return 반영했으면 true, 더 최신 통계가 이미 반영되어 있거나 Redis 장애로 반영하지 못했으면 false
+	 */
+	public boolean update(ChallengeRanking ranking) {
+		try {
+			Long applied = redisTemplate.execute(
+				UPDATE_SCRIPT,
+				List.of(RANKING_KEY, STAGING_KEY, REBUILDING_KEY, VERSIONS_KEY),
+				String.valueOf(ranking.getUserId()),
+				String.valueOf(score(ranking.getProgressPercentage(), ranking.getCherryLevel())),
+				String.valueOf(ranking.getChallengeId()),
+				String.valueOf(ranking.getVersion())
+			);
+			return applied != null && applied == 1L;
+		} catch (DataAccessException e) {
+			log.warn("Failed to update challenge leaderboard. userId={}", ranking.getUserId(), e);
+			return false;
+		}
+	}
+
+	/**
+	 * 챌린지가 끝난 사용자를 랭킹에서 제거합니다.
+	 *
+	 * @param userIds 사용자 ID 목록
+	 */
+	public void remove(Collection<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+		try {
+			redisTemplate.execute(
+				REMOVE_SCRIPT,
+				List.of(RANKING_KEY, STAGING_KEY, VERSIONS_KEY),
+				userIds.stream().map(String::valueOf).toArray(Object[]::new)
+			);
+		} catch (DataAccessException e) {
+			log.warn("Failed to remove users from challenge leaderboard. userIds={}", userIds, e);
+		}
+	}
+
+	/**
+	 * 상위 랭킹 조회
+	 *
+	 * @param count 조회할 인원
+	 * @return 순위 오름차순 랭킹 항목
+	 */
+	public List<LeaderboardEntry> findTop(int count) {
+		List<?> result = redisTemplate.execute(TOP_SCRIPT, List.of(RANKING_KEY), String.valueOf(count));
+		List<LeaderboardEntry> entries = new ArrayList<>();
+		if (result == null) {
+			return entries;
+		}
+		for (int i = 0; i + 1 < result.size(); i += 2) {
+			entries.add(toEntry(entries.size(), result.get(i), result.get(i + 1)));
+		}
+		return entries;
+	}
+
+	/**
+	 * 사용자의 순위 조회
+	 *
+	 * @param userId 사용자 ID
+	 * @return 랭킹 항목 (활성 챌린지가 없거나 아직 반영되지 않았으면 빈 값)
+	 */
+	public Optional<LeaderboardEntry> findRank(Long userId) {
+		List<?> result = redisTemplate.execute(RANK_SCRIPT, List.of(RANKING_KEY), String.valueOf(userId));
+		if (result == null || result.size() != 2) {
+			return Optional.empty();
+		}
+		return Optional.of(toEntry(Long.parseLong(result.get(0).toString()), userId, result.get(1)));
+	}
+
+	/**
+	 * 재구성이 끝난 뒤 준비 표시가 유지되고 있는지 확인합니다.
+	 *
+	 * @return 준비 표시가 있으면 true (없으면 재구성 필요)
+	 */
+	public boolean isReady() {
+		return Boolean.TRUE.equals(redisTemplate.hasKey(READY_KEY));
+	}
+
+	/**
+	 * 재구성을 시작합니다. 이전에 끝나지 않은 임시 키는 버립니다.
+	 *
+	 * @param timeout 재구성 최대 소요 시간 (이 시간이 지나면 갱신을 임시 키에 기록하지 않음)
+	 */
+	public void startRebuild(Duration timeout) {
+		redisTemplate.execute(START_REBUILD_SCRIPT, List.of(STAGING_KEY, REBUILDING_KEY), String.valueOf(timeout.toMillis()));
+	}
+
+	/**
+	 * DB에서 읽은 활성 챌린지 통계를 임시 키에 채웁니다. 재구성 중 갱신된 사용자는 건너뜁니다.
+	 *
+	 * @param rankings 활성 챌린지 랭킹 통계
+	 * @param timeout 임시 키 보관 시간
+	 */
+	public void stage(List<ChallengeRanking> rankings, Duration timeout) {
+		if (rankings.isEmpty()) {
+			return;
+		}
+		List<String> args = new ArrayList<>(rankings.size() * 2 + 1);
+		args.add(String.valueOf(timeout.toMillis()));
+		for (ChallengeRanking ranking : rankings) {
+			args.add(String.valueOf(score(ranking.getProgressPercentage(), ranking.getCherryLevel())));
+			args.add(String.valueOf(ranking.getUserId()));
+		}
+		redisTemplate.execute(STAGE_SCRIPT, List.of(STAGING_KEY), args.toArray());
+	}
+
+	/**
+	 * 임시 키로 랭킹을 교체하고 준비 표시를 저장합니다.
+	 *
+	 * @param readyTtl 준비 표시 유지 시간 (지나면 다시 재구성하여 놓친 갱신을 바로잡음)
+	 * @return 재구성된 랭킹 인원
+	 */
+	public long finishRebuild(Duration readyTtl) {
+		Long size = redisTemplate.execute(
+			FINISH_REBUILD_SCRIPT,
+			List.of(RANKING_KEY, STAGING_KEY, REBUILDING_KEY, READY_KEY),
+			String.valueOf(readyTtl.toMillis())
+		);
+		return size == null ? 0 : size;
+	}
+
+	private static long score(int progressPercentage, int cherryLevel) {
+		return cherryLevel * LEVEL_WEIGHT + progressPercentage;
+	}
+
+	private static LeaderboardEntry toEntry(long zeroBasedRank, Object member, Object score) {
+		return toEntry(zeroBasedRank, Long.valueOf(member.toString()), score);
+	}
+
+	private static LeaderboardEntry toEntry(long zeroBasedRank, Long userId, Object score) {
+		long value = (long) Double.parseDouble(score.toString());
+		return new LeaderboardEntry(zeroBasedRank + 1, userId, (int) (value % LEVEL_WEIGHT), (int) (value / LEVEL_WEIGHT));
+	}
+}
@@ -0,0 +1,42 @@
+package com.sopt.cherrish.domain.challenge.core.infrastructure.leaderboard;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.sopt.cherrish.domain.challenge.core.application.service.ChallengeStatisticsService;
+import com.sopt.cherrish.domain.challenge.core.domain.event.ChallengeStatisticsChangedEvent;
+import com.sopt.cherrish.domain.challenge.core.domain.event.ChallengesExpiredEvent;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 챌린지 통계 변경을 {@link ChallengeLeaderboard}에 반영하는 컴포넌트.
+ *
+ * <p>통계를 바꾼 트랜잭션이 커밋된 뒤에만 점수를 갱신하므로, 롤백된 변경이 랭킹에 남지 않습니다.
+ * 기간이 끝난 챌린지의 사용자는 랭킹에서 제거합니다. 쓰기 지연 모드처럼 트랜잭션 밖에서 발행된 이벤트는 즉시 처리합니다.</p>
+ *
+ * <p>커밋 이후 리스너는 커밋 순서대로 실행된다는 보장이 없으므로, 이벤트에 담긴 값 대신 커밋된 통계와 그 version을 다시 읽어
+ * {@link ChallengeLeaderboard#update}에 넘깁니다. 랭킹은 version이 더 높은 통계만 반영하므로 늦게 도착한 이전 통계가 최신 점수를 덮지 않고,
+ * 활성 챌린지가 없으면(이미 만료) 갱신하지 않습니다.</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "challenge.leaderboard", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class ChallengeLeaderboardUpdater {
+
+	private final ChallengeLeaderboard challengeLeaderboard;
+	private final ChallengeStatisticsService challengeStatisticsService;
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleStatisticsChanged(ChallengeStatisticsChangedEvent event) {
+		challengeStatisticsService.findActiveChallengeRanking(event.userId())
+			.ifPresent(challengeLeaderboard::update);
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+	public void handleChallengesExpired(ChallengesExpiredEvent event) {
+		challengeLeaderboard.remove(event.userIds());
+	}
+}
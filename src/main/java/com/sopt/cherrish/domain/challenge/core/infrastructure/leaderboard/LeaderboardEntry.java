@@ -0,0 +1,12 @@
+package com.sopt.cherrish.domain.challenge.core.infrastructure.leaderboard;
+
+/**
+ * 체리 랭킹 항목.
+ *
+ * @param rank 순위 (1부터)
+ * @param userId 사용자 ID
+ * @param progressPercentage 전체 진행률 (%)
+ * @param cherryLevel 체리 레벨
+ */
+public record LeaderboardEntry(long rank, Long userId, int progressPercentage, int cherryLevel) {
+}
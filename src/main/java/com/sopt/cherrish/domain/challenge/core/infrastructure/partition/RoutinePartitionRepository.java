@@ -0,0 +1,126 @@
+package com.sopt.cherrish.domain.challenge.core.infrastructure.partition;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 루틴 테이블의 월 파티션을 만들고 보관하는 PostgreSQL 전용 저장소.
+ *
+ * <p>파티션 이름은 {@code <테이블>_pYYYYMM}이며, 보관한 파티션은 같은 이름으로 {@value #ARCHIVE_SCHEMA} 스키마에 남습니다.
+ * 테이블과 파티션 이름은 {@link RoutineTable}과 월로만 만들어지므로 DDL에 사용자 입력이 들어가지 않습니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class RoutinePartitionRepository {
+
+	public static final String ARCHIVE_SCHEMA = "archive";
+	private static final DateTimeFormatter SUFFIX_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 루틴 테이블이 파티션 테이블인지 확인합니다. 마이그레이션 전에 Hibernate가 만든 일반 테이블이면 false입니다.
+	 *
+	 * @param table 루틴 테이블
+	 * @return 파티션 테이블이면 true
+	 */
+	public boolean isPartitioned(RoutineTable table) {
+		Boolean partitioned = jdbcTemplate.queryForObject(
+			"SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(?))",
+			Boolean.class,
+			table.getTableName()
+		);
+		return Boolean.TRUE.equals(partitioned);
+	}
+
+	/**
+	 * 현재 붙어 있는 월 파티션을 오름차순으로 조회합니다.
+	 *
+	 * @param table 루틴 테이블
+	 * @return 파티션 월 목록
+	 */
+	public List<YearMonth> findPartitionMonths(RoutineTable table) {
+		String prefix = table.getTableName() + "_p";
+		return jdbcTemplate.queryForList("""
+				SELECT child.relname
+				FROM pg_inherits inheritance
+				JOIN pg_class child ON child.oid = inheritance.inhrelid
+				WHERE inheritance.inhparent = to_regclass(?)
+				""", String.class, table.getTableName()).stream()
+			.filter(name -> name.startsWith(prefix))
+			.map(name -> YearMonth.parse(name.substring(prefix.length()), SUFFIX_FORMAT))
+			.sorted()
+			.toList();
+	}
+
+	/**
+	 * 월 파티션을 만듭니다. 이미 있으면 아무것도 하지 않습니다.
+	 *
+	 * @param table 루틴 테이블
+	 * @param month 파티션 월
+	 */
+	public void createPartition(RoutineTable table, YearMonth month) {
+		jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')".formatted(
+			partitionName(table, month), table.getTableName(), month.atDay(1), month.plusMonths(1).atDay(1)));
+	}
+
+	/**
+	 * 해당 월에 기간이 걸친 활성 챌린지가 있는지 확인합니다. 없으면 그 달의 루틴은 더 이상 수정되거나 조회되지 않습니다.
+	 *
+	 * @param table 루틴 테이블
+	 * @param month 파티션 월
+	 * @return 활성 챌린지가 있으면 true
+	 */
+	public boolean hasActiveChallengeIn(RoutineTable table, YearMonth month) {
+		LocalDate firstDay = month.atDay(1);
+		LocalDate lastDay = month.atEndOfMonth();
+		Boolean exists = jdbcTemplate.queryForObject(
+			"SELECT EXISTS (SELECT 1 FROM %s WHERE is_active AND start_date <= ? AND end_date >= ?)"
+				.formatted(table.getChallengeTableName()),
+			Boolean.class,
+			lastDay,
+			firstDay
+		);
+		return Boolean.TRUE.equals(exists);
+	}
+
+	/**
+	 * 월 파티션을 분리하여 보관 스키마로 옮깁니다.
+	 *
+	 * <p>분리는 부모 테이블 잠금이 필요하므로 잠금 대기 시간을 제한하고, 대기 시간을 넘기면 예외로 끝나 다음 실행에서 다시 시도합니다.
+	 * 보관한 파티션은 챌린지 테이블과 무관하게 남도록 외래 키를 제거합니다.</p>
+	 *
+	 * @param table 루틴 테이블
+	 * @param month 파티션 월
+	 * @param lockTimeout 잠금 대기 시간
+	 */
+	@Transactional
+	public void archivePartition(RoutineTable table, YearMonth month, Duration lockTimeout) {
+		String partitionName = partitionName(table, month);
+		jdbcTemplate.execute("SET LOCAL lock_timeout = '%dms'".formatted(lockTimeout.toMillis()));
+		jdbcTemplate.execute("ALTER TABLE %s DETACH PARTITION %s".formatted(table.getTableName(), partitionName));
+		jdbcTemplate.execute("ALTER TABLE %s SET SCHEMA %s".formatted(partitionName, ARCHIVE_SCHEMA));
+		jdbcTemplate.execute("ALTER TABLE %s.%s DROP CONSTRAINT IF EXISTS %s".formatted(
+			ARCHIVE_SCHEMA, partitionName, table.getForeignKeyName()));
+	}
+
+	/**
+	 * 월 파티션 이름
+	 *
+	 * @param table 루틴 테이블
+	 * @param month 파티션 월
+	 * @return 파티션 테이블 이름
+	 */
+	public static String partitionName(RoutineTable table, YearMonth month) {
+		return table.getTableName() + "_p" + month.format(SUFFIX_FORMAT);
+	}
+}
@@ -0,0 +1,26 @@
+package com.sopt.cherrish.domain.challenge.core.infrastructure.partition;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 예정일(scheduled_date) 월 단위로 파티션된 루틴 테이블 (Flyway V5).
+ */
+@Getter
+@RequiredArgsConstructor
+public enum RoutineTable {
+
+	CHALLENGE("challenge_routines", "challenges", "challenge_id"),
+	DEMO("demo_challenge_routines", "demo_challenges", "demo_challenge_id");
+
+	private final String tableName;
+	private final String challengeTableName;
+	private final String challengeColumnName;
+
+	/**
+	 * 챌린지 테이블을 참조하는 외래 키 이름 (Flyway V5에서 생성)
+	 */
+	public String getForeignKeyName() {
+		return "fk_" + tableName + "_" + challengeColumnName;
+	}
+}
@@ -13,6 +13,7 @@ import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.Challen
 import com.sopt.cherrish.domain.challenge.core.response.success.ChallengeSuccessCode;
 import com.sopt.cherrish.domain.user.exception.UserErrorCode;
 import com.sopt.cherrish.global.annotation.ApiExceptions;
+import com.sopt.cherrish.global.idempotency.IdempotentRequestExecutor;
 import com.sopt.cherrish.global.response.CommonApiResponse;
 import com.sopt.cherrish.global.response.error.ErrorCode;
 
@@ -28,7 +29,10 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "Challenge - Lifecycle", description = "챌린지 생명주기 관리 API")
 public class ChallengeLifecycleController {
 
+	private static final String CREATE_SCOPE = "challenge-create";
+
 	private final ChallengeCreationFacade challengeCreationFacade;
+	private final IdempotentRequestExecutor idempotentRequestExecutor;
 
 	// TODO: Spring Security 추가 시 RequestHeader userId 제거하고 @AuthenticationPrincipal 사용
 	@Operation(
@@ -40,9 +44,14 @@ public class ChallengeLifecycleController {
 	public CommonApiResponse<ChallengeCreateResponseDto> createChallenge(
 		@Parameter(description = "사용자 ID (X-User-Id 헤더)", required = true, example = "1")
 		@RequestHeader("X-User-Id") Long userId,
-		@Valid @RequestBody ChallengeCreateRequestDto request
+		@Valid @RequestBody ChallengeCreateRequestDto request,
+		@Parameter(description = IdempotentRequestExecutor.HEADER_DESCRIPTION, example = IdempotentRequestExecutor.HEADER_EXAMPLE)
+		@RequestHeader(value = IdempotentRequestExecutor.HEADER, required = false) String idempotencyKey
 	) {
-		ChallengeCreateResponseDto response = challengeCreationFacade.createChallenge(userId, request);
-		return CommonApiResponse.success(ChallengeSuccessCode.CHALLENGE_CREATED, response);
+		return idempotentRequestExecutor.execute(
+			idempotencyKey, CREATE_SCOPE, userId, request, ChallengeCreateResponseDto.class, () -> {
+				ChallengeCreateResponseDto response = challengeCreationFacade.createChallenge(userId, request);
+				return CommonApiResponse.success(ChallengeSuccessCode.CHALLENGE_CREATED, response);
+			});
 	}
 }
@@ -1,13 +1,19 @@
 package com.sopt.cherrish.domain.challenge.core.presentation;
 
+import java.time.LocalDate;
+
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.sopt.cherrish.domain.challenge.core.application.facade.ChallengeQueryFacade;
 import com.sopt.cherrish.domain.challenge.core.exception.ChallengeErrorCode;
 import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeDetailResponseDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeHistoryPageResponseDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeLeaderboardResponseDto;
 import com.sopt.cherrish.domain.challenge.core.response.success.ChallengeSuccessCode;
 import com.sopt.cherrish.domain.user.exception.UserErrorCode;
 import com.sopt.cherrish.global.annotation.ApiExceptions;
@@ -17,6 +23,8 @@ import com.sopt.cherrish.global.response.error.ErrorCode;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 
 @RestController
@@ -25,6 +33,9 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "Challenge - Query", description = "챌린지 조회 API")
 public class ChallengeQueryController {
 
+	private static final int MAX_HISTORY_PAGE_SIZE = 50;
+	private static final int MAX_LEADERBOARD_SIZE = 100;
+
 	private final ChallengeQueryFacade challengeQueryFacade;
 
 	// TODO: Spring Security 추가 시 RequestHeader userId 제거하고 @AuthenticationPrincipal 사용
@@ -41,4 +52,43 @@ public class ChallengeQueryController {
 		ChallengeDetailResponseDto response = challengeQueryFacade.getActiveChallengeDetail(userId);
 		return CommonApiResponse.success(ChallengeSuccessCode.CHALLENGE_RETRIEVED, response);
 	}
+
+	@Operation(
+		summary = "종료된 챌린지 기록 조회",
+		description = "사용자의 종료된 챌린지를 종료일 최신순으로 최종 통계, 일차별 완료율과 함께 조회합니다. "
+			+ "다음 페이지는 응답의 nextCursorEndDate, nextCursorId를 함께 전달하여 조회합니다."
+	)
+	@ApiExceptions({ChallengeErrorCode.class, ErrorCode.class})
+	@GetMapping("/history")
+	public CommonApiResponse<ChallengeHistoryPageResponseDto> getChallengeHistory(
+		@Parameter(description = "사용자 ID (X-User-Id 헤더)", required = true, example = "1")
+		@RequestHeader("X-User-Id") Long userId,
+		@Parameter(description = "이전 페이지의 nextCursorEndDate (첫 페이지면 생략)", example = "2025-01-07")
+		@RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate cursorEndDate,
+		@Parameter(description = "이전 페이지의 nextCursorId (첫 페이지면 생략)", example = "1")
+		@RequestParam(required = false) Long cursorId,
+		@Parameter(description = "페이지 크기 (1-50)", example = "20")
+		@RequestParam(defaultValue = "20") @Min(1) @Max(MAX_HISTORY_PAGE_SIZE) int size
+	) {
+		ChallengeHistoryPageResponseDto response = challengeQueryFacade.getChallengeHistory(
+			userId, cursorEndDate, cursorId, size);
+		return CommonApiResponse.success(ChallengeSuccessCode.CHALLENGE_HISTORY_RETRIEVED, response);
+	}
+
+	@Operation(
+		summary = "체리 랭킹 조회",
+		description = "진행 중인 챌린지의 체리 레벨과 진행률 순 상위 랭킹과 내 순위를 조회합니다. "
+			+ "내 순위는 진행 중인 챌린지가 없으면 null입니다."
+	)
+	@ApiExceptions({ChallengeErrorCode.class, ErrorCode.class})
+	@GetMapping("/leaderboard")
+	public CommonApiResponse<ChallengeLeaderboardResponseDto> getLeaderboard(
+		@Parameter(description = "사용자 ID (X-User-Id 헤더)", required = true, example = "1")
+		@RequestHeader("X-User-Id") Long userId,
+		@Parameter(description = "상위 랭킹 인원 (1-100)", example = "10")
+		@RequestParam(defaultValue = "10") @Min(1) @Max(MAX_LEADERBOARD_SIZE) int size
+	) {
+		ChallengeLeaderboardResponseDto response = challengeQueryFacade.getLeaderboard(userId, size);
+		return CommonApiResponse.success(ChallengeSuccessCode.LEADERBOARD_RETRIEVED, response);
+	}
 }
@@ -1,5 +1,7 @@
 package com.sopt.cherrish.domain.challenge.core.presentation;
 
+import java.util.Optional;
+
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -9,7 +11,9 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.sopt.cherrish.domain.challenge.core.application.facade.ChallengeCustomRoutineFacade;
+import com.sopt.cherrish.domain.challenge.core.application.service.BufferedChallengeRoutineService;
 import com.sopt.cherrish.domain.challenge.core.application.service.ChallengeRoutineService;
+import com.sopt.cherrish.domain.challenge.core.application.service.CompactChallengeRoutineService;
 import com.sopt.cherrish.domain.challenge.core.exception.ChallengeErrorCode;
 import com.sopt.cherrish.domain.challenge.core.presentation.dto.request.CustomRoutineAddRequestDto;
 import com.sopt.cherrish.domain.challenge.core.presentation.dto.request.RoutineUpdateRequestDto;
@@ -19,6 +23,7 @@ import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.Routine
 import com.sopt.cherrish.domain.challenge.core.response.success.ChallengeSuccessCode;
 import com.sopt.cherrish.domain.user.exception.UserErrorCode;
 import com.sopt.cherrish.global.annotation.ApiExceptions;
+import com.sopt.cherrish.global.idempotency.IdempotentRequestExecutor;
 import com.sopt.cherrish.global.response.CommonApiResponse;
 import com.sopt.cherrish.global.response.error.ErrorCode;
 
@@ -34,13 +39,21 @@ import lombok.RequiredArgsConstructor;
 @Tag(name = "Challenge - Routine", description = "챌린지 루틴 관리 API")
 public class ChallengeRoutineController {
 
+	private static final String TOGGLE_SCOPE = "challenge-routine-toggle";
+	private static final String BATCH_UPDATE_SCOPE = "challenge-routine-batch-update";
+	private static final String CUSTOM_ROUTINE_ADD_SCOPE = "challenge-custom-routine-add";
+
 	private final ChallengeRoutineService challengeRoutineService;
 	private final ChallengeCustomRoutineFacade challengeCustomRoutineFacade;
+	private final Optional<CompactChallengeRoutineService> compactRoutineService;
+	private final Optional<BufferedChallengeRoutineService> bufferedRoutineService;
+	private final IdempotentRequestExecutor idempotentRequestExecutor;
 
 	// TODO: Spring Security 추가 시 RequestHeader userId 제거하고 @AuthenticationPrincipal 사용
 	@Operation(
 		summary = "루틴 완료 토글",
-		description = "루틴의 완료 상태를 토글합니다. 완료 시 통계와 체리 레벨이 자동 업데이트됩니다."
+		description = "루틴의 완료 상태를 토글합니다. 완료 시 통계와 체리 레벨이 자동 업데이트됩니다. "
+			+ "Idempotency-Key를 전달하면 같은 키로 재시도해도 한 번만 토글하고 첫 응답을 그대로 반환합니다."
 	)
 	@ApiExceptions({ChallengeErrorCode.class, UserErrorCode.class, ErrorCode.class})
 	@PatchMapping("/{routineId}")
@@ -48,14 +61,21 @@ public class ChallengeRoutineController {
 		@Parameter(description = "사용자 ID (X-User-Id 헤더)", required = true, example = "1")
 		@RequestHeader("X-User-Id") Long userId,
 		@Parameter(description = "루틴 ID", required = true, example = "1")
-		@PathVariable Long routineId
+		@PathVariable Long routineId,
+		@Parameter(description = IdempotentRequestExecutor.HEADER_DESCRIPTION, example = IdempotentRequestExecutor.HEADER_EXAMPLE)
+		@RequestHeader(value = IdempotentRequestExecutor.HEADER, required = false) String idempotencyKey
 	) {
-		RoutineCompletionResponseDto response =
-			challengeRoutineService.toggleCompletion(userId, routineId);
-		ChallengeSuccessCode successCode = response.isComplete()
-			? ChallengeSuccessCode.ROUTINE_COMPLETED
-			: ChallengeSuccessCode.ROUTINE_UNCOMPLETED;
-		return CommonApiResponse.success(successCode, response);
+		return idempotentRequestExecutor.execute(
+			idempotencyKey, TOGGLE_SCOPE, userId, routineId, RoutineCompletionResponseDto.class, () -> {
+				RoutineCompletionResponseDto response = bufferedRoutineService
+					.map(service -> service.toggleCompletion(userId, routineId))
+					.or(() -> compactRoutineService.map(service -> service.toggleCompletion(userId, routineId)))
+					.orElseGet(() -> challengeRoutineService.toggleCompletion(userId, routineId));
+				ChallengeSuccessCode successCode = response.isComplete()
+					? ChallengeSuccessCode.ROUTINE_COMPLETED
+					: ChallengeSuccessCode.ROUTINE_UNCOMPLETED;
+				return CommonApiResponse.success(successCode, response);
+			});
 	}
 
 	// TODO: Spring Security 추가 시 RequestHeader userId 제거하고 @AuthenticationPrincipal 사용
@@ -69,10 +89,18 @@ public class ChallengeRoutineController {
 	public CommonApiResponse<RoutineBatchUpdateResponseDto> updateMultipleRoutines(
 		@Parameter(description = "사용자 ID (X-User-Id 헤더)", required = true, example = "1")
 		@RequestHeader("X-User-Id") Long userId,
-		@Valid @RequestBody RoutineUpdateRequestDto request
+		@Valid @RequestBody RoutineUpdateRequestDto request,
+		@Parameter(description = IdempotentRequestExecutor.HEADER_DESCRIPTION, example = IdempotentRequestExecutor.HEADER_EXAMPLE)
+		@RequestHeader(value = IdempotentRequestExecutor.HEADER, required = false) String idempotencyKey
 	) {
-		RoutineBatchUpdateResponseDto response = challengeRoutineService.updateMultipleRoutines(userId, request);
-		return CommonApiResponse.success(ChallengeSuccessCode.ROUTINE_BATCH_UPDATED, response);
+		return idempotentRequestExecutor.execute(
+			idempotencyKey, BATCH_UPDATE_SCOPE, userId, request, RoutineBatchUpdateResponseDto.class, () -> {
+				RoutineBatchUpdateResponseDto response = bufferedRoutineService
+					.map(service -> service.updateMultipleRoutines(userId, request))
+					.or(() -> compactRoutineService.map(service -> service.updateMultipleRoutines(userId, request)))
+					.orElseGet(() -> challengeRoutineService.updateMultipleRoutines(userId, request));
+				return CommonApiResponse.success(ChallengeSuccessCode.ROUTINE_BATCH_UPDATED, response);
+			});
 	}
 
 	// TODO: Spring Security 추가 시 RequestHeader userId 제거하고 @AuthenticationPrincipal 사용
@@ -85,11 +113,16 @@ public class ChallengeRoutineController {
 	public CommonApiResponse<CustomRoutineAddResponseDto> addCustomRoutine(
 		@Parameter(description = "사용자 ID (X-User-Id 헤더)", required = true, example = "1")
 		@RequestHeader("X-User-Id") Long userId,
-		@Valid @RequestBody CustomRoutineAddRequestDto request
+		@Valid @RequestBody CustomRoutineAddRequestDto request,
+		@Parameter(description = IdempotentRequestExecutor.HEADER_DESCRIPTION, example = IdempotentRequestExecutor.HEADER_EXAMPLE)
+		@RequestHeader(value = IdempotentRequestExecutor.HEADER, required = false) String idempotencyKey
 	) {
-		CustomRoutineAddResponseDto response = challengeCustomRoutineFacade.addCustomRoutine(
-			userId, request
-		);
-		return CommonApiResponse.success(ChallengeSuccessCode.CUSTOM_ROUTINE_ADDED, response);
+		return idempotentRequestExecutor.execute(
+			idempotencyKey, CUSTOM_ROUTINE_ADD_SCOPE, userId, request, CustomRoutineAddResponseDto.class, () -> {
+				CustomRoutineAddResponseDto response = challengeCustomRoutineFacade.addCustomRoutine(
+					userId, request
+				);
+				return CommonApiResponse.success(ChallengeSuccessCode.CUSTOM_ROUTINE_ADDED, response);
+			});
 	}
 }
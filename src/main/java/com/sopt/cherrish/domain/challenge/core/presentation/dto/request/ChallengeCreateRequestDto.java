@@ -21,6 +21,9 @@ public record ChallengeCreateRequestDto(
 	@Size(min = 1, max = 10, message = "루틴은 1개 이상 10개 이하여야 합니다")
 	List<@NotBlank(message = "루틴명은 필수입니다")
 	@Size(max = 100, message = "루틴명은 100자를 초과할 수 없습니다")
-		String> routineNames
+		String> routineNames,
+
+	@Schema(description = "챌린지 기간 (일): 7, 21, 30, 100 중 하나, 생략하면 7", example = "21")
+	Integer totalDays
 ) {
 }
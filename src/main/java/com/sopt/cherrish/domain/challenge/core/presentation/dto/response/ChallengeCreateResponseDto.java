@@ -6,6 +6,7 @@ import java.util.List;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.sopt.cherrish.domain.challenge.core.domain.model.Challenge;
 import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeRoutine;
+import com.sopt.cherrish.domain.challenge.core.domain.model.RoutineDay;
 import com.sopt.cherrish.domain.challenge.demo.domain.model.DemoChallenge;
 import com.sopt.cherrish.domain.challenge.demo.domain.model.DemoChallengeRoutine;
 
@@ -33,7 +34,7 @@ public record ChallengeCreateResponseDto(
 	@Schema(description = "전체 루틴 개수", example = "21")
 	int totalRoutineCount,
 
-	@Schema(description = "생성된 루틴 리스트")
+	@Schema(description = "생성된 루틴 리스트 (행 저장 모델은 1일차 루틴만 포함, 이후 일차는 날짜별 첫 조회 시 생성)")
 	List<ChallengeRoutineResponseDto> routines
 ) {
 	public static ChallengeCreateResponseDto from(
@@ -53,6 +54,23 @@ public record ChallengeCreateResponseDto(
 		);
 	}
 
+	public static ChallengeCreateResponseDto fromRoutineDays(
+		Challenge challenge, List<RoutineDay> routines, int totalRoutineCount) {
+		List<ChallengeRoutineResponseDto> routineDtos = routines.stream()
+			.map(ChallengeRoutineResponseDto::from)
+			.toList();
+
+		return new ChallengeCreateResponseDto(
+			challenge.getId(),
+			challenge.getTitle(),
+			challenge.getTotalDays(),
+			challenge.getStartDate(),
+			challenge.getEndDate(),
+			totalRoutineCount,
+			routineDtos
+		);
+	}
+
 	public static ChallengeCreateResponseDto from(
 		DemoChallenge challenge, List<DemoChallengeRoutine> routines, int totalRoutineCount) {
 		List<ChallengeRoutineResponseDto> routineDtos = routines.stream()
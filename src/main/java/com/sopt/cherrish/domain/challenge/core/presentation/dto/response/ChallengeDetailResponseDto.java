@@ -6,6 +6,7 @@ import com.sopt.cherrish.domain.challenge.core.domain.model.Challenge;
 import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeRoutine;
 import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeStatistics;
 import com.sopt.cherrish.domain.challenge.core.domain.model.CherryLevel;
+import com.sopt.cherrish.domain.challenge.core.domain.model.RoutineDay;
 import com.sopt.cherrish.domain.challenge.demo.domain.model.DemoChallenge;
 import com.sopt.cherrish.domain.challenge.demo.domain.model.DemoChallengeRoutine;
 import com.sopt.cherrish.domain.challenge.demo.domain.model.DemoChallengeStatistics;
@@ -38,6 +39,15 @@ public record ChallengeDetailResponseDto(
 	@Schema(description = "다음 레벨까지 남은 루틴 개수", example = "3")
 	int remainingRoutinesToNextLevel,
 
+	@Schema(description = "현재 연속 달성 일수 (오늘을 아직 다 완료하지 않았으면 어제까지)", example = "2")
+	int currentStreak,
+
+	@Schema(description = "최장 연속 달성 일수", example = "2")
+	int bestStreak,
+
+	@Schema(description = "1일차부터 현재 일차까지의 일차별 완료율")
+	List<DailyCompletionResponseDto> dailyCompletions,
+
 	@Schema(description = "오늘의 루틴 리스트")
 	List<ChallengeRoutineResponseDto> todayRoutines,
 
@@ -64,11 +74,45 @@ public record ChallengeDetailResponseDto(
 			CherryLevel.fromLevel(statistics.getCherryLevel()).getName(),
 			statistics.getProgressToNextLevel(),
 			statistics.getRemainingRoutinesToNextLevel(),
+			statistics.getCurrentStreak(currentDay),
+			statistics.getBestStreak(),
+			DailyCompletionResponseDto.listOf(challenge, statistics, currentDay),
+			routineDtos,
+			cheeringMessage
+		);
+	}
+
+	public static ChallengeDetailResponseDto fromRoutineDays(
+		Challenge challenge,
+		int currentDay,
+		ChallengeStatistics statistics,
+		List<RoutineDay> todayRoutines,
+		String cheeringMessage
+	) {
+		List<ChallengeRoutineResponseDto> routineDtos = todayRoutines.stream()
+			.map(ChallengeRoutineResponseDto::from)
+			.toList();
+
+		return new ChallengeDetailResponseDto(
+			challenge.getId(),
+			challenge.getTitle(),
+			currentDay,
+			statistics.getProgressPercentage(),
+			statistics.getCherryLevel(),
+			CherryLevel.fromLevel(statistics.getCherryLevel()).getName(),
+			statistics.getProgressToNextLevel(),
+			statistics.getRemainingRoutinesToNextLevel(),
+			statistics.getCurrentStreak(currentDay),
+			statistics.getBestStreak(),
+			DailyCompletionResponseDto.listOf(challenge, statistics, currentDay),
 			routineDtos,
 			cheeringMessage
 		);
 	}
 
+	/**
+	 * 데모 챌린지는 일차별 통계를 두지 않으므로 연속 달성 기록과 일차별 완료율은 비워서 응답
+	 */
 	public static ChallengeDetailResponseDto from(
 		DemoChallenge challenge,
 		int currentDay,
@@ -89,6 +133,9 @@ public record ChallengeDetailResponseDto(
 			CherryLevel.fromLevel(statistics.getCherryLevel()).getName(),
 			statistics.getProgressToNextLevel(),
 			statistics.getRemainingRoutinesToNextLevel(),
+			0,
+			0,
+			List.of(),
 			routineDtos,
 			cheeringMessage
 		);
@@ -0,0 +1,45 @@
+package com.sopt.cherrish.domain.challenge.core.presentation.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeHistory;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "종료된 챌린지 기록 페이지 응답")
+public record ChallengeHistoryPageResponseDto(
+	@Schema(description = "챌린지 기록 (종료일 최신순)")
+	List<ChallengeHistoryResponseDto> challenges,
+
+	@Schema(description = "다음 페이지 존재 여부", example = "true")
+	boolean hasNext,
+
+	@Schema(description = "다음 페이지 요청에 전달할 커서 종료일 (다음 페이지가 없으면 null)", example = "2025-01-07")
+	@JsonFormat(pattern = "yyyy-MM-dd")
+	LocalDate nextCursorEndDate,
+
+	@Schema(description = "다음 페이지 요청에 전달할 커서 챌린지 ID (다음 페이지가 없으면 null)", example = "1")
+	Long nextCursorId
+) {
+	/**
+	 * 페이지 크기보다 1개 더 조회한 결과로 페이지 응답 생성
+	 * @param histories 페이지 크기 + 1개까지 조회한 챌린지 기록
+	 * @param size 페이지 크기
+	 * @return 페이지 응답 (마지막 기록이 다음 페이지 커서)
+	 */
+	public static ChallengeHistoryPageResponseDto of(List<ChallengeHistory> histories, int size) {
+		boolean hasNext = histories.size() > size;
+		List<ChallengeHistory> page = hasNext ? histories.subList(0, size) : histories;
+		List<ChallengeHistoryResponseDto> challenges = page.stream()
+			.map(ChallengeHistoryResponseDto::from)
+			.toList();
+
+		if (!hasNext) {
+			return new ChallengeHistoryPageResponseDto(challenges, false, null, null);
+		}
+		ChallengeHistory last = page.getLast();
+		return new ChallengeHistoryPageResponseDto(challenges, true, last.getEndDate(), last.getChallengeId());
+	}
+}
@@ -0,0 +1,73 @@
+package com.sopt.cherrish.domain.challenge.core.presentation.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeStatistics;
+import com.sopt.cherrish.domain.challenge.core.domain.model.CherryLevel;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeHistory;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "종료된 챌린지 기록 응답")
+public record ChallengeHistoryResponseDto(
+	@Schema(description = "챌린지 ID", example = "1")
+	Long challengeId,
+
+	@Schema(description = "챌린지 제목", example = "7일 보습 챌린지")
+	String title,
+
+	@Schema(description = "챌린지 기간 (일)", example = "7")
+	int totalDays,
+
+	@Schema(description = "시작일", example = "2025-01-01")
+	@JsonFormat(pattern = "yyyy-MM-dd")
+	LocalDate startDate,
+
+	@Schema(description = "종료일", example = "2025-01-07")
+	@JsonFormat(pattern = "yyyy-MM-dd")
+	LocalDate endDate,
+
+	@Schema(description = "최종 진행률 (%)", example = "86")
+	int progressPercentage,
+
+	@Schema(description = "최종 체리 레벨 (1-4)", example = "4")
+	int cherryLevel,
+
+	@Schema(description = "최종 체리 레벨 이름", example = "꾸꾸체리")
+	String cherryLevelName,
+
+	@Schema(description = "완료한 루틴 개수", example = "18")
+	int completedCount,
+
+	@Schema(description = "전체 루틴 개수", example = "21")
+	int totalRoutineCount,
+
+	@Schema(description = "모든 루틴을 완료한 일수", example = "5")
+	int completedDays,
+
+	@Schema(description = "최장 연속 달성 일수", example = "4")
+	int bestStreak,
+
+	@Schema(description = "전체 일차별 완료율")
+	List<DailyCompletionResponseDto> dailyCompletions
+) {
+	public static ChallengeHistoryResponseDto from(ChallengeHistory history) {
+		return new ChallengeHistoryResponseDto(
+			history.getChallengeId(),
+			history.getTitle(),
+			history.getTotalDays(),
+			history.getStartDate(),
+			history.getEndDate(),
+			ChallengeStatistics.calculateCompletionRate(history.getCompletedCount(), history.getTotalRoutineCount()),
+			history.getCherryLevel(),
+			CherryLevel.fromLevel(history.getCherryLevel()).getName(),
+			history.getCompletedCount(),
+			history.getTotalRoutineCount(),
+			history.getCompletedDays(),
+			history.getBestStreak(),
+			DailyCompletionResponseDto.listOf(history)
+		);
+	}
+}
@@ -0,0 +1,26 @@
+package com.sopt.cherrish.domain.challenge.core.presentation.dto.response;
+
+import java.util.List;
+import java.util.Optional;
+
+import com.sopt.cherrish.domain.challenge.core.infrastructure.leaderboard.LeaderboardEntry;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "체리 랭킹 응답")
+public record ChallengeLeaderboardResponseDto(
+	@Schema(description = "상위 랭킹 (순위 오름차순)")
+	List<LeaderboardEntryResponseDto> topChallengers,
+
+	@Schema(description = "내 순위 (진행 중인 챌린지가 없으면 null)")
+	LeaderboardEntryResponseDto myRanking
+) {
+	public static ChallengeLeaderboardResponseDto of(List<LeaderboardEntry> topEntries, Optional<LeaderboardEntry> myEntry) {
+		return new ChallengeLeaderboardResponseDto(
+			topEntries.stream()
+				.map(LeaderboardEntryResponseDto::from)
+				.toList(),
+			myEntry.map(LeaderboardEntryResponseDto::from).orElse(null)
+		);
+	}
+}
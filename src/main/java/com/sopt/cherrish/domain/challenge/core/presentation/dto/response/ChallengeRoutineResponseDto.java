@@ -4,6 +4,7 @@ import java.time.LocalDate;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeRoutine;
+import com.sopt.cherrish.domain.challenge.core.domain.model.RoutineDay;
 import com.sopt.cherrish.domain.challenge.demo.domain.model.DemoChallengeRoutine;
 
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -32,6 +33,15 @@ public record ChallengeRoutineResponseDto(
 		);
 	}
 
+	public static ChallengeRoutineResponseDto from(RoutineDay routine) {
+		return new ChallengeRoutineResponseDto(
+			routine.routineId(),
+			routine.name(),
+			routine.scheduledDate(),
+			routine.isComplete()
+		);
+	}
+
 	public static ChallengeRoutineResponseDto from(DemoChallengeRoutine routine) {
 		return new ChallengeRoutineResponseDto(
 			routine.getId(),
@@ -4,6 +4,7 @@ import java.util.List;
 
 import com.sopt.cherrish.domain.challenge.core.domain.model.Challenge;
 import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeRoutine;
+import com.sopt.cherrish.domain.challenge.core.domain.model.RoutineDay;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 
@@ -15,10 +16,10 @@ public record CustomRoutineAddResponseDto(
 	@Schema(description = "추가된 루틴 이름", example = "저녁 마사지")
 	String routineName,
 
-	@Schema(description = "추가된 루틴 개수", example = "5")
+	@Schema(description = "오늘부터 종료일까지 추가된 루틴 개수", example = "5")
 	int addedCount,
 
-	@Schema(description = "추가된 루틴 리스트")
+	@Schema(description = "추가된 루틴 리스트 (행 저장 모델은 이미 생성된 날짜의 루틴만 포함)")
 	List<ChallengeRoutineResponseDto> routines,
 
 	@Schema(description = "업데이트된 총 루틴 개수", example = "26")
@@ -28,14 +29,13 @@ public record CustomRoutineAddResponseDto(
 		Challenge challenge,
 		String routineName,
 		List<ChallengeRoutine> addedRoutines,
+		int addedCount,
 		int totalRoutineCount
 	) {
 		List<ChallengeRoutineResponseDto> routineDtos = addedRoutines.stream()
 			.map(ChallengeRoutineResponseDto::from)
 			.toList();
 
-		int addedCount = addedRoutines.size();
-
 		return new CustomRoutineAddResponseDto(
 			challenge.getId(),
 			routineName,
@@ -44,4 +44,23 @@ public record CustomRoutineAddResponseDto(
 			totalRoutineCount
 		);
 	}
+
+	public static CustomRoutineAddResponseDto fromRoutineDays(
+		Challenge challenge,
+		String routineName,
+		List<RoutineDay> addedRoutines,
+		int totalRoutineCount
+	) {
+		List<ChallengeRoutineResponseDto> routineDtos = addedRoutines.stream()
+			.map(ChallengeRoutineResponseDto::from)
+			.toList();
+
+		return new CustomRoutineAddResponseDto(
+			challenge.getId(),
+			routineName,
+			addedRoutines.size(),
+			routineDtos,
+			totalRoutineCount
+		);
+	}
 }
@@ -0,0 +1,59 @@
+package com.sopt.cherrish.domain.challenge.core.presentation.dto.response;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.sopt.cherrish.domain.challenge.core.domain.model.Challenge;
+import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeStatistics;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeHistory;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "일차별 완료율 응답")
+public record DailyCompletionResponseDto(
+	@Schema(description = "일차", example = "1")
+	int day,
+
+	@Schema(description = "날짜", example = "2025-01-05")
+	@JsonFormat(pattern = "yyyy-MM-dd")
+	LocalDate date,
+
+	@Schema(description = "완료율 (%)", example = "67")
+	int completionRate
+) {
+	/**
+	 * 1일차부터 lastDay일차까지의 완료율 (일차별 통계가 없는 일차는 제외)
+	 * @param challenge 챌린지
+	 * @param statistics 통계
+	 * @param lastDay 마지막 일차 (1부터)
+	 * @return 일차별 완료율 리스트
+	 */
+	public static List<DailyCompletionResponseDto> listOf(Challenge challenge, ChallengeStatistics statistics, int lastDay) {
+		return IntStream.range(0, Math.min(lastDay, statistics.getTrackedDays()))
+			.mapToObj(dayIndex -> new DailyCompletionResponseDto(
+				dayIndex + 1,
+				challenge.getStartDate().plusDays(dayIndex),
+				statistics.getDailyCompletionRate(dayIndex)
+			))
+			.toList();
+	}
+
+	/**
+	 * 종료된 챌린지 기록의 전체 일차별 완료율 (통계 엔티티 없이 일차별 개수 배열로 계산)
+	 * @param history 챌린지 기록 프로젝션
+	 * @return 일차별 완료율 리스트 (일차별 통계가 없는 기존 챌린지는 빈 리스트)
+	 */
+	public static List<DailyCompletionResponseDto> listOf(ChallengeHistory history) {
+		int[] routineCounts = history.getDailyRoutineCounts();
+		int[] completedCounts = history.getDailyCompletedCounts();
+		return IntStream.range(0, Math.min(routineCounts.length, completedCounts.length))
+			.mapToObj(dayIndex -> new DailyCompletionResponseDto(
+				dayIndex + 1,
+				history.getStartDate().plusDays(dayIndex),
+				ChallengeStatistics.calculateCompletionRate(completedCounts[dayIndex], routineCounts[dayIndex])
+			))
+			.toList();
+	}
+}
@@ -0,0 +1,34 @@
+package com.sopt.cherrish.domain.challenge.core.presentation.dto.response;
+
+import com.sopt.cherrish.domain.challenge.core.domain.model.CherryLevel;
+import com.sopt.cherrish.domain.challenge.core.infrastructure.leaderboard.LeaderboardEntry;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "체리 랭킹 항목 응답")
+public record LeaderboardEntryResponseDto(
+	@Schema(description = "순위 (1부터, 체리 레벨 → 진행률 순)", example = "1")
+	long rank,
+
+	@Schema(description = "사용자 ID", example = "1")
+	Long userId,
+
+	@Schema(description = "전체 진행률 (%)", example = "86")
+	int progressPercentage,
+
+	@Schema(description = "체리 레벨 (1-4)", example = "4")
+	int cherryLevel,
+
+	@Schema(description = "체리 레벨 이름", example = "꾸꾸체리")
+	String cherryLevelName
+) {
+	public static LeaderboardEntryResponseDto from(LeaderboardEntry entry) {
+		return new LeaderboardEntryResponseDto(
+			entry.rank(),
+			entry.userId(),
+			entry.progressPercentage(),
+			entry.cherryLevel(),
+			CherryLevel.fromLevel(entry.cherryLevel()).getName()
+		);
+	}
+}
@@ -3,6 +3,7 @@ package com.sopt.cherrish.domain.challenge.core.presentation.dto.response;
 import java.util.List;
 
 import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeRoutine;
+import com.sopt.cherrish.domain.challenge.core.domain.model.RoutineDay;
 import com.sopt.cherrish.domain.challenge.demo.domain.model.DemoChallengeRoutine;
 
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -25,6 +26,16 @@ public record RoutineBatchUpdateResponseDto(
 		return new RoutineBatchUpdateResponseDto(routineDtos, count);
 	}
 
+	public static RoutineBatchUpdateResponseDto fromRoutineDays(List<RoutineDay> routines) {
+		List<ChallengeRoutineResponseDto> routineDtos = routines.stream()
+			.map(ChallengeRoutineResponseDto::from)
+			.toList();
+
+		int count = routines.size();
+
+		return new RoutineBatchUpdateResponseDto(routineDtos, count);
+	}
+
 	public static RoutineBatchUpdateResponseDto fromDemoRoutines(List<DemoChallengeRoutine> routines) {
 		List<ChallengeRoutineResponseDto> routineDtos = routines.stream()
 			.map(ChallengeRoutineResponseDto::from)
@@ -1,6 +1,7 @@
 package com.sopt.cherrish.domain.challenge.core.presentation.dto.response;
 
 import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeRoutine;
+import com.sopt.cherrish.domain.challenge.core.domain.model.RoutineDay;
 import com.sopt.cherrish.domain.challenge.demo.domain.model.DemoChallengeRoutine;
 
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -24,6 +25,14 @@ public record RoutineCompletionResponseDto(
 		);
 	}
 
+	public static RoutineCompletionResponseDto from(RoutineDay routine) {
+		return new RoutineCompletionResponseDto(
+			routine.routineId(),
+			routine.name(),
+			routine.isComplete()
+		);
+	}
+
 	public static RoutineCompletionResponseDto from(DemoChallengeRoutine routine) {
 		return new RoutineCompletionResponseDto(
 			routine.getId(),
@@ -16,7 +16,9 @@ public enum ChallengeSuccessCode implements SuccessType {
 	ROUTINE_BATCH_UPDATED("CH005", "루틴이 업데이트되었습니다."),
 	CUSTOM_ROUTINE_ADDED("CH006", "커스텀 루틴이 추가되었습니다."),
 	AI_RECOMMENDATION_GENERATED("CH007", "AI 챌린지 추천 생성 성공"),
-	HOMECARE_ROUTINES_RETRIEVED("CH008", "홈케어 루틴 목록 조회 성공");
+	HOMECARE_ROUTINES_RETRIEVED("CH008", "홈케어 루틴 목록 조회 성공"),
+	CHALLENGE_HISTORY_RETRIEVED("CH009", "챌린지 기록 조회 성공"),
+	LEADERBOARD_RETRIEVED("CH010", "체리 랭킹 조회 성공");
 
 	private final String code;
 	private final String message;
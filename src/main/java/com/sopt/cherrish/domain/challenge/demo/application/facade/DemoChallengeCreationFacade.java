@@ -43,25 +43,22 @@ public class DemoChallengeCreationFacade {
 			throw new UserException(UserErrorCode.USER_NOT_FOUND);
 		}
 
-		// 2. 활성 챌린지 중복 확인
-		challengeService.validateNoDuplicateActiveChallenge(userId);
-
-		// 3. HomecareRoutine 변환 및 유효성 검증
+		// 2. HomecareRoutine 변환 및 유효성 검증
 		HomecareRoutine routine = HomecareRoutine.fromId(request.homecareRoutineId());
 
-		// 4. 챌린지 생성
+		// 3. 챌린지 생성 (활성 챌린지 중복은 부분 유니크 인덱스로 검증)
 		LocalDate startDate = LocalDate.now(clock);
 
 		DemoChallenge challenge = challengeService.createChallenge(userId, routine, startDate);
 
-		// 5. 챌린지 루틴 Batch Insert
+		// 4. 챌린지 루틴 Batch Insert
 		List<DemoChallengeRoutine> routines = routineService.createAndSaveRoutines(
 			challenge, request.routineNames());
 
-		// 6. 통계 초기화
+		// 5. 통계 초기화
 		statisticsService.initializeStatistics(challenge, routines);
 
-		// 7. Response DTO 변환
+		// 6. Response DTO 변환
 		return ChallengeCreateResponseDto.from(challenge, routines, routines.size());
 	}
 }
@@ -3,6 +3,7 @@ package com.sopt.cherrish.domain.challenge.demo.application.service;
 import java.time.LocalDate;
 import java.util.Optional;
 
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -11,6 +12,7 @@ import com.sopt.cherrish.domain.challenge.core.exception.ChallengeException;
 import com.sopt.cherrish.domain.challenge.demo.domain.model.DemoChallenge;
 import com.sopt.cherrish.domain.challenge.demo.domain.repository.DemoChallengeRepository;
 import com.sopt.cherrish.domain.challenge.homecare.domain.model.HomecareRoutine;
+import com.sopt.cherrish.global.exception.ConstraintViolations;
 
 import lombok.RequiredArgsConstructor;
 
@@ -21,17 +23,9 @@ public class DemoChallengeService {
 
 	private final DemoChallengeRepository demoChallengeRepository;
 
-	/**
-	 * 활성 데모 챌린지 중복 검증
-	 */
-	public void validateNoDuplicateActiveChallenge(Long userId) {
-		if (demoChallengeRepository.existsByUserIdAndIsActiveTrue(userId)) {
-			throw new ChallengeException(ChallengeErrorCode.DUPLICATE_ACTIVE_CHALLENGE);
-		}
-	}
-
 	/**
 	 * 데모 챌린지 생성 및 저장
+	 * 활성 챌린지 중복은 부분 유니크 인덱스({@link DemoChallenge#ACTIVE_USER_UNIQUE_INDEX})로 검증
 	 */
 	@Transactional
 	public DemoChallenge createChallenge(Long userId, HomecareRoutine routine, LocalDate startDate) {
@@ -42,7 +36,14 @@ public class DemoChallengeService {
 			.startDate(startDate)
 			.build();
 
-		return demoChallengeRepository.save(challenge);
+		try {
+			return demoChallengeRepository.save(challenge);
+		} catch (DataIntegrityViolationException e) {
+			if (ConstraintViolations.isViolationOf(e, DemoChallenge.ACTIVE_USER_UNIQUE_INDEX)) {
+				throw new ChallengeException(ChallengeErrorCode.DUPLICATE_ACTIVE_CHALLENGE);
+			}
+			throw e;
+		}
 	}
 
 	/**
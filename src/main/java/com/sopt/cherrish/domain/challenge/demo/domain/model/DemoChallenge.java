@@ -31,6 +31,11 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class DemoChallenge extends BaseTimeEntity {
 
+	/**
+	 * 사용자당 활성 데모 챌린지를 1개로 제한하는 부분 유니크 인덱스 (user_id WHERE is_active, Flyway V4)
+	 */
+	public static final String ACTIVE_USER_UNIQUE_INDEX = "uk_demo_challenges_active_user";
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	private Long id;
@@ -10,14 +10,6 @@ import com.sopt.cherrish.domain.challenge.demo.domain.model.DemoChallenge;
 
 public interface DemoChallengeRepository extends JpaRepository<DemoChallenge, Long> {
 
-	/**
-	 * 사용자의 활성 데모 챌린지 존재 여부 확인
-	 * @param userId 사용자 ID
-	 * @return 활성 챌린지 존재 여부
-	 */
-	boolean existsByUserIdAndIsActiveTrue(Long userId);
-
-
 	/**
 	 * 사용자의 활성 데모 챌린지 조회 (통계와 함께 Fetch Join)
 	 * N+1 쿼리 방지를 위해 DemoChallengeStatistics를 함께 로드
@@ -4,9 +4,11 @@ import java.time.Clock;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.sopt.cherrish.domain.user.domain.event.UserDeletedEvent;
 import com.sopt.cherrish.domain.user.domain.model.User;
 import com.sopt.cherrish.domain.user.domain.repository.UserRepository;
 import com.sopt.cherrish.domain.user.exception.UserErrorCode;
@@ -24,6 +26,7 @@ public class UserService {
 
 	private final UserRepository userRepository;
 	private final Clock clock;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 사용자 존재 여부 검증
@@ -76,6 +79,8 @@ public class UserService {
 	/**
 	 * 사용자 삭제 (Hard Delete)
 	 *
+	 * <p>커밋 이후 모든 인스턴스의 사용자 존재 여부 캐시가 무효화됩니다.</p>
+	 *
 	 * @param id 사용자 ID
 	 * @throws UserException 사용자를 찾을 수 없는 경우
 	 */
@@ -84,5 +89,6 @@ public class UserService {
 		User user = userRepository.findById(id)
 			.orElseThrow(() -> new UserException(UserErrorCode.USER_NOT_FOUND));
 		userRepository.delete(user);
+		eventPublisher.publishEvent(new UserDeletedEvent(id));
 	}
 }
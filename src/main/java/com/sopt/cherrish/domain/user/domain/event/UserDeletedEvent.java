@@ -0,0 +1,11 @@
+package com.sopt.cherrish.domain.user.domain.event;
+
+/**
+ * 사용자 삭제 이벤트.
+ *
+ * <p>트랜잭션 커밋 이후 사용자 존재 여부 캐시를 무효화하는 데 사용됩니다.</p>
+ *
+ * @param userId 삭제된 사용자 ID
+ */
+public record UserDeletedEvent(Long userId) {
+}
@@ -0,0 +1,14 @@
+package com.sopt.cherrish.domain.user.domain.repository;
+
+/**
+ * 소셜 계정 사용자 upsert 결과 프로젝션.
+ */
+public interface SocialUserUpsertResult {
+
+	Long getId();
+
+	/**
+	 * @return 이번 요청으로 새로 생성되었으면 true, 이미 존재했으면 false
+	 */
+	Boolean getCreated();
+}
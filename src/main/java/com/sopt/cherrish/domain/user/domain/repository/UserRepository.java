@@ -1,8 +1,12 @@
 package com.sopt.cherrish.domain.user.domain.repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.sopt.cherrish.domain.auth.domain.model.SocialProvider;
 import com.sopt.cherrish.domain.user.domain.model.User;
@@ -12,4 +16,43 @@ public interface UserRepository extends JpaRepository<User, Long> {
 	Optional<User> findBySocialProviderAndSocialId(SocialProvider socialProvider, String socialId);
 
 	boolean existsBySocialProviderAndSocialId(SocialProvider socialProvider, String socialId);
+
+	/**
+	 * 소셜 계정 사용자를 단일 SQL로 조회하거나 생성합니다.
+	 *
+	 * <p>{@code INSERT ... ON CONFLICT (social_provider, social_id) DO NOTHING}으로 신규 사용자를 생성하고,
+	 * 충돌한 경우 같은 문장에서 기존 사용자를 조회합니다.
+	 * 동시에 커밋된 다른 가입 요청과 충돌하면 결과가 비어 있을 수 있으므로 호출자는 재조회해야 합니다.</p>
+	 *
+	 * @param socialProvider 소셜 로그인 제공자 이름
+	 * @param socialId 소셜 계정 ID
+	 * @param email 이메일
+	 * @param name 신규 사용자 기본 이름
+	 * @param age 신규 사용자 기본 나이
+	 * @param now 생성 시각
+	 * @return 사용자 ID와 신규 생성 여부
+	 */
+	@Transactional
+	@Query(value = """
+		WITH inserted AS (
+			INSERT INTO users (name, age, social_provider, social_id, email, created_at, updated_at)
+			VALUES (:name, :age, :socialProvider, :socialId, :email, :now, :now)
+			ON CONFLICT (social_provider, social_id) DO NOTHING
+			RETURNING id
+		)
+		SELECT id AS id, TRUE AS created FROM inserted
+		UNION ALL
+		SELECT u.id AS id, FALSE AS created
+		FROM users u
+		WHERE u.social_provider = :socialProvider AND u.social_id = :socialId
+		LIMIT 1
+		""", nativeQuery = true)
+	Optional<SocialUserUpsertResult> upsertBySocialAccount(
+		@Param("socialProvider") String socialProvider,
+		@Param("socialId") String socialId,
+		@Param("email") String email,
+		@Param("name") String name,
+		@Param("age") int age,
+		@Param("now") LocalDateTime now
+	);
 }
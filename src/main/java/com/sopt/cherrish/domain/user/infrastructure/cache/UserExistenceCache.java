@@ -0,0 +1,59 @@
+package com.sopt.cherrish.domain.user.infrastructure.cache;
+
+import java.time.Duration;
+
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sopt.cherrish.domain.user.domain.repository.UserRepository;
+
+/**
+ * 존재하는 사용자 ID를 보관하는 로컬 캐시.
+ *
+ * <p>인증 필터가 요청마다 사용자 테이블을 조회하지 않도록 살아있는 사용자 ID만 캐싱합니다.
+ * 존재하지 않는 사용자는 캐싱하지 않으며, 사용자 삭제 시
+ * {@link UserExistenceCacheInvalidator}가 모든 인스턴스의 항목을 제거합니다.</p>
+ *
+ * <p>무효화 메시지가 유실되는 경우를 대비해 항목은 일정 시간이 지나면 만료됩니다.</p>
+ */
+@Component
+public class UserExistenceCache {
+
+	private static final long MAXIMUM_SIZE = 100_000;
+	private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+
+	private final UserRepository userRepository;
+	private final Cache<Long, Boolean> liveUserIds;
+
+	public UserExistenceCache(UserRepository userRepository) {
+		this.userRepository = userRepository;
+		this.liveUserIds = Caffeine.newBuilder()
+			.maximumSize(MAXIMUM_SIZE)
+			.expireAfterWrite(EXPIRE_AFTER_WRITE)
+			.build();
+	}
+
+	/**
+	 * 사용자 존재 여부를 확인합니다.
+	 *
+	 * <p>캐시에 없으면 DB에서 확인하며, 같은 키에 대한 조회와 무효화는 원자적으로 처리되어
+	 * 삭제 직전에 시작된 조회 결과가 무효화 이후에 남지 않습니다.</p>
+	 *
+	 * @param userId 사용자 ID
+	 * @return 존재하면 true
+	 */
+	public boolean exists(Long userId) {
+		Boolean live = liveUserIds.get(userId, id -> userRepository.existsById(id) ? Boolean.TRUE : null);
+		return live != null;
+	}
+
+	/**
+	 * 이 인스턴스의 캐시에서 사용자 항목을 제거합니다.
+	 *
+	 * @param userId 사용자 ID
+	 */
+	public void evict(Long userId) {
+		liveUserIds.invalidate(userId);
+	}
+}
@@ -0,0 +1,62 @@
+package com.sopt.cherrish.domain.user.infrastructure.cache;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.sopt.cherrish.domain.user.domain.event.UserDeletedEvent;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 사용자 삭제를 모든 서버 인스턴스의 {@link UserExistenceCache}에 전파하는 컴포넌트.
+ *
+ * <p>삭제 트랜잭션이 커밋되면 로컬 캐시를 비우고 Redis Pub/Sub 채널로 사용자 ID를 발행합니다.
+ * 다른 인스턴스는 같은 채널을 구독하여 자신의 캐시에서 해당 항목을 제거합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserExistenceCacheInvalidator implements MessageListener {
+
+	public static final String CHANNEL = "user:deleted";
+
+	private final UserExistenceCache userExistenceCache;
+	private final RedisTemplate<String, String> redisTemplate;
+	private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+	@PostConstruct
+	void subscribe() {
+		redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void handleUserDeleted(UserDeletedEvent event) {
+		userExistenceCache.evict(event.userId());
+		try {
+			redisTemplate.convertAndSend(CHANNEL, String.valueOf(event.userId()));
+		} catch (DataAccessException e) {
+			log.warn("Failed to publish user deletion. userId={}", event.userId(), e);
+		}
+	}
+
+	@Override
+	public void onMessage(Message message, byte[] pattern) {
+		String body = new String(message.getBody(), StandardCharsets.UTF_8);
+		try {
+			userExistenceCache.evict(Long.parseLong(body));
+		} catch (NumberFormatException e) {
+			log.warn("Invalid user deletion message: {}", body);
+		}
+	}
+}
@@ -17,7 +17,7 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 import com.sopt.cherrish.domain.auth.domain.repository.AccessTokenBlacklistRepository;
 import com.sopt.cherrish.domain.auth.infrastructure.jwt.JwtAuthenticationFilter;
 import com.sopt.cherrish.domain.auth.infrastructure.jwt.JwtTokenProvider;
-import com.sopt.cherrish.domain.user.domain.repository.UserRepository;
+import com.sopt.cherrish.domain.user.infrastructure.cache.UserExistenceCache;
 import com.sopt.cherrish.global.security.JwtAccessDeniedHandler;
 import com.sopt.cherrish.global.security.JwtAuthenticationEntryPoint;
 
@@ -29,7 +29,7 @@ import lombok.RequiredArgsConstructor;
 public class SecurityConfig {
 
 	private final JwtTokenProvider jwtTokenProvider;
-	private final UserRepository userRepository;
+	private final UserExistenceCache userExistenceCache;
 	private final AccessTokenBlacklistRepository accessTokenBlacklistRepository;
 	private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
 	private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
@@ -67,7 +67,7 @@ public class SecurityConfig {
 
 	@Bean
 	public JwtAuthenticationFilter jwtAuthenticationFilter() {
-		return new JwtAuthenticationFilter(jwtTokenProvider, userRepository, accessTokenBlacklistRepository);
+		return new JwtAuthenticationFilter(jwtTokenProvider, userExistenceCache, accessTokenBlacklistRepository);
 	}
 
 	@Bean
@@ -0,0 +1,37 @@
+package com.sopt.cherrish.global.exception;
+
+import java.util.Locale;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+/**
+ * DB 제약 조건 위반 예외를 제약 조건 이름으로 구분하는 유틸리티.
+ *
+ * <p>사전 조회 대신 유니크 인덱스로 중복을 막는 경우, 위반된 인덱스가 기대한 것인지 확인한 뒤 도메인 예외로 변환할 때 사용합니다.</p>
+ */
+public final class ConstraintViolations {
+
+	private ConstraintViolations() {
+	}
+
+	/**
+	 * 예외가 주어진 이름의 제약 조건(유니크 인덱스 포함) 위반으로 발생했는지 확인합니다.
+	 *
+	 * <p>DB마다 제약 조건 이름에 스키마나 접미사를 붙이므로 대소문자를 무시하고 포함 여부로 비교합니다.</p>
+	 *
+	 * @param exception 데이터 무결성 위반 예외
+	 * @param constraintName 제약 조건 이름
+	 * @return 해당 제약 조건 위반이면 true
+	 */
+	public static boolean isViolationOf(DataIntegrityViolationException exception, String constraintName) {
+		String expected = constraintName.toLowerCase(Locale.ROOT);
+		for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+			if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null
+				&& violation.getConstraintName().toLowerCase(Locale.ROOT).contains(expected)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,34 @@
+package com.sopt.cherrish.global.idempotency;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 멱등성 키 설정.
+ */
+@Getter
+@Setter
+@Component
+@Validated
+@ConfigurationProperties(prefix = "idempotency")
+public class IdempotencyProperties {
+
+	/**
+	 * 첫 응답 보관 시간. 이 시간 안에 같은 키로 재시도하면 저장된 응답을 그대로 반환합니다.
+	 */
+	@NotNull
+	private Duration responseTtl = Duration.ofHours(24);
+
+	/**
+	 * 처리 중 잠금 임대 시간. 처리 도중 서버가 죽으면 이 시간이 지난 뒤 같은 키로 다시 처리할 수 있습니다.
+	 */
+	@NotNull
+	private Duration lockLease = Duration.ofSeconds(30);
+}
@@ -0,0 +1,14 @@
+package com.sopt.cherrish.global.idempotency;
+
+/**
+ * 같은 멱등성 키로 먼저 들어온 요청의 기록.
+ *
+ * @param fingerprint 먼저 들어온 요청 본문의 해시
+ * @param response 저장된 첫 응답 JSON (아직 처리 중이면 null)
+ */
+public record IdempotencyRecord(String fingerprint, String response) {
+
+	public boolean isCompleted() {
+		return response != null;
+	}
+}
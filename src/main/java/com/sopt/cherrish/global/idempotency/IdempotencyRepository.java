@@ -0,0 +1,131 @@
+package com.sopt.cherrish.global.idempotency;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 멱등성 키별 처리 상태와 첫 응답을 저장하는 Redis 저장소.
+ *
+ * <p>키마다 해시 하나에 요청 해시, 처리 중 잠금 토큰, 첫 응답을 저장합니다.
+ * 잠금 획득과 기존 기록 조회를 스크립트 하나로 처리하므로, 동시에 들어온 같은 키의 요청 중 하나만 잠금을 얻습니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class IdempotencyRepository {
+
+	private static final String KEY_PREFIX = "idempotency:";
+
+	// 반환: 잠금을 얻으면 빈 배열, 이미 기록이 있으면 {요청 해시, 응답(처리 중이면 nil)}
+	@SuppressWarnings("rawtypes")
+	private static final RedisScript<List> ACQUIRE_SCRIPT = RedisScript.of("""
+		if redis.call('EXISTS', KEYS[1]) == 0 then
+			redis.call('HSET', KEYS[1], 'fingerprint', ARGV[1], 'token', ARGV[2])
+			redis.call('PEXPIRE', KEYS[1], ARGV[3])
+			return {}
+		end
+		return redis.call('HMGET', KEYS[1], 'fingerprint', 'response')
+		""", List.class);
+
+	private static final RedisScript<Long> COMPLETE_SCRIPT = RedisScript.of("""
+		if redis.call('HGET', KEYS[1], 'token') ~= ARGV[1] then
+			return 0
+		end
+		redis.call('HSET', KEYS[1], 'response', ARGV[2])
+		redis.call('HDEL', KEYS[1], 'token')
+		redis.call('PEXPIRE', KEYS[1], ARGV[3])
+		return 1
+		""", Long.class);
+
+	private static final RedisScript<Long> RETAIN_SCRIPT = RedisScript.of("""
+		if redis.call('HGET', KEYS[1], 'token') ~= ARGV[1] then
+			return 0
+		end
+		return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+		""", Long.class);
+
+	private static final RedisScript<Long> RELEASE_SCRIPT = RedisScript.of("""
+		if redis.call('HGET', KEYS[1], 'token') ~= ARGV[1] then
+			return 0
+		end
+		return redis.call('DEL', KEYS[1])
+		""", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	/**
+	 * 기록이 없으면 처리 중 잠금을 잡습니다.
+	 *
+	 * @param key 멱등성 키 (범위와 사용자 포함)
+	 * @param fingerprint 요청 본문의 해시
+	 * @param token 완료/해제 시 사용할 잠금 토큰
+	 * @param lockLease 처리 중 잠금 임대 시간 (처리 도중 서버가 죽어도 이 시간이 지나면 다시 처리할 수 있음)
+	 * @return 잠금을 잡았으면 빈 Optional, 이미 기록이 있으면 그 기록
+	 */
+	public Optional<IdempotencyRecord> acquire(String key, String fingerprint, String token, Duration lockLease) {
+		List<?> result = redisTemplate.execute(
+			ACQUIRE_SCRIPT,
+			List.of(KEY_PREFIX + key),
+			fingerprint,
+			token,
+			String.valueOf(lockLease.toMillis())
+		);
+		if (result == null || result.isEmpty()) {
+			return Optional.empty();
+		}
+		return Optional.of(new IdempotencyRecord(asString(result.get(0)), asString(result.get(1))));
+	}
+
+	/**
+	 * 아직 잠금을 잡고 있으면 첫 응답을 저장하고 잠금을 풉니다.
+	 *
+	 * @param key 멱등성 키
+	 * @param token 잠금 토큰
+	 * @param response 첫 응답 JSON
+	 * @param ttl 응답 보관 시간
+	 * @return 저장했으면 true, 잠금 임대가 만료되어 저장하지 못했으면 false
+	 */
+	public boolean complete(String key, String token, String response, Duration ttl) {
+		Long result = redisTemplate.execute(
+			COMPLETE_SCRIPT,
+			List.of(KEY_PREFIX + key),
+			token,
+			response,
+			String.valueOf(ttl.toMillis())
+		);
+		return result != null && result == 1L;
+	}
+
+	/**
+	 * 처리는 끝났지만 응답을 저장하지 못한 요청의 잠금을 응답 보관 시간까지 유지합니다.
+	 *
+	 * <p>잠금이 남아 있는 동안 같은 키의 재시도는 처리 중으로 거절되어 다시 처리되지 않습니다.</p>
+	 *
+	 * @param key 멱등성 키
+	 * @param token 잠금 토큰
+	 * @param ttl 잠금 유지 시간
+	 */
+	public void retain(String key, String token, Duration ttl) {
+		redisTemplate.execute(RETAIN_SCRIPT, List.of(KEY_PREFIX + key), token, String.valueOf(ttl.toMillis()));
+	}
+
+	/**
+	 * 처리에 실패한 요청의 잠금을 풀어 같은 키로 다시 시도할 수 있게 합니다.
+	 *
+	 * @param key 멱등성 키
+	 * @param token 잠금 토큰
+	 */
+	public void release(String key, String token) {
+		redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + key), token);
+	}
+
+	private static String asString(Object value) {
+		return value == null ? null : value.toString();
+	}
+}
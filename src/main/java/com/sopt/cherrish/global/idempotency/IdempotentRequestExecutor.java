@@ -0,0 +1,160 @@
+package com.sopt.cherrish.global.idempotency;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sopt.cherrish.global.exception.BaseException;
+import com.sopt.cherrish.global.response.CommonApiResponse;
+import com.sopt.cherrish.global.response.error.ErrorCode;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@code Idempotency-Key} 헤더가 있는 변경 요청을 한 번만 처리하는 컴포넌트.
+ *
+ * <p>모바일 클라이언트가 응답을 받지 못해 같은 요청을 다시 보내도 토글이 되돌려지거나 챌린지가 두 번 만들어지지 않도록 합니다.</p>
+ * <ul>
+ *   <li>처음 들어온 요청만 처리 중 잠금을 잡고 처리하며, 성공 응답을 Redis에 저장합니다.</li>
+ *   <li>같은 키로 다시 들어온 요청은 DB를 거치지 않고 저장된 응답을 그대로 반환합니다.</li>
+ *   <li>첫 요청을 처리하는 동안 들어온 요청은 409, 같은 키로 내용이 다른 요청은 422로 거절합니다.</li>
+ *   <li>처리에 실패하면(예외) 잠금을 풀어 같은 키로 다시 시도할 수 있게 합니다.</li>
+ *   <li>처리한 뒤 응답을 저장하지 못하면 잠금을 응답 보관 시간까지 유지하여, 재시도가 다시 처리되지 않고 409로 거절되게 합니다.</li>
+ * </ul>
+ *
+ * <p>키는 범위(엔드포인트)와 사용자별로 구분합니다. 헤더가 없는 요청과 Redis 장애 시에는 중복 확인 없이 그대로 처리합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotentRequestExecutor {
+
+	public static final String HEADER = "Idempotency-Key";
+	public static final String HEADER_DESCRIPTION =
+		"중복 요청 방지 키 (선택, 재시도할 때 같은 값을 전달하면 한 번만 처리하고 첫 응답을 그대로 반환)";
+	public static final String HEADER_EXAMPLE = "5f1c7f0e-2b8a-4d3e-9c1a-7e2b6d4f8a90";
+	private static final int MAX_KEY_LENGTH = 255;
+
+	private final IdempotencyRepository idempotencyRepository;
+	private final IdempotencyProperties properties;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 같은 멱등성 키의 요청을 한 번만 처리합니다.
+	 *
+	 * @param idempotencyKey {@code Idempotency-Key} 헤더 값 (없으면 그대로 처리)
+	 * @param scope 엔드포인트 구분 (같은 키라도 엔드포인트가 다르면 별개의 요청)
+	 * @param userId 사용자 ID
+	 * @param request 요청 내용 (같은 키로 다른 요청을 보냈는지 비교하는 데 사용)
+	 * @param responseType 응답 데이터 타입 (저장된 응답 복원용)
+	 * @param action 실제 처리
+	 * @return 처리 결과 또는 저장된 첫 응답
+	 */
+	public <T> CommonApiResponse<T> execute(
+		String idempotencyKey,
+		String scope,
+		Long userId,
+		Object request,
+		Class<T> responseType,
+		Supplier<CommonApiResponse<T>> action
+	) {
+		if (idempotencyKey == null) {
+			return action.get();
+		}
+		if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+			throw new BaseException(ErrorCode.INVALID_IDEMPOTENCY_KEY);
+		}
+
+		String key = scope + ":" + userId + ":" + idempotencyKey;
+		String fingerprint = fingerprint(request);
+		String token = UUID.randomUUID().toString();
+
+		Optional<IdempotencyRecord> existing;
+		try {
+			existing = idempotencyRepository.acquire(key, fingerprint, token, properties.getLockLease());
+		} catch (DataAccessException e) {
+			log.warn("Idempotency store unavailable, processing without deduplication. key={}", key, e);
+			return action.get();
+		}
+		if (existing.isPresent()) {
+			return replay(key, existing.get(), fingerprint, responseType);
+		}
+
+		CommonApiResponse<T> response;
+		try {
+			response = action.get();
+		} catch (RuntimeException e) {
+			release(key, token);
+			throw e;
+		}
+		store(key, token, response);
+		return response;
+	}
+
+	private <T> CommonApiResponse<T> replay(
+		String key, IdempotencyRecord existing, String fingerprint, Class<T> responseType) {
+		if (!fingerprint.equals(existing.fingerprint())) {
+			throw new BaseException(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+		}
+		if (!existing.isCompleted()) {
+			throw new BaseException(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+		}
+		JavaType type = objectMapper.getTypeFactory().constructParametricType(CommonApiResponse.class, responseType);
+		try {
+			log.info("Replaying stored response. key={}", key);
+			return objectMapper.readValue(existing.response(), type);
+		} catch (JsonProcessingException e) {
+			// 다시 처리하면 토글이 되돌려지는 등 두 번 반영되므로 실패로 응답
+			log.error("Failed to read stored idempotent response. key={}", key, e);
+			throw new BaseException(ErrorCode.INTERNAL_SERVER_ERROR);
+		}
+	}
+
+	private void store(String key, String token, CommonApiResponse<?> response) {
+		try {
+			if (!idempotencyRepository.complete(key, token, objectMapper.writeValueAsString(response),
+				properties.getResponseTtl())) {
+				log.warn("Idempotency lock expired before the response was stored. key={}", key);
+			}
+		} catch (JsonProcessingException | DataAccessException e) {
+			// 이미 처리했으므로 잠금을 풀면 재시도가 두 번 반영됨
+			log.error("Failed to store idempotent response, keeping the key locked. key={}", key, e);
+			retain(key, token);
+		}
+	}
+
+	private void retain(String key, String token) {
+		try {
+			idempotencyRepository.retain(key, token, properties.getResponseTtl());
+		} catch (DataAccessException e) {
+			log.warn("Failed to extend idempotency lock, it expires after the lock lease. key={}", key, e);
+		}
+	}
+
+	private void release(String key, String token) {
+		try {
+			idempotencyRepository.release(key, token);
+		} catch (DataAccessException e) {
+			log.warn("Failed to release idempotency lock. key={}", key, e);
+		}
+	}
+
+	private String fingerprint(Object request) {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(request)));
+		} catch (NoSuchAlgorithmException | JsonProcessingException e) {
+			throw new IllegalStateException("Failed to fingerprint request", e);
+		}
+	}
+}
@@ -1,5 +1,7 @@
 package com.sopt.cherrish.global.response;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.sopt.cherrish.global.response.error.ErrorType;
 import com.sopt.cherrish.global.response.success.SuccessType;
 
@@ -18,7 +20,13 @@ public class CommonApiResponse<T> {
 	@Schema(description = "응답 데이터", nullable = true)
 	private final T data;
 
-	private CommonApiResponse(String code, String message, T data) {
+	// 멱등성 키로 저장한 응답을 복원할 때 사용
+	@JsonCreator
+	private CommonApiResponse(
+		@JsonProperty("code") String code,
+		@JsonProperty("message") String message,
+		@JsonProperty("data") T data
+	) {
 		this.code = code;
 		this.message = message;
 		this.data = data;
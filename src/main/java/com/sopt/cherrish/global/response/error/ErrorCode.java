@@ -7,6 +7,9 @@ public enum ErrorCode implements ErrorType {
 	CONCURRENT_UPDATE("C003", "다른 사용자가 동시에 수정했습니다. 다시 시도해주세요.", 409),
 	NOT_FOUND("C004", "요청한 리소스를 찾을 수 없습니다", 404),
 	METHOD_NOT_ALLOWED("C005", "지원하지 않는 HTTP 메서드입니다", 405),
+	INVALID_IDEMPOTENCY_KEY("C006", "Idempotency-Key는 1자 이상 255자 이하여야 합니다", 400),
+	IDEMPOTENCY_KEY_REUSED("C007", "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다", 422),
+	IDEMPOTENT_REQUEST_IN_PROGRESS("C008", "같은 Idempotency-Key의 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.", 409),
 
 	INTERNAL_SERVER_ERROR("C999", "서버 내부 오류가 발생했습니다", 500);
 
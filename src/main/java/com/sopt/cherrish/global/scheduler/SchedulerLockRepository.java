@@ -0,0 +1,69 @@
+package com.sopt.cherrish.global.scheduler;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 여러 인스턴스 중 한 곳에서만 스케줄 작업을 실행하기 위한 Redis 임대(lease) 잠금.
+ *
+ * <p>잠금은 임대 시간이 지나면 자동으로 풀리므로, 잠금을 잡은 인스턴스가 죽어도 다음 실행은 막히지 않습니다.
+ * 토큰이 일치할 때만 임대를 연장하므로 이미 다른 인스턴스로 넘어간 잠금을 연장하지 않습니다.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class SchedulerLockRepository {
+
+	private static final String KEY_PREFIX = "scheduler_lock:";
+
+	private static final RedisScript<Long> RENEW_SCRIPT = RedisScript.of("""
+		if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+			return 0
+		end
+		return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+		""", Long.class);
+
+	private final RedisTemplate<String, String> redisTemplate;
+
+	/**
+	 * 잠금이 비어 있으면 임대합니다.
+	 *
+	 * @param lockName 작업 이름
+	 * @param leaseTime 임대 시간
+	 * @return 임대에 성공하면 연장에 사용할 토큰, 다른 인스턴스가 잡고 있으면 빈 Optional
+	 */
+	public Optional<String> tryAcquire(String lockName, Duration leaseTime) {
+		String token = UUID.randomUUID().toString();
+		Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key(lockName), token, leaseTime);
+		return Boolean.TRUE.equals(acquired) ? Optional.of(token) : Optional.empty();
+	}
+
+	/**
+	 * 아직 잠금을 잡고 있으면 임대 시간을 연장합니다.
+	 *
+	 * @param lockName 작업 이름
+	 * @param token 임대 시 받은 토큰
+	 * @param leaseTime 연장할 임대 시간
+	 * @return 연장했으면 true, 임대가 만료되어 잠금을 잃었으면 false
+	 */
+	public boolean renew(String lockName, String token, Duration leaseTime) {
+		Long result = redisTemplate.execute(
+			RENEW_SCRIPT,
+			List.of(key(lockName)),
+			token,
+			String.valueOf(leaseTime.toMillis())
+		);
+		return result != null && result == 1L;
+	}
+
+	private String key(String lockName) {
+		return KEY_PREFIX + lockName;
+	}
+}
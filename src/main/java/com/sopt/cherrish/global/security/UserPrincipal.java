@@ -7,8 +7,6 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
-import com.sopt.cherrish.domain.user.domain.model.User;
-
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -17,25 +15,25 @@ import lombok.RequiredArgsConstructor;
  *
  * <p>JWT 인증 후 SecurityContext에 저장되어 현재 인증된 사용자 정보를 제공합니다.
  * {@link CurrentUser} 어노테이션을 통해 컨트롤러에서 주입받을 수 있습니다.</p>
+ *
+ * <p>토큰 클레임만으로 생성되므로 사용자 ID 외의 정보는 담지 않습니다.</p>
  */
 @Getter
 @RequiredArgsConstructor
 public class UserPrincipal implements UserDetails {
 
 	private final Long userId;
-	private final String name;
 	private final Collection<? extends GrantedAuthority> authorities;
 
 	/**
-	 * User 엔티티로부터 UserPrincipal을 생성합니다.
+	 * 사용자 ID로 UserPrincipal을 생성합니다.
 	 *
-	 * @param user 사용자 엔티티
+	 * @param userId 사용자 ID
 	 * @return UserPrincipal 인스턴스
 	 */
-	public static UserPrincipal from(User user) {
+	public static UserPrincipal of(Long userId) {
 		return new UserPrincipal(
-			user.getId(),
-			user.getName(),
+			userId,
 			Collections.singletonList(new SimpleGrantedAuthority("ROLE_USER"))
 		);
 	}
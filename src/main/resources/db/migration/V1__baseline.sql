@@ -0,0 +1,133 @@
+-- Flyway 도입 이전 스키마 (V2 이전 엔티티 매핑을 Hibernate가 PostgreSQL에 생성하던 그대로).
+-- 빈 데이터베이스에서는 이 스크립트로 테이블을 만들고 V2 이후 마이그레이션이 그 위에서 항상 실행됩니다.
+-- 이미 테이블이 있는 기존 데이터베이스는 baseline-on-migrate(baseline-version 1)로 이 버전을 건너뜁니다.
+-- 스키마는 마이그레이션으로만 관리하며, 모든 프로필의 Hibernate는 ddl-auto=validate로 검증만 합니다.
+
+CREATE TABLE users (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	name VARCHAR(7) NOT NULL,
+	age INTEGER NOT NULL,
+	social_provider VARCHAR(10) NOT NULL CHECK (social_provider IN ('KAKAO', 'APPLE')),
+	social_id VARCHAR(255) NOT NULL,
+	email VARCHAR(255),
+	created_at TIMESTAMP(6) NOT NULL,
+	updated_at TIMESTAMP(6),
+	CONSTRAINT uk_users_social_provider_social_id UNIQUE (social_provider, social_id)
+);
+
+CREATE TABLE worries (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	content VARCHAR(100) NOT NULL,
+	created_at TIMESTAMP(6) NOT NULL,
+	updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE procedures (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	name VARCHAR(100) NOT NULL,
+	category VARCHAR(50) NOT NULL,
+	min_downtime_days INTEGER NOT NULL,
+	max_downtime_days INTEGER NOT NULL,
+	created_at TIMESTAMP(6) NOT NULL,
+	updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE procedure_worries (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	procedure_id BIGINT NOT NULL REFERENCES procedures (id),
+	worry_id BIGINT NOT NULL REFERENCES worries (id),
+	created_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX idx_procedure_worries_worry_id_procedure_id ON procedure_worries (worry_id, procedure_id);
+CREATE INDEX idx_procedure_worries_procedure_id ON procedure_worries (procedure_id);
+
+CREATE TABLE user_procedures (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	user_id BIGINT NOT NULL REFERENCES users (id),
+	procedure_id BIGINT NOT NULL REFERENCES procedures (id),
+	scheduled_at TIMESTAMP(6) NOT NULL,
+	downtime_days INTEGER NOT NULL,
+	recovery_target_date DATE,
+	created_at TIMESTAMP(6) NOT NULL,
+	updated_at TIMESTAMP(6)
+);
+
+CREATE INDEX idx_user_procedures_user_id_scheduled_at ON user_procedures (user_id, scheduled_at);
+
+CREATE TABLE challenges (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	user_id BIGINT NOT NULL,
+	homecare_routine VARCHAR(255) NOT NULL
+		CHECK (homecare_routine IN ('SKIN_CONDITION', 'LIFESTYLE', 'BODY_CARE', 'WELLNESS')),
+	title VARCHAR(100) NOT NULL,
+	is_active BOOLEAN NOT NULL,
+	total_days INTEGER NOT NULL,
+	start_date DATE NOT NULL,
+	end_date DATE NOT NULL,
+	created_at TIMESTAMP(6) NOT NULL,
+	updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE challenge_routines (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	challenge_id BIGINT NOT NULL REFERENCES challenges (id),
+	name VARCHAR(100) NOT NULL,
+	scheduled_date DATE NOT NULL,
+	is_complete BOOLEAN NOT NULL,
+	created_at TIMESTAMP(6) NOT NULL,
+	updated_at TIMESTAMP(6)
+);
+
+CREATE INDEX idx_challenge_scheduled ON challenge_routines (challenge_id, scheduled_date);
+CREATE INDEX idx_challenge_complete ON challenge_routines (challenge_id, is_complete);
+
+CREATE TABLE challenge_statistics (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	version BIGINT NOT NULL,
+	challenge_id BIGINT NOT NULL UNIQUE REFERENCES challenges (id),
+	completed_count INTEGER NOT NULL,
+	total_routine_count INTEGER NOT NULL,
+	cherry_level INTEGER NOT NULL,
+	created_at TIMESTAMP(6) NOT NULL,
+	updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE demo_challenges (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	user_id BIGINT NOT NULL,
+	homecare_routine VARCHAR(255) NOT NULL
+		CHECK (homecare_routine IN ('SKIN_CONDITION', 'LIFESTYLE', 'BODY_CARE', 'WELLNESS')),
+	title VARCHAR(100) NOT NULL,
+	is_active BOOLEAN NOT NULL,
+	total_days INTEGER NOT NULL,
+	start_date DATE NOT NULL,
+	end_date DATE NOT NULL,
+	current_virtual_date DATE NOT NULL,
+	created_at TIMESTAMP(6) NOT NULL,
+	updated_at TIMESTAMP(6)
+);
+
+CREATE TABLE demo_challenge_routines (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	demo_challenge_id BIGINT NOT NULL REFERENCES demo_challenges (id),
+	name VARCHAR(100) NOT NULL,
+	scheduled_date DATE NOT NULL,
+	is_complete BOOLEAN NOT NULL,
+	created_at TIMESTAMP(6) NOT NULL,
+	updated_at TIMESTAMP(6)
+);
+
+CREATE INDEX idx_demo_challenge_scheduled ON demo_challenge_routines (demo_challenge_id, scheduled_date);
+CREATE INDEX idx_demo_challenge_complete ON demo_challenge_routines (demo_challenge_id, is_complete);
+
+CREATE TABLE demo_challenge_statistics (
+	id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+	version BIGINT NOT NULL,
+	demo_challenge_id BIGINT NOT NULL UNIQUE REFERENCES demo_challenges (id),
+	completed_count INTEGER NOT NULL,
+	total_routine_count INTEGER NOT NULL,
+	cherry_level INTEGER NOT NULL,
+	created_at TIMESTAMP(6) NOT NULL,
+	updated_at TIMESTAMP(6)
+);
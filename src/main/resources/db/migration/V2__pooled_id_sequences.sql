@@ -0,0 +1,6 @@
+-- 대량 저장 엔티티(challenge_routines, demo_challenge_routines, user_procedures)의 ID 생성을
+-- IDENTITY에서 pooled 시퀀스(allocationSize 50)로 전환합니다.
+-- 기존 IDENTITY 컬럼이 사용하던 시퀀스를 그대로 쓰고 증가 폭만 50으로 맞추므로 기존 ID와 겹치지 않습니다.
+ALTER SEQUENCE challenge_routines_id_seq INCREMENT BY 50;
+ALTER SEQUENCE demo_challenge_routines_id_seq INCREMENT BY 50;
+ALTER SEQUENCE user_procedures_id_seq INCREMENT BY 50;
@@ -0,0 +1,17 @@
+-- 압축 저장 모델(challenge.routine-storage=compact)용 루틴 정의 테이블.
+-- 루틴명 하나당 한 행, 일차별 완료 여부는 completion_bitmap(비트 i = i일차)에 저장합니다.
+-- 기존 challenge_routines 행은 애플리케이션 기동 시 CompactRoutineStorageMigrator가 옮기며 삭제하지 않습니다.
+CREATE SEQUENCE IF NOT EXISTS challenge_routine_definitions_id_seq INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS challenge_routine_definitions (
+	id BIGINT PRIMARY KEY DEFAULT nextval('challenge_routine_definitions_id_seq'),
+	challenge_id BIGINT NOT NULL REFERENCES challenges (id),
+	name VARCHAR(100) NOT NULL,
+	start_day INTEGER NOT NULL,
+	completion_bitmap BIGINT NOT NULL DEFAULT 0,
+	created_at TIMESTAMP(6) NOT NULL,
+	updated_at TIMESTAMP(6)
+);
+
+CREATE INDEX IF NOT EXISTS idx_routine_definition_challenge
+	ON challenge_routine_definitions (challenge_id);
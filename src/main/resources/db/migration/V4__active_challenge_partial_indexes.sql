@@ -0,0 +1,41 @@
+-- 사용자당 활성 챌린지 1개를 보장하는 부분 유니크 인덱스와 만료 배치용 종료일 부분 인덱스.
+-- 부분 인덱스는 JPA 매핑으로 표현할 수 없으므로 ddl-auto가 아닌 마이그레이션으로 관리합니다.
+-- 인덱스 생성 전, 이미 중복된 활성 챌린지가 있으면 가장 최근(id 최대) 것만 남기고 비활성화합니다.
+-- 비활성화한 챌린지는 사용자별 ID 목록을 WARNING으로 남기므로 Flyway 로그("DB: ...")에서 확인할 수 있습니다.
+DO $$
+DECLARE
+	target_table TEXT;
+	deactivated_count BIGINT;
+	deactivated_summary TEXT;
+BEGIN
+	FOREACH target_table IN ARRAY ARRAY['challenges', 'demo_challenges']
+	LOOP
+		EXECUTE format(
+			'WITH deactivated AS ('
+			|| '  UPDATE %1$I SET is_active = FALSE'
+			|| '  WHERE is_active AND id NOT IN (SELECT MAX(id) FROM %1$I WHERE is_active GROUP BY user_id)'
+			|| '  RETURNING id, user_id'
+			|| '), per_user AS ('
+			|| '  SELECT user_id, string_agg(id::TEXT, '','' ORDER BY id) AS ids, COUNT(*) AS id_count'
+			|| '  FROM deactivated GROUP BY user_id'
+			|| ') '
+			|| 'SELECT COALESCE(SUM(id_count), 0),'
+			|| '  string_agg(format(''user %%s: [%%s]'', user_id, ids), ''; '' ORDER BY user_id) '
+			|| 'FROM per_user',
+			target_table) INTO deactivated_count, deactivated_summary;
+
+		IF deactivated_count > 0 THEN
+			RAISE WARNING 'V4: deactivated % duplicate active rows in % (kept the newest per user) - %',
+				deactivated_count, target_table, deactivated_summary;
+		ELSE
+			RAISE NOTICE 'V4: no duplicate active rows in %', target_table;
+		END IF;
+
+		EXECUTE format(
+			'CREATE UNIQUE INDEX IF NOT EXISTS %I ON %I (user_id) WHERE is_active',
+			'uk_' || target_table || '_active_user', target_table);
+	END LOOP;
+END $$;
+
+CREATE INDEX IF NOT EXISTS idx_challenges_active_end_date
+	ON challenges (end_date) WHERE is_active;
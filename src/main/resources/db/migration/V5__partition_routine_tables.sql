@@ -0,0 +1,77 @@
+-- 루틴 테이블(challenge_routines, demo_challenge_routines)을 scheduled_date 월 단위 범위 파티션 테이블로 전환합니다.
+-- 파티션 키가 기본 키에 포함되어야 하므로 기본 키는 (id, scheduled_date)가 됩니다 (엔티티 ID는 그대로 id).
+-- 기존 행이 있는 달부터 이번 달 + 3개월까지 파티션을 만들고, 이후 파티션은 RoutinePartitionMaintenanceScheduler가 미리 만듭니다.
+-- 모든 챌린지가 끝난 달의 파티션은 같은 스케줄러가 분리하여 archive 스키마로 옮깁니다.
+-- 기존 IDENTITY 컬럼의 시퀀스는 테이블과 함께 삭제되므로, 마지막 값 이후부터 이어지도록 다시 만듭니다.
+-- 이미 파티션 테이블로 전환된 테이블은 건너뜁니다.
+DO $$
+DECLARE
+	target RECORD;
+	staging_table TEXT;
+	last_id BIGINT;
+	first_month DATE;
+	last_month DATE;
+	partition_month DATE;
+BEGIN
+	CREATE SCHEMA IF NOT EXISTS archive;
+
+	FOR target IN
+		SELECT *
+		FROM (VALUES
+			('challenge_routines', 'challenge_id', 'challenges', 'idx_challenge_scheduled', 'idx_challenge_complete'),
+			('demo_challenge_routines', 'demo_challenge_id', 'demo_challenges',
+				'idx_demo_challenge_scheduled', 'idx_demo_challenge_complete')
+		) AS t (table_name, parent_column, parent_table, scheduled_index, complete_index)
+	LOOP
+		CONTINUE WHEN EXISTS (
+			SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(target.table_name));
+
+		staging_table := target.table_name || '_partitioned';
+
+		EXECUTE format('SELECT last_value FROM %I', target.table_name || '_id_seq') INTO last_id;
+
+		EXECUTE format(
+			'CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS) PARTITION BY RANGE (scheduled_date)',
+			staging_table, target.table_name);
+		EXECUTE format(
+			'ALTER TABLE %I ADD CONSTRAINT %I PRIMARY KEY (id, scheduled_date)',
+			staging_table, staging_table || '_pkey');
+
+		EXECUTE format(
+			'SELECT date_trunc(''month'', MIN(scheduled_date))::date, date_trunc(''month'', MAX(scheduled_date))::date FROM %I',
+			target.table_name) INTO first_month, last_month;
+		first_month := LEAST(COALESCE(first_month, date_trunc('month', CURRENT_DATE)::date),
+			date_trunc('month', CURRENT_DATE)::date);
+		last_month := GREATEST(COALESCE(last_month, first_month),
+			(date_trunc('month', CURRENT_DATE) + INTERVAL '3 months')::date);
+
+		partition_month := first_month;
+		WHILE partition_month <= last_month LOOP
+			EXECUTE format(
+				'CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+				target.table_name || '_p' || to_char(partition_month, 'YYYYMM'), staging_table,
+				partition_month, (partition_month + INTERVAL '1 month')::date);
+			partition_month := (partition_month + INTERVAL '1 month')::date;
+		END LOOP;
+
+		EXECUTE format('INSERT INTO %I SELECT * FROM %I', staging_table, target.table_name);
+		EXECUTE format('DROP TABLE %I', target.table_name);
+		EXECUTE format('ALTER TABLE %I RENAME TO %I', staging_table, target.table_name);
+		EXECUTE format('ALTER TABLE %I RENAME CONSTRAINT %I TO %I',
+			target.table_name, staging_table || '_pkey', target.table_name || '_pkey');
+
+		EXECUTE format(
+			'ALTER TABLE %I ADD CONSTRAINT %I FOREIGN KEY (%I) REFERENCES %I (id)',
+			target.table_name, 'fk_' || target.table_name || '_' || target.parent_column,
+			target.parent_column, target.parent_table);
+		EXECUTE format('CREATE INDEX %I ON %I (%I, scheduled_date)',
+			target.scheduled_index, target.table_name, target.parent_column);
+		EXECUTE format('CREATE INDEX %I ON %I (%I, is_complete)',
+			target.complete_index, target.table_name, target.parent_column);
+
+		EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %I INCREMENT BY 50', target.table_name || '_id_seq');
+		EXECUTE format(
+			'SELECT setval(%L, GREATEST(%s, COALESCE((SELECT MAX(id) FROM %I), 0) + 50, 1))',
+			target.table_name || '_id_seq', last_id, target.table_name);
+	END LOOP;
+END $$;
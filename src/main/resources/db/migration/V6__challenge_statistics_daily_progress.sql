@@ -0,0 +1,89 @@
+-- challenge_statistics에 일차별 루틴/완료 개수와 연속 달성 기록(완료 일수, 최장 연속 일수)을 추가합니다.
+-- 기존 통계는 루틴 정의(압축 저장 모델)가 있으면 정의로, 없으면 challenge_routines 행으로 채웁니다.
+-- 아직 생성되지 않은 날짜의 루틴 개수는 애플리케이션의 날짜별 루틴 생성과 같이 직전에 생성된 날짜의 개수를 이어받습니다.
+-- 이미 일차별 통계가 있는 행은 건드리지 않습니다.
+DO $$
+BEGIN
+	ALTER TABLE challenge_statistics
+		ADD COLUMN IF NOT EXISTS daily_routine_counts INTEGER[] NOT NULL DEFAULT '{}',
+		ADD COLUMN IF NOT EXISTS daily_completed_counts INTEGER[] NOT NULL DEFAULT '{}',
+		ADD COLUMN IF NOT EXISTS completed_days INTEGER NOT NULL DEFAULT 0,
+		ADD COLUMN IF NOT EXISTS best_streak INTEGER NOT NULL DEFAULT 0;
+
+	CREATE TEMPORARY TABLE daily_progress (
+		challenge_id BIGINT NOT NULL,
+		day_index INTEGER NOT NULL,
+		routine_count INTEGER NOT NULL,
+		completed_count INTEGER NOT NULL,
+		PRIMARY KEY (challenge_id, day_index)
+	) ON COMMIT DROP;
+
+	INSERT INTO daily_progress
+	SELECT c.id, d.day_index,
+		COUNT(*) FILTER (WHERE rd.start_day <= d.day_index),
+		COUNT(*) FILTER (WHERE rd.start_day <= d.day_index
+			AND (rd.completion_bitmap >> d.day_index) & 1 = 1)
+	FROM challenges c
+	JOIN challenge_routine_definitions rd ON rd.challenge_id = c.id
+	CROSS JOIN LATERAL generate_series(0, c.total_days - 1) AS d (day_index)
+	GROUP BY c.id, d.day_index;
+
+	CREATE TEMPORARY TABLE routine_days ON COMMIT DROP AS
+	SELECT r.challenge_id, (r.scheduled_date - c.start_date) AS day_index,
+		COUNT(*)::INTEGER AS routine_count,
+		(COUNT(*) FILTER (WHERE r.is_complete))::INTEGER AS completed_count
+	FROM challenge_routines r
+	JOIN challenges c ON c.id = r.challenge_id
+	WHERE NOT EXISTS (SELECT 1 FROM daily_progress p WHERE p.challenge_id = r.challenge_id)
+	GROUP BY r.challenge_id, r.scheduled_date - c.start_date;
+
+	INSERT INTO daily_progress
+	SELECT c.id, d.day_index,
+		COALESCE(rd.routine_count, (
+			SELECT earlier.routine_count
+			FROM routine_days earlier
+			WHERE earlier.challenge_id = c.id AND earlier.day_index < d.day_index
+			ORDER BY earlier.day_index DESC
+			LIMIT 1
+		), 0),
+		COALESCE(rd.completed_count, 0)
+	FROM challenges c
+	CROSS JOIN LATERAL generate_series(0, c.total_days - 1) AS d (day_index)
+	LEFT JOIN routine_days rd ON rd.challenge_id = c.id AND rd.day_index = d.day_index
+	WHERE EXISTS (SELECT 1 FROM routine_days any_day WHERE any_day.challenge_id = c.id);
+
+	UPDATE challenge_statistics s
+	SET daily_routine_counts = p.routine_counts,
+		daily_completed_counts = p.completed_counts
+	FROM (
+		SELECT challenge_id,
+			array_agg(routine_count ORDER BY day_index) AS routine_counts,
+			array_agg(completed_count ORDER BY day_index) AS completed_counts
+		FROM daily_progress
+		GROUP BY challenge_id
+	) p
+	WHERE s.challenge_id = p.challenge_id
+		AND cardinality(s.daily_routine_counts) = 0;
+
+	-- 모든 루틴을 완료한 날의 연속 구간(일차 - 순번이 같은 묶음)으로 완료 일수와 최장 연속 일수 계산
+	UPDATE challenge_statistics s
+	SET completed_days = streaks.completed_days,
+		best_streak = streaks.best_streak
+	FROM (
+		SELECT statistics_id, SUM(run_length)::INTEGER AS completed_days, MAX(run_length)::INTEGER AS best_streak
+		FROM (
+			SELECT statistics_id, COUNT(*) AS run_length
+			FROM (
+				SELECT cs.id AS statistics_id,
+					t.day_index - ROW_NUMBER() OVER (PARTITION BY cs.id ORDER BY t.day_index) AS run_key
+				FROM challenge_statistics cs
+				CROSS JOIN LATERAL unnest(cs.daily_routine_counts, cs.daily_completed_counts)
+					WITH ORDINALITY AS t (routine_count, completed_count, day_index)
+				WHERE t.routine_count > 0 AND t.completed_count = t.routine_count
+			) completed
+			GROUP BY statistics_id, run_key
+		) runs
+		GROUP BY statistics_id
+	) streaks
+	WHERE s.id = streaks.statistics_id;
+END $$;
@@ -0,0 +1,5 @@
+-- 종료된 챌린지 기록 조회용 사용자별 부분 인덱스.
+-- 기록 API는 (종료일, ID) 키셋으로 최신순 페이지를 읽으므로, 인덱스 순서대로 한 페이지 분량만 읽도록 같은 순서로 정렬합니다.
+-- 진행 중인 챌린지는 사용자당 1개뿐이므로 종료된 챌린지만 담습니다 (부분 인덱스는 마이그레이션으로 관리).
+CREATE INDEX IF NOT EXISTS idx_challenges_finished_user_end_date
+	ON challenges (user_id, end_date DESC, id DESC) WHERE NOT is_active;
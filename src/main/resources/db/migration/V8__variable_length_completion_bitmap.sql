@@ -0,0 +1,7 @@
+-- 100일 챌린지를 압축 저장 모델에 담기 위해 완료 비트맵을 64일 단위 BIGINT 배열로 바꿉니다.
+-- 원소 k의 비트 i = (64k + i)일차 완료이며, 기존 값(64일 이하)은 첫 원소가 됩니다.
+-- 배열은 챌린지 기간에 맞춘 길이로 만들고, 더 짧게 저장된 기존 행은 토글할 때 애플리케이션이 늘립니다.
+ALTER TABLE challenge_routine_definitions
+	ALTER COLUMN completion_bitmap DROP DEFAULT,
+	ALTER COLUMN completion_bitmap TYPE BIGINT[] USING ARRAY[completion_bitmap],
+	ALTER COLUMN completion_bitmap SET DEFAULT '{}';
@@ -0,0 +1,87 @@
+package com.sopt.cherrish;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sopt.cherrish.global.config.JpaAuditConfig;
+import com.sopt.cherrish.global.config.PostgresContainerSupport;
+import com.sopt.cherrish.global.config.QueryDslConfig;
+
+/**
+ * Flyway 마이그레이션 검증 테스트.
+ *
+ * <p>빈 PostgreSQL에 V1(baseline)부터 모든 마이그레이션을 적용한 뒤 운영과 같은 ddl-auto=validate로 엔티티 매핑을 검증합니다.
+ * 마이그레이션이 빈 스키마에서 건너뛰어지면 스키마 검증이나 아래 검증이 실패합니다.
+ * Docker를 사용할 수 없는 환경에서는 건너뜁니다.</p>
+ */
+@DataJpaTest
+@Import({QueryDslConfig.class, JpaAuditConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Flyway 마이그레이션 통합 테스트")
+class FlywayMigrationTest extends PostgresContainerSupport {
+
+	@DynamicPropertySource
+	static void flywayProperties(DynamicPropertyRegistry registry) {
+		registry.add("spring.jpa.properties.hibernate.hbm2ddl.extra_physical_table_types", () -> "PARTITIONED TABLE");
+		registry.add("spring.jpa.hibernate.ddl-auto", () -> "validate");
+		registry.add("spring.flyway.enabled", () -> "true");
+	}
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Test
+	@DisplayName("성공 - 빈 DB에는 V1부터 모든 버전이 적용됨")
+	void appliesEveryVersionFromBaseline() {
+		// when
+		List<String> versions = jdbcTemplate.queryForList(
+			"SELECT version FROM flyway_schema_history WHERE success ORDER BY installed_rank", String.class);
+
+		// then
+		assertThat(versions).containsExactly("1", "2", "3", "4", "5", "6", "7", "8");
+	}
+
+	@Test
+	@DisplayName("성공 - 부분 인덱스는 빈 DB에도 생성됨")
+	void createsPartialIndexes() {
+		// when
+		List<String> indexes = jdbcTemplate.queryForList(
+			"SELECT indexname FROM pg_indexes WHERE schemaname = current_schema()", String.class);
+
+		// then
+		assertThat(indexes).contains(
+			"uk_challenges_active_user",
+			"uk_demo_challenges_active_user",
+			"idx_challenges_active_end_date",
+			"idx_challenges_finished_user_end_date");
+	}
+
+	@Test
+	@DisplayName("성공 - 루틴 테이블은 파티션 테이블이고 대량 저장 시퀀스는 50씩 증가")
+	void partitionsRoutineTablesAndPoolsSequences() {
+		// when
+		List<String> partitionedTables = jdbcTemplate.queryForList(
+			"SELECT c.relname FROM pg_partitioned_table p JOIN pg_class c ON c.oid = p.partrelid", String.class);
+		List<Long> increments = jdbcTemplate.queryForList(
+			"SELECT increment_by FROM pg_sequences WHERE sequencename IN "
+				+ "('challenge_routines_id_seq', 'demo_challenge_routines_id_seq', 'user_procedures_id_seq', "
+				+ "'challenge_routine_definitions_id_seq')",
+			Long.class);
+
+		// then
+		assertThat(partitionedTables).containsExactlyInAnyOrder("challenge_routines", "demo_challenge_routines");
+		assertThat(increments).hasSize(4).containsOnly(50L);
+	}
+}
@@ -0,0 +1,123 @@
+package com.sopt.cherrish.domain.auth.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.sopt.cherrish.global.config.RedisContainerSupport;
+
+/**
+ * Refresh Token 교체(CAS) 스크립트의 원자성 검증 테스트.
+ *
+ * <p>Lua 스크립트의 원자성은 실제 Redis에서만 확인할 수 있으므로 Testcontainers로 Redis를 띄웁니다.
+ * Docker를 사용할 수 없는 환경에서는 건너뜁니다.</p>
+ */
+@DisplayName("RefreshTokenRepository 동시성 테스트")
+class RefreshTokenRepositoryConcurrencyTest extends RedisContainerSupport {
+
+	private static final int THREAD_COUNT = 32;
+	private static final long EXPIRATION_MILLIS = 60_000L;
+	private static final Long USER_ID = 1L;
+
+	private RefreshTokenRepository refreshTokenRepository;
+
+	@BeforeEach
+	void setUp() {
+		RedisTemplate<String, String> redisTemplate = createFlushedRedisTemplate();
+		refreshTokenRepository = new RefreshTokenRepository(redisTemplate);
+	}
+
+	@Test
+	@DisplayName("동시성 - 같은 Refresh Token으로 동시에 교체하면 정확히 하나만 성공")
+	void concurrentRotationHasExactlyOneWinner() throws Exception {
+		// given
+		refreshTokenRepository.save(USER_ID, "old-token-id", EXPIRATION_MILLIS);
+
+		ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+		CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+		CountDownLatch start = new CountDownLatch(1);
+		CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+		Map<String, RefreshTokenRotationResult> results = new ConcurrentHashMap<>();
+
+		// when - 모든 스레드가 같은 기존 토큰 ID로 서로 다른 새 토큰 ID를 저장 시도
+		for (int i = 0; i < THREAD_COUNT; i++) {
+			String newTokenId = "new-token-id-" + i;
+			executor.submit(() -> {
+				try {
+					ready.countDown();
+					start.await();
+					results.put(newTokenId, refreshTokenRepository.rotate(
+						USER_ID, "old-token-id", newTokenId, EXPIRATION_MILLIS));
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+				} finally {
+					done.countDown();
+				}
+			});
+		}
+
+		try {
+			ready.await(10, TimeUnit.SECONDS);
+			start.countDown();
+			done.await(10, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(5, TimeUnit.SECONDS);
+		}
+
+		// then
+		List<String> winners = results.entrySet().stream()
+			.filter(entry -> entry.getValue() == RefreshTokenRotationResult.ROTATED)
+			.map(Map.Entry::getKey)
+			.toList();
+
+		assertThat(results).hasSize(THREAD_COUNT);
+		assertThat(winners).hasSize(1);
+		assertThat(results.values())
+			.filteredOn(result -> result == RefreshTokenRotationResult.MISMATCH)
+			.hasSize(THREAD_COUNT - 1);
+		assertThat(refreshTokenRepository.findByUserId(USER_ID)).contains(winners.getFirst());
+	}
+
+	@Test
+	@DisplayName("저장된 토큰이 없으면 NOT_FOUND")
+	void rotateWithoutStoredTokenReturnsNotFound() {
+		// when
+		RefreshTokenRotationResult result =
+			refreshTokenRepository.rotate(USER_ID, "old-token-id", "new-token-id", EXPIRATION_MILLIS);
+
+		// then
+		assertThat(result).isEqualTo(RefreshTokenRotationResult.NOT_FOUND);
+		assertThat(refreshTokenRepository.findByUserId(USER_ID)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("교체된 토큰 ID로 다시 교체할 수 있고, 이전 토큰 ID는 거부")
+	void rotatedTokenIdReplacesPreviousOne() {
+		// given
+		refreshTokenRepository.save(USER_ID, "first", EXPIRATION_MILLIS);
+		refreshTokenRepository.rotate(USER_ID, "first", "second", EXPIRATION_MILLIS);
+
+		// when
+		RefreshTokenRotationResult reused =
+			refreshTokenRepository.rotate(USER_ID, "first", "third", EXPIRATION_MILLIS);
+		RefreshTokenRotationResult rotated =
+			refreshTokenRepository.rotate(USER_ID, "second", "third", EXPIRATION_MILLIS);
+
+		// then
+		assertThat(reused).isEqualTo(RefreshTokenRotationResult.MISMATCH);
+		assertThat(rotated).isEqualTo(RefreshTokenRotationResult.ROTATED);
+		assertThat(refreshTokenRepository.findByUserId(USER_ID)).contains("third");
+	}
+}
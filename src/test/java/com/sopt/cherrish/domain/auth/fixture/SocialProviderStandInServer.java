@@ -0,0 +1,91 @@
+package com.sopt.cherrish.domain.auth.fixture;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 소셜 로그인 제공자(JWKS, 사용자 정보 API)를 대신하는 로컬 HTTP 서버.
+ *
+ * <p>경로별로 응답을 등록하고 요청 횟수를 확인할 수 있습니다. 등록되지 않은 경로는 404를 반환합니다.</p>
+ */
+public class SocialProviderStandInServer implements AutoCloseable {
+
+	public static final String JWKS_PATH = "/jwks";
+
+	private final HttpServer server;
+	private final Map<String, StubResponse> responses = new ConcurrentHashMap<>();
+	private final Map<String, AtomicInteger> requestCounts = new ConcurrentHashMap<>();
+
+	private SocialProviderStandInServer(HttpServer server) {
+		this.server = server;
+	}
+
+	public static SocialProviderStandInServer start() {
+		try {
+			HttpServer httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+			SocialProviderStandInServer standIn = new SocialProviderStandInServer(httpServer);
+			httpServer.createContext("/", standIn::handle);
+			httpServer.start();
+			return standIn;
+		} catch (IOException e) {
+			throw new IllegalStateException("Failed to start stand-in server", e);
+		}
+	}
+
+	public String url(String path) {
+		return "http://localhost:" + server.getAddress().getPort() + path;
+	}
+
+	/**
+	 * JWKS 엔드포인트가 주어진 키들의 공개키를 반환하도록 설정합니다.
+	 */
+	public void publishKeys(TestSigningKey... keys) {
+		String body = Arrays.stream(keys)
+			.map(TestSigningKey::toJwkJson)
+			.collect(Collectors.joining(",", "{\"keys\":[", "]}"));
+		stub(JWKS_PATH, 200, body);
+	}
+
+	public void stub(String path, int status, String body) {
+		responses.put(path, new StubResponse(status, body));
+	}
+
+	public int requestCount(String path) {
+		AtomicInteger count = requestCounts.get(path);
+		return count == null ? 0 : count.get();
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		String path = exchange.getRequestURI().getPath();
+		requestCounts.computeIfAbsent(path, key -> new AtomicInteger()).incrementAndGet();
+
+		StubResponse response = responses.getOrDefault(path, new StubResponse(404, "{}"));
+		byte[] body = response.body().getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(response.status(), body.length);
+		try (OutputStream outputStream = exchange.getResponseBody()) {
+			outputStream.write(body);
+		}
+	}
+
+	private record StubResponse(
+		int status,
+		String body
+	) {
+	}
+}
@@ -0,0 +1,74 @@
+package com.sopt.cherrish.domain.auth.fixture;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+
+/**
+ * 테스트용 OIDC 서명 키.
+ *
+ * <p>RSA 키 쌍을 생성하고, 공개키를 JWK 형식으로 내보내거나 ID Token을 서명합니다.</p>
+ */
+public record TestSigningKey(
+	String kid,
+	KeyPair keyPair
+) {
+
+	public static TestSigningKey generate(String kid) {
+		try {
+			KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+			generator.initialize(2048);
+			return new TestSigningKey(kid, generator.generateKeyPair());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * 이 키로 서명한 ID Token을 생성합니다.
+	 *
+	 * @param issuer 발급자
+	 * @param audience 대상
+	 * @param subject 사용자 식별자
+	 * @param expiresAt 만료 시각
+	 * @return 서명된 ID Token
+	 */
+	public String signIdToken(String issuer, String audience, String subject, Instant expiresAt) {
+		return idTokenBuilder(issuer, audience, subject, expiresAt).compact();
+	}
+
+	public JwtBuilder idTokenBuilder(String issuer, String audience, String subject, Instant expiresAt) {
+		return Jwts.builder()
+			.header().keyId(kid).and()
+			.issuer(issuer)
+			.audience().add(audience).and()
+			.subject(subject)
+			.issuedAt(new Date())
+			.expiration(Date.from(expiresAt))
+			.signWith(keyPair.getPrivate(), Jwts.SIG.RS256);
+	}
+
+	String toJwkJson() {
+		RSAPublicKey publicKey = (RSAPublicKey)keyPair.getPublic();
+		return """
+			{"kty":"RSA","kid":"%s","use":"sig","alg":"RS256","n":"%s","e":"%s"}\
+			""".formatted(kid, base64Url(publicKey.getModulus()), base64Url(publicKey.getPublicExponent()));
+	}
+
+	private static String base64Url(BigInteger value) {
+		byte[] bytes = value.toByteArray();
+		if (bytes.length > 1 && bytes[0] == 0) {
+			bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+		}
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+	}
+}
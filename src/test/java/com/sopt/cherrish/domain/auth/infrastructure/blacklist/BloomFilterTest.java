@@ -0,0 +1,51 @@
+package com.sopt.cherrish.domain.auth.infrastructure.blacklist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("BloomFilter 단위 테스트")
+class BloomFilterTest {
+
+	@Test
+	@DisplayName("추가한 원소는 항상 있을 수도 있음으로 판단 (거짓 음성 없음)")
+	void noFalseNegatives() {
+		// given
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		IntStream.range(0, 10_000).forEach(i -> filter.put("token-" + i));
+
+		// when & then
+		assertThat(IntStream.range(0, 10_000).allMatch(i -> filter.mightContain("token-" + i))).isTrue();
+	}
+
+	@Test
+	@DisplayName("예상 원소 수만큼 채워도 오탐률은 목표치 근처로 유지")
+	void falsePositiveRateStaysNearTarget() {
+		// given
+		BloomFilter filter = new BloomFilter(10_000, 0.01);
+		IntStream.range(0, 10_000).forEach(i -> filter.put("revoked-" + i));
+
+		// when
+		long falsePositives = IntStream.range(0, 100_000)
+			.filter(i -> filter.mightContain("active-" + i))
+			.count();
+
+		// then
+		assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+		assertThat(filter.expectedFalsePositiveProbability()).isLessThan(0.02);
+	}
+
+	@Test
+	@DisplayName("빈 필터는 어떤 원소도 포함하지 않음")
+	void emptyFilterContainsNothing() {
+		// given
+		BloomFilter filter = new BloomFilter(100, 0.01);
+
+		// when & then
+		assertThat(filter.mightContain("token")).isFalse();
+		assertThat(filter.expectedFalsePositiveProbability()).isZero();
+	}
+}
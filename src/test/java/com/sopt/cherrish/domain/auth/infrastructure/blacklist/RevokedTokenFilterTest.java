@@ -0,0 +1,168 @@
+package com.sopt.cherrish.domain.auth.infrastructure.blacklist;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("RevokedTokenFilter 단위 테스트")
+class RevokedTokenFilterTest {
+
+	private RedisTemplate<String, String> redisTemplate;
+	private SimpleMeterRegistry meterRegistry;
+	private RevokedTokenFilter revokedTokenFilter;
+
+	@BeforeEach
+	@SuppressWarnings("unchecked")
+	void setUp() {
+		redisTemplate = mock(RedisTemplate.class);
+		meterRegistry = new SimpleMeterRegistry();
+		revokedTokenFilter = new RevokedTokenFilter(
+			redisTemplate, mock(RedisMessageListenerContainer.class), meterRegistry);
+		revokedTokenFilter.init();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void givenRedisKeys(String... keys) {
+		Iterator<String> iterator = List.of(keys).iterator();
+		Cursor<String> cursor = mock(Cursor.class);
+		given(cursor.hasNext()).willAnswer(invocation -> iterator.hasNext());
+		given(cursor.next()).willAnswer(invocation -> iterator.next());
+		given(redisTemplate.scan(any(ScanOptions.class))).willReturn(cursor);
+	}
+
+	@Test
+	@DisplayName("재구성 전에는 모든 토큰을 Redis로 확인")
+	void beforeRebuildEveryLookupFallsBackToRedis() {
+		// when & then
+		assertThat(revokedTokenFilter.mightBeRevoked("token")).isTrue();
+	}
+
+	@Test
+	@DisplayName("재구성 후 Redis에 있는 토큰만 있을 수도 있음으로 판단")
+	void rebuildLoadsRevokedTokenIdsFromRedis() {
+		// given
+		givenRedisKeys("blacklist:revoked-1", "blacklist:revoked-2");
+
+		// when
+		revokedTokenFilter.rebuild();
+
+		// then
+		assertThat(revokedTokenFilter.mightBeRevoked("revoked-1")).isTrue();
+		assertThat(revokedTokenFilter.mightBeRevoked("revoked-2")).isTrue();
+		assertThat(revokedTokenFilter.mightBeRevoked("active")).isFalse();
+		assertThat(meterRegistry.get("auth.blacklist.filter.lookups").tag("result", "negative").counter().count())
+			.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 발행한 토큰을 필터에 반영하고 동기화 지연을 기록")
+	void onMessageAddsTokenIdAndRecordsSyncLag() {
+		// given
+		givenRedisKeys();
+		revokedTokenFilter.rebuild();
+		String body = System.currentTimeMillis() + ":revoked-elsewhere";
+
+		// when
+		revokedTokenFilter.onMessage(new DefaultMessage(
+			RevokedTokenFilter.CHANNEL.getBytes(StandardCharsets.UTF_8),
+			body.getBytes(StandardCharsets.UTF_8)), null);
+
+		// then
+		assertThat(revokedTokenFilter.mightBeRevoked("revoked-elsewhere")).isTrue();
+		assertThat(meterRegistry.get("auth.blacklist.filter.sync.lag").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Redis 확인 결과로 관측 오탐률을 계산")
+	void observedFalsePositiveRate() {
+		// given
+		givenRedisKeys();
+		revokedTokenFilter.rebuild();
+		revokedTokenFilter.mightBeRevoked("active");
+
+		// when
+		revokedTokenFilter.recordConfirmation(false);
+
+		// then
+		assertThat(meterRegistry.get("auth.blacklist.filter.false.positive.rate").gauge().value())
+			.isEqualTo(0.5);
+	}
+
+	@Test
+	@DisplayName("동시성 - 재구성과 동시에 추가된 토큰도 교체된 필터에 남음")
+	@SuppressWarnings("unchecked")
+	void tokensAddedDuringRebuildSurviveSwap() throws Exception {
+		// given: SCAN은 시작 시점의 Redis 키만 돌려주고, 이후 기록된 키는 Pub/Sub 메시지로만 반영됨
+		Set<String> redisKeys = ConcurrentHashMap.newKeySet();
+		AtomicReference<Iterator<String>> scanIterator = new AtomicReference<>();
+		Cursor<String> cursor = mock(Cursor.class);
+		given(cursor.hasNext()).willAnswer(invocation -> scanIterator.get().hasNext());
+		given(cursor.next()).willAnswer(invocation -> scanIterator.get().next());
+		given(redisTemplate.scan(any(ScanOptions.class))).willAnswer(invocation -> {
+			scanIterator.set(List.copyOf(redisKeys).iterator());
+			return cursor;
+		});
+		revokedTokenFilter.rebuild();
+		List<String> tokenIds = IntStream.range(0, 20_000).mapToObj(i -> "revoked-" + i).toList();
+		AtomicBoolean adding = new AtomicBoolean(true);
+		CountDownLatch startLatch = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+
+		// when: 한 스레드는 블랙리스트 추가(Redis 기록 후 발행)를, 다른 스레드는 재구성을 반복
+		try {
+			Future<?> adder = executor.submit(() -> {
+				startLatch.await();
+				for (String tokenId : tokenIds) {
+					redisKeys.add("blacklist:" + tokenId);
+					String body = System.currentTimeMillis() + ":" + tokenId;
+					revokedTokenFilter.onMessage(new DefaultMessage(
+						RevokedTokenFilter.CHANNEL.getBytes(StandardCharsets.UTF_8),
+						body.getBytes(StandardCharsets.UTF_8)), null);
+				}
+				adding.set(false);
+				return null;
+			});
+			Future<?> rebuilder = executor.submit(() -> {
+				startLatch.await();
+				while (adding.get()) {
+					revokedTokenFilter.rebuild();
+				}
+				return null;
+			});
+			startLatch.countDown();
+			adder.get(30, TimeUnit.SECONDS);
+			rebuilder.get(30, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdownNow();
+		}
+
+		// then
+		assertThat(tokenIds).allMatch(revokedTokenFilter::mightBeRevoked);
+	}
+}
@@ -0,0 +1,136 @@
+package com.sopt.cherrish.domain.auth.infrastructure.jwt;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Base64;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.sopt.cherrish.domain.auth.exception.AuthErrorCode;
+import com.sopt.cherrish.domain.auth.exception.AuthException;
+
+@DisplayName("JwtTokenProvider 단위 테스트")
+class JwtTokenProviderTest {
+
+	private static final String SECRET_KEY = Base64.getEncoder()
+		.encodeToString("cherrish-test-secret-key-must-be-32-bytes!".getBytes());
+	private static final String OTHER_SECRET_KEY = Base64.getEncoder()
+		.encodeToString("another-secret-key-for-signature-mismatch".getBytes());
+
+	private JwtTokenProvider jwtTokenProvider;
+
+	@BeforeEach
+	void setUp() {
+		jwtTokenProvider = createProvider(SECRET_KEY);
+	}
+
+	private JwtTokenProvider createProvider(String secretKey) {
+		JwtProperties properties = new JwtProperties();
+		properties.setSecretKey(secretKey);
+		properties.setAccessTokenExpiration(1_800_000L);
+		properties.setRefreshTokenExpiration(1_209_600_000L);
+		JwtTokenProvider provider = new JwtTokenProvider(properties);
+		provider.init();
+		return provider;
+	}
+
+	@Test
+	@DisplayName("Access Token 파싱 - 사용자 ID, 타입, 만료 시각을 한 번에 반환")
+	void parseAccessToken() {
+		// given
+		String token = jwtTokenProvider.createAccessToken(1L).token();
+
+		// when
+		JwtClaims claims = jwtTokenProvider.parse(token);
+
+		// then
+		assertThat(claims.userId()).isEqualTo(1L);
+		assertThat(claims.isAccessToken()).isTrue();
+		assertThat(claims.isRefreshToken()).isFalse();
+		assertThat(claims.remainingMillis(System.currentTimeMillis())).isPositive();
+	}
+
+	@Test
+	@DisplayName("Refresh Token 파싱 - refresh 타입으로 반환")
+	void parseRefreshToken() {
+		// given
+		String token = jwtTokenProvider.createRefreshToken(2L).token();
+
+		// when
+		JwtClaims claims = jwtTokenProvider.parse(token);
+
+		// then
+		assertThat(claims.userId()).isEqualTo(2L);
+		assertThat(claims.isRefreshToken()).isTrue();
+	}
+
+	@Test
+	@DisplayName("발급된 토큰에는 고유한 토큰 ID(jti)가 포함")
+	void issuedTokenContainsUniqueTokenId() {
+		// given
+		IssuedToken first = jwtTokenProvider.createAccessToken(1L);
+		IssuedToken second = jwtTokenProvider.createAccessToken(1L);
+
+		// when
+		JwtClaims claims = jwtTokenProvider.parse(first.token());
+
+		// then
+		assertThat(claims.tokenId()).isEqualTo(first.tokenId());
+		assertThat(claims.tokenIdOrElse(first.token())).isEqualTo(first.tokenId());
+		assertThat(first.tokenId()).hasSize(22).isNotEqualTo(second.tokenId());
+	}
+
+	@Test
+	@DisplayName("같은 토큰을 반복 파싱하면 캐시된 클레임을 반환")
+	void parseSameTokenReturnsCachedClaims() {
+		// given
+		String token = jwtTokenProvider.createAccessToken(1L).token();
+
+		// when
+		JwtClaims first = jwtTokenProvider.parse(token);
+		JwtClaims second = jwtTokenProvider.parse(token);
+
+		// then
+		assertThat(second).isSameAs(first);
+	}
+
+	@Test
+	@DisplayName("다른 키로 서명된 토큰은 INVALID_TOKEN 예외")
+	void parseTokenSignedWithOtherKeyThrowsInvalidToken() {
+		// given
+		String token = createProvider(OTHER_SECRET_KEY).createAccessToken(1L).token();
+
+		// when & then
+		assertThatThrownBy(() -> jwtTokenProvider.parse(token))
+			.isInstanceOf(AuthException.class)
+			.extracting("errorCode")
+			.isEqualTo(AuthErrorCode.INVALID_TOKEN);
+	}
+
+	@Test
+	@DisplayName("서명이 변조된 토큰은 캐시된 원본과 별개로 INVALID_TOKEN 예외")
+	void parseTamperedTokenThrowsInvalidToken() {
+		// given
+		String token = jwtTokenProvider.createAccessToken(1L).token();
+		jwtTokenProvider.parse(token);
+		String tampered = token.substring(0, token.length() - 2)
+			+ (token.endsWith("AA") ? "BB" : "AA");
+
+		// when & then
+		assertThatThrownBy(() -> jwtTokenProvider.parse(tampered))
+			.isInstanceOf(AuthException.class);
+	}
+
+	@Test
+	@DisplayName("형식이 잘못된 토큰은 INVALID_TOKEN 예외")
+	void parseMalformedTokenThrowsInvalidToken() {
+		// when & then
+		assertThatThrownBy(() -> jwtTokenProvider.parse("not-a-jwt"))
+			.isInstanceOf(AuthException.class)
+			.extracting("errorCode")
+			.isEqualTo(AuthErrorCode.INVALID_TOKEN);
+	}
+}
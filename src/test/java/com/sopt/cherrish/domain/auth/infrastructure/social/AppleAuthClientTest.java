@@ -0,0 +1,182 @@
+package com.sopt.cherrish.domain.auth.infrastructure.social;
+
+import static com.sopt.cherrish.domain.auth.fixture.SocialProviderStandInServer.JWKS_PATH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sopt.cherrish.domain.auth.exception.AuthErrorCode;
+import com.sopt.cherrish.domain.auth.exception.AuthException;
+import com.sopt.cherrish.domain.auth.fixture.MutableClock;
+import com.sopt.cherrish.domain.auth.fixture.SocialProviderStandInServer;
+import com.sopt.cherrish.domain.auth.fixture.TestSigningKey;
+
+@DisplayName("AppleAuthClient 단위 테스트 (로컬 JWKS 서버)")
+class AppleAuthClientTest {
+
+	private static final String APPLE_ISSUER = "https://appleid.apple.com";
+	private static final String CLIENT_ID = "com.test.app";
+
+	private static final TestSigningKey KEY_1 = TestSigningKey.generate("key-1");
+	private static final TestSigningKey KEY_2 = TestSigningKey.generate("key-2");
+
+	private SocialProviderStandInServer server;
+	private MutableClock clock;
+	private AppleAuthClient appleAuthClient;
+
+	@BeforeEach
+	void setUp() {
+		server = SocialProviderStandInServer.start();
+		server.publishKeys(KEY_1);
+		clock = new MutableClock(Instant.now());
+		appleAuthClient = new AppleAuthClient(
+			new RestTemplate(), new ObjectMapper(), clock, CLIENT_ID, server.url(JWKS_PATH));
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.close();
+	}
+
+	private String identityToken(TestSigningKey key, String subject) {
+		return key.idTokenBuilder(APPLE_ISSUER, CLIENT_ID, subject, Instant.now().plusSeconds(600))
+			.claim("email", subject + "@privaterelay.appleid.com")
+			.compact();
+	}
+
+	@Test
+	@DisplayName("유효한 Identity Token - 사용자 정보 반환, JWKS는 한 번만 조회")
+	void validIdentityTokenUsesCachedKeys() {
+		// when
+		SocialUserInfo first = appleAuthClient.getUserInfo(identityToken(KEY_1, "apple-user"));
+		SocialUserInfo second = appleAuthClient.getUserInfo(identityToken(KEY_1, "apple-user"));
+
+		// then
+		assertThat(first.socialId()).isEqualTo("apple-user");
+		assertThat(first.email()).isEqualTo("apple-user@privaterelay.appleid.com");
+		assertThat(second.socialId()).isEqualTo("apple-user");
+		assertThat(server.requestCount(JWKS_PATH)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("audience가 다르면 INVALID_SOCIAL_TOKEN 예외")
+	void wrongAudienceIsRejected() {
+		// given
+		String token = KEY_1.signIdToken(APPLE_ISSUER, "other.app", "apple-user", Instant.now().plusSeconds(600));
+
+		// when & then
+		assertThatThrownBy(() -> appleAuthClient.getUserInfo(token))
+			.isInstanceOf(AuthException.class)
+			.hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.INVALID_SOCIAL_TOKEN);
+	}
+
+	@Test
+	@DisplayName("새 kid가 나타나면 동시 요청들이 하나의 JWKS 조회를 공유")
+	void unknownKidTriggersSingleFlightRefresh() throws Exception {
+		// given
+		appleAuthClient.getUserInfo(identityToken(KEY_1, "warm-up"));
+		server.publishKeys(KEY_1, KEY_2);
+		clock.advance(Duration.ofMinutes(2));
+		String rotatedToken = identityToken(KEY_2, "apple-user");
+
+		int threadCount = 16;
+		ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<SocialUserInfo>> results = new ArrayList<>();
+
+		// when
+		for (int i = 0; i < threadCount; i++) {
+			results.add(executor.submit(() -> {
+				start.await();
+				return appleAuthClient.getUserInfo(rotatedToken);
+			}));
+		}
+		start.countDown();
+
+		// then
+		try {
+			for (Future<SocialUserInfo> result : results) {
+				assertThat(result.get(10, TimeUnit.SECONDS).socialId()).isEqualTo("apple-user");
+			}
+		} finally {
+			executor.shutdown();
+		}
+		assertThat(server.requestCount(JWKS_PATH)).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("알 수 없는 kid로 JWKS를 반복 조회하지 않음")
+	void unknownKidRefreshIsThrottled() {
+		// given
+		appleAuthClient.getUserInfo(identityToken(KEY_1, "warm-up"));
+		String unknownKidToken = identityToken(KEY_2, "apple-user");
+
+		// when & then
+		assertThatThrownBy(() -> appleAuthClient.getUserInfo(unknownKidToken))
+			.isInstanceOf(AuthException.class)
+			.hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.INVALID_SOCIAL_TOKEN);
+		assertThat(server.requestCount(JWKS_PATH)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("만료 임박 시 기존 키로 응답하고 백그라운드에서 갱신")
+	void refreshAheadServesStaleKeysWhileRevalidating() throws Exception {
+		// given
+		appleAuthClient.getUserInfo(identityToken(KEY_1, "warm-up"));
+		clock.advance(Duration.ofHours(23).plusMinutes(1));
+
+		// when
+		SocialUserInfo result = appleAuthClient.getUserInfo(identityToken(KEY_1, "apple-user"));
+
+		// then
+		assertThat(result.socialId()).isEqualTo("apple-user");
+		long deadline = System.currentTimeMillis() + 5_000;
+		while (server.requestCount(JWKS_PATH) < 2 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(20);
+		}
+		assertThat(server.requestCount(JWKS_PATH)).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("갱신에 실패해도 기존 키로 계속 검증")
+	void staleKeysAreUsedWhenRefreshFails() {
+		// given
+		appleAuthClient.getUserInfo(identityToken(KEY_1, "warm-up"));
+		server.stub(JWKS_PATH, 500, "{}");
+		clock.advance(Duration.ofHours(25));
+
+		// when
+		SocialUserInfo result = appleAuthClient.getUserInfo(identityToken(KEY_1, "apple-user"));
+
+		// then
+		assertThat(result.socialId()).isEqualTo("apple-user");
+	}
+
+	@Test
+	@DisplayName("처음부터 JWKS를 가져올 수 없으면 SOCIAL_AUTH_FAILED 예외")
+	void unavailableJwksFailsFirstLogin() {
+		// given
+		server.stub(JWKS_PATH, 500, "{}");
+
+		// when & then
+		assertThatThrownBy(() -> appleAuthClient.getUserInfo(identityToken(KEY_1, "apple-user")))
+			.isInstanceOf(AuthException.class)
+			.hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.SOCIAL_AUTH_FAILED);
+	}
+}
@@ -0,0 +1,125 @@
+package com.sopt.cherrish.domain.auth.infrastructure.social;
+
+import static com.sopt.cherrish.domain.auth.fixture.SocialProviderStandInServer.JWKS_PATH;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sopt.cherrish.domain.auth.exception.AuthErrorCode;
+import com.sopt.cherrish.domain.auth.exception.AuthException;
+import com.sopt.cherrish.domain.auth.fixture.MutableClock;
+import com.sopt.cherrish.domain.auth.fixture.SocialProviderStandInServer;
+import com.sopt.cherrish.domain.auth.fixture.TestSigningKey;
+
+@DisplayName("KakaoAuthClient 단위 테스트 (로컬 JWKS/사용자 정보 서버)")
+class KakaoAuthClientTest {
+
+	private static final String KAKAO_ISSUER = "https://kauth.kakao.com";
+	private static final String CLIENT_ID = "test-kakao-app-key";
+	private static final String USER_INFO_PATH = "/v2/user/me";
+
+	private static final TestSigningKey KEY = TestSigningKey.generate("kakao-key-1");
+
+	private SocialProviderStandInServer server;
+	private KakaoAuthClient kakaoAuthClient;
+
+	@BeforeEach
+	void setUp() {
+		server = SocialProviderStandInServer.start();
+		server.publishKeys(KEY);
+		server.stub(USER_INFO_PATH, 200, """
+			{"id":12345,"kakao_account":{"email":"rest@kakao.com"},"properties":{"nickname":"레스트"}}
+			""");
+		kakaoAuthClient = createClient(CLIENT_ID);
+	}
+
+	@AfterEach
+	void tearDown() {
+		server.close();
+	}
+
+	private KakaoAuthClient createClient(String clientId) {
+		return new KakaoAuthClient(new RestTemplate(), new ObjectMapper(), new MutableClock(Instant.now()),
+			clientId, server.url(JWKS_PATH), server.url(USER_INFO_PATH));
+	}
+
+	private String idToken(String issuer, String subject) {
+		return KEY.idTokenBuilder(issuer, CLIENT_ID, subject, Instant.now().plusSeconds(600))
+			.claim("email", "oidc@kakao.com")
+			.claim("nickname", "체리")
+			.compact();
+	}
+
+	@Test
+	@DisplayName("유효한 ID Token - 사용자 정보 API 호출 없이 로컬에서 검증")
+	void validIdTokenIsVerifiedLocally() {
+		// when
+		SocialUserInfo first = kakaoAuthClient.getUserInfoFromIdToken(idToken(KAKAO_ISSUER, "12345"));
+		SocialUserInfo second = kakaoAuthClient.getUserInfoFromIdToken(idToken(KAKAO_ISSUER, "12345"));
+
+		// then
+		assertThat(first.socialId()).isEqualTo("12345");
+		assertThat(first.email()).isEqualTo("oidc@kakao.com");
+		assertThat(first.nickname()).isEqualTo("체리");
+		assertThat(second.socialId()).isEqualTo("12345");
+		assertThat(server.requestCount(JWKS_PATH)).isEqualTo(1);
+		assertThat(server.requestCount(USER_INFO_PATH)).isZero();
+	}
+
+	@Test
+	@DisplayName("issuer가 다른 ID Token은 INVALID_SOCIAL_TOKEN 예외")
+	void wrongIssuerIsRejected() {
+		// given
+		String token = idToken("https://evil.example.com", "12345");
+
+		// when & then
+		assertThatThrownBy(() -> kakaoAuthClient.getUserInfoFromIdToken(token))
+			.isInstanceOf(AuthException.class)
+			.hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.INVALID_SOCIAL_TOKEN);
+	}
+
+	@Test
+	@DisplayName("Access Token - 사용자 정보 API로 조회")
+	void accessTokenFallsBackToUserInfoApi() {
+		// when
+		SocialUserInfo result = kakaoAuthClient.getUserInfo("kakao-access-token");
+
+		// then
+		assertThat(result.socialId()).isEqualTo("12345");
+		assertThat(result.email()).isEqualTo("rest@kakao.com");
+		assertThat(result.nickname()).isEqualTo("레스트");
+		assertThat(server.requestCount(USER_INFO_PATH)).isEqualTo(1);
+		assertThat(server.requestCount(JWKS_PATH)).isZero();
+	}
+
+	@Test
+	@DisplayName("사용자 정보 API가 401을 반환하면 INVALID_SOCIAL_TOKEN 예외")
+	void unauthorizedAccessTokenIsRejected() {
+		// given
+		server.stub(USER_INFO_PATH, 401, "{\"code\":-401}");
+
+		// when & then
+		assertThatThrownBy(() -> kakaoAuthClient.getUserInfo("expired-access-token"))
+			.isInstanceOf(AuthException.class)
+			.hasFieldOrPropertyWithValue("errorCode", AuthErrorCode.INVALID_SOCIAL_TOKEN);
+	}
+
+	@Test
+	@DisplayName("앱 키가 없으면 ID Token 검증을 지원하지 않음")
+	void idTokenModeDisabledWithoutClientId() {
+		// given
+		KakaoAuthClient client = createClient("");
+
+		// when & then
+		assertThat(client.supportsIdToken()).isFalse();
+		assertThat(kakaoAuthClient.supportsIdToken()).isTrue();
+	}
+}
@@ -32,9 +32,12 @@ import com.sopt.cherrish.domain.user.domain.repository.UserRepository;
 import com.sopt.cherrish.domain.user.exception.UserErrorCode;
 import com.sopt.cherrish.domain.user.exception.UserException;
 import com.sopt.cherrish.global.config.QueryDslConfig;
+import com.sopt.cherrish.global.config.SqlStatementCounter;
 import com.sopt.cherrish.global.config.TestClockConfig;
 import com.sopt.cherrish.global.config.TestJpaAuditConfig;
 
+import jakarta.persistence.EntityManager;
+
 @DataJpaTest
 @Import({
 	TestJpaAuditConfig.class,
@@ -63,6 +66,9 @@ class ChallengeCreationFacadeIntegrationTest {
 	@Autowired
 	private UserRepository userRepository;
 
+	@Autowired
+	private EntityManager entityManager;
+
 	private User createTestUser() {
 		return userRepository.save(User.builder()
 			.name("테스트 유저")
@@ -80,7 +86,8 @@ class ChallengeCreationFacadeIntegrationTest {
 
 		ChallengeCreateRequestDto request = new ChallengeCreateRequestDto(
 			DEFAULT_HOMECARE_ROUTINE.getId(),
-			List.of("아침 세안", "토너 바르기", "크림 바르기")
+			List.of("아침 세안", "토너 바르기", "크림 바르기"),
+			null
 		);
 
 		// when
@@ -91,7 +98,7 @@ class ChallengeCreationFacadeIntegrationTest {
 		assertThat(response.title()).isEqualTo(DEFAULT_HOMECARE_ROUTINE.getDescription());
 		assertThat(response.totalDays()).isEqualTo(7);
 		assertThat(response.totalRoutineCount()).isEqualTo(21); // 3 × 7
-		assertThat(response.routines()).hasSize(21);
+		assertThat(response.routines()).hasSize(3); // 1일차 루틴만 생성
 
 		// then - DB 실제 저장 확인
 		Challenge savedChallenge = challengeRepository.findById(response.challengeId()).orElseThrow();
@@ -100,8 +107,9 @@ class ChallengeCreationFacadeIntegrationTest {
 		assertThat(savedChallenge.getIsActive()).isTrue();
 
 		List<ChallengeRoutine> savedRoutines = routineRepository.findAll();
-		assertThat(savedRoutines).hasSize(21);
+		assertThat(savedRoutines).hasSize(3);
 		assertThat(savedRoutines).allMatch(routine -> !routine.getIsComplete());
+		assertThat(savedRoutines).allMatch(routine -> routine.getScheduledDate().equals(savedChallenge.getStartDate()));
 
 		ChallengeStatistics savedStatistics = statisticsRepository.findByChallengeId(savedChallenge.getId())
 			.orElseThrow();
@@ -110,14 +118,15 @@ class ChallengeCreationFacadeIntegrationTest {
 	}
 
 	@Test
-	@DisplayName("성공 - 단일 루틴명으로 챌린지 생성 (1개 × 7일 = 7개)")
+	@DisplayName("성공 - 단일 루틴명으로 챌린지 생성 (전체 1개 × 7일 = 7개, 저장은 1일차 1개)")
 	void createChallengeSingleRoutineCreates7routines() {
 		// given
 		User user = createTestUser();
 
 		ChallengeCreateRequestDto request = new ChallengeCreateRequestDto(
 			DEFAULT_HOMECARE_ROUTINE.getId(),
-			List.of("아침 보습")
+			List.of("아침 보습"),
+			null
 		);
 
 		// when
@@ -125,7 +134,74 @@ class ChallengeCreationFacadeIntegrationTest {
 
 		// then
 		assertThat(response.totalRoutineCount()).isEqualTo(7);
-		assertThat(routineRepository.findAll()).hasSize(7);
+		assertThat(routineRepository.findAll()).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("성공 - 1일차 루틴 6개를 INSERT 문 하나의 JDBC 배치로 저장")
+	void createChallengeInsertsRoutinesInSingleBatch() {
+		// given
+		User user = createTestUser();
+
+		ChallengeCreateRequestDto request = new ChallengeCreateRequestDto(
+			DEFAULT_HOMECARE_ROUTINE.getId(),
+			List.of("아침 세안", "토너 바르기", "세럼 바르기", "크림 바르기", "선크림 바르기", "저녁 세안"),
+			null
+		);
+		SqlStatementCounter.clear();
+
+		// when
+		ChallengeCreateResponseDto response = challengeCreationFacade.createChallenge(user.getId(), request);
+		entityManager.flush();
+
+		// then
+		assertThat(response.totalRoutineCount()).isEqualTo(42);
+		assertThat(SqlStatementCounter.count("insert into challenge_routines")).isEqualTo(1);
+		assertThat(SqlStatementCounter.count("insert into challenges")).isEqualTo(1);
+		assertThat(SqlStatementCounter.count("insert into challenge_statistics")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("성공 - 100일 챌린지도 1일차 루틴만 저장하고 통계는 전체 기간 기준으로 초기화")
+	void createLongChallengeSavesOnlyFirstDayRoutines() {
+		// given
+		User user = createTestUser();
+
+		ChallengeCreateRequestDto request = new ChallengeCreateRequestDto(
+			DEFAULT_HOMECARE_ROUTINE.getId(),
+			List.of("아침 세안", "토너 바르기", "크림 바르기"),
+			100
+		);
+
+		// when
+		ChallengeCreateResponseDto response = challengeCreationFacade.createChallenge(user.getId(), request);
+
+		// then
+		assertThat(response.totalDays()).isEqualTo(100);
+		assertThat(response.endDate()).isEqualTo(response.startDate().plusDays(99));
+		assertThat(response.totalRoutineCount()).isEqualTo(300); // 3 × 100
+		assertThat(routineRepository.findAll()).hasSize(3);
+		assertThat(statisticsRepository.findByChallengeId(response.challengeId()).orElseThrow()
+			.getTotalRoutineCount()).isEqualTo(300);
+	}
+
+	@Test
+	@DisplayName("실패 - 지원하지 않는 챌린지 기간")
+	void createChallengeUnsupportedTotalDaysThrowsException() {
+		// given
+		User user = createTestUser();
+
+		ChallengeCreateRequestDto request = new ChallengeCreateRequestDto(
+			DEFAULT_HOMECARE_ROUTINE.getId(),
+			List.of("세안"),
+			14
+		);
+
+		// when & then
+		assertThatThrownBy(() -> challengeCreationFacade.createChallenge(user.getId(), request))
+			.isInstanceOf(ChallengeException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ChallengeErrorCode.INVALID_CHALLENGE_TOTAL_DAYS);
+		assertThat(challengeRepository.findAll()).isEmpty();
 	}
 
 	@Test
@@ -135,7 +211,8 @@ class ChallengeCreationFacadeIntegrationTest {
 		Long nonExistentUserId = 999L;
 		ChallengeCreateRequestDto request = new ChallengeCreateRequestDto(
 			1,
-			List.of("세안")
+			List.of("세안"),
+			null
 		);
 
 		// when & then
@@ -165,7 +242,8 @@ class ChallengeCreationFacadeIntegrationTest {
 
 		ChallengeCreateRequestDto request = new ChallengeCreateRequestDto(
 			1,
-			List.of("세안")
+			List.of("세안"),
+			null
 		);
 
 		// when & then
@@ -185,7 +263,8 @@ class ChallengeCreationFacadeIntegrationTest {
 
 		ChallengeCreateRequestDto request = new ChallengeCreateRequestDto(
 			999, // 존재하지 않는 ID
-			List.of("세안")
+			List.of("세안"),
+			null
 		);
 
 		// when & then
@@ -210,7 +289,8 @@ class ChallengeCreationFacadeIntegrationTest {
 
 		ChallengeCreateRequestDto request = new ChallengeCreateRequestDto(
 			1,
-			List.of("세안")
+			List.of("세안"),
+			null
 		);
 
 		long initialChallengeCount = challengeRepository.count();
@@ -0,0 +1,148 @@
+package com.sopt.cherrish.domain.challenge.core.application.facade;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sopt.cherrish.domain.challenge.core.application.service.ChallengeRoutineService;
+import com.sopt.cherrish.domain.challenge.core.domain.model.Challenge;
+import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeRoutine;
+import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeStatistics;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRoutineRepository;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeStatisticsRepository;
+import com.sopt.cherrish.domain.challenge.core.fixture.ChallengeIntegrationTestFixture;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.request.CustomRoutineAddRequestDto;
+import com.sopt.cherrish.domain.user.domain.repository.UserRepository;
+
+@SpringBootTest
+@DisplayName("ChallengeCustomRoutineFacade 동시성 테스트")
+class ChallengeCustomRoutineFacadeConcurrencyTest {
+
+	@Autowired
+	private ChallengeCustomRoutineFacade challengeCustomRoutineFacade;
+	@Autowired
+	private ChallengeRoutineService challengeRoutineService;
+	@Autowired
+	private ChallengeRoutineRepository routineRepository;
+	@Autowired
+	private ChallengeStatisticsRepository statisticsRepository;
+	@Autowired
+	private ChallengeIntegrationTestFixture fixture;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private Clock clock;
+
+	private static final int ROUTINE_COUNT = 3;
+	private static final int CUSTOM_ROUTINE_ADDS = 5;
+	private static final int TOGGLES_PER_ROUTINE = 5;
+	private static final int PARALLEL_THREADS = 10;
+
+	/**
+	 * 커스텀 루틴 추가와 토글을 동시에 실행
+	 *
+	 * 동작 방식:
+	 * - 오늘 루틴 3개를 각각 5번씩(홀수) 토글하면서 커스텀 루틴 5개를 동시에 추가
+	 * - 커스텀 루틴 추가도 루틴을 추가한 뒤 통계 행을 잠그므로 토글과 같은 순서(루틴 → 통계)로 잠금
+	 * - 409(OptimisticLockingFailureException)가 하나도 없고, 전체 루틴 개수와 완료 개수가 모두 반영되어야 함
+	 */
+	@Test
+	@DisplayName("동시성 - 커스텀 루틴 추가와 토글을 동시에 요청해도 409 없이 통계에 모두 반영")
+	void customRoutineAddsWithParallelTogglesProduceNoConflicts() throws Exception {
+		// given
+		LocalDate today = LocalDate.now(clock);
+		Long userId = transactionTemplate.execute(status -> fixture.createDefaultUser().getId());
+
+		Challenge challenge = Objects.requireNonNull(transactionTemplate.execute(status -> fixture.createChallengeWithRoutines(
+			userRepository.findById(Objects.requireNonNull(userId)).orElseThrow(),
+			ROUTINE_COUNT,
+			today
+		)));
+		Long challengeId = challenge.getId();
+		int addedCountPerCustomRoutine = challenge.getRemainingDays(today);
+
+		int initialTotalRoutineCount = Objects.requireNonNull(transactionTemplate.execute(status ->
+			statisticsRepository.findByChallengeId(challengeId).orElseThrow().getTotalRoutineCount()
+		));
+		List<Long> todayRoutineIds = Objects.requireNonNull(transactionTemplate.execute(status ->
+			routineRepository.findByChallengeId(challengeId).stream()
+				.filter(routine -> routine.getScheduledDate().equals(today))
+				.map(ChallengeRoutine::getId)
+				.toList()
+		));
+
+		// when - 커스텀 루틴 추가와 토글을 동시에 시작
+		int totalRequests = CUSTOM_ROUTINE_ADDS + todayRoutineIds.size() * TOGGLES_PER_ROUTINE;
+		ExecutorService executor = Executors.newFixedThreadPool(PARALLEL_THREADS);
+		CountDownLatch startLatch = new CountDownLatch(1);
+		CountDownLatch doneLatch = new CountDownLatch(totalRequests);
+
+		AtomicInteger successCount = new AtomicInteger(0);
+		AtomicInteger conflictCount = new AtomicInteger(0);
+		AtomicInteger otherFailureCount = new AtomicInteger(0);
+
+		for (int i = 0; i < totalRequests; i++) {
+			int index = i;
+			executor.submit(() -> {
+				try {
+					startLatch.await();
+					if (index < CUSTOM_ROUTINE_ADDS) {
+						challengeCustomRoutineFacade.addCustomRoutine(
+							userId, new CustomRoutineAddRequestDto("커스텀 루틴 " + index));
+					} else {
+						Long routineId = todayRoutineIds.get(index % todayRoutineIds.size());
+						transactionTemplate.execute(status ->
+							challengeRoutineService.toggleCompletion(userId, routineId));
+					}
+					successCount.incrementAndGet();
+				} catch (OptimisticLockingFailureException e) {
+					conflictCount.incrementAndGet();
+				} catch (Exception e) {
+					otherFailureCount.incrementAndGet();
+				} finally {
+					doneLatch.countDown();
+				}
+			});
+		}
+
+		startLatch.countDown();
+		try {
+			assertThat(doneLatch.await(30, TimeUnit.SECONDS)).isTrue();
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(5, TimeUnit.SECONDS);
+		}
+
+		// then - 충돌 없음
+		assertThat(conflictCount.get()).as("409 Conflict가 발생하지 않아야 함").isZero();
+		assertThat(otherFailureCount.get()).isZero();
+		assertThat(successCount.get()).isEqualTo(totalRequests);
+
+		// 최종 상태 - 커스텀 루틴 추가분이 모두 반영되고, 홀수 번 토글한 오늘 루틴은 모두 완료
+		ChallengeStatistics stats = Objects.requireNonNull(transactionTemplate.execute(status ->
+			statisticsRepository.findByChallengeId(challengeId).orElseThrow()
+		));
+
+		assertThat(stats.getTotalRoutineCount())
+			.isEqualTo(initialTotalRoutineCount + CUSTOM_ROUTINE_ADDS * addedCountPerCustomRoutine);
+		assertThat(stats.getCompletedCount()).isEqualTo(todayRoutineIds.size());
+		assertThat(stats.getCherryLevel()).isEqualTo(stats.calculateCherryLevel());
+	}
+}
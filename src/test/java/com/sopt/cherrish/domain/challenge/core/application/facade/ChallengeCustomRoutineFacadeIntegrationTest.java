@@ -55,6 +55,9 @@ class ChallengeCustomRoutineFacadeIntegrationTest {
 	@Autowired
 	private ChallengeCustomRoutineFacade challengeCustomRoutineFacade;
 
+	@Autowired
+	private ChallengeRoutineService routineService;
+
 	@Autowired
 	private ChallengeRepository challengeRepository;
 
@@ -149,6 +152,48 @@ class ChallengeCustomRoutineFacadeIntegrationTest {
 		assertThat(savedStatistics.getTotalRoutineCount()).isEqualTo(28);
 	}
 
+	@Test
+	@DisplayName("성공 - 1일차 루틴만 있으면 오늘에만 저장하고 이후 날짜는 생성 시 커스텀 루틴 포함")
+	void addCustomRoutineToLazilyCreatedChallenge() {
+		// given: 챌린지 생성 직후처럼 1일차 루틴만 존재
+		User user = createTestUser();
+		Challenge challenge = challengeRepository.save(Challenge.builder()
+			.userId(user.getId())
+			.homecareRoutine(DEFAULT_HOMECARE_ROUTINE)
+			.title(DEFAULT_CHALLENGE_TITLE)
+			.startDate(FIXED_START_DATE)
+			.build());
+		routineService.createAndSaveRoutines(challenge, List.of("아침 세안", "토너 바르기", "크림 바르기"));
+		statisticsRepository.save(ChallengeStatistics.builder()
+			.challenge(challenge)
+			.totalRoutineCount(21)
+			.build());
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		CustomRoutineAddResponseDto response = challengeCustomRoutineFacade.addCustomRoutine(
+			user.getId(),
+			new CustomRoutineAddRequestDto("저녁 마사지")
+		);
+		entityManager.flush();
+		entityManager.clear();
+
+		// then: 통계는 남은 7일 기준, 저장은 오늘 1행
+		assertThat(response.addedCount()).isEqualTo(7);
+		assertThat(response.routines()).hasSize(1);
+		assertThat(response.totalRoutineCount()).isEqualTo(28);
+		assertThat(routineRepository.count()).isEqualTo(4);
+
+		// then: 3일차를 처음 조회하면 커스텀 루틴까지 복사하여 생성
+		List<ChallengeRoutine> thirdDayRoutines = routineService.getOrCreateRoutinesByDate(
+			challenge, FIXED_START_DATE.plusDays(2));
+		assertThat(thirdDayRoutines)
+			.extracting(ChallengeRoutine::getName)
+			.containsExactly("아침 세안", "토너 바르기", "크림 바르기", "저녁 마사지");
+		assertThat(thirdDayRoutines).allMatch(routine -> !routine.getIsComplete());
+	}
+
 	@Test
 	@DisplayName("실패 - 존재하지 않는 사용자")
 	void addCustomRoutineUserNotFoundThrowsException() {
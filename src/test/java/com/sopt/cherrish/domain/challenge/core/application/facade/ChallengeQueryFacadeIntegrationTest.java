@@ -6,7 +6,9 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 
 import org.hibernate.SessionFactory;
 import org.hibernate.stat.Statistics;
@@ -32,8 +34,12 @@ import com.sopt.cherrish.domain.challenge.core.exception.ChallengeErrorCode;
 import com.sopt.cherrish.domain.challenge.core.exception.ChallengeException;
 import com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixture;
 import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeDetailResponseDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeHistoryPageResponseDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeHistoryResponseDto;
 import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeRoutineResponseDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.DailyCompletionResponseDto;
 import com.sopt.cherrish.global.config.QueryDslConfig;
+import com.sopt.cherrish.global.config.SqlStatementCounter;
 import com.sopt.cherrish.global.config.TestClockConfig;
 import com.sopt.cherrish.global.config.TestJpaAuditConfig;
 
@@ -195,6 +201,77 @@ class ChallengeQueryFacadeIntegrationTest {
 		assertThat(response.todayRoutines()).hasSize(DEFAULT_ROUTINE_COUNT_PER_DAY);
 	}
 
+	@Test
+	@DisplayName("성공 - 오늘 루틴이 아직 없으면 첫 조회 시 한 번만 생성")
+	void getActiveChallengeDetailCreatesTodayRoutinesOnce() {
+		// given: 어제 시작한 30일 챌린지, 1일차 루틴만 존재
+		Challenge challenge = challengeRepository.save(Challenge.builder()
+			.userId(TEST_USER_ID)
+			.homecareRoutine(DEFAULT_HOMECARE_ROUTINE)
+			.title(ChallengeTestFixture.DEFAULT_CHALLENGE_TITLE)
+			.startDate(ChallengeTestFixture.FIXED_START_DATE.minusDays(1))
+			.totalDays(30)
+			.build());
+		statisticsRepository.save(ChallengeStatistics.builder()
+			.challenge(challenge)
+			.totalRoutineCount(DEFAULT_ROUTINE_COUNT_PER_DAY * 30)
+			.build());
+		routineRepository.saveAll(challenge.createRoutinesOn(List.of("루틴1", "루틴2", "루틴3"), challenge.getStartDate()));
+		flushAndClear();
+
+		// when
+		ChallengeDetailResponseDto firstResponse = challengeQueryFacade.getActiveChallengeDetail(TEST_USER_ID);
+		flushAndClear();
+		ChallengeDetailResponseDto secondResponse = challengeQueryFacade.getActiveChallengeDetail(TEST_USER_ID);
+
+		// then: 2일차 루틴 3개만 추가되고, 두 번째 조회는 생성된 루틴을 그대로 반환
+		assertThat(firstResponse.todayRoutines())
+			.extracting(ChallengeRoutineResponseDto::name)
+			.containsExactly("루틴1", "루틴2", "루틴3");
+		assertThat(secondResponse.todayRoutines())
+			.extracting(ChallengeRoutineResponseDto::routineId)
+			.containsExactlyElementsOf(firstResponse.todayRoutines().stream()
+				.map(ChallengeRoutineResponseDto::routineId)
+				.toList());
+		assertThat(routineRepository.count()).isEqualTo(DEFAULT_ROUTINE_COUNT_PER_DAY * 2);
+	}
+
+	@Test
+	@DisplayName("성공 - 연속 달성 기록과 현재 일차까지의 일차별 완료율 응답")
+	void getActiveChallengeDetailIncludesStreaksAndDailyCompletions() {
+		// given: 3일차, 1~2일차 루틴 모두 완료
+		LocalDate startDate = ChallengeTestFixture.FIXED_START_DATE.minusDays(2);
+		Challenge challenge = challengeRepository.save(Challenge.builder()
+			.userId(TEST_USER_ID)
+			.homecareRoutine(DEFAULT_HOMECARE_ROUTINE)
+			.title(ChallengeTestFixture.DEFAULT_CHALLENGE_TITLE)
+			.startDate(startDate)
+			.build());
+		int[] dailyRoutineCounts = new int[TOTAL_CHALLENGE_DAYS];
+		Arrays.fill(dailyRoutineCounts, 1);
+		ChallengeStatistics statistics = ChallengeStatistics.builder()
+			.challenge(challenge)
+			.totalRoutineCount(TOTAL_CHALLENGE_DAYS)
+			.dailyRoutineCounts(dailyRoutineCounts)
+			.build();
+		statistics.applyCompletionChanges(Map.of(0, 1, 1, 1));
+		statisticsRepository.save(statistics);
+		routineRepository.saveAll(challenge.createChallengeRoutines(List.of("루틴1")));
+		flushAndClear();
+
+		// when
+		ChallengeDetailResponseDto response = challengeQueryFacade.getActiveChallengeDetail(TEST_USER_ID);
+
+		// then: 오늘(3일차)은 아직 미완료이므로 어제까지 2일 연속
+		assertThat(response.currentStreak()).isEqualTo(2);
+		assertThat(response.bestStreak()).isEqualTo(2);
+		assertThat(response.dailyCompletions()).containsExactly(
+			new DailyCompletionResponseDto(1, startDate, 100),
+			new DailyCompletionResponseDto(2, startDate.plusDays(1), 100),
+			new DailyCompletionResponseDto(3, startDate.plusDays(2), 0)
+		);
+	}
+
 	@Test
 	@DisplayName("실패 - 활성 챌린지가 없을 때")
 	void getActiveChallengeDetailNoActiveChallengeThrowsException() {
@@ -273,6 +350,134 @@ class ChallengeQueryFacadeIntegrationTest {
 		}
 	}
 
+	@Test
+	@DisplayName("성공 - 종료된 챌린지 기록을 (종료일, ID) 키셋으로 최신순 페이지 조회")
+	void getChallengeHistoryPagesByEndDateAndId() {
+		// given: 종료일이 같은 기록 2개를 포함한 종료 챌린지 5개, 진행 중인 챌린지, 다른 사용자의 기록
+		Challenge oldest = createAndSaveFinishedChallenge(TEST_USER_ID, LocalDate.of(2023, 9, 1), 21);
+		Challenge october = createAndSaveFinishedChallenge(TEST_USER_ID, LocalDate.of(2023, 10, 1), 30);
+		Challenge november = createAndSaveFinishedChallenge(TEST_USER_ID, LocalDate.of(2023, 11, 1), 7);
+		Challenge decemberFirst = createAndSaveFinishedChallenge(TEST_USER_ID, LocalDate.of(2023, 12, 1), 7);
+		Challenge decemberSecond = createAndSaveFinishedChallenge(TEST_USER_ID, LocalDate.of(2023, 12, 1), 7);
+		createAndSaveFinishedChallenge(999L, LocalDate.of(2023, 12, 10), 7);
+		createAndSaveChallengeWithRoutines(TEST_USER_ID, ChallengeTestFixture.FIXED_START_DATE, 1);
+
+		// when
+		ChallengeHistoryPageResponseDto firstPage = challengeQueryFacade.getChallengeHistory(TEST_USER_ID, null, null, 2);
+		ChallengeHistoryPageResponseDto secondPage = challengeQueryFacade.getChallengeHistory(
+			TEST_USER_ID, firstPage.nextCursorEndDate(), firstPage.nextCursorId(), 2);
+		ChallengeHistoryPageResponseDto lastPage = challengeQueryFacade.getChallengeHistory(
+			TEST_USER_ID, secondPage.nextCursorEndDate(), secondPage.nextCursorId(), 2);
+
+		// then: 종료일이 같으면 ID 내림차순, 커서 이후 기록만 중복 없이 이어짐
+		assertThat(firstPage.challenges())
+			.extracting(ChallengeHistoryResponseDto::challengeId)
+			.containsExactly(decemberSecond.getId(), decemberFirst.getId());
+		assertThat(firstPage.hasNext()).isTrue();
+		assertThat(firstPage.nextCursorEndDate()).isEqualTo(decemberFirst.getEndDate());
+		assertThat(firstPage.nextCursorId()).isEqualTo(decemberFirst.getId());
+
+		assertThat(secondPage.challenges())
+			.extracting(ChallengeHistoryResponseDto::challengeId)
+			.containsExactly(november.getId(), october.getId());
+		assertThat(secondPage.hasNext()).isTrue();
+
+		assertThat(lastPage.challenges())
+			.extracting(ChallengeHistoryResponseDto::challengeId)
+			.containsExactly(oldest.getId());
+		assertThat(lastPage.hasNext()).isFalse();
+		assertThat(lastPage.nextCursorEndDate()).isNull();
+		assertThat(lastPage.nextCursorId()).isNull();
+	}
+
+	@Test
+	@DisplayName("성공 - 기록은 최종 통계와 전체 일차별 완료율을 루틴 조회 없이 쿼리 1번으로 응답")
+	void getChallengeHistoryIncludesFinalStatisticsWithSingleProjectionQuery() {
+		// given: 하루 1개 루틴인 7일 챌린지에서 1~3일차, 5일차 완료 후 종료
+		LocalDate startDate = LocalDate.of(2023, 12, 1);
+		Challenge challenge = createAndSaveFinishedChallenge(TEST_USER_ID, startDate, TOTAL_CHALLENGE_DAYS);
+		ChallengeStatistics statistics = statisticsRepository.findByChallengeId(challenge.getId()).orElseThrow();
+		statistics.applyCompletionChanges(Map.of(0, 1, 1, 1, 2, 1, 4, 1));
+		routineRepository.saveAll(challenge.createChallengeRoutines(List.of("루틴1")));
+		flushAndClear();
+		SqlStatementCounter.clear();
+
+		// when
+		ChallengeHistoryPageResponseDto response = challengeQueryFacade.getChallengeHistory(TEST_USER_ID, null, null, 20);
+
+		// then
+		assertThat(SqlStatementCounter.count("select")).isEqualTo(1);
+		assertThat(response.challenges()).hasSize(1);
+		ChallengeHistoryResponseDto history = response.challenges().getFirst();
+		assertThat(history.startDate()).isEqualTo(startDate);
+		assertThat(history.endDate()).isEqualTo(startDate.plusDays(TOTAL_CHALLENGE_DAYS - 1));
+		assertThat(history.completedCount()).isEqualTo(4);
+		assertThat(history.totalRoutineCount()).isEqualTo(TOTAL_CHALLENGE_DAYS);
+		assertThat(history.progressPercentage()).isEqualTo(57);
+		assertThat(history.cherryLevel()).isEqualTo(3);
+		assertThat(history.completedDays()).isEqualTo(4);
+		assertThat(history.bestStreak()).isEqualTo(3);
+		assertThat(history.dailyCompletions())
+			.extracting(DailyCompletionResponseDto::completionRate)
+			.containsExactly(100, 100, 100, 0, 100, 0, 0);
+		assertThat(history.dailyCompletions().getLast())
+			.isEqualTo(new DailyCompletionResponseDto(TOTAL_CHALLENGE_DAYS, history.endDate(), 0));
+	}
+
+	@Test
+	@DisplayName("성공 - 종료된 챌린지가 없으면 빈 기록")
+	void getChallengeHistoryEmpty() {
+		// given: 진행 중인 챌린지만 있음
+		createAndSaveChallengeWithRoutines(TEST_USER_ID, ChallengeTestFixture.FIXED_START_DATE, 1);
+
+		// when
+		ChallengeHistoryPageResponseDto response = challengeQueryFacade.getChallengeHistory(TEST_USER_ID, null, null, 20);
+
+		// then
+		assertThat(response.challenges()).isEmpty();
+		assertThat(response.hasNext()).isFalse();
+		assertThat(response.nextCursorEndDate()).isNull();
+		assertThat(response.nextCursorId()).isNull();
+	}
+
+	@Test
+	@DisplayName("실패 - 커서 종료일과 커서 ID 중 하나만 전달")
+	void getChallengeHistoryIncompleteCursorThrowsException() {
+		// when & then
+		assertThatThrownBy(() -> challengeQueryFacade.getChallengeHistory(
+			TEST_USER_ID, LocalDate.of(2023, 12, 7), null, 20))
+			.isInstanceOf(ChallengeException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ChallengeErrorCode.INVALID_HISTORY_CURSOR);
+	}
+
+	/**
+	 * 종료된 챌린지와 일차별 통계(하루 1개 루틴)를 저장하는 헬퍼 메서드
+	 * @param userId 사용자 ID
+	 * @param startDate 시작일
+	 * @param totalDays 챌린지 기간
+	 * @return 저장된 챌린지
+	 */
+	private Challenge createAndSaveFinishedChallenge(Long userId, LocalDate startDate, int totalDays) {
+		Challenge challenge = Challenge.builder()
+			.userId(userId)
+			.homecareRoutine(DEFAULT_HOMECARE_ROUTINE)
+			.title(ChallengeTestFixture.DEFAULT_CHALLENGE_TITLE)
+			.startDate(startDate)
+			.totalDays(totalDays)
+			.build();
+		challenge.complete();
+		Challenge savedChallenge = challengeRepository.save(challenge);
+
+		int[] dailyRoutineCounts = new int[totalDays];
+		Arrays.fill(dailyRoutineCounts, 1);
+		statisticsRepository.save(ChallengeStatistics.builder()
+			.challenge(savedChallenge)
+			.totalRoutineCount(totalDays)
+			.dailyRoutineCounts(dailyRoutineCounts)
+			.build());
+		return savedChallenge;
+	}
+
 	/**
 	 * 챌린지와 루틴을 생성하고 저장하는 헬퍼 메서드
 	 * @param userId 사용자 ID
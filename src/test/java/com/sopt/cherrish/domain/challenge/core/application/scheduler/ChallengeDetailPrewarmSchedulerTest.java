@@ -0,0 +1,222 @@
+package com.sopt.cherrish.domain.challenge.core.application.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixture.createMockChallengeDetailResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import com.sopt.cherrish.domain.auth.fixture.MutableClock;
+import com.sopt.cherrish.domain.challenge.core.application.facade.ChallengeQueryFacade;
+import com.sopt.cherrish.domain.challenge.core.infrastructure.cache.ChallengeDetailCache;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeDetailResponseDto;
+import com.sopt.cherrish.global.scheduler.SchedulerLockRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChallengeDetailPrewarmScheduler 단위 테스트")
+class ChallengeDetailPrewarmSchedulerTest {
+
+	// MutableClock은 UTC 기준이므로 자정도 UTC 기준
+	private static final LocalDate NEXT_DATE = LocalDate.of(2024, 1, 15);
+	private static final Instant MIDNIGHT = NEXT_DATE.atStartOfDay(ZoneOffset.UTC).toInstant();
+	private static final Instant START = MIDNIGHT.minus(Duration.ofMinutes(10));
+	private static final Duration TTL = Duration.ofMinutes(10).plus(ChallengeDetailCache.ROLLOVER_WINDOW);
+	private static final Duration ACTIVE_WINDOW = Duration.ofDays(3);
+	private static final int CHUNK_SIZE = 2;
+
+	@Mock
+	private ChallengeDetailCache challengeDetailCache;
+
+	@Mock
+	private ChallengeQueryFacade challengeQueryFacade;
+
+	@Mock
+	private SchedulerLockRepository schedulerLockRepository;
+
+	private MutableClock clock;
+	private ChallengeDetailPrewarmProperties properties;
+	private MeterRegistry meterRegistry;
+	private ChallengeDetailPrewarmScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+		clock = new MutableClock(START);
+		properties = new ChallengeDetailPrewarmProperties();
+		properties.setActiveWindow(ACTIVE_WINDOW);
+		properties.setChunkSize(CHUNK_SIZE);
+		properties.setMaxUsersPerSecond(1_000);
+
+		meterRegistry = new SimpleMeterRegistry();
+		scheduler = new ChallengeDetailPrewarmScheduler(
+			challengeDetailCache, challengeQueryFacade, schedulerLockRepository, properties, meterRegistry, clock);
+		scheduler.init();
+	}
+
+	@Test
+	@DisplayName("최근 조회 사용자의 다음 날짜 응답을 청크 단위로 미리 채움")
+	void prewarmsRecentlyActiveUsersInChunks() {
+		// given: 최근 조회 사용자 3명 (청크 크기 2), 2번 사용자는 활성 챌린지 없음
+		givenLockAcquired();
+		givenActiveUsers(3);
+		when(challengeQueryFacade.prepareActiveChallengeDetail(anyLong(), eq(NEXT_DATE)))
+			.thenAnswer(invocation -> invocation.getArgument(0, Long.class) == 2L
+				? Optional.empty()
+				: Optional.of(createMockChallengeDetailResponse()));
+		when(challengeDetailCache.prewarm(anyLong(), eq(NEXT_DATE), eq(TTL), any()))
+			.thenAnswer(ChallengeDetailPrewarmSchedulerTest::invokeLoader);
+
+		// when
+		scheduler.prewarmNextDay();
+
+		// then
+		verify(challengeDetailCache).snapshotRecentlyActiveUsers(START.minus(ACTIVE_WINDOW), TTL);
+		verify(challengeDetailCache).findActiveUserSnapshot(0, CHUNK_SIZE);
+		verify(challengeDetailCache).findActiveUserSnapshot(2, CHUNK_SIZE);
+		assertThat(users("warmed")).isEqualTo(2);
+		assertThat(users("skipped")).isEqualTo(1);
+		assertThat(runs("leader")).isEqualTo(1);
+		assertThat(meterRegistry.get("challenge.detail.prewarm.duration").timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 잠금을 잡고 있으면 건너뜀")
+	void skipsWhenLockHeld() {
+		// given
+		when(schedulerLockRepository.tryAcquire(ChallengeDetailPrewarmScheduler.LOCK_NAME, TTL))
+			.thenReturn(Optional.empty());
+
+		// when
+		scheduler.prewarmNextDay();
+
+		// then
+		verify(challengeDetailCache, never()).snapshotRecentlyActiveUsers(any(Instant.class), any(Duration.class));
+		assertThat(runs("skipped")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("잠금 저장소 장애 시 건너뜀")
+	void skipsWhenLockUnavailable() {
+		// given
+		when(schedulerLockRepository.tryAcquire(ChallengeDetailPrewarmScheduler.LOCK_NAME, TTL))
+			.thenThrow(new RedisConnectionFailureException("connection refused"));
+
+		// when
+		scheduler.prewarmNextDay();
+
+		// then
+		verify(challengeDetailCache, never()).snapshotRecentlyActiveUsers(any(Instant.class), any(Duration.class));
+		assertThat(runs("skipped")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("자정이 되면 남은 사용자를 건너뛰고 중단")
+	void stopsAtMidnight() {
+		// given: 첫 사용자를 채우는 동안 자정이 지남
+		givenLockAcquired();
+		givenActiveUsers(CHUNK_SIZE);
+		when(challengeDetailCache.prewarm(anyLong(), eq(NEXT_DATE), eq(TTL), any())).thenAnswer(invocation -> {
+			clock.advance(Duration.between(START, MIDNIGHT));
+			return true;
+		});
+
+		// when
+		scheduler.prewarmNextDay();
+
+		// then
+		verify(challengeDetailCache).prewarm(eq(1L), eq(NEXT_DATE), eq(TTL), any());
+		verify(challengeDetailCache, never()).prewarm(eq(2L), any(LocalDate.class), any(Duration.class), any());
+		assertThat(users("warmed")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("한 사용자 조립이 실패해도 나머지 사용자는 계속 채움")
+	void continuesAfterUserFailure() {
+		// given
+		givenLockAcquired();
+		givenActiveUsers(2);
+		when(challengeDetailCache.prewarm(eq(1L), eq(NEXT_DATE), eq(TTL), any()))
+			.thenThrow(new IllegalStateException("DB 오류"));
+		when(challengeDetailCache.prewarm(eq(2L), eq(NEXT_DATE), eq(TTL), any())).thenReturn(true);
+
+		// when
+		scheduler.prewarmNextDay();
+
+		// then
+		assertThat(users("failed")).isEqualTo(1);
+		assertThat(users("warmed")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("초당 처리 수 제한 - 사용자 사이에 간격을 두어 제한보다 빨리 끝나지 않음")
+	void pacesUsersPerSecond() {
+		// given: 초당 100명 제한으로 21명
+		int userCount = 21;
+		properties.setMaxUsersPerSecond(100);
+		properties.setChunkSize(userCount);
+		givenLockAcquired();
+		when(challengeDetailCache.snapshotRecentlyActiveUsers(any(Instant.class), eq(TTL))).thenReturn((long) userCount);
+		when(challengeDetailCache.findActiveUserSnapshot(0, userCount))
+			.thenReturn(LongStream.rangeClosed(1, userCount).boxed().toList());
+		when(challengeDetailCache.prewarm(anyLong(), eq(NEXT_DATE), eq(TTL), any())).thenReturn(true);
+
+		// when
+		long startedAt = System.nanoTime();
+		scheduler.prewarmNextDay();
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+		// then: 첫 사용자는 바로, 이후 20명은 10ms 간격
+		assertThat(users("warmed")).isEqualTo(userCount);
+		assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+	}
+
+	private void givenLockAcquired() {
+		when(schedulerLockRepository.tryAcquire(ChallengeDetailPrewarmScheduler.LOCK_NAME, TTL))
+			.thenReturn(Optional.of("lease-token"));
+	}
+
+	private void givenActiveUsers(int count) {
+		when(challengeDetailCache.snapshotRecentlyActiveUsers(START.minus(ACTIVE_WINDOW), TTL)).thenReturn((long) count);
+		for (long offset = 0; offset < count; offset += CHUNK_SIZE) {
+			List<Long> userIds = LongStream.rangeClosed(offset + 1, Math.min(offset + CHUNK_SIZE, count)).boxed().toList();
+			when(challengeDetailCache.findActiveUserSnapshot(offset, CHUNK_SIZE)).thenReturn(userIds);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static boolean invokeLoader(InvocationOnMock invocation) {
+		Supplier<Optional<ChallengeDetailResponseDto>> loader = invocation.getArgument(3, Supplier.class);
+		return loader.get().isPresent();
+	}
+
+	private double users(String result) {
+		return meterRegistry.get("challenge.detail.prewarm.users").tag("result", result).counter().count();
+	}
+
+	private double runs(String result) {
+		return meterRegistry.get("challenge.detail.prewarm.runs").tag("result", result).counter().count();
+	}
+}
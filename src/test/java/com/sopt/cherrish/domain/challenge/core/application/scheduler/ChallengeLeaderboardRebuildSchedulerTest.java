@@ -0,0 +1,176 @@
+package com.sopt.cherrish.domain.challenge.core.application.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import com.sopt.cherrish.domain.challenge.core.application.service.ChallengeStatisticsService;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRanking;
+import com.sopt.cherrish.domain.challenge.core.infrastructure.leaderboard.ChallengeLeaderboard;
+import com.sopt.cherrish.global.scheduler.SchedulerLockRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChallengeLeaderboardRebuildScheduler 단위 테스트")
+class ChallengeLeaderboardRebuildSchedulerTest {
+
+	private static final int CHUNK_SIZE = 2;
+	private static final Duration LOCK_LEASE = Duration.ofMinutes(10);
+	private static final Duration REBUILD_INTERVAL = Duration.ofDays(1);
+	private static final String LEASE_TOKEN = "lease-token";
+
+	@Mock
+	private ChallengeLeaderboard challengeLeaderboard;
+
+	@Mock
+	private ChallengeStatisticsService challengeStatisticsService;
+
+	@Mock
+	private SchedulerLockRepository schedulerLockRepository;
+
+	private MeterRegistry meterRegistry;
+
+	private ChallengeLeaderboardRebuildScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+		ChallengeLeaderboardProperties properties = new ChallengeLeaderboardProperties();
+		properties.setChunkSize(CHUNK_SIZE);
+		properties.setLockLease(LOCK_LEASE);
+		properties.setRebuildInterval(REBUILD_INTERVAL);
+
+		meterRegistry = new SimpleMeterRegistry();
+		scheduler = new ChallengeLeaderboardRebuildScheduler(
+			challengeLeaderboard, challengeStatisticsService, schedulerLockRepository, properties, meterRegistry);
+		scheduler.init();
+	}
+
+	@Test
+	@DisplayName("준비 표시가 있으면 재구성하지 않음")
+	void skipsWhenReady() {
+		// Given
+		when(challengeLeaderboard.isReady()).thenReturn(true);
+
+		// When
+		scheduler.rebuildIfNeeded();
+
+		// Then
+		verify(schedulerLockRepository, never()).tryAcquire(any(), any());
+		verify(challengeLeaderboard, never()).startRebuild(any());
+	}
+
+	@Test
+	@DisplayName("준비 표시가 없으면 활성 챌린지 통계를 챌린지 ID 순 청크로 채운 뒤 교체")
+	void rebuildsInKeysetChunks() {
+		// Given: 청크 크기 2, 활성 챌린지 3개
+		givenLockAcquired();
+		List<ChallengeRanking> firstChunk = List.of(mock(ChallengeRanking.class), lastRanking(20L));
+		List<ChallengeRanking> lastChunk = List.of(mock(ChallengeRanking.class));
+		when(challengeStatisticsService.findActiveChallengeRankings(0L, CHUNK_SIZE)).thenReturn(firstChunk);
+		when(challengeStatisticsService.findActiveChallengeRankings(20L, CHUNK_SIZE)).thenReturn(lastChunk);
+		when(schedulerLockRepository.renew(ChallengeLeaderboardRebuildScheduler.LOCK_NAME, LEASE_TOKEN, LOCK_LEASE))
+			.thenReturn(true);
+		when(challengeLeaderboard.finishRebuild(REBUILD_INTERVAL)).thenReturn(3L);
+
+		// When
+		scheduler.rebuildIfNeeded();
+
+		// Then
+		InOrder inOrder = inOrder(challengeLeaderboard);
+		inOrder.verify(challengeLeaderboard).startRebuild(LOCK_LEASE);
+		inOrder.verify(challengeLeaderboard).stage(firstChunk, LOCK_LEASE);
+		inOrder.verify(challengeLeaderboard).stage(lastChunk, LOCK_LEASE);
+		inOrder.verify(challengeLeaderboard).finishRebuild(REBUILD_INTERVAL);
+		assertThat(runs("leader")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("재구성 중 잠금을 잃으면 교체하지 않고 중단")
+	void abortsWhenLockIsLost() {
+		// Given
+		givenLockAcquired();
+		List<ChallengeRanking> firstChunk = List.of(mock(ChallengeRanking.class), lastRanking(20L));
+		when(challengeStatisticsService.findActiveChallengeRankings(0L, CHUNK_SIZE)).thenReturn(firstChunk);
+		when(schedulerLockRepository.renew(ChallengeLeaderboardRebuildScheduler.LOCK_NAME, LEASE_TOKEN, LOCK_LEASE))
+			.thenReturn(false);
+
+		// When
+		scheduler.rebuildIfNeeded();
+
+		// Then
+		verify(challengeStatisticsService, never()).findActiveChallengeRankings(20L, CHUNK_SIZE);
+		verify(challengeLeaderboard, never()).finishRebuild(any());
+		assertThat(runs("aborted")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 잠금을 잡고 있으면 건너뜀")
+	void skipsWhenLockIsHeld() {
+		// Given
+		when(challengeLeaderboard.isReady()).thenReturn(false);
+		when(schedulerLockRepository.tryAcquire(ChallengeLeaderboardRebuildScheduler.LOCK_NAME, LOCK_LEASE))
+			.thenReturn(Optional.empty());
+
+		// When
+		scheduler.rebuildIfNeeded();
+
+		// Then
+		verify(challengeLeaderboard, never()).startRebuild(any());
+		verify(challengeStatisticsService, never()).findActiveChallengeRankings(anyLong(), anyInt());
+		assertThat(runs("skipped")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Redis 장애로 준비 표시를 확인할 수 없으면 건너뜀")
+	void skipsWhenRedisIsUnavailable() {
+		// Given
+		when(challengeLeaderboard.isReady()).thenThrow(new RedisConnectionFailureException("connection refused"));
+
+		// When
+		scheduler.rebuildIfNeeded();
+
+		// Then
+		verify(challengeLeaderboard, never()).startRebuild(any());
+		assertThat(runs("skipped")).isEqualTo(1);
+	}
+
+	private void givenLockAcquired() {
+		when(challengeLeaderboard.isReady()).thenReturn(false);
+		when(schedulerLockRepository.tryAcquire(ChallengeLeaderboardRebuildScheduler.LOCK_NAME, LOCK_LEASE))
+			.thenReturn(Optional.of(LEASE_TOKEN));
+	}
+
+	/**
+	 * 청크의 마지막 항목 (다음 청크 커서로 챌린지 ID를 읽음)
+	 */
+	private ChallengeRanking lastRanking(Long challengeId) {
+		ChallengeRanking ranking = mock(ChallengeRanking.class);
+		when(ranking.getChallengeId()).thenReturn(challengeId);
+		return ranking;
+	}
+
+	private double runs(String result) {
+		return meterRegistry.get("challenge.leaderboard.rebuild.runs").tag("result", result).counter().count();
+	}
+}
@@ -0,0 +1,204 @@
+package com.sopt.cherrish.domain.challenge.core.application.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixture.DEFAULT_HOMECARE_ROUTINE;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sopt.cherrish.domain.challenge.core.application.service.ChallengeService;
+import com.sopt.cherrish.domain.challenge.core.domain.event.ChallengesExpiredEvent;
+import com.sopt.cherrish.domain.challenge.core.domain.model.Challenge;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRepository;
+import com.sopt.cherrish.global.config.JpaAuditConfig;
+import com.sopt.cherrish.global.config.QueryDslConfig;
+import com.sopt.cherrish.global.config.RedisContainerSupport;
+import com.sopt.cherrish.global.scheduler.SchedulerLockRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 챌린지 만료 스케줄러 다중 인스턴스 검증 테스트.
+ *
+ * <p>한 프로세스 안에서 스케줄러 인스턴스 여러 개가 같은 DB와 같은 Redis 잠금을 공유하도록 만들어 여러 노드를 흉내냅니다.
+ * 잠금은 실제 Redis에서만 확인할 수 있으므로 Testcontainers로 Redis를 띄우며, Docker를 사용할 수 없는 환경에서는 건너뜁니다.</p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({QueryDslConfig.class, JpaAuditConfig.class, ChallengeService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("ChallengeSchedulerService 다중 인스턴스 테스트")
+class ChallengeSchedulerMultiNodeTest extends RedisContainerSupport {
+
+	private static final int NODE_COUNT = 5;
+	private static final int CHUNK_SIZE = 100;
+	private static final int EXPIRED_COUNT = 1_050;
+	private static final int ACTIVE_COUNT = 30;
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+	private static final LocalDate TODAY = LocalDate.of(2024, 1, 15);
+
+	@Autowired
+	private ChallengeService challengeService;
+	@Autowired
+	private ChallengeRepository challengeRepository;
+
+	private SchedulerLockRepository schedulerLockRepository;
+	private final List<Object> publishedEvents = new CopyOnWriteArrayList<>();
+
+	@BeforeEach
+	void setUp() {
+		RedisTemplate<String, String> redisTemplate = createFlushedRedisTemplate();
+		schedulerLockRepository = new SchedulerLockRepository(redisTemplate);
+		publishedEvents.clear();
+	}
+
+	@AfterEach
+	void tearDown() {
+		challengeRepository.deleteAllInBatch();
+	}
+
+	@Test
+	@DisplayName("동시성 - 여러 인스턴스가 동시에 실행해도 한 인스턴스만 청크 단위로 만료 처리")
+	void onlyOneNodeExpiresChallenges() throws Exception {
+		// given
+		saveChallenges(1, EXPIRED_COUNT, TODAY.minusDays(10));
+		saveChallenges(EXPIRED_COUNT + 1, ACTIVE_COUNT, TODAY.minusDays(2));
+
+		List<MeterRegistry> registries = new ArrayList<>();
+		List<ChallengeSchedulerService> nodes = new ArrayList<>();
+		for (int i = 0; i < NODE_COUNT; i++) {
+			MeterRegistry registry = new SimpleMeterRegistry();
+			registries.add(registry);
+			nodes.add(createNode(registry));
+		}
+
+		// when: 모든 인스턴스가 같은 자정에 동시에 실행
+		CountDownLatch startLatch = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(NODE_COUNT);
+		List<Future<?>> futures = new ArrayList<>();
+		try {
+			for (ChallengeSchedulerService node : nodes) {
+				futures.add(executor.submit(() -> {
+					startLatch.await();
+					node.expireCompletedChallenges();
+					return null;
+				}));
+			}
+			startLatch.countDown();
+			for (Future<?> future : futures) {
+				future.get(60, TimeUnit.SECONDS);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+
+		// then: 리더 1개, 나머지는 건너뜀
+		assertThat(sumRuns(registries, "leader")).isEqualTo(1);
+		assertThat(sumRuns(registries, "skipped")).isEqualTo(NODE_COUNT - 1);
+
+		MeterRegistry leader = registries.stream()
+			.filter(registry -> runs(registry, "leader") == 1)
+			.findFirst()
+			.orElseThrow();
+		assertThat(leader.get("challenge.expiry.expired.challenges").counter().count()).isEqualTo(EXPIRED_COUNT);
+		assertThat(leader.get("challenge.expiry.chunks").counter().count())
+			.isEqualTo(Math.ceil((double) EXPIRED_COUNT / CHUNK_SIZE));
+
+		assertThat(countActive()).isEqualTo(ACTIVE_COUNT);
+		// 청크마다 만료된 사용자만 담아 캐시 무효화 이벤트 발행
+		assertThat(publishedEvents).hasSize((int) Math.ceil((double) EXPIRED_COUNT / CHUNK_SIZE));
+		assertThat(publishedEvents.stream()
+			.map(ChallengesExpiredEvent.class::cast)
+			.flatMap(event -> event.userIds().stream()))
+			.containsExactlyInAnyOrderElementsOf(LongStream.rangeClosed(1, EXPIRED_COUNT).boxed().toList());
+	}
+
+	@Test
+	@DisplayName("성공 - 리더가 죽어 임대가 만료되면 다른 인스턴스가 처리")
+	void anotherNodeTakesOverAfterLeaseExpires() throws Exception {
+		// given: 다른 인스턴스가 잡은 뒤 해제하지 못한 짧은 임대
+		saveChallenges(1, CHUNK_SIZE, TODAY.minusDays(10));
+		Duration crashedLease = Duration.ofMillis(500);
+		assertThat(schedulerLockRepository.tryAcquire(ChallengeSchedulerService.LOCK_NAME, crashedLease)).isPresent();
+
+		MeterRegistry registry = new SimpleMeterRegistry();
+		ChallengeSchedulerService node = createNode(registry);
+
+		// when & then: 임대가 남아 있는 동안은 건너뜀
+		node.expireCompletedChallenges();
+		assertThat(runs(registry, "skipped")).isEqualTo(1);
+		assertThat(countActive()).isEqualTo(CHUNK_SIZE);
+
+		// when & then: 임대가 만료되면 처리
+		Thread.sleep(crashedLease.multipliedBy(2).toMillis());
+		node.expireCompletedChallenges();
+		assertThat(runs(registry, "leader")).isEqualTo(1);
+		assertThat(countActive()).isZero();
+	}
+
+	private ChallengeSchedulerService createNode(MeterRegistry registry) {
+		ChallengeExpiryProperties properties = new ChallengeExpiryProperties();
+		properties.setChunkSize(CHUNK_SIZE);
+		ChallengeSchedulerService node = new ChallengeSchedulerService(
+			challengeService,
+			schedulerLockRepository,
+			properties,
+			publishedEvents::add,
+			registry,
+			Clock.fixed(TODAY.atStartOfDay(ZONE_ID).toInstant(), ZONE_ID)
+		);
+		node.init();
+		return node;
+	}
+
+	private void saveChallenges(long firstUserId, int count, LocalDate startDate) {
+		challengeRepository.saveAll(LongStream.range(firstUserId, firstUserId + count)
+			.mapToObj(userId -> Challenge.builder()
+				.userId(userId)
+				.homecareRoutine(DEFAULT_HOMECARE_ROUTINE)
+				.title("챌린지 " + userId)
+				.startDate(startDate)
+				.build())
+			.toList());
+	}
+
+	private long countActive() {
+		return challengeRepository.findAll().stream()
+			.filter(Challenge::getIsActive)
+			.count();
+	}
+
+	private double sumRuns(List<MeterRegistry> registries, String result) {
+		return registries.stream()
+			.mapToDouble(registry -> runs(registry, result))
+			.sum();
+	}
+
+	private double runs(MeterRegistry registry, String result) {
+		return registry.get("challenge.expiry.runs").tag("result", result).counter().count();
+	}
+}
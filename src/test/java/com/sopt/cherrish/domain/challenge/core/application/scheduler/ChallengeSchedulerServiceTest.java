@@ -2,23 +2,39 @@ package com.sopt.cherrish.domain.challenge.core.application.scheduler;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.RedisConnectionFailureException;
 
-import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRepository;
+import com.sopt.cherrish.domain.challenge.core.application.service.ChallengeService;
+import com.sopt.cherrish.domain.challenge.core.domain.event.ChallengesExpiredEvent;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ExpiringChallenge;
+import com.sopt.cherrish.global.scheduler.SchedulerLockRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
 @DisplayName("ChallengeSchedulerService 단위 테스트")
@@ -26,12 +42,20 @@ class ChallengeSchedulerServiceTest {
 
 	private static final LocalDate FIXED_DATE = LocalDate.of(2024, 1, 15);
 	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+	private static final int CHUNK_SIZE = 2;
+	private static final Duration LOCK_LEASE = Duration.ofMinutes(10);
+	private static final String LEASE_TOKEN = "lease-token";
+
+	@Mock
+	private ChallengeService challengeService;
 
 	@Mock
-	private ChallengeRepository challengeRepository;
+	private SchedulerLockRepository schedulerLockRepository;
 
 	@Mock
-	private Clock clock;
+	private ApplicationEventPublisher eventPublisher;
+
+	private MeterRegistry meterRegistry;
 
 	private ChallengeSchedulerService challengeSchedulerService;
 
@@ -42,56 +66,119 @@ class ChallengeSchedulerServiceTest {
 			FIXED_DATE.atStartOfDay(ZONE_ID).toInstant(),
 			ZONE_ID
 		);
-		when(clock.instant()).thenReturn(fixedClock.instant());
-		when(clock.getZone()).thenReturn(fixedClock.getZone());
 
-		challengeSchedulerService = new ChallengeSchedulerService(challengeRepository, clock);
+		ChallengeExpiryProperties properties = new ChallengeExpiryProperties();
+		properties.setChunkSize(CHUNK_SIZE);
+		properties.setLockLease(LOCK_LEASE);
+
+		meterRegistry = new SimpleMeterRegistry();
+		challengeSchedulerService = new ChallengeSchedulerService(
+			challengeService, schedulerLockRepository, properties, eventPublisher, meterRegistry, fixedClock);
+		challengeSchedulerService.init();
 	}
 
 	@Test
-	@DisplayName("만료된 챌린지 벌크 업데이트 실행 성공")
-	void expireCompletedChallengesSuccess() {
-		// Given: 3개의 챌린지가 업데이트될 것으로 예상
-		when(challengeRepository.bulkUpdateExpiredChallenges(any(LocalDate.class)))
-			.thenReturn(3);
+	@DisplayName("만료된 챌린지를 ID 키셋 청크 단위로 비활성화")
+	void expireCompletedChallengesInChunks() {
+		// Given: 잠금 획득, 만료 대상 3개 (청크 크기 2)
+		when(schedulerLockRepository.tryAcquire(ChallengeSchedulerService.LOCK_NAME, LOCK_LEASE))
+			.thenReturn(Optional.of(LEASE_TOKEN));
+		when(challengeService.findExpiredChallenges(FIXED_DATE, 0L, CHUNK_SIZE))
+			.thenReturn(List.of(expiring(1L, 101L), expiring(2L, 102L)));
+		when(challengeService.findExpiredChallenges(FIXED_DATE, 2L, CHUNK_SIZE)).thenReturn(List.of(expiring(3L, 103L)));
+		when(challengeService.expireChallenges(List.of(1L, 2L), FIXED_DATE)).thenReturn(2);
+		when(challengeService.expireChallenges(List.of(3L), FIXED_DATE)).thenReturn(1);
+		when(schedulerLockRepository.renew(ChallengeSchedulerService.LOCK_NAME, LEASE_TOKEN, LOCK_LEASE))
+			.thenReturn(true);
 
 		// When: 스케줄러 메서드 실행
 		challengeSchedulerService.expireCompletedChallenges();
 
-		// Then: bulkUpdateExpiredChallenges가 고정된 날짜로 1번 호출됨
-		ArgumentCaptor<LocalDate> dateCaptor = ArgumentCaptor.forClass(LocalDate.class);
-		verify(challengeRepository, times(1)).bulkUpdateExpiredChallenges(dateCaptor.capture());
+		// Then: 마지막 청크가 청크 크기보다 작으므로 더 조회하지 않음
+		verify(challengeService, times(2)).findExpiredChallenges(eq(FIXED_DATE), anyLong(), anyInt());
+		verify(schedulerLockRepository, times(2)).renew(ChallengeSchedulerService.LOCK_NAME, LEASE_TOKEN, LOCK_LEASE);
 
-		// 호출된 날짜가 고정된 날짜인지 검증 (시간에 의존하지 않는 결정론적 테스트)
-		LocalDate capturedDate = dateCaptor.getValue();
-		assertThat(capturedDate).isEqualTo(FIXED_DATE);
+		// 청크마다 만료된 챌린지 사용자의 챌린지 상세 캐시 무효화 이벤트 발행
+		verify(eventPublisher).publishEvent(new ChallengesExpiredEvent(FIXED_DATE, List.of(101L, 102L)));
+		verify(eventPublisher).publishEvent(new ChallengesExpiredEvent(FIXED_DATE, List.of(103L)));
+
+		assertThat(counter("challenge.expiry.expired.challenges")).isEqualTo(3);
+		assertThat(counter("challenge.expiry.chunks")).isEqualTo(2);
+		assertThat(runs("leader")).isEqualTo(1);
+		assertThat(meterRegistry.get("challenge.expiry.duration").timer().count()).isEqualTo(1);
 	}
 
 	@Test
 	@DisplayName("만료된 챌린지가 없을 때 정상 동작")
 	void expireCompletedChallengesNoExpiredChallenges() {
 		// Given: 만료된 챌린지 없음
-		when(challengeRepository.bulkUpdateExpiredChallenges(any(LocalDate.class)))
-			.thenReturn(0);
+		when(schedulerLockRepository.tryAcquire(ChallengeSchedulerService.LOCK_NAME, LOCK_LEASE))
+			.thenReturn(Optional.of(LEASE_TOKEN));
+		when(challengeService.findExpiredChallenges(FIXED_DATE, 0L, CHUNK_SIZE)).thenReturn(List.of());
 
 		// When
 		challengeSchedulerService.expireCompletedChallenges();
 
-		// Then: 메서드 호출은 정상적으로 완료
-		verify(challengeRepository, times(1)).bulkUpdateExpiredChallenges(any(LocalDate.class));
+		// Then: UPDATE와 캐시 무효화 없음
+		verify(challengeService, never()).expireChallenges(anyList(), any(LocalDate.class));
+		verify(eventPublisher, never()).publishEvent(any(Object.class));
+		assertThat(counter("challenge.expiry.chunks")).isZero();
 	}
 
 	@Test
-	@DisplayName("많은 수의 챌린지 업데이트 처리")
-	void expireCompletedChallengesLargeNumber() {
-		// Given: 100개의 챌린지가 업데이트될 것으로 예상
-		when(challengeRepository.bulkUpdateExpiredChallenges(any(LocalDate.class)))
-			.thenReturn(100);
+	@DisplayName("다른 인스턴스가 잠금을 잡고 있으면 건너뜀")
+	void expireCompletedChallengesSkipsWhenLockHeld() {
+		// Given
+		when(schedulerLockRepository.tryAcquire(ChallengeSchedulerService.LOCK_NAME, LOCK_LEASE))
+			.thenReturn(Optional.empty());
 
 		// When
 		challengeSchedulerService.expireCompletedChallenges();
 
-		// Then: 단일 벌크 업데이트로 처리됨
-		verify(challengeRepository, times(1)).bulkUpdateExpiredChallenges(any(LocalDate.class));
+		// Then
+		verify(challengeService, never()).findExpiredChallenges(any(LocalDate.class), anyLong(), anyInt());
+		verify(eventPublisher, never()).publishEvent(any(Object.class));
+		assertThat(runs("skipped")).isEqualTo(1);
+		assertThat(meterRegistry.get("challenge.expiry.duration").timer().count()).isZero();
+	}
+
+	@Test
+	@DisplayName("잠금 저장소 장애 시 잠금 없이 진행")
+	void expireCompletedChallengesProceedsWhenLockUnavailable() {
+		// Given
+		when(schedulerLockRepository.tryAcquire(ChallengeSchedulerService.LOCK_NAME, LOCK_LEASE))
+			.thenThrow(new RedisConnectionFailureException("connection refused"));
+		when(challengeService.findExpiredChallenges(FIXED_DATE, 0L, CHUNK_SIZE)).thenReturn(List.of(expiring(1L, 101L)));
+		when(challengeService.expireChallenges(List.of(1L), FIXED_DATE)).thenReturn(1);
+
+		// When
+		challengeSchedulerService.expireCompletedChallenges();
+
+		// Then: 임대 토큰이 없으므로 연장하지 않음
+		verify(schedulerLockRepository, never()).renew(anyString(), anyString(), any(Duration.class));
+		verify(eventPublisher).publishEvent(new ChallengesExpiredEvent(FIXED_DATE, List.of(101L)));
+		assertThat(runs("lock_unavailable")).isEqualTo(1);
+	}
+
+	private ExpiringChallenge expiring(Long challengeId, Long userId) {
+		return new ExpiringChallenge() {
+			@Override
+			public Long getChallengeId() {
+				return challengeId;
+			}
+
+			@Override
+			public Long getUserId() {
+				return userId;
+			}
+		};
+	}
+
+	private double counter(String name) {
+		return meterRegistry.get(name).counter().count();
+	}
+
+	private double runs(String result) {
+		return meterRegistry.get("challenge.expiry.runs").tag("result", result).counter().count();
 	}
 }
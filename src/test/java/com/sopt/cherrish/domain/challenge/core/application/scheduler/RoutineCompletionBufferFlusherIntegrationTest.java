@@ -0,0 +1,310 @@
+package com.sopt.cherrish.domain.challenge.core.application.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sopt.cherrish.domain.challenge.core.application.service.BufferedChallengeRoutineService;
+import com.sopt.cherrish.domain.challenge.core.application.service.ChallengeRoutineService;
+import com.sopt.cherrish.domain.challenge.core.domain.event.ChallengeDetailChangedEvent;
+import com.sopt.cherrish.domain.challenge.core.domain.event.ChallengeStatisticsChangedEvent;
+import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeRoutine;
+import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeStatistics;
+import com.sopt.cherrish.domain.challenge.core.domain.model.RoutineDay;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRepository;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRoutineRepository;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeStatisticsRepository;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.RoutineCompletionBufferRepository;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.RoutineCompletionFlushBatch;
+import com.sopt.cherrish.domain.challenge.core.fixture.ChallengeIntegrationTestFixture;
+import com.sopt.cherrish.domain.user.domain.repository.UserRepository;
+import com.sopt.cherrish.global.config.RedisContainerSupport;
+import com.sopt.cherrish.global.config.SqlStatementCounter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 루틴 완료 쓰기 지연 버퍼 통합 테스트.
+ *
+ * <p>버퍼는 실제 Redis(Testcontainers)에, 반영은 테스트 DB에 수행합니다.
+ * Docker를 사용할 수 없는 환경에서는 건너뜁니다.</p>
+ */
+@SpringBootTest
+@RecordApplicationEvents
+@DisplayName("RoutineCompletionBufferFlusher 통합 테스트")
+class RoutineCompletionBufferFlusherIntegrationTest extends RedisContainerSupport {
+
+	private static final int ROUTINE_NAME_COUNT = 3;
+	private static final int TOTAL_TOGGLES = 3_000;
+	private static final int TOGGLE_THREADS = 16;
+	private static final long FLUSH_INTERVAL_MILLIS = 50L;
+	// 행 모델은 토글마다 루틴 UPDATE 1 + 통계 UPDATE 1
+	private static final int UPDATES_PER_TOGGLE_WITHOUT_BUFFER = 2;
+	// 플러시 한 번은 목표 상태별 루틴 UPDATE 최대 2 + 통계 UPDATE 최대 1
+	private static final int MAX_UPDATES_PER_FLUSH = 3;
+
+	@Autowired
+	private ChallengeRoutineService challengeRoutineService;
+	@Autowired
+	private ChallengeRepository challengeRepository;
+	@Autowired
+	private ChallengeRoutineRepository routineRepository;
+	@Autowired
+	private ChallengeStatisticsRepository statisticsRepository;
+	@Autowired
+	private ChallengeIntegrationTestFixture fixture;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+	@Autowired
+	private Clock clock;
+	@Autowired
+	private ApplicationEvents applicationEvents;
+
+	private RoutineCompletionBufferRepository bufferRepository;
+	private BufferedChallengeRoutineService bufferedRoutineService;
+	private RoutineCompletionBufferFlusher flusher;
+	private SimpleMeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		RedisTemplate<String, String> redisTemplate = createFlushedRedisTemplate();
+
+		bufferRepository = new RoutineCompletionBufferRepository(redisTemplate);
+		bufferedRoutineService = new BufferedChallengeRoutineService(
+			challengeRoutineService, routineRepository, bufferRepository, eventPublisher);
+		meterRegistry = new SimpleMeterRegistry();
+		flusher = new RoutineCompletionBufferFlusher(bufferRepository, challengeRoutineService, meterRegistry);
+		flusher.init();
+	}
+
+	/**
+	 * 동작 방식:
+	 * - 21개 루틴을 돌아가며 3,000번 토글 (앞의 18개는 143번(홀수), 나머지 3개는 142번(짝수) → 최종 18개 완료)
+	 * - 토글하는 동안 별도 스레드가 50ms마다 플러시하여 토글과 플러시가 겹치는 상황을 재현
+	 * - 플러시 전 조회에는 버퍼 상태가, 플러시 후에는 DB에 같은 상태가 보여야 함
+	 */
+	@Test
+	@DisplayName("쓰기 지연 - 수천 번의 토글을 몇 번의 반영으로 모으고, 플러시 후 DB와 통계가 최종 상태와 일치")
+	void thousandsOfTogglesAreCollapsedIntoFewConsistentWrites() throws Exception {
+		// given
+		LocalDate today = LocalDate.now(clock);
+		Long userId = transactionTemplate.execute(status -> fixture.createDefaultUser().getId());
+		Long challengeId = transactionTemplate.execute(status -> fixture.createChallengeWithRoutines(
+			userRepository.findById(Objects.requireNonNull(userId)).orElseThrow(),
+			ROUTINE_NAME_COUNT,
+			today
+		).getId());
+		List<Long> routineIds = Objects.requireNonNull(transactionTemplate.execute(status ->
+			routineRepository.findByChallengeId(challengeId).stream()
+				.map(ChallengeRoutine::getId)
+				.sorted()
+				.toList()
+		));
+		int routineCount = routineIds.size();
+		Map<Long, Boolean> expectedStates = routineIds.stream()
+			.collect(Collectors.toMap(Function.identity(),
+				routineId -> togglesOf(routineIds.indexOf(routineId), routineCount) % 2 == 1));
+		long expectedCompleted = expectedStates.values().stream().filter(Boolean::booleanValue).count();
+
+		SqlStatementCounter.clear();
+
+		// when - 토글과 주기적인 플러시를 동시에 실행
+		AtomicBoolean toggling = new AtomicBoolean(true);
+		Thread backgroundFlusher = new Thread(() -> {
+			while (toggling.get()) {
+				flusher.flushAll();
+				sleep(FLUSH_INTERVAL_MILLIS);
+			}
+		});
+		backgroundFlusher.start();
+
+		ExecutorService executor = Executors.newFixedThreadPool(TOGGLE_THREADS);
+		CountDownLatch doneLatch = new CountDownLatch(TOTAL_TOGGLES);
+		AtomicInteger failureCount = new AtomicInteger(0);
+		for (int i = 0; i < TOTAL_TOGGLES; i++) {
+			Long routineId = routineIds.get(i % routineCount);
+			executor.submit(() -> {
+				try {
+					bufferedRoutineService.toggleCompletion(userId, routineId);
+				} catch (Exception e) {
+					failureCount.incrementAndGet();
+				} finally {
+					doneLatch.countDown();
+				}
+			});
+		}
+
+		try {
+			assertThat(doneLatch.await(60, TimeUnit.SECONDS)).isTrue();
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(5, TimeUnit.SECONDS);
+			toggling.set(false);
+			backgroundFlusher.join();
+		}
+
+		// then - 플러시 전에도 조회에는 최종 상태가 보임
+		assertThat(failureCount.get()).isZero();
+		List<RoutineDay> todayRoutines = bufferedRoutineService.getRoutinesByDate(
+			challengeRepository.findById(challengeId).orElseThrow(), today);
+		assertThat(todayRoutines).isNotEmpty()
+			.allSatisfy(routine -> assertThat(routine.isComplete()).isEqualTo(expectedStates.get(routine.routineId())));
+		int bufferedCompletedCount = Objects.requireNonNull(transactionTemplate.execute(status ->
+			bufferedRoutineService.getStatistics(
+				challengeRepository.findActiveChallengeWithStatistics(userId).orElseThrow()
+			).getCompletedCount()
+		));
+		assertThat(bufferedCompletedCount).isEqualTo((int) expectedCompleted);
+
+		// 남은 버퍼 반영
+		flusher.flushAll();
+		assertThat(bufferRepository.findDirtyChallengeIds()).isEmpty();
+		assertThat(bufferRepository.findBuffered(challengeId)).isEmpty();
+
+		// DB 쓰기 횟수: 플러시 횟수에 비례하고 토글 횟수와 무관
+		long updateStatements = SqlStatementCounter.count("update");
+		double flushedChallenges = meterRegistry.counter("challenge.routine.buffer.flushed.challenges").count();
+		assertThat(updateStatements).isLessThanOrEqualTo((long) (flushedChallenges * MAX_UPDATES_PER_FLUSH));
+		assertThat(updateStatements)
+			.as("버퍼 없이는 UPDATE %d번", TOTAL_TOGGLES * UPDATES_PER_TOGGLE_WITHOUT_BUFFER)
+			.isLessThan(TOTAL_TOGGLES * UPDATES_PER_TOGGLE_WITHOUT_BUFFER / 10);
+
+		// 플러시 후 DB 상태와 통계가 최종 상태와 일치
+		Map<Long, Boolean> persistedStates = Objects.requireNonNull(transactionTemplate.execute(status ->
+			routineRepository.findByChallengeId(challengeId).stream()
+				.collect(Collectors.toMap(ChallengeRoutine::getId, ChallengeRoutine::getIsComplete))
+		));
+		ChallengeStatistics stats = Objects.requireNonNull(transactionTemplate.execute(status ->
+			statisticsRepository.findByChallengeId(challengeId).orElseThrow()
+		));
+
+		assertThat(persistedStates).isEqualTo(expectedStates);
+		assertThat(stats.getCompletedCount()).isEqualTo((int) expectedCompleted);
+		assertThat(stats.getCherryLevel()).isEqualTo(stats.calculateCherryLevel());
+	}
+
+	@Test
+	@DisplayName("장애 복구 - 반영 도중 중단된 플러시는 다음 플러시에서 다시 반영되고, 그 사이의 토글도 유실되지 않음")
+	void interruptedFlushIsReappliedWithoutLosingLaterToggles() {
+		// given - 루틴 A 완료 후 플러시 시작 (processing으로 이동)
+		Long userId = transactionTemplate.execute(status -> fixture.createDefaultUser().getId());
+		Long challengeId = transactionTemplate.execute(status -> fixture.createChallengeWithRoutines(
+			userRepository.findById(Objects.requireNonNull(userId)).orElseThrow(),
+			1,
+			LocalDate.now(clock)
+		).getId());
+		List<Long> routineIds = Objects.requireNonNull(transactionTemplate.execute(status ->
+			routineRepository.findByChallengeId(challengeId).stream()
+				.map(ChallengeRoutine::getId)
+				.sorted()
+				.toList()
+		));
+		Long routineA = routineIds.get(0);
+		Long routineB = routineIds.get(1);
+
+		bufferedRoutineService.toggleCompletion(userId, routineA);
+		RoutineCompletionFlushBatch interrupted = bufferRepository.beginFlush(challengeId).orElseThrow();
+
+		// when - DB 반영 전에 중단되어 잠금이 풀린 상황, 그 사이 A 취소와 B 완료
+		bufferRepository.releaseFlush(challengeId, interrupted);
+		assertThat(bufferedRoutineService.toggleCompletion(userId, routineA).isComplete()).isFalse();
+		assertThat(bufferedRoutineService.toggleCompletion(userId, routineB).isComplete()).isTrue();
+
+		// 남은 processing과 pending이 차례로 반영될 때까지 플러시
+		int flushes = 0;
+		while (!bufferRepository.findDirtyChallengeIds().isEmpty() && flushes < 5) {
+			flusher.flushAll();
+			flushes++;
+		}
+
+		// then
+		assertThat(bufferRepository.findDirtyChallengeIds()).isEmpty();
+		Map<Long, Boolean> persistedStates = Objects.requireNonNull(transactionTemplate.execute(status ->
+			routineRepository.findByChallengeId(challengeId).stream()
+				.collect(Collectors.toMap(ChallengeRoutine::getId, ChallengeRoutine::getIsComplete))
+		));
+		assertThat(persistedStates.get(routineA)).isFalse();
+		assertThat(persistedStates.get(routineB)).isTrue();
+
+		// 같은 묶음을 다시 반영해도 결과가 같음 (멱등)
+		int changed = challengeRoutineService.applyBufferedCompletions(challengeId, Map.of(routineB, true));
+		ChallengeStatistics stats = Objects.requireNonNull(transactionTemplate.execute(status ->
+			statisticsRepository.findByChallengeId(challengeId).orElseThrow()
+		));
+		assertThat(changed).isZero();
+		assertThat(stats.getCompletedCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("이벤트 - 플러시로 상태가 바뀐 챌린지는 직접 토글과 같이 통계/상세 변경 이벤트를 발행")
+	void flushPublishesStatisticsAndDetailEvents() {
+		// given
+		Long userId = transactionTemplate.execute(status -> fixture.createDefaultUser().getId());
+		Long challengeId = transactionTemplate.execute(status -> fixture.createChallengeWithRoutines(
+			userRepository.findById(Objects.requireNonNull(userId)).orElseThrow(),
+			1,
+			LocalDate.now(clock)
+		).getId());
+		Long routineId = Objects.requireNonNull(transactionTemplate.execute(status ->
+			routineRepository.findByChallengeId(challengeId).getFirst().getId()));
+		bufferedRoutineService.toggleCompletion(userId, routineId);
+		applicationEvents.clear();
+
+		// when
+		flusher.flushAll();
+
+		// then
+		assertThat(applicationEvents.stream(ChallengeDetailChangedEvent.class))
+			.containsExactly(new ChallengeDetailChangedEvent(userId));
+		assertThat(applicationEvents.stream(ChallengeStatisticsChangedEvent.class))
+			.singleElement()
+			.satisfies(event -> {
+				assertThat(event.userId()).isEqualTo(userId);
+				assertThat(event.progressPercentage()).isPositive();
+			});
+
+		// 바뀐 상태가 없는 재반영은 이벤트를 발행하지 않음
+		applicationEvents.clear();
+		challengeRoutineService.applyBufferedCompletions(challengeId, Map.of(routineId, true));
+		assertThat(applicationEvents.stream()).isEmpty();
+	}
+
+	private static int togglesOf(int routineIndex, int routineCount) {
+		return TOTAL_TOGGLES / routineCount + (routineIndex < TOTAL_TOGGLES % routineCount ? 1 : 0);
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,202 @@
+package com.sopt.cherrish.domain.challenge.core.application.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import com.sopt.cherrish.domain.challenge.core.infrastructure.partition.RoutinePartitionRepository;
+import com.sopt.cherrish.domain.challenge.core.infrastructure.partition.RoutineTable;
+import com.sopt.cherrish.global.scheduler.SchedulerLockRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RoutinePartitionMaintenanceScheduler 단위 테스트")
+class RoutinePartitionMaintenanceSchedulerTest {
+
+	private static final LocalDate FIXED_DATE = LocalDate.of(2024, 3, 15);
+	private static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+	private static final Duration LOCK_LEASE = Duration.ofMinutes(10);
+	private static final Duration LOCK_TIMEOUT = Duration.ofSeconds(3);
+	private static final YearMonth JANUARY = YearMonth.of(2024, 1);
+	private static final YearMonth FEBRUARY = YearMonth.of(2024, 2);
+	private static final List<YearMonth> AHEAD_MONTHS = List.of(
+		YearMonth.of(2024, 3), YearMonth.of(2024, 4), YearMonth.of(2024, 5), YearMonth.of(2024, 6));
+
+	@Mock
+	private RoutinePartitionRepository partitionRepository;
+
+	@Mock
+	private SchedulerLockRepository schedulerLockRepository;
+
+	private MeterRegistry meterRegistry;
+
+	private RoutinePartitionMaintenanceScheduler scheduler;
+
+	@BeforeEach
+	void setUp() {
+		Clock fixedClock = Clock.fixed(FIXED_DATE.atStartOfDay(ZONE_ID).toInstant(), ZONE_ID);
+
+		RoutinePartitionProperties properties = new RoutinePartitionProperties();
+		properties.setPremakeMonths(3);
+		properties.setLockTimeout(LOCK_TIMEOUT);
+		properties.setLockLease(LOCK_LEASE);
+
+		meterRegistry = new SimpleMeterRegistry();
+		scheduler = new RoutinePartitionMaintenanceScheduler(
+			partitionRepository, schedulerLockRepository, properties, meterRegistry, fixedClock);
+		scheduler.init();
+	}
+
+	@Test
+	@DisplayName("이번 달부터 미리 만들 개월 수까지 없는 파티션만 생성")
+	void createsMissingAheadPartitions() {
+		// Given: 3월, 4월 파티션만 있음
+		givenLockAcquired();
+		when(partitionRepository.isPartitioned(RoutineTable.CHALLENGE)).thenReturn(true);
+		when(partitionRepository.isPartitioned(RoutineTable.DEMO)).thenReturn(false);
+		when(partitionRepository.findPartitionMonths(RoutineTable.CHALLENGE)).thenReturn(AHEAD_MONTHS.subList(0, 2));
+
+		// When
+		scheduler.maintainPartitions();
+
+		// Then: 5월, 6월만 생성하고 파티션 테이블이 아닌 데모 루틴 테이블은 건너뜀
+		verify(partitionRepository).createPartition(RoutineTable.CHALLENGE, YearMonth.of(2024, 5));
+		verify(partitionRepository).createPartition(RoutineTable.CHALLENGE, YearMonth.of(2024, 6));
+		verify(partitionRepository, never()).createPartition(RoutineTable.CHALLENGE, YearMonth.of(2024, 3));
+		verify(partitionRepository, never()).findPartitionMonths(RoutineTable.DEMO);
+		verify(partitionRepository, never()).archivePartition(any(), any(), any());
+		assertThat(counter("challenge.routine.partition.created")).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("지난 달 파티션 중 활성 챌린지가 걸치지 않은 달만 보관")
+	void archivesOnlyFinishedPastMonths() {
+		// Given: 1월은 모든 챌린지가 끝났고, 2월에는 아직 진행 중인 챌린지가 걸쳐 있음
+		givenLockAcquired();
+		when(partitionRepository.isPartitioned(RoutineTable.CHALLENGE)).thenReturn(true);
+		when(partitionRepository.isPartitioned(RoutineTable.DEMO)).thenReturn(false);
+		when(partitionRepository.findPartitionMonths(RoutineTable.CHALLENGE)).thenReturn(monthsFrom(JANUARY, FEBRUARY));
+		when(partitionRepository.hasActiveChallengeIn(RoutineTable.CHALLENGE, JANUARY)).thenReturn(false);
+		when(partitionRepository.hasActiveChallengeIn(RoutineTable.CHALLENGE, FEBRUARY)).thenReturn(true);
+
+		// When
+		scheduler.maintainPartitions();
+
+		// Then: 이번 달 이후 파티션은 활성 챌린지 여부와 무관하게 보관하지 않음
+		verify(partitionRepository).archivePartition(RoutineTable.CHALLENGE, JANUARY, LOCK_TIMEOUT);
+		verify(partitionRepository, never()).archivePartition(RoutineTable.CHALLENGE, FEBRUARY, LOCK_TIMEOUT);
+		verify(partitionRepository, never()).hasActiveChallengeIn(RoutineTable.CHALLENGE, AHEAD_MONTHS.getFirst());
+		verify(partitionRepository, never()).createPartition(any(), any());
+		assertThat(counter("challenge.routine.partition.archived")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("잠금 대기 시간을 넘겨 보관하지 못한 파티션은 건너뛰고 나머지를 계속 처리")
+	void continuesAfterArchiveFailure() {
+		// Given: 1월 파티션 분리 중 잠금 대기 시간 초과
+		givenLockAcquired();
+		when(partitionRepository.isPartitioned(RoutineTable.CHALLENGE)).thenReturn(true);
+		when(partitionRepository.isPartitioned(RoutineTable.DEMO)).thenReturn(false);
+		when(partitionRepository.findPartitionMonths(RoutineTable.CHALLENGE)).thenReturn(monthsFrom(JANUARY, FEBRUARY));
+		when(partitionRepository.hasActiveChallengeIn(RoutineTable.CHALLENGE, JANUARY)).thenReturn(false);
+		when(partitionRepository.hasActiveChallengeIn(RoutineTable.CHALLENGE, FEBRUARY)).thenReturn(false);
+		doThrow(new CannotAcquireLockException("lock timeout"))
+			.when(partitionRepository).archivePartition(RoutineTable.CHALLENGE, JANUARY, LOCK_TIMEOUT);
+
+		// When
+		scheduler.maintainPartitions();
+
+		// Then
+		verify(partitionRepository).archivePartition(RoutineTable.CHALLENGE, FEBRUARY, LOCK_TIMEOUT);
+		assertThat(counter("challenge.routine.partition.archived")).isEqualTo(1);
+		assertThat(counter("challenge.routine.partition.archive.failures")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("기동 시 DB 오류가 나도 기동을 막지 않고, 실패를 기록한 뒤 다음 테이블을 계속 처리")
+	void recordsDatabaseFailureWithoutFailingStartup() {
+		// Given: 루틴 테이블 조회 중 DB 연결 실패
+		givenLockAcquired();
+		when(partitionRepository.isPartitioned(RoutineTable.CHALLENGE))
+			.thenThrow(new DataAccessResourceFailureException("connection refused"));
+		when(partitionRepository.isPartitioned(RoutineTable.DEMO)).thenReturn(true);
+		when(partitionRepository.findPartitionMonths(RoutineTable.DEMO)).thenReturn(AHEAD_MONTHS);
+
+		// When & Then
+		assertThatCode(() -> scheduler.maintainOnStartup()).doesNotThrowAnyException();
+		verify(partitionRepository).findPartitionMonths(RoutineTable.DEMO);
+		assertThat(counter("challenge.routine.partition.failures")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("다른 인스턴스가 잠금을 잡고 있으면 아무것도 하지 않음")
+	void skipsWhenLockIsHeld() {
+		// Given
+		when(schedulerLockRepository.tryAcquire(RoutinePartitionMaintenanceScheduler.LOCK_NAME, LOCK_LEASE))
+			.thenReturn(Optional.empty());
+
+		// When
+		scheduler.maintainPartitions();
+
+		// Then
+		verify(partitionRepository, never()).isPartitioned(any());
+	}
+
+	@Test
+	@DisplayName("Redis 장애로 잠금을 확인할 수 없어도 파티션 관리는 진행")
+	void proceedsWithoutLockWhenRedisIsUnavailable() {
+		// Given
+		when(schedulerLockRepository.tryAcquire(RoutinePartitionMaintenanceScheduler.LOCK_NAME, LOCK_LEASE))
+			.thenThrow(new RedisConnectionFailureException("connection refused"));
+		when(partitionRepository.isPartitioned(RoutineTable.CHALLENGE)).thenReturn(true);
+		when(partitionRepository.isPartitioned(RoutineTable.DEMO)).thenReturn(true);
+		when(partitionRepository.findPartitionMonths(RoutineTable.CHALLENGE)).thenReturn(AHEAD_MONTHS);
+		when(partitionRepository.findPartitionMonths(RoutineTable.DEMO)).thenReturn(List.of());
+
+		// When
+		scheduler.maintainPartitions();
+
+		// Then: 파티션이 하나도 없는 데모 루틴 테이블에만 4개월치 생성
+		verify(partitionRepository, never()).createPartition(RoutineTable.CHALLENGE, AHEAD_MONTHS.getFirst());
+		AHEAD_MONTHS.forEach(month -> verify(partitionRepository).createPartition(RoutineTable.DEMO, month));
+		assertThat(counter("challenge.routine.partition.created")).isEqualTo(AHEAD_MONTHS.size());
+	}
+
+	private void givenLockAcquired() {
+		when(schedulerLockRepository.tryAcquire(RoutinePartitionMaintenanceScheduler.LOCK_NAME, LOCK_LEASE))
+			.thenReturn(Optional.of("lease-token"));
+	}
+
+	private List<YearMonth> monthsFrom(YearMonth... pastMonths) {
+		return Stream.concat(List.of(pastMonths).stream(), AHEAD_MONTHS.stream()).toList();
+	}
+
+	private double counter(String name) {
+		return meterRegistry.get(name).counter().count();
+	}
+}
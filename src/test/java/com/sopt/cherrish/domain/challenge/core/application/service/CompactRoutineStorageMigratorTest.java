@@ -0,0 +1,52 @@
+package com.sopt.cherrish.domain.challenge.core.application.service;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CompactRoutineStorageMigrator 단위 테스트")
+class CompactRoutineStorageMigratorTest {
+
+	@Mock
+	private CompactChallengeRoutineService compactRoutineService;
+
+	@InjectMocks
+	private CompactRoutineStorageMigrator migrator;
+
+	@Test
+	@DisplayName("성공 - 모든 챌린지를 옮기면 기동 계속")
+	void migratesEveryChallenge() {
+		// given
+		when(compactRoutineService.findChallengeIdsToMigrate()).thenReturn(List.of(1L, 2L));
+
+		// when & then
+		assertThatCode(() -> migrator.migrate()).doesNotThrowAnyException();
+		verify(compactRoutineService).migrateChallenge(1L);
+		verify(compactRoutineService).migrateChallenge(2L);
+	}
+
+	@Test
+	@DisplayName("실패 - 옮기지 못한 챌린지가 있으면 나머지를 모두 시도한 뒤 기동 중단")
+	void stopsStartupWhenChallengeCannotBeMigrated() {
+		// given
+		when(compactRoutineService.findChallengeIdsToMigrate()).thenReturn(List.of(1L, 2L));
+		when(compactRoutineService.migrateChallenge(1L)).thenThrow(new IllegalArgumentException("broken routines"));
+
+		// when & then
+		assertThatThrownBy(() -> migrator.migrate())
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("[1]");
+		verify(compactRoutineService).migrateChallenge(2L);
+	}
+}
@@ -0,0 +1,47 @@
+package com.sopt.cherrish.domain.challenge.core.application.service;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRoutineDefinitionRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RowRoutineStorageGuard 단위 테스트")
+class RowRoutineStorageGuardTest {
+
+	@Mock
+	private ChallengeRoutineDefinitionRepository definitionRepository;
+
+	@InjectMocks
+	private RowRoutineStorageGuard guard;
+
+	@Test
+	@DisplayName("성공 - 루틴 정의가 없으면 행 저장 모델로 기동")
+	void startsWithoutCompactRoutines() {
+		// given
+		when(definitionRepository.existsByIdIsNotNull()).thenReturn(false);
+
+		// when & then
+		assertThatCode(() -> guard.verifyNoCompactRoutines()).doesNotThrowAnyException();
+	}
+
+	@Test
+	@DisplayName("실패 - 압축 저장 모델의 루틴 정의가 있으면 행 저장 모델로 기동하지 않음")
+	void refusesToStartWithCompactRoutines() {
+		// given
+		when(definitionRepository.existsByIdIsNotNull()).thenReturn(true);
+
+		// when & then
+		assertThatThrownBy(() -> guard.verifyNoCompactRoutines())
+			.isInstanceOf(IllegalStateException.class)
+			.hasMessageContaining("challenge.routine-storage=rows");
+	}
+}
@@ -8,6 +8,8 @@ import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
@@ -25,6 +27,7 @@ import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.Challen
 import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.RoutineBatchUpdateResponseDto;
 import com.sopt.cherrish.domain.user.domain.model.User;
 import com.sopt.cherrish.global.config.QueryDslConfig;
+import com.sopt.cherrish.global.config.SqlStatementCounter;
 import com.sopt.cherrish.global.config.TestClockConfig;
 import com.sopt.cherrish.global.config.TestJpaAuditConfig;
 
@@ -345,4 +348,61 @@ class ChallengeRoutineBatchUpdateIntegrationTest {
 			});
 		}
 	}
+
+	@Nested
+	@DisplayName("루틴 일괄 업데이트 - 쿼리 수 검증")
+	class UpdateMultipleRoutinesQueryCountTests {
+
+		@ParameterizedTest(name = "루틴 {0}개")
+		@ValueSource(ints = {1, 20})
+		@DisplayName("성공 - 루틴 개수와 무관하게 루틴/통계 잠금 조회 2 + 루틴 UPDATE 1 + 통계 UPDATE 1")
+		void constantStatementCountRegardlessOfBatchSize(int batchSize) {
+			// given
+			User user = fixture.createDefaultUser();
+			Challenge challenge = fixture.createChallengeWithRoutines(user, ROUTINES_PER_DAY_MULTIPLE); // 21개 루틴
+			List<ChallengeRoutine> allRoutines = routineRepository.findByChallengeId(challenge.getId());
+
+			// 첫 루틴은 완료 상태로 만들어 완료/취소/유지가 섞이도록 함
+			challengeRoutineService.toggleCompletion(user.getId(), allRoutines.getFirst().getId());
+
+			RoutineUpdateRequestDto request =
+				new RoutineUpdateRequestDto(
+					allRoutines.stream()
+						.limit(batchSize)
+						.map(r -> new RoutineUpdateItemRequestDto(r.getId(), r.getId() % 2 == 0))
+						.toList()
+				);
+			List<Long> requestedIds = request.routines().stream()
+				.map(RoutineUpdateItemRequestDto::routineId)
+				.toList();
+			List<Boolean> requestedStates = request.routines().stream()
+				.map(RoutineUpdateItemRequestDto::isComplete)
+				.toList();
+			long expectedCompletedCount = requestedStates.stream().filter(Boolean::booleanValue).count();
+			SqlStatementCounter.clear();
+
+			// when
+			RoutineBatchUpdateResponseDto response =
+				challengeRoutineService.updateMultipleRoutines(user.getId(), request);
+
+			// then
+			assertSoftly(softly -> {
+				// 바뀌는 루틴이 없으면 통계 잠금 조회도 생략
+				softly.assertThat(SqlStatementCounter.count("select")).isLessThanOrEqualTo(2);
+				softly.assertThat(SqlStatementCounter.count("update challenge_routines")).isLessThanOrEqualTo(1);
+				softly.assertThat(SqlStatementCounter.count("update challenge_statistics")).isLessThanOrEqualTo(1);
+
+				softly.assertThat(response.routines())
+					.extracting(ChallengeRoutineResponseDto::routineId)
+					.containsExactlyElementsOf(requestedIds);
+				softly.assertThat(response.routines())
+					.extracting(ChallengeRoutineResponseDto::isComplete)
+					.containsExactlyElementsOf(requestedStates);
+
+				ChallengeStatistics stats = statisticsRepository.findByChallengeId(challenge.getId())
+					.orElseThrow();
+				softly.assertThat(stats.getCompletedCount()).isEqualTo((int) expectedCompletedCount);
+			});
+		}
+	}
 }
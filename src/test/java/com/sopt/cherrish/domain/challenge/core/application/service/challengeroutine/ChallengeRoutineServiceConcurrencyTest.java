@@ -2,6 +2,8 @@ package com.sopt.cherrish.domain.challenge.core.application.service.challengerou
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.time.Clock;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.CountDownLatch;
@@ -43,24 +45,28 @@ class ChallengeRoutineServiceConcurrencyTest {
 	private UserRepository userRepository;
 	@Autowired
 	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private Clock clock;
 
 	private static final int ROUTINE_COUNT_LARGE = 3;
+	private static final int TOTAL_TOGGLES = 100;
+	private static final int TOGGLED_ROUTINE_COUNT = 20;
+	private static final int PARALLEL_THREADS = 20;
 
 	/**
-	 * 낙관적 락 동작 검증 테스트
+	 * 통계 원자적 갱신 검증 테스트
 	 *
 	 * @SpringBootTest + TransactionTemplate을 사용하여
-	 * 각 스레드가 독립적인 트랜잭션에서 실행되도록 하여 실제 낙관적 락 충돌을 재현합니다.
+	 * 각 스레드가 독립적인 트랜잭션에서 실행되도록 하여 실제 동시 수정을 재현합니다.
 	 *
 	 * 동작 방식:
 	 * - 3개의 스레드가 동시에 같은 챌린지의 서로 다른 루틴을 완료 처리
-	 * - 각 루틴 완료 시 ChallengeStatistics의 completedCount를 증가시킴
-	 * - ChallengeStatistics는 @Version으로 낙관적 락 적용
-	 * - 동시에 같은 엔티티를 수정하려 하면 OptimisticLockingFailureException 발생
+	 * - 각 루틴 완료 시 ChallengeStatistics 행을 잠근 뒤 completedCount와 일차별 완료 개수를 증가시킴
+	 * - 잠근 뒤 읽은 version으로 수정하므로 OptimisticLockingFailureException(409)이 발생하지 않음
 	 */
 	@Test
-	@DisplayName("동시성 - 같은 챌린지의 여러 루틴을 동시에 완료할 때 낙관적 락 동작")
-	void concurrentRoutineCompletionWithOptimisticLock() throws Exception {
+	@DisplayName("동시성 - 같은 챌린지의 여러 루틴을 동시에 완료해도 충돌 없이 모두 반영")
+	void concurrentRoutineCompletionWithoutConflict() throws Exception {
 		// given
 		Long userId = transactionTemplate.execute(status -> {
 			User user = fixture.createDefaultUser();
@@ -70,7 +76,8 @@ class ChallengeRoutineServiceConcurrencyTest {
 		Long challengeId = transactionTemplate.execute(status -> {
 			Challenge challenge = fixture.createChallengeWithRoutines(
 				userRepository.findById(Objects.requireNonNull(userId)).orElseThrow(),
-				ROUTINE_COUNT_LARGE
+				ROUTINE_COUNT_LARGE,
+				LocalDate.now(clock)
 			);
 			return challenge.getId();
 		});
@@ -87,6 +94,7 @@ class ChallengeRoutineServiceConcurrencyTest {
 
 		AtomicInteger successCount = new AtomicInteger(0);
 		AtomicInteger failureCount = new AtomicInteger(0);
+		AtomicInteger conflictCount = new AtomicInteger(0);
 
 		for (int i = 0; i < 3; i++) {
 			int index = i;
@@ -100,7 +108,8 @@ class ChallengeRoutineServiceConcurrencyTest {
 					});
 					successCount.incrementAndGet();
 				} catch (OptimisticLockingFailureException e) {
-					// 낙관적 락 충돌 발생 (예상된 동작)
+					// 낙관적 락 충돌 (409) - 원자적 갱신에서는 발생하지 않아야 함
+					conflictCount.incrementAndGet();
 					failureCount.incrementAndGet();
 				} catch (Exception e) {
 					// 기타 예외
@@ -118,24 +127,24 @@ class ChallengeRoutineServiceConcurrencyTest {
 			executor.awaitTermination(5, TimeUnit.SECONDS);
 		}
 
-		// then - 모든 스레드가 완료되었는지 확인
+		// then - 모든 스레드가 충돌 없이 성공했는지 확인
 		assertThat(successCount.get() + failureCount.get()).isEqualTo(3);
+		assertThat(conflictCount.get()).isZero();
+		assertThat(successCount.get()).isEqualTo(3);
 
-		// 실제 동시성 환경에서는 낙관적 락 충돌이 발생할 수 있음
-		// 성공한 트랜잭션만 completedCount에 반영됨
 		ChallengeStatistics stats = transactionTemplate.execute(status ->
 			statisticsRepository.findByChallengeId(challengeId).orElseThrow()
 		);
 
-		// 실제 성공한 횟수와 completedCount가 일치해야 함
+		// 성공한 횟수와 completedCount가 일치해야 함
 		assertThat(Objects.requireNonNull(stats).getCompletedCount())
 			.as("성공한 트랜잭션 수만큼 completedCount가 증가해야 함")
-			.isLessThanOrEqualTo(3);
+			.isEqualTo(3);
 
 		// 실제로 완료된 루틴 개수 확인
 		long actualCompletedRoutines = Objects.requireNonNull(
 			transactionTemplate.execute(status ->
-				routineRepository.findAll().stream()
+				routineRepository.findByChallengeId(challengeId).stream()
 					.filter(ChallengeRoutine::getIsComplete)
 					.count()
 			)
@@ -158,7 +167,8 @@ class ChallengeRoutineServiceConcurrencyTest {
 		Long challengeId = transactionTemplate.execute(status -> {
 			Challenge challenge = fixture.createChallengeWithRoutines(
 				userRepository.findById(userId).orElseThrow(),
-				1
+				1,
+				LocalDate.now(clock)
 			);
 			return challenge.getId();
 		});
@@ -198,10 +208,11 @@ class ChallengeRoutineServiceConcurrencyTest {
 			executor.awaitTermination(5, TimeUnit.SECONDS);
 		}
 
-		// then
+		// then - 같은 루틴 토글은 행 잠금으로 순서대로 반영되어 모두 성공
 		assertThat(successCount.get() + failureCount.get()).isEqualTo(5);
+		assertThat(successCount.get()).isEqualTo(5);
 
-		// 최종 상태 확인: 루틴과 통계의 일관성 검증
+		// 최종 상태 확인: 루틴과 통계의 일관성 검증 (5번 토글 → 완료 상태)
 		ChallengeRoutine finalRoutine = transactionTemplate.execute(status ->
 			routineRepository.findById(Objects.requireNonNull(routineId)).orElseThrow()
 		);
@@ -209,11 +220,90 @@ class ChallengeRoutineServiceConcurrencyTest {
 			statisticsRepository.findByChallengeId(challengeId).orElseThrow()
 		);
 
-		// 루틴이 완료 상태이면 completedCount는 1, 미완료 상태이면 0
-		if (Objects.requireNonNull(finalRoutine).getIsComplete()) {
-			assertThat(Objects.requireNonNull(stats).getCompletedCount()).isEqualTo(1);
-		} else {
-			assertThat(Objects.requireNonNull(stats).getCompletedCount()).isEqualTo(0);
+		// 루틴이 완료 상태이고 completedCount는 1
+		assertThat(Objects.requireNonNull(finalRoutine).getIsComplete()).isTrue();
+		assertThat(Objects.requireNonNull(stats).getCompletedCount()).isEqualTo(1);
+	}
+
+	/**
+	 * 100개의 토글 요청을 동시에 실행
+	 *
+	 * 동작 방식:
+	 * - 21개 루틴 중 20개를 각각 5번씩(홀수) 토글 → 최종적으로 20개 완료
+	 * - 모든 요청이 독립 트랜잭션에서 동시에 시작되도록 시작 신호(startLatch)로 맞춤
+	 * - 409(OptimisticLockingFailureException)가 하나도 없고, completedCount와 cherryLevel이 최종 상태와 일치해야 함
+	 */
+	@Test
+	@DisplayName("동시성 - 100개 토글 동시 요청에도 409 없이 최종 통계가 정확함")
+	void hundredParallelTogglesProduceNoConflictsAndCorrectCount() throws Exception {
+		// given
+		Long userId = transactionTemplate.execute(status -> fixture.createDefaultUser().getId());
+
+		Long challengeId = transactionTemplate.execute(status -> fixture.createChallengeWithRoutines(
+			userRepository.findById(Objects.requireNonNull(userId)).orElseThrow(),
+			ROUTINE_COUNT_LARGE,
+			LocalDate.now(clock)
+		).getId());
+
+		List<Long> routineIds = Objects.requireNonNull(transactionTemplate.execute(status ->
+			routineRepository.findByChallengeId(challengeId).stream()
+				.map(ChallengeRoutine::getId)
+				.limit(TOGGLED_ROUTINE_COUNT)
+				.toList()
+		));
+
+		// when - 100개 토글을 동시에 시작
+		ExecutorService executor = Executors.newFixedThreadPool(PARALLEL_THREADS);
+		CountDownLatch startLatch = new CountDownLatch(1);
+		CountDownLatch doneLatch = new CountDownLatch(TOTAL_TOGGLES);
+
+		AtomicInteger successCount = new AtomicInteger(0);
+		AtomicInteger conflictCount = new AtomicInteger(0);
+		AtomicInteger otherFailureCount = new AtomicInteger(0);
+
+		for (int i = 0; i < TOTAL_TOGGLES; i++) {
+			Long routineId = routineIds.get(i % TOGGLED_ROUTINE_COUNT);
+			executor.submit(() -> {
+				try {
+					startLatch.await();
+					transactionTemplate.execute(status -> challengeRoutineService.toggleCompletion(userId, routineId));
+					successCount.incrementAndGet();
+				} catch (OptimisticLockingFailureException e) {
+					conflictCount.incrementAndGet();
+				} catch (Exception e) {
+					otherFailureCount.incrementAndGet();
+				} finally {
+					doneLatch.countDown();
+				}
+			});
+		}
+
+		startLatch.countDown();
+		try {
+			assertThat(doneLatch.await(30, TimeUnit.SECONDS)).isTrue();
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(5, TimeUnit.SECONDS);
 		}
+
+		// then - 충돌 없음
+		assertThat(conflictCount.get()).as("409 Conflict가 발생하지 않아야 함").isZero();
+		assertThat(otherFailureCount.get()).isZero();
+		assertThat(successCount.get()).isEqualTo(TOTAL_TOGGLES);
+
+		// 최종 상태 - 각 루틴을 홀수 번 토글했으므로 모두 완료
+		long completedRoutines = Objects.requireNonNull(transactionTemplate.execute(status ->
+			routineRepository.findByChallengeId(challengeId).stream()
+				.filter(ChallengeRoutine::getIsComplete)
+				.count()
+		));
+		ChallengeStatistics stats = Objects.requireNonNull(transactionTemplate.execute(status ->
+			statisticsRepository.findByChallengeId(challengeId).orElseThrow()
+		));
+
+		assertThat(completedRoutines).isEqualTo(TOGGLED_ROUTINE_COUNT);
+		assertThat(stats.getCompletedCount()).isEqualTo(TOGGLED_ROUTINE_COUNT);
+		assertThat(stats.getCherryLevel()).isEqualTo(stats.calculateCherryLevel());
+		assertThat(stats.getCherryLevel()).isEqualTo(4);  // 20 / 21 ≈ 95%
 	}
 }
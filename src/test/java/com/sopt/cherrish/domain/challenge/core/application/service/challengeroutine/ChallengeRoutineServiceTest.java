@@ -2,6 +2,7 @@ package com.sopt.cherrish.domain.challenge.core.application.service.challengerou
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -9,6 +10,7 @@ import java.time.Clock;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -16,10 +18,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.sopt.cherrish.domain.challenge.core.application.service.ChallengeRoutineService;
 import com.sopt.cherrish.domain.challenge.core.domain.model.Challenge;
 import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeRoutine;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRepository;
 import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRoutineRepository;
 import com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixture;
 
@@ -30,6 +34,9 @@ class ChallengeRoutineServiceTest {
 	@Mock
 	private ChallengeRoutineRepository routineRepository;
 
+	@Mock
+	private ChallengeRepository challengeRepository;
+
 	@Mock
 	private Clock clock;
 
@@ -37,25 +44,23 @@ class ChallengeRoutineServiceTest {
 	private ChallengeRoutineService challengeRoutineService;
 
 	@Test
-	@DisplayName("성공 - 챌린지 루틴 생성 및 Batch Insert")
+	@DisplayName("성공 - 챌린지 1일차 루틴만 생성 및 Batch Insert")
 	void createAndSaveRoutinesSuccess() {
 		// given
 		Challenge challenge = ChallengeTestFixture.createDefaultChallenge(1L);
 		List<String> routineNames = List.of("아침 세안", "토너 바르기", "크림 바르기");
 
-		List<ChallengeRoutine> expectedRoutines = challenge.createChallengeRoutines(routineNames);
-
 		when(routineRepository.saveAll(anyList()))
-			.thenReturn(expectedRoutines);
+			.thenAnswer(invocation -> invocation.getArgument(0));
 
 		// when
 		List<ChallengeRoutine> result = challengeRoutineService.createAndSaveRoutines(
 			challenge, routineNames);
 
 		// then
-		assertThat(result).isNotNull();
-		assertThat(result).hasSize(21); // 3 routines × 7 days
-		verify(routineRepository).saveAll(anyList());
+		assertThat(result).hasSize(3); // 기간과 무관하게 루틴명 개수만큼
+		assertThat(result).allMatch(routine -> routine.getScheduledDate().equals(challenge.getStartDate()));
+		assertThat(result).extracting(ChallengeRoutine::getName).containsExactlyElementsOf(routineNames);
 	}
 
 	@Test
@@ -135,4 +140,120 @@ class ChallengeRoutineServiceTest {
 		assertThat(result).isEmpty();
 		verify(routineRepository).findByChallengeIdAndScheduledDate(challengeId, scheduledDate);
 	}
+
+	@Test
+	@DisplayName("성공 - 이미 생성된 날짜는 조회만 하고 잠금을 잡지 않음")
+	void getOrCreateRoutinesByDateReturnsExistingRoutines() {
+		// given
+		Challenge challenge = createChallengeWithId(1L);
+		LocalDate scheduledDate = challenge.getStartDate().plusDays(2);
+		List<ChallengeRoutine> existingRoutines = challenge.createRoutinesOn(List.of("루틴1"), scheduledDate);
+
+		when(routineRepository.findByChallengeIdAndScheduledDate(1L, scheduledDate))
+			.thenReturn(existingRoutines);
+
+		// when
+		List<ChallengeRoutine> result = challengeRoutineService.getOrCreateRoutinesByDate(challenge, scheduledDate);
+
+		// then
+		assertThat(result).isSameAs(existingRoutines);
+		verify(challengeRepository, never()).findByIdForUpdate(1L);
+		verify(routineRepository, never()).saveAll(anyList());
+	}
+
+	@Test
+	@DisplayName("성공 - 루틴이 없는 날짜는 직전에 생성된 날짜의 루틴명을 복사하여 생성")
+	void getOrCreateRoutinesByDateCopiesLatestMaterializedDay() {
+		// given: 1일차만 생성된 상태에서 4일차 첫 조회
+		Challenge challenge = createChallengeWithId(1L);
+		LocalDate sourceDate = challenge.getStartDate();
+		LocalDate scheduledDate = sourceDate.plusDays(3);
+
+		when(routineRepository.findByChallengeIdAndScheduledDate(1L, scheduledDate))
+			.thenReturn(List.of());
+		when(challengeRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(challenge));
+		when(routineRepository.findLatestScheduledDate(1L, sourceDate, scheduledDate.minusDays(1)))
+			.thenReturn(Optional.of(sourceDate));
+		when(routineRepository.findNamesByChallengeIdAndScheduledDate(1L, sourceDate))
+			.thenReturn(List.of("아침 세안", "저녁 마사지"));
+		when(routineRepository.saveAll(anyList()))
+			.thenAnswer(invocation -> invocation.getArgument(0));
+
+		// when
+		List<ChallengeRoutine> result = challengeRoutineService.getOrCreateRoutinesByDate(challenge, scheduledDate);
+
+		// then
+		assertThat(result).extracting(ChallengeRoutine::getName).containsExactly("아침 세안", "저녁 마사지");
+		assertThat(result).allMatch(routine -> routine.getScheduledDate().equals(scheduledDate));
+		assertThat(result).allMatch(routine -> !routine.getIsComplete());
+	}
+
+	@Test
+	@DisplayName("성공 - 잠금을 기다리는 동안 다른 요청이 생성했으면 다시 생성하지 않음")
+	void getOrCreateRoutinesByDateSkipsWhenCreatedWhileWaitingForLock() {
+		// given
+		Challenge challenge = createChallengeWithId(1L);
+		LocalDate scheduledDate = challenge.getStartDate().plusDays(1);
+		List<ChallengeRoutine> createdByOther = challenge.createRoutinesOn(List.of("루틴1"), scheduledDate);
+
+		when(routineRepository.findByChallengeIdAndScheduledDate(1L, scheduledDate))
+			.thenReturn(List.of())
+			.thenReturn(createdByOther);
+		when(challengeRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(challenge));
+
+		// when
+		List<ChallengeRoutine> result = challengeRoutineService.getOrCreateRoutinesByDate(challenge, scheduledDate);
+
+		// then
+		assertThat(result).isSameAs(createdByOther);
+		verify(routineRepository, never()).saveAll(anyList());
+	}
+
+	@Test
+	@DisplayName("성공 - 챌린지 기간 밖의 날짜는 생성하지 않고 빈 리스트 반환")
+	void getOrCreateRoutinesByDateOutsidePeriodReturnsEmptyList() {
+		// given
+		Challenge challenge = createChallengeWithId(1L);
+		LocalDate afterEndDate = challenge.getEndDate().plusDays(1);
+
+		when(routineRepository.findByChallengeIdAndScheduledDate(1L, afterEndDate))
+			.thenReturn(List.of());
+
+		// when
+		List<ChallengeRoutine> result = challengeRoutineService.getOrCreateRoutinesByDate(challenge, afterEndDate);
+
+		// then
+		assertThat(result).isEmpty();
+		verify(challengeRepository, never()).findByIdForUpdate(1L);
+	}
+
+	@Test
+	@DisplayName("성공 - 커스텀 루틴은 오늘부터 종료일 사이에 이미 생성된 날짜에만 저장")
+	void createAndSaveCustomRoutineOnlyOnMaterializedDates() {
+		// given: 오늘(2일차)과 자정 전 미리 채운 내일(3일차)만 생성된 상태
+		Challenge challenge = createChallengeWithId(1L);
+		LocalDate today = challenge.getStartDate().plusDays(1);
+		List<ChallengeRoutine> todayRoutines = challenge.createRoutinesOn(List.of("루틴1"), today);
+
+		when(routineRepository.findByChallengeIdAndScheduledDate(1L, today)).thenReturn(todayRoutines);
+		when(challengeRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(challenge));
+		when(routineRepository.findScheduledDates(1L, today, challenge.getEndDate()))
+			.thenReturn(List.of(today, today.plusDays(1)));
+		when(routineRepository.saveAll(anyList()))
+			.thenAnswer(invocation -> invocation.getArgument(0));
+
+		// when
+		List<ChallengeRoutine> result = challengeRoutineService.createAndSaveCustomRoutine(
+			challenge, "저녁 마사지", today);
+
+		// then
+		assertThat(result).extracting(ChallengeRoutine::getScheduledDate).containsExactly(today, today.plusDays(1));
+		assertThat(result).allMatch(routine -> routine.getName().equals("저녁 마사지"));
+	}
+
+	private Challenge createChallengeWithId(Long challengeId) {
+		Challenge challenge = ChallengeTestFixture.createDefaultChallenge(1L);
+		ReflectionTestUtils.setField(challenge, "id", challengeId);
+		return challenge;
+	}
 }
@@ -53,6 +53,46 @@ class ChallengeRoutineToggleIntegrationTest {
 	private static final int ROUTINE_COUNT_MEDIUM = 2;
 	private static final int ROUTINE_COUNT_LARGE = 3;
 
+	@Nested
+	@DisplayName("루틴 완료/취소 토글 - 일차별 통계와 연속 달성")
+	class ToggleCompletionStreakTests {
+
+		@Test
+		@DisplayName("성공 - 하루 루틴을 모두 완료하면 연속 달성, 하나를 취소하면 다시 끊김")
+		void completingAllRoutinesOfDayUpdatesStreak() {
+			// given
+			User user = fixture.createDefaultUser();
+			Challenge challenge = fixture.createChallengeWithRoutines(user, ROUTINE_COUNT_LARGE);
+			List<ChallengeRoutine> firstDayRoutines = routineRepository.findByChallengeIdAndScheduledDate(
+				challenge.getId(), challenge.getStartDate());
+
+			// when
+			firstDayRoutines.forEach(routine -> challengeRoutineService.toggleCompletion(user.getId(), routine.getId()));
+
+			// then
+			ChallengeStatistics completed = statisticsRepository.findByChallengeId(challenge.getId()).orElseThrow();
+			assertSoftly(softly -> {
+				softly.assertThat(completed.getDailyCompletedCounts()).startsWith(ROUTINE_COUNT_LARGE, 0);
+				softly.assertThat(completed.getDailyCompletionRate(0)).isEqualTo(100);
+				softly.assertThat(completed.getCompletedDays()).isEqualTo(1);
+				softly.assertThat(completed.getBestStreak()).isEqualTo(1);
+				softly.assertThat(completed.getCurrentStreak(1)).isEqualTo(1);
+			});
+
+			// when - 하나 취소
+			challengeRoutineService.toggleCompletion(user.getId(), firstDayRoutines.getFirst().getId());
+
+			// then
+			ChallengeStatistics canceled = statisticsRepository.findByChallengeId(challenge.getId()).orElseThrow();
+			assertSoftly(softly -> {
+				softly.assertThat(canceled.getDailyCompletedCounts()).startsWith(ROUTINE_COUNT_LARGE - 1, 0);
+				softly.assertThat(canceled.getCompletedCount()).isEqualTo(ROUTINE_COUNT_LARGE - 1);
+				softly.assertThat(canceled.getBestStreak()).isZero();
+				softly.assertThat(canceled.getCurrentStreak(1)).isZero();
+			});
+		}
+	}
+
 	@Nested
 	@DisplayName("루틴 완료/취소 토글 - 기본 기능")
 	class ToggleCompletionBasicTests {
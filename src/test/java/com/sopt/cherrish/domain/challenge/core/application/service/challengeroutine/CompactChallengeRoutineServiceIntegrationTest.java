@@ -0,0 +1,313 @@
+package com.sopt.cherrish.domain.challenge.core.application.service.challengeroutine;
+
+import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestConstants.DEFAULT_HOMECARE_ROUTINE;
+import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestConstants.FIXED_START_DATE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.sopt.cherrish.domain.challenge.core.application.service.CompactChallengeRoutineService;
+import com.sopt.cherrish.domain.challenge.core.domain.model.Challenge;
+import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeRoutine;
+import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeRoutineDefinition;
+import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeStatistics;
+import com.sopt.cherrish.domain.challenge.core.domain.model.RoutineDay;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRepository;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRoutineDefinitionRepository;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRoutineRepository;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeStatisticsRepository;
+import com.sopt.cherrish.domain.challenge.core.exception.ChallengeErrorCode;
+import com.sopt.cherrish.domain.challenge.core.exception.ChallengeException;
+import com.sopt.cherrish.domain.challenge.core.fixture.ChallengeIntegrationTestFixture;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.request.RoutineUpdateItemRequestDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.request.RoutineUpdateRequestDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.RoutineBatchUpdateResponseDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.RoutineCompletionResponseDto;
+import com.sopt.cherrish.domain.user.domain.model.User;
+import com.sopt.cherrish.global.config.QueryDslConfig;
+import com.sopt.cherrish.global.config.TestClockConfig;
+import com.sopt.cherrish.global.config.TestJpaAuditConfig;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = "challenge.routine-storage=compact")
+@Import({
+	TestJpaAuditConfig.class,
+	TestClockConfig.class,
+	QueryDslConfig.class,
+	CompactChallengeRoutineService.class,
+	ChallengeIntegrationTestFixture.class
+})
+@DisplayName("CompactChallengeRoutineService 통합 테스트 - 압축 저장 모델")
+class CompactChallengeRoutineServiceIntegrationTest {
+
+	private static final List<String> ROUTINE_NAMES = List.of("아침 세안", "토너 바르기", "크림 바르기");
+
+	@Autowired
+	private CompactChallengeRoutineService compactRoutineService;
+	@Autowired
+	private ChallengeRepository challengeRepository;
+	@Autowired
+	private ChallengeRoutineDefinitionRepository definitionRepository;
+	@Autowired
+	private ChallengeRoutineRepository routineRepository;
+	@Autowired
+	private ChallengeStatisticsRepository statisticsRepository;
+	@Autowired
+	private ChallengeIntegrationTestFixture fixture;
+	@Autowired
+	private EntityManager entityManager;
+
+	/**
+	 * 압축 저장 모델로 챌린지 생성 (통계 포함)
+	 */
+	private Challenge createCompactChallenge(User user) {
+		return createCompactChallenge(user, null);
+	}
+
+	private Challenge createCompactChallenge(User user, Integer totalDays) {
+		Challenge challenge = challengeRepository.save(Challenge.builder()
+			.userId(user.getId())
+			.homecareRoutine(DEFAULT_HOMECARE_ROUTINE)
+			.title(ChallengeIntegrationTestFixture.DEFAULT_CHALLENGE_TITLE)
+			.startDate(FIXED_START_DATE)
+			.totalDays(totalDays)
+			.build());
+
+		List<RoutineDay> routines = compactRoutineService.createAndSaveRoutines(challenge, ROUTINE_NAMES);
+		statisticsRepository.save(ChallengeStatistics.builder()
+			.challenge(challenge)
+			.totalRoutineCount(routines.size())
+			.build());
+
+		entityManager.flush();
+		entityManager.clear();
+		return challengeRepository.findActiveChallengeWithStatistics(user.getId()).orElseThrow();
+	}
+
+	private int getCompletedCount(Challenge challenge) {
+		entityManager.flush();
+		entityManager.clear();
+		return statisticsRepository.findByChallengeId(challenge.getId()).orElseThrow().getCompletedCount();
+	}
+
+	@Nested
+	@DisplayName("생성 및 조회")
+	class CreateAndQueryTests {
+
+		@Test
+		@DisplayName("루틴명 3개 × 7일 - 정의 3행만 저장하고 날짜별 루틴 21개 반환")
+		void createStoresOneRowPerRoutineName() {
+			// given
+			User user = fixture.createDefaultUser();
+			Challenge challenge = challengeRepository.save(Challenge.builder()
+				.userId(user.getId())
+				.homecareRoutine(DEFAULT_HOMECARE_ROUTINE)
+				.title(ChallengeIntegrationTestFixture.DEFAULT_CHALLENGE_TITLE)
+				.startDate(FIXED_START_DATE)
+				.build());
+
+			// when
+			List<RoutineDay> routines = compactRoutineService.createAndSaveRoutines(challenge, ROUTINE_NAMES);
+
+			// then
+			assertThat(routines).hasSize(21);
+			assertThat(routines.subList(0, 3)).extracting(RoutineDay::name).containsExactlyElementsOf(ROUTINE_NAMES);
+			assertThat(routines.getLast().scheduledDate()).isEqualTo(challenge.getEndDate());
+			assertThat(routines).extracting(RoutineDay::routineId).doesNotHaveDuplicates();
+			assertThat(definitionRepository.findByChallengeIdOrderByIdAsc(challenge.getId())).hasSize(3);
+			assertThat(routineRepository.findByChallengeId(challenge.getId())).isEmpty();
+		}
+
+		@Test
+		@DisplayName("커스텀 루틴 추가 - 오늘부터 종료일까지 예정되고 오늘의 루틴에 포함")
+		void customRoutineIsScheduledFromToday() {
+			// given
+			User user = fixture.createDefaultUser();
+			Challenge challenge = createCompactChallenge(user);
+			LocalDate today = FIXED_START_DATE.plusDays(2);
+
+			// when
+			List<RoutineDay> added = compactRoutineService.createAndSaveCustomRoutine(challenge, "마사지", today);
+
+			// then
+			assertThat(added).hasSize(5);
+			assertThat(added.getFirst().scheduledDate()).isEqualTo(today);
+			assertThat(compactRoutineService.countRoutinesByDate(challenge, today)).isEqualTo(4);
+			assertThat(compactRoutineService.countRoutinesByDate(challenge, FIXED_START_DATE)).isEqualTo(3);
+			assertThat(compactRoutineService.getRoutinesByDate(challenge, today))
+				.extracting(RoutineDay::name)
+				.containsExactly("아침 세안", "토너 바르기", "크림 바르기", "마사지");
+		}
+	}
+
+	@Nested
+	@DisplayName("완료 상태 변경")
+	class CompletionTests {
+
+		@Test
+		@DisplayName("토글 - 비트맵과 통계가 함께 갱신")
+		void toggleUpdatesBitmapAndStatistics() {
+			// given
+			User user = fixture.createDefaultUser();
+			Challenge challenge = createCompactChallenge(user);
+			RoutineDay routine = compactRoutineService.getRoutinesByDate(challenge, FIXED_START_DATE).getFirst();
+
+			// when
+			RoutineCompletionResponseDto completed = compactRoutineService.toggleCompletion(user.getId(), routine.routineId());
+			int completedCount = getCompletedCount(challenge);
+
+			// then
+			assertThat(completed.routineId()).isEqualTo(routine.routineId());
+			assertThat(completed.isComplete()).isTrue();
+			assertThat(completedCount).isEqualTo(1);
+			assertThat(compactRoutineService.getRoutinesByDate(challenge, FIXED_START_DATE).getFirst().isComplete()).isTrue();
+			assertThat(compactRoutineService.getRoutinesByDate(challenge, FIXED_START_DATE.plusDays(1)).getFirst().isComplete())
+				.isFalse();
+
+			// when - 완료 취소
+			RoutineCompletionResponseDto canceled = compactRoutineService.toggleCompletion(user.getId(), routine.routineId());
+
+			// then
+			assertThat(canceled.isComplete()).isFalse();
+			assertThat(getCompletedCount(challenge)).isZero();
+		}
+
+		@Test
+		@DisplayName("100일 챌린지 - 64일차 이후의 완료 상태도 저장되고 다른 일차와 섞이지 않음")
+		void hundredDayChallengeStoresLateDays() {
+			// given
+			User user = fixture.createDefaultUser();
+			Challenge challenge = createCompactChallenge(user, 100);
+			LocalDate lastDay = FIXED_START_DATE.plusDays(99);
+			RoutineDay routine = compactRoutineService.getRoutinesByDate(challenge, lastDay).getFirst();
+
+			// when
+			RoutineCompletionResponseDto completed = compactRoutineService.toggleCompletion(user.getId(), routine.routineId());
+			int completedCount = getCompletedCount(challenge);
+
+			// then
+			assertThat(completed.isComplete()).isTrue();
+			assertThat(completedCount).isEqualTo(1);
+			assertThat(compactRoutineService.getRoutinesByDate(challenge, lastDay).getFirst().isComplete()).isTrue();
+			RoutineDay sameBitInFirstWord = compactRoutineService.getRoutinesByDate(challenge, FIXED_START_DATE.plusDays(35))
+				.getFirst();
+			assertThat(sameBitInFirstWord.isComplete()).isFalse();
+		}
+
+		@Test
+		@DisplayName("일괄 업데이트 - 실제로 바뀐 루틴만 통계에 반영")
+		void batchUpdateAppliesDelta() {
+			// given
+			User user = fixture.createDefaultUser();
+			Challenge challenge = createCompactChallenge(user);
+			List<RoutineDay> today = compactRoutineService.getRoutinesByDate(challenge, FIXED_START_DATE);
+			compactRoutineService.toggleCompletion(user.getId(), today.get(0).routineId());
+
+			RoutineUpdateRequestDto request = new RoutineUpdateRequestDto(List.of(
+				new RoutineUpdateItemRequestDto(today.get(0).routineId(), true),
+				new RoutineUpdateItemRequestDto(today.get(1).routineId(), true),
+				new RoutineUpdateItemRequestDto(today.get(2).routineId(), true)
+			));
+
+			// when
+			RoutineBatchUpdateResponseDto response = compactRoutineService.updateMultipleRoutines(user.getId(), request);
+
+			// then
+			assertThat(response.updatedCount()).isEqualTo(3);
+			assertThat(response.routines()).allMatch(routine -> routine.isComplete());
+			assertThat(getCompletedCount(challenge)).isEqualTo(3);
+		}
+
+		@Test
+		@DisplayName("행 모델의 루틴 ID로 토글하면 ROUTINE_NOT_FOUND 예외")
+		void rowRoutineIdIsNotFound() {
+			// given
+			User user = fixture.createDefaultUser();
+			createCompactChallenge(user);
+
+			// when & then
+			assertThatThrownBy(() -> compactRoutineService.toggleCompletion(user.getId(), 1L))
+				.isInstanceOf(ChallengeException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ChallengeErrorCode.ROUTINE_NOT_FOUND);
+		}
+
+		@Test
+		@DisplayName("챌린지 기간 밖 일차의 루틴 ID면 ROUTINE_NOT_FOUND 예외")
+		void unscheduledDayIsNotFound() {
+			// given
+			User user = fixture.createDefaultUser();
+			Challenge challenge = createCompactChallenge(user);
+			ChallengeRoutineDefinition definition = definitionRepository
+				.findByChallengeIdOrderByIdAsc(challenge.getId()).getFirst();
+			long outOfPeriodRoutineId = ChallengeRoutineDefinition.routineIdOf(definition.getId(), 10);
+
+			// when & then
+			assertThatThrownBy(() -> compactRoutineService.toggleCompletion(user.getId(), outOfPeriodRoutineId))
+				.isInstanceOf(ChallengeException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ChallengeErrorCode.ROUTINE_NOT_FOUND);
+		}
+
+		@Test
+		@DisplayName("다른 사용자의 루틴은 토글할 수 없음")
+		void otherUsersRoutineIsRejected() {
+			// given
+			User owner = fixture.createDefaultUser();
+			User other = fixture.createOtherUser();
+			Challenge challenge = createCompactChallenge(owner);
+			RoutineDay routine = compactRoutineService.getRoutinesByDate(challenge, FIXED_START_DATE).getFirst();
+
+			// when & then
+			assertThatThrownBy(() -> compactRoutineService.toggleCompletion(other.getId(), routine.routineId()))
+				.isInstanceOf(ChallengeException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ChallengeErrorCode.UNAUTHORIZED_ACCESS);
+		}
+	}
+
+	@Nested
+	@DisplayName("행 모델 마이그레이션")
+	class MigrationTests {
+
+		@Test
+		@DisplayName("기존 행의 완료 상태를 보존하고, 두 번 실행해도 한 번만 옮김")
+		void migratePreservesCompletion() {
+			// given
+			User user = fixture.createDefaultUser();
+			Challenge challenge = fixture.createChallengeWithRoutines(user, 3);
+			List<ChallengeRoutine> rows = routineRepository.findByChallengeIdAndScheduledDate(
+				challenge.getId(), FIXED_START_DATE);
+			rows.get(1).toggleCompletion();
+			entityManager.flush();
+			entityManager.clear();
+
+			assertThat(compactRoutineService.findChallengeIdsToMigrate()).containsExactly(challenge.getId());
+
+			// when
+			int migrated = compactRoutineService.migrateChallenge(challenge.getId());
+			int migratedAgain = compactRoutineService.migrateChallenge(challenge.getId());
+
+			// then
+			assertThat(migrated).isEqualTo(3);
+			assertThat(migratedAgain).isZero();
+			assertThat(compactRoutineService.findChallengeIdsToMigrate()).isEmpty();
+			assertThat(compactRoutineService.getRoutinesByDate(challenge, FIXED_START_DATE))
+				.extracting(RoutineDay::name, RoutineDay::isComplete)
+				.containsExactly(
+					tuple("루틴1", false),
+					tuple("루틴2", true),
+					tuple("루틴3", false)
+				);
+			assertThat(routineRepository.findByChallengeId(challenge.getId())).hasSize(21);
+		}
+	}
+}
@@ -7,15 +7,18 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixture.DEFAULT_HOMECARE_ROUTINE;
 
+import java.sql.SQLException;
 import java.time.LocalDate;
 import java.util.Optional;
 
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import com.sopt.cherrish.domain.challenge.core.application.service.ChallengeService;
 import com.sopt.cherrish.domain.challenge.core.domain.model.Challenge;
@@ -35,34 +38,6 @@ class ChallengeServiceTest {
 	@InjectMocks
 	private ChallengeService challengeService;
 
-	@Test
-	@DisplayName("성공 - 활성 챌린지가 없을 때 중복 검증 통과")
-	void validateNoDuplicateActiveChallengeSuccess() {
-		// given
-		Long userId = 1L;
-		when(challengeRepository.existsByUserIdAndIsActiveTrue(userId))
-			.thenReturn(false);
-
-		// when & then
-		challengeService.validateNoDuplicateActiveChallenge(userId);
-
-		verify(challengeRepository).existsByUserIdAndIsActiveTrue(userId);
-	}
-
-	@Test
-	@DisplayName("실패 - 이미 활성 챌린지가 있을 때 중복 검증 실패")
-	void validateNoDuplicateActiveChallengeDuplicateExistsThrowsException() {
-		// given
-		Long userId = 1L;
-		when(challengeRepository.existsByUserIdAndIsActiveTrue(userId))
-			.thenReturn(true);
-
-		// when & then
-		assertThatThrownBy(() -> challengeService.validateNoDuplicateActiveChallenge(userId))
-			.isInstanceOf(ChallengeException.class)
-			.hasFieldOrPropertyWithValue("errorCode", ChallengeErrorCode.DUPLICATE_ACTIVE_CHALLENGE);
-	}
-
 	@Test
 	@DisplayName("성공 - 챌린지 생성 및 저장")
 	void createChallengeSuccess() {
@@ -93,6 +68,35 @@ class ChallengeServiceTest {
 		verify(challengeRepository).save(any(Challenge.class));
 	}
 
+	@Test
+	@DisplayName("실패 - 활성 챌린지가 이미 있어 부분 유니크 인덱스를 위반하면 중복 예외로 변환")
+	void createChallengeActiveIndexViolationThrowsDuplicateException() {
+		// given
+		Long userId = 1L;
+		when(challengeRepository.save(any(Challenge.class)))
+			.thenThrow(constraintViolation("PUBLIC." + Challenge.ACTIVE_USER_UNIQUE_INDEX.toUpperCase()));
+
+		// when & then
+		assertThatThrownBy(() -> challengeService.createChallenge(userId, DEFAULT_HOMECARE_ROUTINE, LocalDate.now()))
+			.isInstanceOf(ChallengeException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ChallengeErrorCode.DUPLICATE_ACTIVE_CHALLENGE);
+		verify(challengeRepository).save(any(Challenge.class));
+	}
+
+	@Test
+	@DisplayName("실패 - 다른 제약 조건 위반은 그대로 전파")
+	void createChallengeOtherConstraintViolationRethrows() {
+		// given
+		Long userId = 1L;
+		DataIntegrityViolationException violation = constraintViolation("fk_challenges_user");
+		when(challengeRepository.save(any(Challenge.class)))
+			.thenThrow(violation);
+
+		// when & then
+		assertThatThrownBy(() -> challengeService.createChallenge(userId, DEFAULT_HOMECARE_ROUTINE, LocalDate.now()))
+			.isSameAs(violation);
+	}
+
 	@Test
 	@DisplayName("성공 - 활성 챌린지 조회")
 	void getActiveChallengeSuccess() {
@@ -162,4 +166,9 @@ class ChallengeServiceTest {
 			.isInstanceOf(ChallengeException.class)
 			.hasFieldOrPropertyWithValue("errorCode", ChallengeErrorCode.CHALLENGE_NOT_FOUND);
 	}
+
+	private DataIntegrityViolationException constraintViolation(String constraintName) {
+		return new DataIntegrityViolationException("could not execute statement",
+			new ConstraintViolationException("duplicate key", new SQLException("duplicate key"), constraintName));
+	}
 }
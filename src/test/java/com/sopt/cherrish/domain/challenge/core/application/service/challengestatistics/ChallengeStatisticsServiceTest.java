@@ -58,6 +58,23 @@ class ChallengeStatisticsServiceTest {
 		verify(statisticsRepository).save(any(ChallengeStatistics.class));
 	}
 
+	@Test
+	@DisplayName("성공 - 일차별 통계 초기화 (챌린지 기간의 모든 일차에 하루 루틴 개수)")
+	void initializeDailyStatisticsFillsEveryDay() {
+		// given
+		Challenge challenge = ChallengeTestFixture.createDefaultChallenge(1L);
+		when(statisticsRepository.save(any(ChallengeStatistics.class)))
+			.thenAnswer(invocation -> invocation.getArgument(0));
+
+		// when
+		ChallengeStatistics statistics = challengeStatisticsService.initializeDailyStatistics(challenge, 3);
+
+		// then
+		assertThat(statistics.getTotalRoutineCount()).isEqualTo(3 * challenge.getTotalDays());
+		assertThat(statistics.getDailyRoutineCounts()).hasSize(challenge.getTotalDays()).containsOnly(3);
+		assertThat(statistics.getDailyCompletedCounts()).hasSize(challenge.getTotalDays()).containsOnly(0);
+	}
+
 	@Test
 	@DisplayName("성공 - 완료 개수 증가")
 	void incrementCompletedCountSuccess() {
@@ -0,0 +1,230 @@
+package com.sopt.cherrish.domain.challenge.core.domain.model;
+
+import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixture.DEFAULT_CHALLENGE_TITLE;
+import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixture.DEFAULT_HOMECARE_ROUTINE;
+import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixture.DEFAULT_USER_ID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DisplayName("ChallengeRoutineDefinition 도메인 단위 테스트")
+class ChallengeRoutineDefinitionTest {
+
+	private static final LocalDate START_DATE = LocalDate.of(2024, 1, 15);
+
+	private Challenge createTestChallenge() {
+		return createTestChallenge(null);
+	}
+
+	private Challenge createTestChallenge(Integer totalDays) {
+		return Challenge.builder()
+			.userId(DEFAULT_USER_ID)
+			.homecareRoutine(DEFAULT_HOMECARE_ROUTINE)
+			.title(DEFAULT_CHALLENGE_TITLE)
+			.startDate(START_DATE)
+			.totalDays(totalDays)
+			.build();
+	}
+
+	private ChallengeRoutineDefinition createDefinition(Challenge challenge, int startDay) {
+		return ChallengeRoutineDefinition.builder()
+			.challenge(challenge)
+			.name("아침 세안")
+			.startDay(startDay)
+			.build();
+	}
+
+	@Nested
+	@DisplayName("루틴 ID 인코딩")
+	class RoutineIdEncodingTests {
+
+		@ParameterizedTest
+		@CsvSource({
+			"1, 0",
+			"1, 6",
+			"123456789, 63",
+			"123456789, 99",
+			"4398046511103, 127"
+		})
+		@DisplayName("정의 ID와 일차를 인코딩한 뒤 그대로 복원")
+		void encodeAndDecode(long definitionId, int dayIndex) {
+			// when
+			long routineId = ChallengeRoutineDefinition.routineIdOf(definitionId, dayIndex);
+
+			// then
+			assertThat(ChallengeRoutineDefinition.isEncodedRoutineId(routineId)).isTrue();
+			assertThat(ChallengeRoutineDefinition.definitionIdOf(routineId)).isEqualTo(definitionId);
+			assertThat(ChallengeRoutineDefinition.dayIndexOf(routineId)).isEqualTo(dayIndex);
+			assertThat(routineId).isLessThan(1L << 53);
+		}
+
+		@Test
+		@DisplayName("행 모델의 루틴 ID는 인코딩된 ID로 인식하지 않음")
+		void rowRoutineIdIsNotEncoded() {
+			// when & then
+			assertThat(ChallengeRoutineDefinition.isEncodedRoutineId(1L)).isFalse();
+			assertThat(ChallengeRoutineDefinition.isEncodedRoutineId(999_999_999L)).isFalse();
+			assertThat(ChallengeRoutineDefinition.isEncodedRoutineId(-1L)).isFalse();
+		}
+
+		@Test
+		@DisplayName("일차 비트가 6비트이던 이전 인코딩의 ID는 인코딩된 ID로 인식하지 않음")
+		void legacyEncodedRoutineIdIsNotEncoded() {
+			// given: 이전 인코딩 (1 << 50 | 정의 ID << 6 | 일차)
+			long legacyRoutineId = (1L << 50) | (10L << 6) | 3;
+
+			// when & then
+			assertThat(ChallengeRoutineDefinition.isEncodedRoutineId(legacyRoutineId)).isFalse();
+		}
+	}
+
+	@Nested
+	@DisplayName("완료 비트맵")
+	class CompletionBitmapTests {
+
+		@Test
+		@DisplayName("토글 - 해당 일차의 비트만 바뀜")
+		void toggleChangesOnlyThatDay() {
+			// given
+			ChallengeRoutineDefinition definition = createDefinition(createTestChallenge(), 0);
+
+			// when
+			boolean first = definition.toggleCompletion(2);
+
+			// then
+			assertThat(first).isTrue();
+			assertThat(definition.isCompleteOn(2)).isTrue();
+			assertThat(definition.isCompleteOn(1)).isFalse();
+			assertThat(definition.isCompleteOn(3)).isFalse();
+			assertThat(definition.toggleCompletion(2)).isFalse();
+			assertThat(definition.getCompletionBitmap()).containsExactly(0L);
+		}
+
+		@Test
+		@DisplayName("100일 챌린지 - 비트맵을 기간에 맞춰 두 원소로 만들고 64일차 이후도 구분")
+		void longChallengeUsesMultipleWords() {
+			// given
+			Challenge challenge = createTestChallenge(100);
+			ChallengeRoutineDefinition definition = createDefinition(challenge, 0);
+
+			// when
+			definition.toggleCompletion(99);
+			definition.toggleCompletion(64);
+
+			// then
+			assertThat(definition.getCompletionBitmap()).containsExactly(0L, (1L << 35) | 1L);
+			assertThat(definition.isCompleteOn(99)).isTrue();
+			assertThat(definition.isCompleteOn(35)).isFalse();
+			assertThat(definition.isCompleteOn(0)).isFalse();
+		}
+
+		@Test
+		@DisplayName("64일 이하일 때 저장된 한 원소짜리 비트맵은 필요한 길이까지 늘림")
+		void growsLegacySingleWordBitmap() {
+			// given
+			ChallengeRoutineDefinition definition = createDefinition(createTestChallenge(100), 0);
+			ReflectionTestUtils.setField(definition, "completionBitmap", new long[] {1L});
+
+			// when
+			definition.toggleCompletion(70);
+
+			// then
+			assertThat(definition.getCompletionBitmap()).containsExactly(1L, 1L << 6);
+			assertThat(definition.isCompleteOn(0)).isTrue();
+		}
+
+		@Test
+		@DisplayName("상태 변경 - 이미 목표 상태이면 변경하지 않음")
+		void updateCompletionIsIdempotent() {
+			// given
+			ChallengeRoutineDefinition definition = createDefinition(createTestChallenge(), 0);
+
+			// when & then
+			assertThat(definition.updateCompletion(4, true)).isTrue();
+			assertThat(definition.updateCompletion(4, true)).isFalse();
+			assertThat(definition.updateCompletion(4, false)).isTrue();
+			assertThat(definition.updateCompletion(4, false)).isFalse();
+		}
+	}
+
+	@Nested
+	@DisplayName("일정")
+	class ScheduleTests {
+
+		@Test
+		@DisplayName("커스텀 루틴 - 시작 일차부터 종료일까지만 예정")
+		void scheduledFromStartDayToEnd() {
+			// given
+			ChallengeRoutineDefinition definition = createDefinition(createTestChallenge(), 3);
+
+			// when & then
+			assertThat(definition.isScheduledOn(2)).isFalse();
+			assertThat(definition.isScheduledOn(3)).isTrue();
+			assertThat(definition.isScheduledOn(6)).isTrue();
+			assertThat(definition.isScheduledOn(7)).isFalse();
+			assertThat(definition.getScheduledDayCount()).isEqualTo(4);
+		}
+
+		@Test
+		@DisplayName("날짜별 루틴 변환 - 예정일과 완료 여부 포함")
+		void toRoutineDay() {
+			// given
+			ChallengeRoutineDefinition definition = createDefinition(createTestChallenge(), 0);
+			ReflectionTestUtils.setField(definition, "id", 10L);
+			definition.toggleCompletion(1);
+
+			// when
+			RoutineDay routineDay = definition.toRoutineDay(1);
+
+			// then
+			assertThat(routineDay.routineId()).isEqualTo(ChallengeRoutineDefinition.routineIdOf(10L, 1));
+			assertThat(routineDay.name()).isEqualTo("아침 세안");
+			assertThat(routineDay.scheduledDate()).isEqualTo(START_DATE.plusDays(1));
+			assertThat(routineDay.isComplete()).isTrue();
+		}
+	}
+
+	@Nested
+	@DisplayName("행 모델 마이그레이션")
+	class MigrationTests {
+
+		@Test
+		@DisplayName("같은 이름의 기본 루틴과 커스텀 루틴은 별도 정의로 변환")
+		void sameNameCustomRoutineBecomesSeparateDefinition() {
+			// given
+			Challenge challenge = createTestChallenge();
+			List<ChallengeRoutine> routines = new ArrayList<>(challenge.createChallengeRoutines(List.of("아침 세안", "크림")));
+			routines.addAll(challenge.createCustomRoutinesFromToday("아침 세안", START_DATE.plusDays(3)));
+			long id = 1;
+			for (ChallengeRoutine routine : routines) {
+				ReflectionTestUtils.setField(routine, "id", id++);
+			}
+			routines.get(2).toggleCompletion();  // 2일차 아침 세안 (기본)
+			routines.getLast().toggleCompletion();  // 7일차 아침 세안 (커스텀)
+
+			// when
+			List<ChallengeRoutineDefinition> definitions = ChallengeRoutineDefinition.fromRoutineRows(challenge, routines);
+
+			// then
+			assertThat(definitions).hasSize(3);
+			assertThat(definitions).extracting(ChallengeRoutineDefinition::getName)
+				.containsExactly("아침 세안", "크림", "아침 세안");
+			assertThat(definitions).extracting(ChallengeRoutineDefinition::getStartDay)
+				.containsExactly(0, 0, 3);
+			assertThat(definitions.get(0).getCompletionBitmap()).containsExactly(1L << 1);
+			assertThat(definitions.get(1).getCompletionBitmap()).containsExactly(0L);
+			assertThat(definitions.get(2).getCompletionBitmap()).containsExactly(1L << 6);
+			int totalRoutineCount = definitions.stream().mapToInt(ChallengeRoutineDefinition::getScheduledDayCount).sum();
+			assertThat(totalRoutineCount).isEqualTo(routines.size());
+		}
+	}
+}
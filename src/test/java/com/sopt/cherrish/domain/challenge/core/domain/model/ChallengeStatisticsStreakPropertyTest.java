@@ -0,0 +1,193 @@
+package com.sopt.cherrish.domain.challenge.core.domain.model;
+
+import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixture.DEFAULT_CHALLENGE_TITLE;
+import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixture.DEFAULT_HOMECARE_ROUTINE;
+import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixture.DEFAULT_USER_ID;
+import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixture.FIXED_START_DATE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
+
+/**
+ * 일차별 통계와 연속 달성 기록의 속성 기반 테스트.
+ *
+ * <p>반복마다 고정된 시드로 챌린지 기간, 하루 루틴 개수, 토글/일괄 수정/커스텀 루틴 추가 순서를 무작위로 만들고,
+ * 매 연산 뒤 증분 갱신된 통계가 전체 루틴 상태로부터 처음부터 다시 계산한 값과 같은지 확인합니다.
+ * 실패하면 표시 이름의 반복 번호가 곧 시드이므로 같은 순서를 그대로 재현할 수 있습니다.</p>
+ */
+@DisplayName("ChallengeStatistics 연속 달성 속성 기반 테스트")
+class ChallengeStatisticsStreakPropertyTest {
+
+	private static final List<Integer> TOTAL_DAYS = List.of(7, 21, 30, 100);
+	private static final int MAX_DAILY_ROUTINE_COUNT = 4;
+	private static final int OPERATION_COUNT = 100;
+	private static final int MAX_BATCH_SIZE = 10;
+
+	@RepeatedTest(value = 100, name = "시드 {currentRepetition}")
+	@DisplayName("속성 - 증분 갱신한 통계는 루틴 상태로 다시 계산한 값과 항상 같음")
+	void incrementalStatisticsMatchBruteForceRecomputation(RepetitionInfo repetitionInfo) {
+		Random random = new Random(repetitionInfo.getCurrentRepetition());
+		Challenge challenge = Challenge.builder()
+			.userId(DEFAULT_USER_ID)
+			.homecareRoutine(DEFAULT_HOMECARE_ROUTINE)
+			.title(DEFAULT_CHALLENGE_TITLE)
+			.startDate(FIXED_START_DATE)
+			.totalDays(TOTAL_DAYS.get(random.nextInt(TOTAL_DAYS.size())))
+			.build();
+		int days = challenge.getTotalDays();
+		int dailyRoutineCount = 1 + random.nextInt(MAX_DAILY_ROUTINE_COUNT);
+
+		// 일차별 루틴 완료 여부 (실제 루틴 행에 해당)
+		List<List<Boolean>> routines = new ArrayList<>();
+		for (int day = 0; day < days; day++) {
+			routines.add(new ArrayList<>(Collections.nCopies(dailyRoutineCount, false)));
+		}
+		int[] dailyRoutineCounts = new int[days];
+		Arrays.fill(dailyRoutineCounts, dailyRoutineCount);
+		ChallengeStatistics statistics = ChallengeStatistics.builder()
+			.challenge(challenge)
+			.totalRoutineCount(dailyRoutineCount * days)
+			.dailyRoutineCounts(dailyRoutineCounts)
+			.build();
+
+		for (int operation = 0; operation < OPERATION_COUNT; operation++) {
+			int kind = random.nextInt(10);
+			if (kind < 6) {
+				toggle(random, routines, statistics);
+			} else if (kind < 9) {
+				updateBatch(random, routines, statistics);
+			} else {
+				addCustomRoutine(random, routines, statistics);
+			}
+
+			assertMatchesBruteForce(statistics, routines, 1 + random.nextInt(days + 1));
+		}
+	}
+
+	private void toggle(Random random, List<List<Boolean>> routines, ChallengeStatistics statistics) {
+		int day = random.nextInt(routines.size());
+		List<Boolean> dayRoutines = routines.get(day);
+		int index = random.nextInt(dayRoutines.size());
+		boolean isComplete = !dayRoutines.get(index);
+		dayRoutines.set(index, isComplete);
+
+		statistics.applyCompletionChanges(Map.of(day, isComplete ? 1 : -1));
+	}
+
+	/**
+	 * 일괄 수정: 요청 상태와 현재 상태가 다른 루틴만 일차별 delta에 더함 (서비스의 변경 대상 필터와 동일)
+	 */
+	private void updateBatch(Random random, List<List<Boolean>> routines, ChallengeStatistics statistics) {
+		Map<Integer, Integer> completedDeltaByDay = new HashMap<>();
+		int batchSize = 1 + random.nextInt(MAX_BATCH_SIZE);
+		for (int i = 0; i < batchSize; i++) {
+			int day = random.nextInt(routines.size());
+			List<Boolean> dayRoutines = routines.get(day);
+			int index = random.nextInt(dayRoutines.size());
+			boolean requested = random.nextBoolean();
+			if (dayRoutines.get(index) != requested) {
+				dayRoutines.set(index, requested);
+				completedDeltaByDay.merge(day, requested ? 1 : -1, Integer::sum);
+			}
+		}
+
+		if (!completedDeltaByDay.isEmpty()) {
+			statistics.applyCompletionChanges(completedDeltaByDay);
+		}
+	}
+
+	private void addCustomRoutine(Random random, List<List<Boolean>> routines, ChallengeStatistics statistics) {
+		int fromDay = random.nextInt(routines.size());
+		for (int day = fromDay; day < routines.size(); day++) {
+			routines.get(day).add(false);
+		}
+
+		statistics.incrementTotalRoutineCount(routines.size() - fromDay);
+		statistics.addDailyRoutines(fromDay, 1);
+		statistics.updateCherryLevel();
+	}
+
+	private void assertMatchesBruteForce(ChallengeStatistics statistics, List<List<Boolean>> routines, int currentDay) {
+		int days = routines.size();
+		boolean[] completedDays = new boolean[days];
+		int totalRoutines = 0;
+		int totalCompleted = 0;
+		for (int day = 0; day < days; day++) {
+			List<Boolean> dayRoutines = routines.get(day);
+			int completed = (int) dayRoutines.stream().filter(Boolean::booleanValue).count();
+			assertThat(statistics.getDailyRoutineCounts()[day]).isEqualTo(dayRoutines.size());
+			assertThat(statistics.getDailyCompletedCounts()[day]).isEqualTo(completed);
+			completedDays[day] = !dayRoutines.isEmpty() && completed == dayRoutines.size();
+			totalRoutines += dayRoutines.size();
+			totalCompleted += completed;
+		}
+
+		assertThat(statistics.getTotalRoutineCount()).isEqualTo(totalRoutines);
+		assertThat(statistics.getCompletedCount()).isEqualTo(totalCompleted);
+		assertThat(statistics.getCherryLevel()).isEqualTo(statistics.calculateCherryLevel());
+		assertThat(statistics.getCompletedDays()).isEqualTo(countTrue(completedDays));
+		assertThat(statistics.getBestStreak()).isEqualTo(bruteForceBestStreak(completedDays));
+		assertThat(statistics.getCurrentStreak(currentDay)).isEqualTo(bruteForceCurrentStreak(completedDays, currentDay));
+	}
+
+	private int countTrue(boolean[] values) {
+		int count = 0;
+		for (boolean value : values) {
+			if (value) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * 각 일차에서 시작해 모두 완료한 날이 이어지는 만큼 늘린 구간 중 가장 긴 구간의 길이
+	 */
+	private int bruteForceBestStreak(boolean[] completedDays) {
+		int best = 0;
+		for (int from = 0; from < completedDays.length; from++) {
+			int to = from;
+			while (to < completedDays.length && completedDays[to]) {
+				to++;
+			}
+			best = Math.max(best, to - from);
+		}
+		return best;
+	}
+
+	/**
+	 * 오늘(오늘이 미완료면 어제)로 끝나는 구간 중 모두 완료한 가장 긴 구간의 길이
+	 */
+	private int bruteForceCurrentStreak(boolean[] completedDays, int currentDay) {
+		int today = Math.min(currentDay, completedDays.length) - 1;
+		if (today < 0) {
+			return 0;
+		}
+		int end = completedDays[today] ? today : today - 1;
+		for (int length = end + 1; length > 0; length--) {
+			if (allCompleted(completedDays, end - length + 1, end)) {
+				return length;
+			}
+		}
+		return 0;
+	}
+
+	private boolean allCompleted(boolean[] completedDays, int from, int to) {
+		for (int day = from; day <= to; day++) {
+			if (!completedDays[day]) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
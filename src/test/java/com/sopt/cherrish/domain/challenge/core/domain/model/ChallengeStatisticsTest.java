@@ -6,6 +6,9 @@ import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixtu
 import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixture.FIXED_START_DATE;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Arrays;
+import java.util.Map;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -370,4 +373,132 @@ class ChallengeStatisticsTest {
 		// then
 		assertThat(statistics.getTotalRoutineCount()).isEqualTo(21); // 변화 없음
 	}
+
+	@Test
+	@DisplayName("일차별 완료 반영 - 일차별 완료 개수, 전체 완료 개수, 체리 레벨을 함께 갱신")
+	void applyCompletionChangesUpdatesDailyAndTotalCounts() {
+		// given: 7일 × 하루 3개
+		ChallengeStatistics statistics = createDailyStatistics(3);
+
+		// when
+		statistics.applyCompletionChanges(Map.of(0, 3, 1, 2));
+
+		// then
+		assertThat(statistics.getCompletedCount()).isEqualTo(5);
+		assertThat(statistics.getCherryLevel()).isEqualTo(statistics.calculateCherryLevel());
+		assertThat(statistics.getDailyCompletedCounts()).containsExactly(3, 2, 0, 0, 0, 0, 0);
+		assertThat(statistics.getDailyCompletionRate(0)).isEqualTo(100);
+		assertThat(statistics.getDailyCompletionRate(1)).isEqualTo(67);
+		assertThat(statistics.getCompletedDays()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("일차별 완료 반영 - 일차별 완료 개수는 0 ~ 그날 루틴 개수로 보정")
+	void applyCompletionChangesClampsDailyCount() {
+		// given
+		ChallengeStatistics statistics = createDailyStatistics(2);
+
+		// when
+		statistics.applyCompletionChanges(Map.of(0, 5));
+		statistics.applyCompletionChanges(Map.of(1, -1));
+
+		// then
+		assertThat(statistics.getDailyCompletedCounts()).containsExactly(2, 0, 0, 0, 0, 0, 0);
+	}
+
+	@Test
+	@DisplayName("일차별 완료 반영 - 일차별 통계가 없으면 전체 완료 개수만 갱신")
+	void applyCompletionChangesWithoutDailyStatisticsUpdatesTotalOnly() {
+		// given
+		ChallengeStatistics statistics = ChallengeStatistics.builder()
+			.challenge(createTestChallenge())
+			.totalRoutineCount(21)
+			.build();
+
+		// when
+		statistics.applyCompletionChanges(Map.of(0, 3));
+
+		// then
+		assertThat(statistics.getCompletedCount()).isEqualTo(3);
+		assertThat(statistics.getTrackedDays()).isZero();
+		assertThat(statistics.getBestStreak()).isZero();
+		assertThat(statistics.getCurrentStreak(1)).isZero();
+	}
+
+	@Test
+	@DisplayName("연속 달성 - 최장 연속은 완료를 취소하면 다시 계산")
+	void bestStreakIsRecalculatedWhenCompletionIsCanceled() {
+		// given: 1~3일차 모두 완료
+		ChallengeStatistics statistics = createDailyStatistics(1);
+		statistics.applyCompletionChanges(Map.of(0, 1, 1, 1, 2, 1));
+		assertThat(statistics.getBestStreak()).isEqualTo(3);
+
+		// when: 2일차 완료 취소
+		statistics.applyCompletionChanges(Map.of(1, -1));
+
+		// then
+		assertThat(statistics.getBestStreak()).isEqualTo(1);
+		assertThat(statistics.getCompletedDays()).isEqualTo(2);
+	}
+
+	@ParameterizedTest(name = "{0}일차 → 현재 연속 {1}일")
+	@CsvSource({
+		"3, 2",  // 오늘(3일차) 미완료 → 어제까지 연속
+		"2, 2",  // 오늘(2일차) 완료
+		"5, 0",  // 어제(4일차) 미완료 → 끊김
+		"0, 0"   // 시작 전
+	})
+	@DisplayName("연속 달성 - 오늘을 아직 다 완료하지 않았으면 어제까지로 계산")
+	void currentStreakCountsUntilYesterdayWhenTodayIsIncomplete(int currentDay, int expectedStreak) {
+		// given: 1~2일차 완료, 3일차 일부 완료
+		ChallengeStatistics statistics = createDailyStatistics(2);
+		statistics.applyCompletionChanges(Map.of(0, 2, 1, 2, 2, 1));
+
+		// when & then
+		assertThat(statistics.getCurrentStreak(currentDay)).isEqualTo(expectedStreak);
+	}
+
+	@Test
+	@DisplayName("커스텀 루틴 추가 - 추가한 일차부터 루틴 개수가 늘어 그날은 다시 미완료")
+	void addDailyRoutinesMakesCompletedDayIncomplete() {
+		// given: 1~2일차 완료
+		ChallengeStatistics statistics = createDailyStatistics(1);
+		statistics.applyCompletionChanges(Map.of(0, 1, 1, 1));
+
+		// when: 2일차에 커스텀 루틴 추가
+		statistics.addDailyRoutines(1, 1);
+
+		// then
+		assertThat(statistics.getDailyRoutineCounts()).containsExactly(1, 2, 2, 2, 2, 2, 2);
+		assertThat(statistics.getBestStreak()).isEqualTo(1);
+		assertThat(statistics.getCurrentStreak(2)).isEqualTo(1);
+		assertThat(statistics.getDailyCompletionRate(1)).isEqualTo(50);
+	}
+
+	@Test
+	@DisplayName("반영 대기 사본 - 일차별 통계와 연속 달성 기록을 그대로 유지")
+	void pendingDeltaViewKeepsDailyStatistics() {
+		// given
+		ChallengeStatistics statistics = createDailyStatistics(1);
+		statistics.applyCompletionChanges(Map.of(0, 1));
+
+		// when
+		ChallengeStatistics view = statistics.withPendingCompletedDelta(1);
+
+		// then
+		assertThat(view.getCompletedCount()).isEqualTo(2);
+		assertThat(view.getDailyCompletedCounts()).containsExactly(statistics.getDailyCompletedCounts());
+		assertThat(view.getBestStreak()).isEqualTo(1);
+	}
+
+	private ChallengeStatistics createDailyStatistics(int dailyRoutineCount) {
+		Challenge challenge = createTestChallenge();
+		int[] dailyRoutineCounts = new int[challenge.getTotalDays()];
+		Arrays.fill(dailyRoutineCounts, dailyRoutineCount);
+		return ChallengeStatistics.builder()
+			.challenge(challenge)
+			.totalRoutineCount(dailyRoutineCount * challenge.getTotalDays())
+			.dailyRoutineCounts(dailyRoutineCounts)
+			.build();
+	}
 }
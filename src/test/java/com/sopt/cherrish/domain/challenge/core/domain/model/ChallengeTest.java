@@ -12,6 +12,9 @@ import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import com.sopt.cherrish.domain.challenge.core.exception.ChallengeErrorCode;
 import com.sopt.cherrish.domain.challenge.core.exception.ChallengeException;
@@ -39,6 +42,69 @@ class ChallengeTest {
 		assertThat(challenge.getTotalDays()).isEqualTo(7);
 	}
 
+	@ParameterizedTest(name = "{0}일 챌린지의 종료일은 {1}")
+	@CsvSource({"7, 2024-01-07", "21, 2024-01-21", "30, 2024-01-30", "100, 2024-04-09"})
+	@DisplayName("챌린지 생성 - 지정한 기간으로 종료일 계산")
+	void createChallengeWithTotalDaysCalculatesEndDate(int totalDays, LocalDate expectedEndDate) {
+		// given & when
+		Challenge challenge = Challenge.builder()
+			.userId(DEFAULT_USER_ID)
+			.homecareRoutine(DEFAULT_HOMECARE_ROUTINE)
+			.title(DEFAULT_CHALLENGE_TITLE)
+			.startDate(FIXED_START_DATE)
+			.totalDays(totalDays)
+			.build();
+
+		// then
+		assertThat(challenge.getTotalDays()).isEqualTo(totalDays);
+		assertThat(challenge.getEndDate()).isEqualTo(expectedEndDate);
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = {0, 1, 14, 101})
+	@DisplayName("챌린지 생성 실패 - 지원하지 않는 기간")
+	void createChallengeWithUnsupportedTotalDaysThrowsException(int totalDays) {
+		// when & then
+		assertThat(catchThrowable(() -> Challenge.builder()
+			.userId(DEFAULT_USER_ID)
+			.homecareRoutine(DEFAULT_HOMECARE_ROUTINE)
+			.title(DEFAULT_CHALLENGE_TITLE)
+			.startDate(FIXED_START_DATE)
+			.totalDays(totalDays)
+			.build()))
+			.isInstanceOf(ChallengeException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ChallengeErrorCode.INVALID_CHALLENGE_TOTAL_DAYS);
+	}
+
+	@Test
+	@DisplayName("하루치 루틴 생성 - 루틴명 순서대로 지정한 날짜에 미완료 상태로 생성")
+	void createRoutinesOnCreatesRoutinesForSingleDate() {
+		// given
+		Challenge challenge = createTestChallenge();
+		LocalDate scheduledDate = LocalDate.of(2024, 1, 4);
+
+		// when
+		List<ChallengeRoutine> routines = challenge.createRoutinesOn(List.of("아침 세안", "크림 바르기"), scheduledDate);
+
+		// then
+		assertThat(routines).extracting(ChallengeRoutine::getName).containsExactly("아침 세안", "크림 바르기");
+		assertThat(routines).allMatch(routine -> routine.getScheduledDate().equals(scheduledDate));
+		assertThat(routines).allMatch(routine -> !routine.getIsComplete());
+	}
+
+	@Test
+	@DisplayName("남은 일수 - 오늘부터 종료일까지 (종료 후에는 0)")
+	void getRemainingDaysCountsUntilEndDate() {
+		// given
+		Challenge challenge = createTestChallenge(); // endDate: 2024-01-07
+
+		// when & then
+		assertThat(challenge.getRemainingDays(LocalDate.of(2024, 1, 1))).isEqualTo(7);
+		assertThat(challenge.getRemainingDays(LocalDate.of(2024, 1, 3))).isEqualTo(5);
+		assertThat(challenge.getRemainingDays(LocalDate.of(2024, 1, 7))).isEqualTo(1);
+		assertThat(challenge.getRemainingDays(LocalDate.of(2024, 1, 8))).isZero();
+	}
+
 	@Test
 	@DisplayName("챌린지 루틴 생성 - 3개 루틴명 × 7일 = 21개 생성")
 	void createChallengeRoutines3routinesCreates21routines() {
@@ -0,0 +1,231 @@
+package com.sopt.cherrish.domain.challenge.core.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixture.DEFAULT_HOMECARE_ROUTINE;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.context.jdbc.SqlConfig;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sopt.cherrish.domain.challenge.core.application.service.ChallengeService;
+import com.sopt.cherrish.domain.challenge.core.domain.model.Challenge;
+import com.sopt.cherrish.domain.challenge.core.exception.ChallengeErrorCode;
+import com.sopt.cherrish.domain.challenge.core.exception.ChallengeException;
+import com.sopt.cherrish.domain.challenge.demo.application.service.DemoChallengeService;
+import com.sopt.cherrish.global.config.JpaAuditConfig;
+import com.sopt.cherrish.global.config.PostgresContainerSupport;
+import com.sopt.cherrish.global.config.QueryDslConfig;
+
+/**
+ * 활성 챌린지 부분 인덱스(Flyway V4) 검증 테스트.
+ *
+ * <p>부분 인덱스는 PostgreSQL 전용이므로 Testcontainers로 PostgreSQL을 띄우고, Hibernate가 만든 스키마에 V4 마이그레이션을 적용합니다.
+ * Docker를 사용할 수 없는 환경에서는 건너뜁니다.</p>
+ */
+@DataJpaTest
+@Import({QueryDslConfig.class, JpaAuditConfig.class, ChallengeService.class, DemoChallengeService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Sql(scripts = "classpath:" + ChallengeActiveIndexTest.MIGRATION,
+	config = @SqlConfig(separator = ScriptUtils.EOF_STATEMENT_SEPARATOR))
+@DisplayName("활성 챌린지 부분 인덱스 통합 테스트")
+class ChallengeActiveIndexTest extends PostgresContainerSupport {
+
+	static final String MIGRATION = "db/migration/V4__active_challenge_partial_indexes.sql";
+
+	private static final int CONCURRENT_REQUESTS = 8;
+	private static final int CHUNK_SIZE = 500;
+
+	@Autowired
+	private ChallengeService challengeService;
+	@Autowired
+	private DemoChallengeService demoChallengeService;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private DataSource dataSource;
+
+	@Test
+	@DisplayName("실패 - 활성 챌린지가 있으면 유니크 인덱스 위반을 중복 예외로 변환")
+	void secondActiveChallengeThrowsDuplicateException() {
+		// given
+		Long userId = 101L;
+		challengeService.createChallenge(userId, DEFAULT_HOMECARE_ROUTINE, LocalDate.now());
+
+		// when & then
+		assertThatThrownBy(() -> challengeService.createChallenge(userId, DEFAULT_HOMECARE_ROUTINE, LocalDate.now()))
+			.isInstanceOf(ChallengeException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ChallengeErrorCode.DUPLICATE_ACTIVE_CHALLENGE);
+		assertThat(countActive("challenges", userId)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("성공 - 만료로 비활성화된 챌린지는 새 챌린지 생성을 막지 않음")
+	void expiredChallengeAllowsNewChallenge() {
+		// given
+		Long userId = 102L;
+		LocalDate startDate = LocalDate.now();
+		challengeService.createChallenge(userId, DEFAULT_HOMECARE_ROUTINE, startDate);
+		LocalDate expiryDate = startDate.plusDays(30);
+		List<Long> expiredIds = challengeService.findExpiredChallenges(expiryDate, 0L, CHUNK_SIZE).stream()
+			.map(ExpiringChallenge::getChallengeId)
+			.toList();
+		challengeService.expireChallenges(expiredIds, expiryDate);
+
+		// when
+		challengeService.createChallenge(userId, DEFAULT_HOMECARE_ROUTINE, expiryDate);
+
+		// then
+		assertThat(countActive("challenges", userId)).isEqualTo(1);
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM challenges WHERE user_id = ?", Integer.class, userId)).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("동시성 - 같은 사용자의 동시 생성 요청 중 하나만 저장")
+	void concurrentCreationKeepsSingleActiveChallenge() throws Exception {
+		// given
+		Long userId = 103L;
+		CountDownLatch startLatch = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+		List<Future<Boolean>> results = new ArrayList<>();
+
+		// when
+		try {
+			for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+				results.add(executor.submit((Callable<Boolean>) () -> {
+					startLatch.await();
+					try {
+						challengeService.createChallenge(userId, DEFAULT_HOMECARE_ROUTINE, LocalDate.now());
+						return true;
+					} catch (ChallengeException e) {
+						assertThat(e.getErrorCode()).isEqualTo(ChallengeErrorCode.DUPLICATE_ACTIVE_CHALLENGE);
+						return false;
+					}
+				}));
+			}
+			startLatch.countDown();
+		} finally {
+			executor.shutdown();
+			assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+		}
+
+		// then
+		int successCount = 0;
+		for (Future<Boolean> result : results) {
+			if (result.get()) {
+				successCount++;
+			}
+		}
+		assertThat(successCount).isEqualTo(1);
+		assertThat(countActive("challenges", userId)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("실패 - 활성 데모 챌린지가 있으면 중복 예외")
+	void secondActiveDemoChallengeThrowsDuplicateException() {
+		// given
+		Long userId = 104L;
+		demoChallengeService.createChallenge(userId, DEFAULT_HOMECARE_ROUTINE, LocalDate.now());
+
+		// when & then
+		assertThatThrownBy(() -> demoChallengeService.createChallenge(userId, DEFAULT_HOMECARE_ROUTINE, LocalDate.now()))
+			.isInstanceOf(ChallengeException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ChallengeErrorCode.DUPLICATE_ACTIVE_CHALLENGE);
+		assertThat(countActive("demo_challenges", userId)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("성공 - 활성 챌린지 조회와 만료 배치는 부분 인덱스를 사용")
+	void activeChallengeQueriesUsePartialIndexes() {
+		// when
+		String userLookupPlan = explain("SELECT id FROM challenges WHERE user_id = 1 AND is_active = true");
+		String expiryPlan = explain("SELECT id FROM challenges WHERE is_active = true AND end_date < DATE '2024-01-01'");
+
+		// then
+		assertThat(userLookupPlan).contains("uk_challenges_active_user");
+		assertThat(expiryPlan).contains("idx_challenges_active_end_date");
+	}
+
+	@Test
+	@DisplayName("성공 - 마이그레이션은 기존 중복 활성 챌린지 중 가장 최근 것만 남기고 인덱스를 생성")
+	void migrationDeactivatesOlderDuplicateActiveChallenges() {
+		// given: 인덱스 도입 전 스키마에 같은 사용자의 활성 챌린지가 3개 있음
+		Long userId = 105L;
+		jdbcTemplate.execute("DROP INDEX " + Challenge.ACTIVE_USER_UNIQUE_INDEX);
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			ids.add(insertActiveChallenge(userId));
+		}
+
+		// when
+		ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource(MIGRATION));
+		populator.setSeparator(ScriptUtils.EOF_STATEMENT_SEPARATOR);
+		populator.execute(dataSource);
+
+		// then
+		assertThat(jdbcTemplate.queryForList(
+			"SELECT id FROM challenges WHERE user_id = ? AND is_active", Long.class, userId))
+			.containsExactly(ids.get(2));
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM pg_indexes WHERE indexname = ?", Integer.class, Challenge.ACTIVE_USER_UNIQUE_INDEX))
+			.isEqualTo(1);
+	}
+
+	private Long insertActiveChallenge(Long userId) {
+		return jdbcTemplate.queryForObject("""
+			INSERT INTO challenges (user_id, homecare_routine, title, is_active, total_days, start_date, end_date, created_at)
+			VALUES (?, ?, '챌린지', TRUE, 7, CURRENT_DATE, CURRENT_DATE + 6, CURRENT_TIMESTAMP)
+			RETURNING id
+			""", Long.class, userId, DEFAULT_HOMECARE_ROUTINE.name());
+	}
+
+	private int countActive(String table, Long userId) {
+		return jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM " + table + " WHERE user_id = ? AND is_active", Integer.class, userId);
+	}
+
+	/**
+	 * 빈 테이블에서는 순차 스캔이 항상 가장 싸므로, 순차 스캔을 끈 상태에서 인덱스가 후보가 되는지 확인
+	 */
+	private String explain(String sql) {
+		return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+			StringBuilder plan = new StringBuilder();
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("SET enable_seqscan = off");
+				try (ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+					while (resultSet.next()) {
+						plan.append(resultSet.getString(1)).append('\n');
+					}
+				}
+				statement.execute("RESET enable_seqscan");
+			}
+			return plan.toString();
+		});
+	}
+}
@@ -3,6 +3,7 @@ package com.sopt.cherrish.domain.challenge.core.domain.repository;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.time.LocalDate;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -11,6 +12,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
 
 import com.sopt.cherrish.domain.challenge.core.domain.model.Challenge;
 import com.sopt.cherrish.domain.challenge.homecare.domain.model.HomecareRoutine;
@@ -23,6 +25,8 @@ import com.sopt.cherrish.global.config.QueryDslConfig;
 @DisplayName("ChallengeRepository 통합 테스트")
 class ChallengeRepositoryTest {
 
+	private static final int CHUNK_SIZE = 500;
+
 	@Autowired
 	private ChallengeRepository challengeRepository;
 
@@ -76,13 +80,30 @@ class ChallengeRepositoryTest {
 	}
 
 	@Test
-	@DisplayName("만료된 활성 챌린지만 벌크 업데이트로 비활성화")
-	void bulkUpdateExpiredChallengesSuccess() {
+	@DisplayName("만료된 활성 챌린지 ID와 사용자 ID만 조회")
+	void findExpiredChallengesSuccess() {
 		// Given
 		LocalDate today = LocalDate.now();
 
-		// When: 벌크 업데이트 실행
-		int updatedCount = challengeRepository.bulkUpdateExpiredChallenges(today);
+		// When
+		List<ExpiringChallenge> expired = challengeRepository.findExpiredChallenges(today, 0L, Limit.of(CHUNK_SIZE));
+
+		// Then: endDate가 어제인 활성 챌린지만 조회
+		assertThat(expired).hasSize(1);
+		assertThat(expired.getFirst().getChallengeId()).isEqualTo(expiredActiveChallenge.getId());
+		assertThat(expired.getFirst().getUserId()).isEqualTo(expiredActiveChallenge.getUserId());
+	}
+
+	@Test
+	@DisplayName("만료된 활성 챌린지만 비활성화")
+	void expireChallengesByIdInSuccess() {
+		// Given: 만료 조건과 관계없이 모든 챌린지 ID를 전달
+		LocalDate today = LocalDate.now();
+		List<Long> allIds = List.of(expiredActiveChallenge.getId(), todayEndChallenge.getId(),
+			futureEndChallenge.getId(), expiredInactiveChallenge.getId());
+
+		// When
+		int updatedCount = challengeRepository.expireChallengesByIdIn(allIds, today);
 
 		// Then: 1개만 업데이트 (endDate가 어제인 활성 챌린지)
 		assertThat(updatedCount).isEqualTo(1);
@@ -103,21 +124,21 @@ class ChallengeRepositoryTest {
 	}
 
 	@Test
-	@DisplayName("만료된 챌린지가 없으면 업데이트 없음")
-	void bulkUpdateExpiredChallengesNoExpiredChallenges() {
-		// Given: 모든 챌린지가 만료되지 않은 상태로 설정
-		LocalDate futureDate = LocalDate.now().minusDays(100); // 모든 챌린지보다 과거 날짜
+	@DisplayName("만료된 챌린지가 없으면 조회 결과 없음")
+	void findExpiredChallengesNoExpiredChallenges() {
+		// Given: 모든 챌린지보다 과거 날짜
+		LocalDate pastDate = LocalDate.now().minusDays(100);
 
 		// When
-		int updatedCount = challengeRepository.bulkUpdateExpiredChallenges(futureDate);
+		List<ExpiringChallenge> expired = challengeRepository.findExpiredChallenges(pastDate, 0L, Limit.of(CHUNK_SIZE));
 
-		// Then: 업데이트 없음
-		assertThat(updatedCount).isEqualTo(0);
+		// Then
+		assertThat(expired).isEmpty();
 	}
 
 	@Test
-	@DisplayName("여러 만료된 챌린지를 한 번에 처리")
-	void bulkUpdateExpiredChallengesMultipleExpired() {
+	@DisplayName("여러 만료된 챌린지를 ID 키셋 청크로 나누어 조회")
+	void findExpiredChallengesKeysetChunks() {
 		// Given: 추가로 만료된 챌린지 2개 생성
 		LocalDate today = LocalDate.now();
 		HomecareRoutine[] routines = HomecareRoutine.values();
@@ -138,13 +159,17 @@ class ChallengeRepositoryTest {
 			.build();
 		challengeRepository.save(expired3);
 
-		// When
-		int updatedCount = challengeRepository.bulkUpdateExpiredChallenges(today);
+		// When: 청크 크기 2로 두 번 조회
+		List<Long> firstChunk = challengeIds(challengeRepository.findExpiredChallenges(today, 0L, Limit.of(2)));
+		List<Long> secondChunk = challengeIds(challengeRepository.findExpiredChallenges(today, firstChunk.getLast(), Limit.of(2)));
 
-		// Then: 총 3개 업데이트 (초기 1개 + 추가 2개)
-		assertThat(updatedCount).isEqualTo(3);
+		// Then: 총 3개를 ID 순서로 빠짐없이 조회 (초기 1개 + 추가 2개)
+		assertThat(firstChunk).containsExactly(expiredActiveChallenge.getId(), expired2.getId());
+		assertThat(secondChunk).containsExactly(expired3.getId());
 
-		// 모두 비활성화 확인
+		// 두 청크를 비활성화하면 모두 비활성화됨
+		assertThat(challengeRepository.expireChallengesByIdIn(firstChunk, today)).isEqualTo(2);
+		assertThat(challengeRepository.expireChallengesByIdIn(secondChunk, today)).isEqualTo(1);
 		assertThat(challengeRepository.findById(expiredActiveChallenge.getId()).orElseThrow().getIsActive())
 			.isFalse();
 		assertThat(challengeRepository.findById(expired2.getId()).orElseThrow().getIsActive())
@@ -153,4 +178,7 @@ class ChallengeRepositoryTest {
 			.isFalse();
 	}
 
+	private List<Long> challengeIds(List<ExpiringChallenge> expired) {
+		return expired.stream().map(ExpiringChallenge::getChallengeId).toList();
+	}
 }
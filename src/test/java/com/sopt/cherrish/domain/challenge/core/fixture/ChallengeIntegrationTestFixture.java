@@ -1,6 +1,7 @@
 package com.sopt.cherrish.domain.challenge.core.fixture;
 
 import java.time.LocalDate;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -113,10 +114,13 @@ public class ChallengeIntegrationTestFixture {
 		List<ChallengeRoutine> routines = challenge.createChallengeRoutines(routineNames);
 		routineRepository.saveAll(routines);
 
-		// 통계 생성
+		// 통계 생성 (일차별 루틴 개수 = 루틴명 개수)
+		int[] dailyRoutineCounts = new int[challenge.getTotalDays()];
+		Arrays.fill(dailyRoutineCounts, routineNameCount);
 		statisticsRepository.save(ChallengeStatistics.builder()
 			.challenge(challenge)
 			.totalRoutineCount(routines.size())
+			.dailyRoutineCounts(dailyRoutineCounts)
 			.build());
 
 		// EntityManager를 통해 Challenge를 다시 로드하여 Statistics 관계를 최신화
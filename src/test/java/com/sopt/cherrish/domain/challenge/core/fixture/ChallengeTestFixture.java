@@ -9,8 +9,13 @@ import com.sopt.cherrish.domain.challenge.core.presentation.dto.request.RoutineU
 import com.sopt.cherrish.domain.challenge.core.presentation.dto.request.RoutineUpdateRequestDto;
 import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeCreateResponseDto;
 import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeDetailResponseDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeHistoryPageResponseDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeHistoryResponseDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeLeaderboardResponseDto;
 import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeRoutineResponseDto;
 import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.CustomRoutineAddResponseDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.DailyCompletionResponseDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.LeaderboardEntryResponseDto;
 import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.RoutineBatchUpdateResponseDto;
 import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.RoutineCompletionResponseDto;
 import com.sopt.cherrish.domain.challenge.homecare.domain.model.HomecareRoutine;
@@ -50,21 +55,24 @@ public class ChallengeTestFixture {
 	public static ChallengeCreateRequestDto createValidChallengeRequest() {
 		return new ChallengeCreateRequestDto(
 			1,
-			List.of("아침 세안", "토너 바르기", "크림 바르기")
+			List.of("아침 세안", "토너 바르기", "크림 바르기"),
+			null
 		);
 	}
 
 	public static ChallengeCreateRequestDto createRequestWithEmptyRoutines() {
 		return new ChallengeCreateRequestDto(
 			1,
-			List.of()
+			List.of(),
+			null
 		);
 	}
 
 	public static ChallengeCreateRequestDto createRequestWithTooManyRoutines() {
 		return new ChallengeCreateRequestDto(
 			1,
-			List.of("루틴1", "루틴2", "루틴3", "루틴4", "루틴5", "루틴6", "루틴7", "루틴8", "루틴9", "루틴10", "루틴11")
+			List.of("루틴1", "루틴2", "루틴3", "루틴4", "루틴5", "루틴6", "루틴7", "루틴8", "루틴9", "루틴10", "루틴11"),
+			null
 		);
 	}
 
@@ -129,11 +137,59 @@ public class ChallengeTestFixture {
 			"꽃핀 체리",
 			50.0,
 			3,
+			2,
+			2,
+			List.of(
+				new DailyCompletionResponseDto(1, FIXED_START_DATE, 100),
+				new DailyCompletionResponseDto(2, FIXED_START_DATE.plusDays(1), 100),
+				new DailyCompletionResponseDto(3, FIXED_START_DATE.plusDays(2), 33)
+			),
 			todayRoutines,
 			"3일차 루틴입니다. 오늘도 피부를 위해 힘내봐요!"
 		);
 	}
 
+	/**
+	 * 종료된 챌린지 기록 1개와 다음 페이지 커서를 담은 응답
+	 */
+	public static ChallengeHistoryPageResponseDto createMockChallengeHistoryPageResponse() {
+		LocalDate endDate = FIXED_START_DATE.plusDays(DEFAULT_TOTAL_DAYS - 1);
+		ChallengeHistoryResponseDto history = new ChallengeHistoryResponseDto(
+			DEFAULT_CHALLENGE_ID,
+			"7일 보습 챌린지",
+			DEFAULT_TOTAL_DAYS,
+			FIXED_START_DATE,
+			endDate,
+			86,
+			4,
+			"꾸꾸체리",
+			6,
+			7,
+			6,
+			4,
+			List.of(
+				new DailyCompletionResponseDto(1, FIXED_START_DATE, 100),
+				new DailyCompletionResponseDto(2, FIXED_START_DATE.plusDays(1), 0)
+			)
+		);
+
+		return new ChallengeHistoryPageResponseDto(List.of(history), true, endDate, DEFAULT_CHALLENGE_ID);
+	}
+
+	/**
+	 * 상위 2명과 3위인 내 순위를 담은 체리 랭킹 응답
+	 */
+	public static ChallengeLeaderboardResponseDto createMockChallengeLeaderboardResponse() {
+		LeaderboardEntryResponseDto myRanking = new LeaderboardEntryResponseDto(3, DEFAULT_USER_ID, 57, 3, "팡팡체리");
+		return new ChallengeLeaderboardResponseDto(
+			List.of(
+				new LeaderboardEntryResponseDto(1, 2L, 100, 4, "꾸꾸체리"),
+				new LeaderboardEntryResponseDto(2, 3L, 80, 4, "꾸꾸체리")
+			),
+			myRanking
+		);
+	}
+
 	public static RoutineCompletionResponseDto createMockRoutineCompletionResponse(boolean isComplete) {
 		return new RoutineCompletionResponseDto(
 			DEFAULT_ROUTINE_ID,
@@ -236,6 +292,7 @@ public class ChallengeTestFixture {
 			challenge,
 			"저녁 마사지",
 			List.of(), // Mock 응답이므로 생성된 루틴 리스트는 빈 값으로 처리
+			5,
 			mockTotalRoutineCount
 		);
 	}
@@ -0,0 +1,191 @@
+package com.sopt.cherrish.domain.challenge.core.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.sopt.cherrish.domain.challenge.core.application.facade.ChallengeCustomRoutineFacade;
+import com.sopt.cherrish.domain.challenge.core.application.facade.ChallengeQueryFacade;
+import com.sopt.cherrish.domain.challenge.core.application.service.ChallengeRoutineService;
+import com.sopt.cherrish.domain.challenge.core.fixture.ChallengeIntegrationTestFixture;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.request.CustomRoutineAddRequestDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.request.RoutineUpdateItemRequestDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.request.RoutineUpdateRequestDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeDetailResponseDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeRoutineResponseDto;
+import com.sopt.cherrish.domain.user.domain.model.User;
+import com.sopt.cherrish.domain.user.domain.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * 챌린지 상세 캐시 무효화 검증 테스트
+ *
+ * 테스트 프로필의 RedisTemplate은 Mock이므로 로컬 캐시 단계만 동작합니다.
+ * 변경 메서드가 반환된 이후의 조회는 항상 변경 결과를 반영해야 합니다.
+ */
+@SpringBootTest
+@DisplayName("ChallengeDetailCache 통합 테스트")
+class ChallengeDetailCacheIntegrationTest {
+
+	@Autowired
+	private ChallengeQueryFacade challengeQueryFacade;
+	@Autowired
+	private ChallengeRoutineService challengeRoutineService;
+	@Autowired
+	private ChallengeCustomRoutineFacade challengeCustomRoutineFacade;
+	@Autowired
+	private ChallengeIntegrationTestFixture fixture;
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+	@Autowired
+	private MeterRegistry meterRegistry;
+	@Autowired
+	private Clock clock;
+
+	private static final int ROUTINE_COUNT = 3;
+	private static final int TOGGLE_ROUNDS = 30;
+	private static final int READER_THREADS = 4;
+
+	@Test
+	@DisplayName("성공 - 두 번째 조회는 로컬 캐시에서 응답")
+	void secondReadIsLocalHit() {
+		// given
+		Long userId = createUserWithChallenge();
+		double localHitsBefore = lookupCount("local_hit");
+
+		// when
+		ChallengeDetailResponseDto first = challengeQueryFacade.getActiveChallengeDetail(userId);
+		ChallengeDetailResponseDto second = challengeQueryFacade.getActiveChallengeDetail(userId);
+
+		// then
+		assertThat(second).isEqualTo(first);
+		assertThat(lookupCount("local_hit")).isEqualTo(localHitsBefore + 1);
+	}
+
+	@Test
+	@DisplayName("성공 - 토글 직후 조회는 항상 토글 결과를 반영")
+	void readAfterToggleIsNeverStale() {
+		// given
+		Long userId = createUserWithChallenge();
+		Long routineId = challengeQueryFacade.getActiveChallengeDetail(userId).todayRoutines().getFirst().routineId();
+
+		for (int round = 0; round < TOGGLE_ROUNDS; round++) {
+			// when
+			boolean toggled = challengeRoutineService.toggleCompletion(userId, routineId).isComplete();
+			ChallengeDetailResponseDto detail = challengeQueryFacade.getActiveChallengeDetail(userId);
+
+			// then
+			assertThat(findRoutine(detail, routineId).isComplete()).isEqualTo(toggled);
+			assertThat(detail.progressPercentage() > 0).isEqualTo(toggled);
+		}
+	}
+
+	@Test
+	@DisplayName("동시성 - 다른 스레드가 계속 조회하는 중에도 토글 직후 조회는 낡은 값을 반환하지 않음")
+	void readAfterToggleIsNeverStaleUnderConcurrentReads() throws Exception {
+		// given
+		Long userId = createUserWithChallenge();
+		Long routineId = challengeQueryFacade.getActiveChallengeDetail(userId).todayRoutines().getFirst().routineId();
+
+		AtomicBoolean running = new AtomicBoolean(true);
+		ExecutorService executor = Executors.newFixedThreadPool(READER_THREADS);
+		List<Future<?>> readers = IntStream.range(0, READER_THREADS)
+			.<Future<?>>mapToObj(i -> executor.submit(() -> {
+				while (running.get()) {
+					challengeQueryFacade.getActiveChallengeDetail(userId);
+				}
+			}))
+			.toList();
+
+		try {
+			for (int round = 0; round < TOGGLE_ROUNDS; round++) {
+				// when
+				boolean toggled = challengeRoutineService.toggleCompletion(userId, routineId).isComplete();
+				ChallengeDetailResponseDto detail = challengeQueryFacade.getActiveChallengeDetail(userId);
+
+				// then
+				assertThat(findRoutine(detail, routineId).isComplete()).isEqualTo(toggled);
+			}
+		} finally {
+			running.set(false);
+			executor.shutdown();
+			assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+		}
+		for (Future<?> reader : readers) {
+			reader.get();
+		}
+	}
+
+	@Test
+	@DisplayName("성공 - 일괄 업데이트 직후 조회는 업데이트 결과를 반영")
+	void readAfterBatchUpdateIsNeverStale() {
+		// given
+		Long userId = createUserWithChallenge();
+		List<Long> routineIds = challengeQueryFacade.getActiveChallengeDetail(userId).todayRoutines().stream()
+			.map(ChallengeRoutineResponseDto::routineId)
+			.toList();
+
+		// when
+		challengeRoutineService.updateMultipleRoutines(userId, new RoutineUpdateRequestDto(routineIds.stream()
+			.map(routineId -> new RoutineUpdateItemRequestDto(routineId, true))
+			.toList()));
+		ChallengeDetailResponseDto detail = challengeQueryFacade.getActiveChallengeDetail(userId);
+
+		// then
+		assertThat(detail.todayRoutines()).allMatch(ChallengeRoutineResponseDto::isComplete);
+	}
+
+	@Test
+	@DisplayName("성공 - 커스텀 루틴 추가 직후 조회는 추가된 루틴을 포함")
+	void readAfterCustomRoutineAddIsNeverStale() {
+		// given
+		Long userId = createUserWithChallenge();
+		int routineCountBefore = challengeQueryFacade.getActiveChallengeDetail(userId).todayRoutines().size();
+
+		// when
+		challengeCustomRoutineFacade.addCustomRoutine(userId, new CustomRoutineAddRequestDto("저녁 마사지"));
+		ChallengeDetailResponseDto detail = challengeQueryFacade.getActiveChallengeDetail(userId);
+
+		// then
+		assertThat(detail.todayRoutines()).hasSize(routineCountBefore + 1);
+		assertThat(detail.todayRoutines()).extracting(ChallengeRoutineResponseDto::name).contains("저녁 마사지");
+	}
+
+	private Long createUserWithChallenge() {
+		Long userId = transactionTemplate.execute(status -> fixture.createDefaultUser().getId());
+		transactionTemplate.executeWithoutResult(status -> {
+			User user = userRepository.findById(Objects.requireNonNull(userId)).orElseThrow();
+			fixture.createChallengeWithRoutines(user, ROUTINE_COUNT, LocalDate.now(clock));
+		});
+		return userId;
+	}
+
+	private ChallengeRoutineResponseDto findRoutine(ChallengeDetailResponseDto detail, Long routineId) {
+		return detail.todayRoutines().stream()
+			.filter(routine -> routine.routineId().equals(routineId))
+			.findFirst()
+			.orElseThrow();
+	}
+
+	private double lookupCount(String result) {
+		return meterRegistry.get("challenge.detail.cache.lookups").tag("result", result).counter().count();
+	}
+}
@@ -0,0 +1,202 @@
+package com.sopt.cherrish.domain.challenge.core.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixture.createMockChallengeDetailResponse;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sopt.cherrish.domain.auth.fixture.MutableClock;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeDetailResponseDto;
+import com.sopt.cherrish.global.config.RedisContainerSupport;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 챌린지 상세 캐시의 자정 전환 대비 동작 검증 테스트.
+ *
+ * <p>미리 채우기와 최근 조회 사용자 기록은 Redis 단계에서만 동작하므로 Testcontainers로 Redis를 띄웁니다.
+ * Docker를 사용할 수 없는 환경에서는 건너뜁니다.</p>
+ */
+@DisplayName("ChallengeDetailCache Redis 테스트")
+class ChallengeDetailCacheRedisTest extends RedisContainerSupport {
+
+	// MutableClock은 UTC 기준이므로 날짜도 UTC 기준
+	private static final LocalDate TODAY = LocalDate.of(2024, 1, 14);
+	private static final LocalDate NEXT_DATE = TODAY.plusDays(1);
+	private static final Instant MIDNIGHT = NEXT_DATE.atStartOfDay(ZoneOffset.UTC).toInstant();
+	private static final Instant BEFORE_MIDNIGHT = MIDNIGHT.minus(Duration.ofMinutes(10));
+	private static final Duration PREWARM_TTL = Duration.ofMinutes(20);
+	private static final Duration SNAPSHOT_TTL = Duration.ofMinutes(20);
+
+	private final ChallengeDetailResponseDto detail = createMockChallengeDetailResponse();
+	private final AtomicInteger loads = new AtomicInteger();
+
+	private MutableClock clock;
+	private MeterRegistry meterRegistry;
+	private ChallengeDetailCache challengeDetailCache;
+
+	@BeforeEach
+	void setUp() {
+		RedisTemplate<String, String> redisTemplate = createFlushedRedisTemplate();
+		clock = new MutableClock(BEFORE_MIDNIGHT);
+		meterRegistry = new SimpleMeterRegistry();
+		challengeDetailCache = new ChallengeDetailCache(
+			redisTemplate, new ObjectMapper().findAndRegisterModules(), meterRegistry, clock);
+	}
+
+	@Test
+	@DisplayName("성공 - 미리 채운 다음 날짜 응답은 자정 이후 첫 조회에서 Redis로 응답")
+	void prewarmedEntryIsServedAfterMidnight() {
+		// given: 자정 전에 다음 날짜 응답을 미리 채움
+		assertThat(challengeDetailCache.prewarm(1L, NEXT_DATE, PREWARM_TTL, () -> Optional.of(detail))).isTrue();
+
+		// when: 자정 1분 후 조회
+		clock.advance(Duration.ofMinutes(11));
+		ChallengeDetailResponseDto result = challengeDetailCache.get(1L, NEXT_DATE, countingLoader());
+
+		// then: DB 조립 없이 Redis에서 응답하고, 자정 직후 적중률에 반영
+		assertThat(result).isEqualTo(detail);
+		assertThat(loads).hasValue(0);
+		assertThat(lookups("redis_hit")).isEqualTo(1);
+		assertThat(rolloverLookups("hit")).isEqualTo(1);
+		assertThat(rolloverHitRatio()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("성공 - 이미 채워진 항목이나 조립할 응답이 없으면 미리 채우지 않음")
+	void prewarmSkipsCachedOrMissingEntries() {
+		// given
+		assertThat(challengeDetailCache.prewarm(1L, NEXT_DATE, PREWARM_TTL, () -> Optional.of(detail))).isTrue();
+
+		// when & then
+		assertThat(challengeDetailCache.prewarm(1L, NEXT_DATE, PREWARM_TTL, () -> Optional.of(detail))).isFalse();
+		assertThat(challengeDetailCache.prewarm(2L, NEXT_DATE, PREWARM_TTL, Optional::empty)).isFalse();
+	}
+
+	@Test
+	@DisplayName("성공 - 미리 채운 뒤 데이터가 바뀌면 자정 이후 다시 조립")
+	void evictAfterPrewarmReloads() {
+		// given
+		challengeDetailCache.prewarm(1L, NEXT_DATE, PREWARM_TTL, () -> Optional.of(detail));
+
+		// when: 자정 전 토글 등으로 무효화
+		challengeDetailCache.evict(1L);
+		clock.advance(Duration.ofMinutes(11));
+		challengeDetailCache.get(1L, NEXT_DATE, countingLoader());
+
+		// then
+		assertThat(loads).hasValue(1);
+		assertThat(rolloverLookups("miss")).isEqualTo(1);
+		assertThat(rolloverHitRatio()).isZero();
+	}
+
+	@Test
+	@DisplayName("성공 - 여러 사용자 무효화는 주어진 사용자의 미리 채운 항목만 무효화")
+	void batchEvictOnlyAffectsGivenUsers() {
+		// given
+		for (long userId = 1; userId <= 3; userId++) {
+			challengeDetailCache.prewarm(userId, NEXT_DATE, PREWARM_TTL, () -> Optional.of(detail));
+		}
+
+		// when: 자정 만료 청크에 1, 2번 사용자만 포함
+		challengeDetailCache.evict(List.of(1L, 2L));
+		clock.advance(Duration.ofMinutes(11));
+		challengeDetailCache.get(1L, NEXT_DATE, countingLoader());
+		challengeDetailCache.get(2L, NEXT_DATE, countingLoader());
+		challengeDetailCache.get(3L, NEXT_DATE, countingLoader());
+
+		// then
+		assertThat(loads).hasValue(2);
+		assertThat(lookups("redis_hit")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("성공 - 조립 중 무효화되면 조립한 응답은 반환하되 로컬에 저장하지 않음")
+	void evictDuringLoadDoesNotCacheStaleDetail() {
+		// given: 조립 도중 토글 커밋으로 같은 사용자가 무효화됨 (조립이 맵 잠금 밖에서 실행되어 교착 없이 진행)
+		Supplier<ChallengeDetailResponseDto> evictingLoader = () -> {
+			loads.incrementAndGet();
+			challengeDetailCache.evict(1L);
+			return detail;
+		};
+
+		// when
+		ChallengeDetailResponseDto result = challengeDetailCache.get(1L, TODAY, evictingLoader);
+		challengeDetailCache.get(1L, TODAY, countingLoader());
+
+		// then: 두 번째 조회는 낡은 로컬 값 대신 다시 조립
+		assertThat(result).isEqualTo(detail);
+		assertThat(loads).hasValue(2);
+		assertThat(lookups("local_hit")).isZero();
+	}
+
+	@Test
+	@DisplayName("성공 - 자정 직후 10분이 지난 조회는 자정 직후 적중률에 포함하지 않음")
+	void lookupsAfterRolloverWindowAreNotCounted() {
+		// given
+		clock.advance(Duration.ofMinutes(10).plus(ChallengeDetailCache.ROLLOVER_WINDOW).plusSeconds(1));
+
+		// when
+		challengeDetailCache.get(1L, NEXT_DATE, countingLoader());
+
+		// then
+		assertThat(lookups("miss")).isEqualTo(1);
+		assertThat(rolloverLookups("miss")).isZero();
+	}
+
+	@Test
+	@DisplayName("성공 - 최근 조회 사용자 스냅샷은 기준 시각 이후 조회한 사용자만 조회 순서대로 포함")
+	void snapshotContainsOnlyRecentlyActiveUsers() {
+		// given: 1번은 4일 전, 2번과 3번은 최근 조회
+		challengeDetailCache.get(1L, TODAY, countingLoader());
+		clock.advance(Duration.ofDays(4));
+		challengeDetailCache.get(3L, TODAY, countingLoader());
+		clock.advance(Duration.ofSeconds(1));
+		challengeDetailCache.get(2L, TODAY, countingLoader());
+
+		// when
+		long size = challengeDetailCache.snapshotRecentlyActiveUsers(clock.instant().minus(Duration.ofDays(3)), SNAPSHOT_TTL);
+
+		// then
+		assertThat(size).isEqualTo(2);
+		assertThat(challengeDetailCache.findActiveUserSnapshot(0, 1)).containsExactly(3L);
+		assertThat(challengeDetailCache.findActiveUserSnapshot(1, 1)).containsExactly(2L);
+
+		// 스냅샷 이후 조회는 스냅샷을 바꾸지 않음
+		challengeDetailCache.get(4L, TODAY, countingLoader());
+		assertThat(challengeDetailCache.findActiveUserSnapshot(0, 10)).containsExactly(3L, 2L);
+	}
+
+	private Supplier<ChallengeDetailResponseDto> countingLoader() {
+		return () -> {
+			loads.incrementAndGet();
+			return detail;
+		};
+	}
+
+	private double lookups(String result) {
+		return meterRegistry.get("challenge.detail.cache.lookups").tag("result", result).counter().count();
+	}
+
+	private double rolloverLookups(String result) {
+		return meterRegistry.get("challenge.detail.cache.rollover.lookups").tag("result", result).counter().count();
+	}
+
+	private double rolloverHitRatio() {
+		return meterRegistry.get("challenge.detail.cache.rollover.hit.ratio").gauge().value();
+	}
+}
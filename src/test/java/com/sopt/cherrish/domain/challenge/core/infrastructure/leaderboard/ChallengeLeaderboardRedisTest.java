@@ -0,0 +1,301 @@
+package com.sopt.cherrish.domain.challenge.core.infrastructure.leaderboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRanking;
+import com.sopt.cherrish.global.config.RedisContainerSupport;
+
+/**
+ * 체리 랭킹 Redis Sorted Set 동작 검증 테스트.
+ *
+ * <p>순위 계산, 재구성 중 갱신 보존, 대규모 랭킹의 동시 조회를 실제 Redis에서 확인하므로 Testcontainers로 Redis를 띄웁니다.
+ * Docker를 사용할 수 없는 환경에서는 건너뜁니다.</p>
+ */
+@DisplayName("ChallengeLeaderboard Redis 테스트")
+class ChallengeLeaderboardRedisTest extends RedisContainerSupport {
+
+	private static final Duration REBUILD_TIMEOUT = Duration.ofMinutes(1);
+	private static final Duration READY_TTL = Duration.ofHours(1);
+	private static final int LOAD_USER_COUNT = 100_000;
+	private static final int LOAD_CHUNK_SIZE = 1_000;
+	private static final int READER_COUNT = 32;
+	private static final int READS_PER_READER = 200;
+
+	private RedisTemplate<String, String> redisTemplate;
+	private ChallengeLeaderboard challengeLeaderboard;
+
+	@BeforeEach
+	void setUp() {
+		redisTemplate = createFlushedRedisTemplate();
+		challengeLeaderboard = new ChallengeLeaderboard(redisTemplate);
+	}
+
+	@Test
+	@DisplayName("성공 - 체리 레벨이 높을수록, 같은 레벨이면 진행률이 높을수록 앞 순위")
+	void ranksByCherryLevelThenProgress() {
+		// given
+		challengeLeaderboard.update(ranking(1L, 6, 10, 3));
+		challengeLeaderboard.update(ranking(2L, 8, 10, 4));
+		challengeLeaderboard.update(ranking(3L, 10, 10, 4));
+		challengeLeaderboard.update(ranking(4L, 1, 10, 1));
+
+		// when
+		List<LeaderboardEntry> top = challengeLeaderboard.findTop(3);
+		Optional<LeaderboardEntry> myRank = challengeLeaderboard.findRank(4L);
+
+		// then
+		assertThat(top).containsExactly(
+			new LeaderboardEntry(1, 3L, 100, 4),
+			new LeaderboardEntry(2, 2L, 80, 4),
+			new LeaderboardEntry(3, 1L, 60, 3)
+		);
+		assertThat(myRank).contains(new LeaderboardEntry(4, 4L, 10, 1));
+	}
+
+	@Test
+	@DisplayName("성공 - 갱신하면 점수를 덮어쓰고, 챌린지가 끝난 사용자는 제거")
+	void updatesAndRemovesUsers() {
+		// given
+		challengeLeaderboard.update(ranking(1L, 1, 10, 1));
+		challengeLeaderboard.update(ranking(2L, 2, 10, 1));
+
+		// when
+		challengeLeaderboard.update(ranking(1L, 8, 10, 4, 1L));
+		challengeLeaderboard.remove(List.of(2L));
+
+		// then
+		assertThat(challengeLeaderboard.findTop(10)).containsExactly(new LeaderboardEntry(1, 1L, 80, 4));
+		assertThat(challengeLeaderboard.findRank(2L)).isEmpty();
+		assertThat(challengeLeaderboard.findRank(99L)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("순서 - 늦게 도착한 이전 통계는 최신 점수를 덮지 않고, 새 챌린지의 통계는 version과 무관하게 반영")
+	void ignoresStaleUpdates() {
+		// given: 같은 챌린지의 version 2 통계가 먼저 반영됨
+		assertThat(challengeLeaderboard.update(ranking(1L, 8, 10, 4, 2L))).isTrue();
+
+		// when: 먼저 커밋된 version 1, 같은 version 2의 갱신이 늦게 도착
+		boolean staleApplied = challengeLeaderboard.update(ranking(1L, 3, 10, 2, 1L));
+		boolean duplicateApplied = challengeLeaderboard.update(ranking(1L, 3, 10, 2, 2L));
+
+		// then
+		assertThat(staleApplied).isFalse();
+		assertThat(duplicateApplied).isFalse();
+		assertThat(challengeLeaderboard.findRank(1L)).contains(new LeaderboardEntry(1, 1L, 80, 4));
+
+		// when: 같은 사용자의 새 챌린지(챌린지 ID가 더 큼)는 version 0부터 시작
+		boolean newChallengeApplied = challengeLeaderboard.update(new TestRanking(2L, 1L, 0, 10, 0, 0L));
+
+		// then
+		assertThat(newChallengeApplied).isTrue();
+		assertThat(challengeLeaderboard.findRank(1L)).contains(new LeaderboardEntry(1, 1L, 0, 0));
+	}
+
+	@Test
+	@DisplayName("성공 - Redis가 초기화되면 준비 표시가 사라지고, 재구성하면 DB 값으로 랭킹 복원")
+	void rebuildsAfterRedisFlush() {
+		// given: 재구성이 끝난 랭킹이 초기화됨
+		rebuild(List.of(ranking(1L, 5, 10, 3), ranking(2L, 10, 10, 4)));
+		assertThat(challengeLeaderboard.isReady()).isTrue();
+		flushRedis(redisTemplate);
+		assertThat(challengeLeaderboard.isReady()).isFalse();
+		assertThat(challengeLeaderboard.findTop(10)).isEmpty();
+
+		// when
+		rebuild(List.of(ranking(1L, 5, 10, 3), ranking(2L, 10, 10, 4), ranking(3L, 0, 10, 0)));
+
+		// then
+		assertThat(challengeLeaderboard.isReady()).isTrue();
+		assertThat(challengeLeaderboard.findTop(10)).containsExactly(
+			new LeaderboardEntry(1, 2L, 100, 4),
+			new LeaderboardEntry(2, 1L, 50, 3),
+			new LeaderboardEntry(3, 3L, 0, 0)
+		);
+	}
+
+	@Test
+	@DisplayName("성공 - 재구성 중 들어온 갱신은 먼저 읽은 DB 값에 덮이지 않고, 교체 전까지 기존 랭킹을 조회")
+	void keepsUpdatesDuringRebuild() {
+		// given: 기존 랭킹
+		challengeLeaderboard.update(ranking(1L, 3, 10, 2));
+		challengeLeaderboard.startRebuild(REBUILD_TIMEOUT);
+
+		// when: 사용자 1, 2가 재구성 중에 갱신된 뒤, 그 전에 읽은 DB 값이 채워짐
+		challengeLeaderboard.update(ranking(1L, 7, 10, 3, 1L));
+		challengeLeaderboard.update(ranking(2L, 10, 10, 4));
+		challengeLeaderboard.stage(
+			List.of(ranking(1L, 3, 10, 2), ranking(2L, 9, 10, 4), ranking(3L, 5, 10, 3)), REBUILD_TIMEOUT);
+
+		// then: 교체 전에는 기존 랭킹(과 재구성 중 갱신)이 그대로 조회됨
+		assertThat(challengeLeaderboard.findTop(10)).hasSize(2);
+		assertThat(challengeLeaderboard.isReady()).isFalse();
+
+		// when
+		long size = challengeLeaderboard.finishRebuild(READY_TTL);
+
+		// then
+		assertThat(size).isEqualTo(3);
+		assertThat(challengeLeaderboard.findTop(10)).containsExactly(
+			new LeaderboardEntry(1, 2L, 100, 4),
+			new LeaderboardEntry(2, 1L, 70, 3),
+			new LeaderboardEntry(3, 3L, 50, 3)
+		);
+		assertThat(redisTemplate.getExpire("challenge_leaderboard:ranking")).isEqualTo(-1L);
+	}
+
+	@Test
+	@DisplayName("부하 - 10만 명 랭킹에서 동시에 내 순위와 상위 랭킹을 조회해도 정확한 순위를 빠르게 반환")
+	void servesRanksConcurrentlyOnLargeLeaderboard() throws Exception {
+		// given: 사용자 ID가 클수록 점수가 크거나 같도록 레벨/진행률 배정
+		challengeLeaderboard.startRebuild(REBUILD_TIMEOUT);
+		List<ChallengeRanking> chunk = new ArrayList<>(LOAD_CHUNK_SIZE);
+		for (long userId = 1; userId <= LOAD_USER_COUNT; userId++) {
+			chunk.add(loadRanking(userId));
+			if (chunk.size() == LOAD_CHUNK_SIZE) {
+				challengeLeaderboard.stage(chunk, REBUILD_TIMEOUT);
+				chunk = new ArrayList<>(LOAD_CHUNK_SIZE);
+			}
+		}
+		challengeLeaderboard.stage(chunk, REBUILD_TIMEOUT);
+		assertThat(challengeLeaderboard.finishRebuild(READY_TTL)).isEqualTo(LOAD_USER_COUNT);
+		List<Long> rankedUserIds = rankedUserIds();
+		Map<Long, Long> expectedRanks = new HashMap<>();
+		for (int i = 0; i < rankedUserIds.size(); i++) {
+			expectedRanks.put(rankedUserIds.get(i), i + 1L);
+		}
+
+		// when: 여러 스레드가 동시에 내 순위 + 상위 10명 조회
+		CountDownLatch startLatch = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(READER_COUNT);
+		List<Future<Long>> futures = new ArrayList<>();
+		long startedAt = System.nanoTime();
+		try {
+			for (int reader = 0; reader < READER_COUNT; reader++) {
+				long seed = reader;
+				futures.add(executor.submit(() -> {
+					startLatch.await();
+					long mismatches = 0;
+					for (int i = 0; i < READS_PER_READER; i++) {
+						long userId = 1 + (seed * READS_PER_READER + i) * 7_919 % LOAD_USER_COUNT;
+						Optional<LeaderboardEntry> entry = challengeLeaderboard.findRank(userId);
+						List<LeaderboardEntry> top = challengeLeaderboard.findTop(10);
+						if (entry.isEmpty() || entry.get().rank() != expectedRanks.get(userId)
+							|| !top.getFirst().userId().equals(rankedUserIds.getFirst())) {
+							mismatches++;
+						}
+					}
+					return mismatches;
+				}));
+			}
+			startLatch.countDown();
+			for (Future<Long> future : futures) {
+				assertThat(future.get(60, TimeUnit.SECONDS)).isZero();
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+		// then: 조회는 랭킹 크기와 무관하게 O(log n)이므로 12,800번 조회가 넉넉한 한도 안에 끝남
+		assertThat(elapsed).isLessThan(Duration.ofSeconds(30));
+		assertThat(challengeLeaderboard.findRank(1L)).contains(
+			new LeaderboardEntry(expectedRanks.get(1L), 1L, loadProgress(1L), loadLevel(1L)));
+	}
+
+	private void rebuild(List<ChallengeRanking> rankings) {
+		challengeLeaderboard.startRebuild(REBUILD_TIMEOUT);
+		challengeLeaderboard.stage(rankings, REBUILD_TIMEOUT);
+		challengeLeaderboard.finishRebuild(READY_TTL);
+	}
+
+	/**
+	 * ID 1-25,000은 레벨 1, 다음 25,000명은 레벨 2 ... 로 배정하고, 같은 레벨 안에서는 ID 순으로 진행률 0-100을 배정
+	 * (점수 종류가 404개뿐이므로 같은 점수의 사용자가 많음)
+	 */
+	private ChallengeRanking loadRanking(long userId) {
+		return new TestRanking(userId, userId, loadProgress(userId), 100, loadLevel(userId), 0L);
+	}
+
+	private int loadLevel(long userId) {
+		return (int) ((userId - 1) / (LOAD_USER_COUNT / 4)) + 1;
+	}
+
+	private int loadProgress(long userId) {
+		return (int) ((userId - 1) % (LOAD_USER_COUNT / 4) * 101 / (LOAD_USER_COUNT / 4));
+	}
+
+	/**
+	 * 같은 점수는 Redis가 멤버 문자열 역순으로 정렬하므로, 점수 내림차순 → 멤버 문자열 내림차순으로 정렬한 순서가 기대 순위
+	 */
+	private List<Long> rankedUserIds() {
+		return LongStream.rangeClosed(1, LOAD_USER_COUNT)
+			.boxed()
+			.sorted(Comparator.comparingLong((Long userId) -> loadLevel(userId) * 1_000L + loadProgress(userId))
+				.thenComparing((Long userId) -> String.valueOf(userId))
+				.reversed())
+			.toList();
+	}
+
+	private ChallengeRanking ranking(long userId, int completedCount, int totalRoutineCount, int cherryLevel) {
+		return ranking(userId, completedCount, totalRoutineCount, cherryLevel, 0L);
+	}
+
+	private ChallengeRanking ranking(long userId, int completedCount, int totalRoutineCount, int cherryLevel, long version) {
+		return new TestRanking(userId, userId, completedCount, totalRoutineCount, cherryLevel, version);
+	}
+
+	private record TestRanking(
+		Long challengeId, Long userId, Integer completedCount, Integer totalRoutineCount, Integer cherryLevel, Long version
+	) implements ChallengeRanking {
+
+		@Override
+		public Long getChallengeId() {
+			return challengeId;
+		}
+
+		@Override
+		public Long getUserId() {
+			return userId;
+		}
+
+		@Override
+		public Integer getCompletedCount() {
+			return completedCount;
+		}
+
+		@Override
+		public Integer getTotalRoutineCount() {
+			return totalRoutineCount;
+		}
+
+		@Override
+		public Integer getCherryLevel() {
+			return cherryLevel;
+		}
+
+		@Override
+		public Long getVersion() {
+			return version;
+		}
+	}
+}
@@ -0,0 +1,62 @@
+package com.sopt.cherrish.domain.challenge.core.infrastructure.leaderboard;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sopt.cherrish.domain.challenge.core.application.service.ChallengeStatisticsService;
+import com.sopt.cherrish.domain.challenge.core.domain.event.ChallengeStatisticsChangedEvent;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRanking;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ChallengeLeaderboardUpdater 단위 테스트")
+class ChallengeLeaderboardUpdaterTest {
+
+	private static final Long USER_ID = 1L;
+
+	@Mock
+	private ChallengeLeaderboard challengeLeaderboard;
+	@Mock
+	private ChallengeStatisticsService challengeStatisticsService;
+
+	@InjectMocks
+	private ChallengeLeaderboardUpdater updater;
+
+	@Test
+	@DisplayName("성공 - 이벤트 값 대신 커밋된 통계와 version을 다시 읽어 랭킹에 반영")
+	void updatesWithCommittedStatistics() {
+		// given: 이벤트는 이전 값을 담고 있지만 커밋된 통계는 더 최신
+		ChallengeRanking committed = mock(ChallengeRanking.class);
+		when(challengeStatisticsService.findActiveChallengeRanking(USER_ID)).thenReturn(Optional.of(committed));
+
+		// when
+		updater.handleStatisticsChanged(new ChallengeStatisticsChangedEvent(USER_ID, 10, 1));
+
+		// then
+		verify(challengeLeaderboard).update(committed);
+	}
+
+	@Test
+	@DisplayName("성공 - 활성 챌린지가 없으면(이미 만료) 랭킹에 다시 추가하지 않음")
+	void skipsWithoutActiveChallenge() {
+		// given
+		when(challengeStatisticsService.findActiveChallengeRanking(USER_ID)).thenReturn(Optional.empty());
+
+		// when
+		updater.handleStatisticsChanged(new ChallengeStatisticsChangedEvent(USER_ID, 10, 1));
+
+		// then
+		verify(challengeLeaderboard, never()).update(any());
+	}
+}
@@ -0,0 +1,353 @@
+package com.sopt.cherrish.domain.challenge.core.infrastructure.partition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixture.DEFAULT_HOMECARE_ROUTINE;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.MatchResult;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sopt.cherrish.domain.challenge.core.application.scheduler.RoutinePartitionMaintenanceScheduler;
+import com.sopt.cherrish.domain.challenge.core.application.scheduler.RoutinePartitionProperties;
+import com.sopt.cherrish.domain.challenge.core.domain.model.Challenge;
+import com.sopt.cherrish.domain.challenge.core.domain.model.ChallengeRoutine;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRepository;
+import com.sopt.cherrish.domain.challenge.core.domain.repository.ChallengeRoutineRepository;
+import com.sopt.cherrish.global.config.JpaAuditConfig;
+import com.sopt.cherrish.global.config.PostgresContainerSupport;
+import com.sopt.cherrish.global.config.QueryDslConfig;
+import com.sopt.cherrish.global.scheduler.SchedulerLockRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * 루틴 테이블 월 파티션(Flyway V5) 검증 테스트.
+ *
+ * <p>테스트마다 루틴 테이블을 V5 이전 운영 스키마(IDENTITY 컬럼, 증가 폭 50)로 되돌린 뒤 V5 마이그레이션을 적용합니다.
+ * 파티션은 PostgreSQL 전용이므로 Testcontainers로 PostgreSQL을 띄우며, Docker를 사용할 수 없는 환경에서는 건너뜁니다.</p>
+ */
+@DataJpaTest
+@Import({QueryDslConfig.class, JpaAuditConfig.class, RoutinePartitionRepository.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("루틴 테이블 월 파티션 통합 테스트")
+class RoutinePartitionTest extends PostgresContainerSupport {
+
+	private static final String MIGRATION = "db/migration/V5__partition_routine_tables.sql";
+	private static final int PREMAKE_MONTHS = 3;
+	private static final int HISTORY_CHALLENGES_PER_MONTH = 500;
+	private static final int ROUTINES_PER_DAY = 3;
+	private static final int WARMUP_QUERIES = 50;
+	private static final int MEASURED_QUERIES = 200;
+	private static final Pattern PARTITION_NAME = Pattern.compile(RoutineTable.CHALLENGE.getTableName() + "_p\\d{6}");
+
+	@Autowired
+	private ChallengeRepository challengeRepository;
+	@Autowired
+	private ChallengeRoutineRepository challengeRoutineRepository;
+	@Autowired
+	private RoutinePartitionRepository partitionRepository;
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+	@Autowired
+	private DataSource dataSource;
+
+	/**
+	 * DB 세션 시간대(UTC)의 CURRENT_DATE로 파티션을 만드는 마이그레이션과 같은 날짜를 사용
+	 */
+	private final Clock clock = Clock.systemUTC();
+
+	@BeforeEach
+	void restoreLegacyRoutineTable() {
+		jdbcTemplate.execute("DROP SCHEMA IF EXISTS archive CASCADE");
+		jdbcTemplate.execute("DROP TABLE IF EXISTS challenge_routines CASCADE");
+		jdbcTemplate.execute("DROP SEQUENCE IF EXISTS challenge_routines_id_seq");
+		jdbcTemplate.execute("TRUNCATE challenges CASCADE");
+		jdbcTemplate.execute("""
+			CREATE TABLE challenge_routines (
+				id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+				challenge_id BIGINT NOT NULL REFERENCES challenges (id),
+				name VARCHAR(100) NOT NULL,
+				scheduled_date DATE NOT NULL,
+				is_complete BOOLEAN NOT NULL,
+				created_at TIMESTAMP(6) NOT NULL,
+				updated_at TIMESTAMP(6)
+			)
+			""");
+		jdbcTemplate.execute("ALTER SEQUENCE challenge_routines_id_seq INCREMENT BY 50");
+		jdbcTemplate.execute("CREATE INDEX idx_challenge_scheduled ON challenge_routines (challenge_id, scheduled_date)");
+		jdbcTemplate.execute("CREATE INDEX idx_challenge_complete ON challenge_routines (challenge_id, is_complete)");
+	}
+
+	@Test
+	@DisplayName("성공 - 마이그레이션 후 기존 루틴은 예정일 월 파티션으로 옮겨지고 새 ID는 기존 ID 뒤에서 이어짐")
+	void migrationKeepsRoutinesAndContinuesIds() {
+		// given: 석 달 전에 끝난 챌린지와 오늘 시작한 챌린지의 루틴이 일반 테이블에 있음
+		LocalDate today = LocalDate.now(clock);
+		YearMonth historyMonth = YearMonth.from(today).minusMonths(3);
+		Challenge finished = saveChallenge(1L, historyMonth.atDay(1));
+		Challenge active = saveChallenge(2L, today);
+		insertRoutines(finished.getId(), finished.getStartDate(), 1);
+		insertRoutines(active.getId(), today, 1);
+		long legacyMaxId = maxRoutineId();
+
+		// when
+		migrate();
+		migrate();
+
+		// then: 두 번 적용해도 한 번만 전환
+		assertThat(partitionRepository.isPartitioned(RoutineTable.CHALLENGE)).isTrue();
+		assertThat(countRoutines()).isEqualTo(2L * Challenge.MAX_TOTAL_DAYS);
+		assertThat(partitionRepository.findPartitionMonths(RoutineTable.CHALLENGE))
+			.startsWith(historyMonth)
+			.contains(YearMonth.from(today).plusMonths(PREMAKE_MONTHS));
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT tableoid::regclass::text FROM challenge_routines WHERE challenge_id = ? AND scheduled_date = ?",
+			String.class, finished.getId(), historyMonth.atDay(1)))
+			.isEqualTo(RoutinePartitionRepository.partitionName(RoutineTable.CHALLENGE, historyMonth));
+
+		// when: 마이그레이션 이후 JPA로 루틴 추가
+		List<ChallengeRoutine> saved = challengeRoutineRepository.saveAll(
+			active.createChallengeRoutines(List.of("새 루틴")));
+
+		// then
+		assertThat(saved).allSatisfy(routine -> assertThat(routine.getId()).isGreaterThan(legacyMaxId));
+		assertThat(challengeRoutineRepository.findByChallengeIdAndScheduledDate(active.getId(), today)).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("성공 - 관리 스케줄러가 앞선 달 파티션을 만들고 활성 챌린지가 없는 지난 달만 보관")
+	void maintenanceCreatesAheadAndArchivesFinishedMonths() {
+		// given
+		migrate();
+		YearMonth currentMonth = YearMonth.now(clock);
+		YearMonth finishedMonth = currentMonth.minusMonths(3);
+		YearMonth lingeringMonth = currentMonth.minusMonths(2);
+		partitionRepository.createPartition(RoutineTable.CHALLENGE, finishedMonth);
+		partitionRepository.createPartition(RoutineTable.CHALLENGE, lingeringMonth);
+
+		Challenge finished = saveChallenge(1L, finishedMonth.atDay(1));
+		insertRoutines(finished.getId(), finished.getStartDate(), 1);
+		jdbcTemplate.update("UPDATE challenges SET is_active = false WHERE id = ?", finished.getId());
+		// 만료 배치가 아직 처리하지 않은 챌린지가 걸친 달은 보관하지 않음
+		Challenge lingering = saveChallenge(2L, lingeringMonth.atDay(10));
+		insertRoutines(lingering.getId(), lingering.getStartDate(), 1);
+
+		// when
+		createScheduler(PREMAKE_MONTHS + 1).maintainPartitions();
+
+		// then
+		assertThat(partitionRepository.findPartitionMonths(RoutineTable.CHALLENGE))
+			.containsExactlyElementsOf(Stream.concat(Stream.of(lingeringMonth),
+				monthsBetween(currentMonth, currentMonth.plusMonths(PREMAKE_MONTHS + 1)).stream()).toList());
+		String archived = RoutinePartitionRepository.ARCHIVE_SCHEMA + "."
+			+ RoutinePartitionRepository.partitionName(RoutineTable.CHALLENGE, finishedMonth);
+		assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + archived, Long.class))
+			.isEqualTo(Challenge.MAX_TOTAL_DAYS);
+		assertThat(countRoutines()).isEqualTo(Challenge.MAX_TOTAL_DAYS);
+		assertThat(partitionRepository.findPartitionMonths(RoutineTable.DEMO))
+			.contains(currentMonth.plusMonths(PREMAKE_MONTHS + 1));
+	}
+
+	@Test
+	@DisplayName("성공 - 챌린지/날짜 조회와 예정일 범위를 붙인 ID 조회는 이력이 늘어도 파티션 하나만 읽음")
+	void hotPathQueriesPruneToSinglePartition() {
+		// given: 2년치 과거 파티션
+		migrate();
+		YearMonth currentMonth = YearMonth.now(clock);
+		IntStream.rangeClosed(1, 24).forEach(offset ->
+			partitionRepository.createPartition(RoutineTable.CHALLENGE, currentMonth.minusMonths(offset)));
+		LocalDate today = currentMonth.atDay(15);
+
+		// when
+		String datePlan = explainDateLookup(1L, today);
+		String windowPlan = explain("SELECT * FROM challenge_routines WHERE id = 1 AND scheduled_date BETWEEN '%s' AND '%s'"
+			.formatted(ChallengeRoutine.earliestOperableDate(today), ChallengeRoutine.latestOperableDate(today)));
+
+		// then
+		assertThat(countPartitionScans(datePlan)).isEqualTo(1);
+		assertThat(countPartitionScans(windowPlan)).isEqualTo(1);
+	}
+
+	/**
+	 * 데이터 생성기로 과거 챌린지 이력을 월 단위로 채우며, 오늘 루틴 조회 지연이 이력 크기와 무관하게 유지되는지 확인합니다.
+	 * 공유 CI에서도 흔들리지 않도록 중앙값을 비교하고 여유 있는 한도를 둡니다.
+	 */
+	@Test
+	@DisplayName("성능 - 이력이 1개월에서 24개월로 늘어도 오늘 루틴 조회 지연과 조회 파티션 수가 유지")
+	void todayRoutineLatencyStaysFlatAsHistoryGrows() {
+		// given
+		migrate();
+		LocalDate today = LocalDate.now(clock);
+		YearMonth currentMonth = YearMonth.from(today);
+		Challenge active = saveChallenge(1L, today);
+		insertRoutines(active.getId(), today, ROUTINES_PER_DAY);
+		RoutinePartitionMaintenanceScheduler scheduler = createScheduler(PREMAKE_MONTHS);
+
+		generateHistory(currentMonth.minusMonths(1), 1);
+		scheduler.maintainPartitions();
+		long baselineNanos = medianLookupNanos(active.getId(), today);
+		String baselinePlan = explainDateLookup(active.getId(), today);
+
+		// when: 24개월치 이력 추가
+		generateHistory(currentMonth.minusMonths(24), 23);
+		String unarchivedPlan = explainDateLookup(active.getId(), today);
+		scheduler.maintainPartitions();
+		long grownNanos = medianLookupNanos(active.getId(), today);
+
+		// then: 보관 전에도 파티션 하나만 읽고, 보관 후 붙어 있는 파티션 수는 이력과 무관
+		assertThat(countPartitionScans(unarchivedPlan)).isEqualTo(countPartitionScans(baselinePlan)).isEqualTo(1);
+		assertThat(partitionRepository.findPartitionMonths(RoutineTable.CHALLENGE)).hasSize(PREMAKE_MONTHS + 1);
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM pg_tables WHERE schemaname = ?", Long.class, RoutinePartitionRepository.ARCHIVE_SCHEMA))
+			.isEqualTo(24L);
+		assertThat(grownNanos).isLessThan(baselineNanos * 3 + Duration.ofMillis(2).toNanos());
+	}
+
+	private void migrate() {
+		ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource(MIGRATION));
+		populator.setSeparator(ScriptUtils.EOF_STATEMENT_SEPARATOR);
+		populator.execute(dataSource);
+	}
+
+	private RoutinePartitionMaintenanceScheduler createScheduler(int premakeMonths) {
+		SchedulerLockRepository schedulerLockRepository = mock(SchedulerLockRepository.class);
+		RoutinePartitionProperties properties = new RoutinePartitionProperties();
+		properties.setPremakeMonths(premakeMonths);
+		when(schedulerLockRepository.tryAcquire("routine-partition-maintenance", properties.getLockLease()))
+			.thenReturn(Optional.of("lease-token"));
+		RoutinePartitionMaintenanceScheduler scheduler = new RoutinePartitionMaintenanceScheduler(
+			partitionRepository, schedulerLockRepository, properties, new SimpleMeterRegistry(), clock);
+		scheduler.init();
+		return scheduler;
+	}
+
+	private Challenge saveChallenge(Long userId, LocalDate startDate) {
+		return challengeRepository.save(Challenge.builder()
+			.userId(userId)
+			.homecareRoutine(DEFAULT_HOMECARE_ROUTINE)
+			.title("챌린지 " + userId)
+			.startDate(startDate)
+			.build());
+	}
+
+	private void insertRoutines(Long challengeId, LocalDate startDate, int routinesPerDay) {
+		jdbcTemplate.update("""
+			INSERT INTO challenge_routines (id, challenge_id, name, scheduled_date, is_complete, created_at)
+			SELECT nextval('challenge_routines_id_seq'), ?, '루틴 ' || routine_no, ?::date + day_offset, false, now()
+			FROM generate_series(0, ?) day_offset CROSS JOIN generate_series(1, ?) routine_no
+			""", challengeId, startDate, Challenge.MAX_TOTAL_DAYS - 1, routinesPerDay);
+	}
+
+	/**
+	 * 시작 월부터 개월 수만큼 끝난 챌린지와 그 루틴을 생성합니다. 루틴이 다음 달로 넘어가지 않도록 20일 이전에 시작합니다.
+	 */
+	private void generateHistory(YearMonth firstMonth, int months) {
+		for (YearMonth month : monthsBetween(firstMonth, firstMonth.plusMonths(months - 1))) {
+			partitionRepository.createPartition(RoutineTable.CHALLENGE, month);
+			jdbcTemplate.update("""
+				INSERT INTO challenges (
+					user_id, homecare_routine, title, is_active, total_days, start_date, end_date, created_at)
+				SELECT 100000 + n, ?, '지난 챌린지', false, ?, ?::date + (n % 20), ?::date + (n % 20) + ?, now()
+				FROM generate_series(1, ?) n
+				""", DEFAULT_HOMECARE_ROUTINE.name(), Challenge.MAX_TOTAL_DAYS, month.atDay(1), month.atDay(1),
+				Challenge.MAX_TOTAL_DAYS - 1, HISTORY_CHALLENGES_PER_MONTH);
+			jdbcTemplate.update("""
+				INSERT INTO challenge_routines (id, challenge_id, name, scheduled_date, is_complete, created_at)
+				SELECT nextval('challenge_routines_id_seq'), c.id, '루틴 ' || routine_no, c.start_date + day_offset,
+					true, now()
+				FROM challenges c
+				CROSS JOIN generate_series(0, ?) day_offset
+				CROSS JOIN generate_series(1, ?) routine_no
+				WHERE NOT c.is_active AND c.start_date BETWEEN ? AND ?
+				""", Challenge.MAX_TOTAL_DAYS - 1, ROUTINES_PER_DAY, month.atDay(1), month.atEndOfMonth());
+		}
+		jdbcTemplate.execute("ANALYZE challenges");
+		jdbcTemplate.execute("ANALYZE challenge_routines");
+	}
+
+	private long medianLookupNanos(Long challengeId, LocalDate date) {
+		for (int i = 0; i < WARMUP_QUERIES; i++) {
+			challengeRoutineRepository.findByChallengeIdAndScheduledDate(challengeId, date);
+		}
+		long[] elapsed = new long[MEASURED_QUERIES];
+		for (int i = 0; i < MEASURED_QUERIES; i++) {
+			long started = System.nanoTime();
+			assertThat(challengeRoutineRepository.findByChallengeIdAndScheduledDate(challengeId, date))
+				.hasSize(ROUTINES_PER_DAY);
+			elapsed[i] = System.nanoTime() - started;
+		}
+		Arrays.sort(elapsed);
+		return elapsed[MEASURED_QUERIES / 2];
+	}
+
+	private List<YearMonth> monthsBetween(YearMonth first, YearMonth last) {
+		return IntStream.rangeClosed(0, (int) first.until(last, ChronoUnit.MONTHS))
+			.mapToObj(first::plusMonths)
+			.toList();
+	}
+
+	private long countRoutines() {
+		return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM challenge_routines", Long.class);
+	}
+
+	private long maxRoutineId() {
+		return jdbcTemplate.queryForObject("SELECT MAX(id) FROM challenge_routines", Long.class);
+	}
+
+	/**
+	 * 실행 계획에 등장하는 서로 다른 파티션 수 (비트맵 스캔은 힙/인덱스 두 줄에 같은 파티션이 나오므로 이름으로 중복 제거)
+	 */
+	private long countPartitionScans(String plan) {
+		return PARTITION_NAME.matcher(plan).results()
+			.map(MatchResult::group)
+			.distinct()
+			.count();
+	}
+
+	private String explainDateLookup(Long challengeId, LocalDate date) {
+		return explain("SELECT * FROM challenge_routines WHERE challenge_id = %d AND scheduled_date = '%s'"
+			.formatted(challengeId, date));
+	}
+
+	private String explain(String sql) {
+		return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+			StringBuilder plan = new StringBuilder();
+			try (Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery("EXPLAIN " + sql)) {
+				while (resultSet.next()) {
+					plan.append(resultSet.getString(1)).append('\n');
+				}
+			}
+			return plan.toString();
+		});
+	}
+}
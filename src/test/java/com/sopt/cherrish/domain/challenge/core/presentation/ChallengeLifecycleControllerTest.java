@@ -19,6 +19,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -31,8 +32,12 @@ import com.sopt.cherrish.domain.challenge.core.presentation.dto.request.Challeng
 import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeCreateResponseDto;
 import com.sopt.cherrish.domain.user.exception.UserErrorCode;
 import com.sopt.cherrish.domain.user.exception.UserException;
+import com.sopt.cherrish.global.idempotency.IdempotencyProperties;
+import com.sopt.cherrish.global.idempotency.IdempotencyRepository;
+import com.sopt.cherrish.global.idempotency.IdempotentRequestExecutor;
 
 @WebMvcTest(ChallengeLifecycleController.class)
+@Import({IdempotentRequestExecutor.class, IdempotencyProperties.class})
 @DisplayName("ChallengeLifecycleController 테스트")
 class ChallengeLifecycleControllerTest {
 
@@ -45,6 +50,9 @@ class ChallengeLifecycleControllerTest {
 	@MockitoBean
 	private ChallengeCreationFacade challengeCreationFacade;
 
+	@MockitoBean
+	private IdempotencyRepository idempotencyRepository;
+
 	@Nested
 	@DisplayName("POST /api/challenges - 챌린지 생성")
 	class CreateChallenge {
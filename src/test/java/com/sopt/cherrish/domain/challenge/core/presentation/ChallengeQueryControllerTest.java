@@ -3,11 +3,17 @@ package com.sopt.cherrish.domain.challenge.core.presentation;
 import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixture.DEFAULT_CHALLENGE_ID;
 import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixture.DEFAULT_USER_ID;
 import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixture.createMockChallengeDetailResponse;
+import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixture.createMockChallengeHistoryPageResponse;
+import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixture.createMockChallengeLeaderboardResponse;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -20,6 +26,7 @@ import com.sopt.cherrish.domain.challenge.core.application.facade.ChallengeQuery
 import com.sopt.cherrish.domain.challenge.core.exception.ChallengeErrorCode;
 import com.sopt.cherrish.domain.challenge.core.exception.ChallengeException;
 import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeDetailResponseDto;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.ChallengeHistoryPageResponseDto;
 import com.sopt.cherrish.domain.user.exception.UserErrorCode;
 import com.sopt.cherrish.domain.user.exception.UserException;
 
@@ -83,4 +90,123 @@ class ChallengeQueryControllerTest {
 				.andExpect(status().isNotFound());
 		}
 	}
+
+	@Nested
+	@DisplayName("GET /api/challenges/history - 종료된 챌린지 기록 조회")
+	class GetChallengeHistory {
+
+		@Test
+		@DisplayName("성공 - 첫 페이지 조회 (기본 페이지 크기)")
+		void successFirstPage() throws Exception {
+			// given
+			ChallengeHistoryPageResponseDto response = createMockChallengeHistoryPageResponse();
+
+			given(challengeQueryFacade.getChallengeHistory(DEFAULT_USER_ID, null, null, 20))
+				.willReturn(response);
+
+			// when & then
+			mockMvc.perform(get("/api/challenges/history")
+					.header("X-User-Id", DEFAULT_USER_ID))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.challenges[0].challengeId").value(DEFAULT_CHALLENGE_ID))
+				.andExpect(jsonPath("$.data.challenges[0].bestStreak").value(4))
+				.andExpect(jsonPath("$.data.challenges[0].dailyCompletions").isArray())
+				.andExpect(jsonPath("$.data.hasNext").value(true))
+				.andExpect(jsonPath("$.data.nextCursorEndDate").value("2024-01-07"))
+				.andExpect(jsonPath("$.data.nextCursorId").value(DEFAULT_CHALLENGE_ID));
+		}
+
+		@Test
+		@DisplayName("성공 - 커서와 페이지 크기를 전달하여 다음 페이지 조회")
+		void successNextPage() throws Exception {
+			// given
+			LocalDate cursorEndDate = LocalDate.of(2024, 1, 7);
+
+			given(challengeQueryFacade.getChallengeHistory(DEFAULT_USER_ID, cursorEndDate, DEFAULT_CHALLENGE_ID, 10))
+				.willReturn(new ChallengeHistoryPageResponseDto(List.of(), false, null, null));
+
+			// when & then
+			mockMvc.perform(get("/api/challenges/history")
+					.header("X-User-Id", DEFAULT_USER_ID)
+					.param("cursorEndDate", "2024-01-07")
+					.param("cursorId", String.valueOf(DEFAULT_CHALLENGE_ID))
+					.param("size", "10"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.challenges").isEmpty())
+				.andExpect(jsonPath("$.data.hasNext").value(false));
+		}
+
+		@Test
+		@DisplayName("실패 - 커서 종료일과 커서 ID 중 하나만 전달")
+		void failIncompleteCursor() throws Exception {
+			// given
+			given(challengeQueryFacade.getChallengeHistory(DEFAULT_USER_ID, null, DEFAULT_CHALLENGE_ID, 20))
+				.willThrow(new ChallengeException(ChallengeErrorCode.INVALID_HISTORY_CURSOR));
+
+			// when & then
+			mockMvc.perform(get("/api/challenges/history")
+					.header("X-User-Id", DEFAULT_USER_ID)
+					.param("cursorId", String.valueOf(DEFAULT_CHALLENGE_ID)))
+				.andExpect(status().isBadRequest());
+		}
+
+		@Test
+		@DisplayName("실패 - 페이지 크기가 최대값을 초과")
+		void failPageSizeTooLarge() throws Exception {
+			// when & then
+			mockMvc.perform(get("/api/challenges/history")
+					.header("X-User-Id", DEFAULT_USER_ID)
+					.param("size", "51"))
+				.andExpect(status().isBadRequest());
+
+			verifyNoInteractions(challengeQueryFacade);
+		}
+	}
+
+	@Nested
+	@DisplayName("GET /api/challenges/leaderboard - 체리 랭킹 조회")
+	class GetLeaderboard {
+
+		@Test
+		@DisplayName("성공 - 상위 랭킹과 내 순위 조회 (기본 인원)")
+		void success() throws Exception {
+			// given
+			given(challengeQueryFacade.getLeaderboard(DEFAULT_USER_ID, 10))
+				.willReturn(createMockChallengeLeaderboardResponse());
+
+			// when & then
+			mockMvc.perform(get("/api/challenges/leaderboard")
+					.header("X-User-Id", DEFAULT_USER_ID))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.topChallengers[0].rank").value(1))
+				.andExpect(jsonPath("$.data.topChallengers[0].cherryLevelName").value("꾸꾸체리"))
+				.andExpect(jsonPath("$.data.myRanking.rank").value(3))
+				.andExpect(jsonPath("$.data.myRanking.userId").value(DEFAULT_USER_ID));
+		}
+
+		@Test
+		@DisplayName("실패 - 랭킹 저장소를 사용할 수 없음")
+		void failLeaderboardUnavailable() throws Exception {
+			// given
+			given(challengeQueryFacade.getLeaderboard(DEFAULT_USER_ID, 10))
+				.willThrow(new ChallengeException(ChallengeErrorCode.LEADERBOARD_UNAVAILABLE));
+
+			// when & then
+			mockMvc.perform(get("/api/challenges/leaderboard")
+					.header("X-User-Id", DEFAULT_USER_ID))
+				.andExpect(status().isServiceUnavailable());
+		}
+
+		@Test
+		@DisplayName("실패 - 조회 인원이 최대값을 초과")
+		void failSizeTooLarge() throws Exception {
+			// when & then
+			mockMvc.perform(get("/api/challenges/leaderboard")
+					.header("X-User-Id", DEFAULT_USER_ID)
+					.param("size", "101"))
+				.andExpect(status().isBadRequest());
+
+			verifyNoInteractions(challengeQueryFacade);
+		}
+	}
 }
@@ -12,23 +12,34 @@ import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixtu
 import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixture.createSingleRoutineUpdateRequest;
 import static com.sopt.cherrish.domain.challenge.core.fixture.ChallengeTestFixture.createValidRoutineUpdateRequest;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.util.Optional;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.ArgumentCaptor;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.RedisConnectionFailureException;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sopt.cherrish.domain.challenge.core.application.facade.ChallengeCustomRoutineFacade;
@@ -42,8 +53,13 @@ import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.Routine
 import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.RoutineCompletionResponseDto;
 import com.sopt.cherrish.domain.user.exception.UserErrorCode;
 import com.sopt.cherrish.domain.user.exception.UserException;
+import com.sopt.cherrish.global.idempotency.IdempotencyProperties;
+import com.sopt.cherrish.global.idempotency.IdempotencyRecord;
+import com.sopt.cherrish.global.idempotency.IdempotencyRepository;
+import com.sopt.cherrish.global.idempotency.IdempotentRequestExecutor;
 
 @WebMvcTest(ChallengeRoutineController.class)
+@Import({IdempotentRequestExecutor.class, IdempotencyProperties.class})
 @DisplayName("ChallengeRoutineController 테스트")
 class ChallengeRoutineControllerTest {
 
@@ -59,6 +75,9 @@ class ChallengeRoutineControllerTest {
 	@MockitoBean
 	private ChallengeCustomRoutineFacade challengeCustomRoutineFacade;
 
+	@MockitoBean
+	private IdempotencyRepository idempotencyRepository;
+
 	@Nested
 	@DisplayName("PATCH /api/challenges/routines/{routineId} - 루틴 완료 토글")
 	class ToggleRoutineCompletion {
@@ -390,4 +409,117 @@ class ChallengeRoutineControllerTest {
 				.andExpect(jsonPath("$.code").value("CH011"));
 		}
 	}
+
+	@Nested
+	@DisplayName("PATCH /api/challenges/routines/{routineId} - Idempotency-Key 재시도")
+	class IdempotentToggle {
+
+		private static final String IDEMPOTENCY_KEY = "toggle-retry-key";
+
+		@Test
+		@DisplayName("성공 - 같은 키로 재시도하면 다시 토글하지 않고 첫 응답을 그대로 반환")
+		void replaysStoredResponse() throws Exception {
+			// given: 첫 요청은 잠금을 잡고 처리한 뒤 응답 저장
+			given(idempotencyRepository.acquire(anyString(), anyString(), anyString(), any()))
+				.willReturn(Optional.empty());
+			given(idempotencyRepository.complete(anyString(), anyString(), anyString(), any()))
+				.willReturn(true);
+			given(challengeRoutineService.toggleCompletion(DEFAULT_USER_ID, DEFAULT_ROUTINE_ID))
+				.willReturn(createMockRoutineCompletionResponse(true));
+
+			toggleWithKey()
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.isComplete").value(true));
+
+			ArgumentCaptor<String> fingerprint = ArgumentCaptor.forClass(String.class);
+			ArgumentCaptor<String> storedResponse = ArgumentCaptor.forClass(String.class);
+			verify(idempotencyRepository).acquire(anyString(), fingerprint.capture(), anyString(), any());
+			verify(idempotencyRepository).complete(anyString(), anyString(), storedResponse.capture(), any());
+
+			// when: 같은 키의 재시도에는 저장된 응답이 있음
+			given(idempotencyRepository.acquire(anyString(), anyString(), anyString(), any()))
+				.willReturn(Optional.of(new IdempotencyRecord(fingerprint.getValue(), storedResponse.getValue())));
+
+			// then: 토글이 되돌려지지 않고 첫 응답(완료)과 같은 응답
+			toggleWithKey()
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.code").value("CH003"))
+				.andExpect(jsonPath("$.data.routineId").value(DEFAULT_ROUTINE_ID))
+				.andExpect(jsonPath("$.data.isComplete").value(true));
+			verify(challengeRoutineService, times(1)).toggleCompletion(DEFAULT_USER_ID, DEFAULT_ROUTINE_ID);
+		}
+
+		@Test
+		@DisplayName("실패 - 첫 요청을 처리 중이면 409")
+		void failWhileFirstRequestInProgress() throws Exception {
+			// given: 첫 요청의 요청 해시를 얻기 위해 한 번 처리
+			given(idempotencyRepository.acquire(anyString(), anyString(), anyString(), any()))
+				.willReturn(Optional.empty());
+			given(challengeRoutineService.toggleCompletion(DEFAULT_USER_ID, DEFAULT_ROUTINE_ID))
+				.willReturn(createMockRoutineCompletionResponse(true));
+			toggleWithKey().andExpect(status().isOk());
+			ArgumentCaptor<String> fingerprint = ArgumentCaptor.forClass(String.class);
+			verify(idempotencyRepository).acquire(anyString(), fingerprint.capture(), anyString(), any());
+
+			given(idempotencyRepository.acquire(anyString(), anyString(), anyString(), any()))
+				.willReturn(Optional.of(new IdempotencyRecord(fingerprint.getValue(), null)));
+
+			// when & then
+			toggleWithKey()
+				.andExpect(status().isConflict())
+				.andExpect(jsonPath("$.code").value("C008"));
+			verify(challengeRoutineService, times(1)).toggleCompletion(DEFAULT_USER_ID, DEFAULT_ROUTINE_ID);
+		}
+
+		@Test
+		@DisplayName("성공 - 처리한 뒤 응답 저장에 실패해도 잠금을 풀지 않고 응답 보관 시간까지 유지")
+		void keepsLockWhenResponseCannotBeStored() throws Exception {
+			// given
+			given(idempotencyRepository.acquire(anyString(), anyString(), anyString(), any()))
+				.willReturn(Optional.empty());
+			given(idempotencyRepository.complete(anyString(), anyString(), anyString(), any()))
+				.willThrow(new RedisConnectionFailureException("Redis unavailable"));
+			given(challengeRoutineService.toggleCompletion(DEFAULT_USER_ID, DEFAULT_ROUTINE_ID))
+				.willReturn(createMockRoutineCompletionResponse(true));
+
+			// when & then: 처리 결과는 그대로 응답하고, 재시도가 다시 토글하지 않도록 잠금 유지
+			toggleWithKey()
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.data.isComplete").value(true));
+			verify(idempotencyRepository).retain(anyString(), anyString(), eq(new IdempotencyProperties().getResponseTtl()));
+			verify(idempotencyRepository, never()).release(anyString(), anyString());
+		}
+
+		@Test
+		@DisplayName("실패 - 같은 키로 다른 루틴을 토글하면 422")
+		void failWhenKeyIsReusedForAnotherRequest() throws Exception {
+			// given
+			given(idempotencyRepository.acquire(anyString(), anyString(), anyString(), any()))
+				.willReturn(Optional.of(new IdempotencyRecord("other-request-fingerprint", "{}")));
+
+			// when & then
+			toggleWithKey()
+				.andExpect(status().isUnprocessableEntity())
+				.andExpect(jsonPath("$.code").value("C007"));
+			verify(challengeRoutineService, never()).toggleCompletion(any(), any());
+		}
+
+		@Test
+		@DisplayName("실패 - 키가 255자를 넘으면 400")
+		void failWhenKeyIsTooLong() throws Exception {
+			// when & then
+			mockMvc.perform(patch("/api/challenges/routines/{routineId}", DEFAULT_ROUTINE_ID)
+					.header("X-User-Id", DEFAULT_USER_ID)
+					.header(IdempotentRequestExecutor.HEADER, "k".repeat(256)))
+				.andExpect(status().isBadRequest())
+				.andExpect(jsonPath("$.code").value("C006"));
+			verifyNoInteractions(idempotencyRepository, challengeRoutineService);
+		}
+
+		private ResultActions toggleWithKey() throws Exception {
+			return mockMvc.perform(patch("/api/challenges/routines/{routineId}", DEFAULT_ROUTINE_ID)
+				.header("X-User-Id", DEFAULT_USER_ID)
+				.header(IdempotentRequestExecutor.HEADER, IDEMPOTENCY_KEY));
+		}
+	}
 }
@@ -2,7 +2,9 @@ package com.sopt.cherrish.domain.user.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.times;
 import static org.mockito.BDDMockito.verify;
 
@@ -18,7 +20,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import com.sopt.cherrish.domain.user.domain.event.UserDeletedEvent;
 import com.sopt.cherrish.domain.user.domain.model.User;
 import com.sopt.cherrish.domain.user.domain.repository.UserRepository;
 import com.sopt.cherrish.domain.user.exception.UserErrorCode;
@@ -41,6 +45,9 @@ class UserServiceTest {
 	@Mock
 	private Clock clock;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@Test
 	@DisplayName("사용자 조회 성공")
 	void getUserSuccess() {
@@ -170,6 +177,7 @@ class UserServiceTest {
 
 		// then
 		verify(userRepository, times(1)).delete(user);
+		verify(eventPublisher, times(1)).publishEvent(new UserDeletedEvent(userId));
 	}
 
 	@Test
@@ -183,5 +191,6 @@ class UserServiceTest {
 		assertThatThrownBy(() -> userService.deleteUser(userId))
 			.isInstanceOf(UserException.class)
 			.hasFieldOrPropertyWithValue("errorCode", UserErrorCode.USER_NOT_FOUND);
+		verify(eventPublisher, never()).publishEvent(any(Object.class));
 	}
 }
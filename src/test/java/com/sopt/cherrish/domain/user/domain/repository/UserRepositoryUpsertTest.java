@@ -0,0 +1,75 @@
+package com.sopt.cherrish.domain.user.domain.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.sopt.cherrish.domain.auth.domain.model.SocialProvider;
+import com.sopt.cherrish.domain.user.domain.model.User;
+import com.sopt.cherrish.global.config.JpaAuditConfig;
+import com.sopt.cherrish.global.config.PostgresContainerSupport;
+import com.sopt.cherrish.global.config.QueryDslConfig;
+
+/**
+ * 소셜 계정 upsert 네이티브 쿼리 검증 테스트.
+ *
+ * <p>{@code INSERT ... ON CONFLICT}는 PostgreSQL 전용 문법이므로 Testcontainers로 PostgreSQL을 띄웁니다.
+ * Docker를 사용할 수 없는 환경에서는 건너뜁니다.</p>
+ */
+@DataJpaTest
+@Import({QueryDslConfig.class, JpaAuditConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("UserRepository upsert 통합 테스트")
+class UserRepositoryUpsertTest extends PostgresContainerSupport {
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private SocialUserUpsertResult upsert(String socialId) {
+		return userRepository.upsertBySocialAccount(
+			SocialProvider.KAKAO.name(),
+			socialId,
+			"user@cherrish.com",
+			"사용자",
+			0,
+			LocalDateTime.of(2024, 1, 1, 9, 0)
+		).orElseThrow();
+	}
+
+	@Test
+	@DisplayName("처음 로그인한 소셜 계정은 한 문장으로 생성")
+	void upsertCreatesNewUser() {
+		// when
+		SocialUserUpsertResult result = upsert("kakao-new");
+
+		// then
+		assertThat(result.getCreated()).isTrue();
+		User user = userRepository.findById(result.getId()).orElseThrow();
+		assertThat(user.getSocialProvider()).isEqualTo(SocialProvider.KAKAO);
+		assertThat(user.getSocialId()).isEqualTo("kakao-new");
+		assertThat(user.getCreatedAt()).isEqualTo(LocalDateTime.of(2024, 1, 1, 9, 0));
+	}
+
+	@Test
+	@DisplayName("이미 가입한 소셜 계정은 기존 사용자 ID를 반환")
+	void upsertReturnsExistingUser() {
+		// given
+		SocialUserUpsertResult first = upsert("kakao-existing");
+
+		// when
+		SocialUserUpsertResult second = upsert("kakao-existing");
+
+		// then
+		assertThat(second.getCreated()).isFalse();
+		assertThat(second.getId()).isEqualTo(first.getId());
+		assertThat(userRepository.existsBySocialProviderAndSocialId(SocialProvider.KAKAO, "kakao-existing")).isTrue();
+	}
+}
@@ -0,0 +1,77 @@
+package com.sopt.cherrish.domain.user.infrastructure.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.verify;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.sopt.cherrish.domain.user.domain.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserExistenceCache 단위 테스트")
+class UserExistenceCacheTest {
+
+	@Mock
+	private UserRepository userRepository;
+
+	private UserExistenceCache userExistenceCache;
+
+	@BeforeEach
+	void setUp() {
+		userExistenceCache = new UserExistenceCache(userRepository);
+	}
+
+	@Test
+	@DisplayName("존재하는 사용자는 한 번만 DB에서 확인")
+	void existingUserIsLoadedOnce() {
+		// given
+		given(userRepository.existsById(1L)).willReturn(true);
+
+		// when
+		boolean first = userExistenceCache.exists(1L);
+		boolean second = userExistenceCache.exists(1L);
+
+		// then
+		assertThat(first).isTrue();
+		assertThat(second).isTrue();
+		verify(userRepository, times(1)).existsById(1L);
+	}
+
+	@Test
+	@DisplayName("존재하지 않는 사용자는 캐싱하지 않음")
+	void missingUserIsNotCached() {
+		// given
+		given(userRepository.existsById(1L)).willReturn(false);
+
+		// when
+		boolean first = userExistenceCache.exists(1L);
+		boolean second = userExistenceCache.exists(1L);
+
+		// then
+		assertThat(first).isFalse();
+		assertThat(second).isFalse();
+		verify(userRepository, times(2)).existsById(1L);
+	}
+
+	@Test
+	@DisplayName("무효화된 사용자는 다시 DB에서 확인")
+	void evictedUserIsReloaded() {
+		// given
+		given(userRepository.existsById(1L)).willReturn(true, false);
+		userExistenceCache.exists(1L);
+
+		// when
+		userExistenceCache.evict(1L);
+
+		// then
+		assertThat(userExistenceCache.exists(1L)).isFalse();
+		verify(userRepository, times(2)).existsById(1L);
+	}
+}
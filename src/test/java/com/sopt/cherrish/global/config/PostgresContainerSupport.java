@@ -0,0 +1,32 @@
+package com.sopt.cherrish.global.config;
+
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * PostgreSQL 전용 기능(부분 인덱스, 파티션, ON CONFLICT, Flyway 마이그레이션)을 검증하는 테스트의 공통 컨테이너 설정.
+ *
+ * <p>테스트 DB(H2) 대신 Testcontainers로 띄운 PostgreSQL을 데이터소스로 사용하며,
+ * H2 전용 import 스크립트는 실행하지 않습니다. 컨테이너는 한 번만 시작해 모든 테스트 클래스가 공유하므로(JVM 종료 시 정리)
+ * 캐시된 스프링 컨텍스트도 계속 같은 주소를 가리킵니다. Docker를 사용할 수 없는 환경에서는 건너뜁니다.</p>
+ */
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class PostgresContainerSupport {
+
+	private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+	@DynamicPropertySource
+	static void postgresProperties(DynamicPropertyRegistry registry) {
+		POSTGRES.start();
+		registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+		registry.add("spring.datasource.username", POSTGRES::getUsername);
+		registry.add("spring.datasource.password", POSTGRES::getPassword);
+		registry.add("spring.datasource.driver-class-name", POSTGRES::getDriverClassName);
+		registry.add("spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.PostgreSQLDialect");
+		registry.add("spring.jpa.properties.hibernate.hbm2ddl.import_files", () -> "");
+	}
+}
@@ -0,0 +1,56 @@
+package com.sopt.cherrish.global.config;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * 실제 Redis가 필요한 테스트의 공통 컨테이너 설정.
+ *
+ * <p>Lua 스크립트와 잠금 동작은 목(mock)으로 확인할 수 없으므로 Testcontainers로 Redis를 띄웁니다.
+ * 컨테이너는 처음 사용하는 테스트 클래스에서 한 번만 시작해 모든 테스트 클래스가 공유하고(JVM 종료 시 정리),
+ * 연결은 테스트 클래스마다 만듭니다. Docker를 사용할 수 없는 환경에서는 건너뜁니다.</p>
+ */
+@Testcontainers(disabledWithoutDocker = true)
+public abstract class RedisContainerSupport {
+
+	private static final int REDIS_PORT = 6379;
+
+	private static final GenericContainer<?> REDIS =
+		new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(REDIS_PORT);
+
+	private static LettuceConnectionFactory connectionFactory;
+
+	@BeforeAll
+	static void setUpRedisConnection() {
+		REDIS.start();
+		connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(REDIS_PORT));
+		connectionFactory.afterPropertiesSet();
+	}
+
+	@AfterAll
+	static void tearDownRedisConnection() {
+		connectionFactory.destroy();
+	}
+
+	/**
+	 * 운영과 같은 직렬화 설정의 RedisTemplate을 만들고, 이전 테스트가 남긴 데이터를 모두 지웁니다.
+	 */
+	protected static RedisTemplate<String, String> createFlushedRedisTemplate() {
+		RedisTemplate<String, String> redisTemplate = new RedisConfig().redisTemplate(connectionFactory);
+		redisTemplate.afterPropertiesSet();
+		flushRedis(redisTemplate);
+		return redisTemplate;
+	}
+
+	protected static void flushRedis(RedisTemplate<String, String> redisTemplate) {
+		redisTemplate.execute(connection -> {
+			connection.serverCommands().flushAll();
+			return null;
+		}, true);
+	}
+}
@@ -0,0 +1,35 @@
+package com.sopt.cherrish.global.config;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비(prepare)하는 SQL 문을 기록하는 테스트용 StatementInspector.
+ *
+ * <p>JDBC 배치는 문장을 한 번만 준비하고 여러 행을 묶어 보내므로, 같은 INSERT 문이 몇 번 기록되었는지로
+ * 배치 적용 여부를 확인할 수 있습니다. 테스트 설정의 {@code hibernate.session_factory.statement_inspector}로 등록됩니다.</p>
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+	private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+	@Override
+	public String inspect(String sql) {
+		STATEMENTS.add(sql.toLowerCase(Locale.ROOT));
+		return sql;
+	}
+
+	public static void clear() {
+		STATEMENTS.clear();
+	}
+
+	public static long count(String prefix) {
+		String normalizedPrefix = prefix.toLowerCase(Locale.ROOT);
+		return STATEMENTS.stream()
+			.filter(statement -> statement.startsWith(normalizedPrefix))
+			.count();
+	}
+}
@@ -7,6 +7,7 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
@@ -33,4 +34,10 @@ public class TestRedisConfig {
 
 		return mockTemplate;
 	}
+
+	@Bean
+	@Primary
+	public RedisMessageListenerContainer redisMessageListenerContainer() {
+		return Mockito.mock(RedisMessageListenerContainer.class);
+	}
 }
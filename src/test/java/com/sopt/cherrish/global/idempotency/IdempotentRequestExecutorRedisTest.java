@@ -0,0 +1,227 @@
+package com.sopt.cherrish.global.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sopt.cherrish.domain.challenge.core.presentation.dto.response.RoutineCompletionResponseDto;
+import com.sopt.cherrish.domain.challenge.core.response.success.ChallengeSuccessCode;
+import com.sopt.cherrish.global.config.RedisContainerSupport;
+import com.sopt.cherrish.global.exception.BaseException;
+import com.sopt.cherrish.global.response.CommonApiResponse;
+import com.sopt.cherrish.global.response.error.ErrorCode;
+
+/**
+ * 멱등성 키 처리의 Redis 동작 검증 테스트.
+ *
+ * <p>처리 중 잠금과 응답 저장은 Redis 스크립트로만 동작하므로 Testcontainers로 Redis를 띄웁니다.
+ * Docker를 사용할 수 없는 환경에서는 건너뜁니다.</p>
+ */
+@DisplayName("IdempotentRequestExecutor Redis 테스트")
+class IdempotentRequestExecutorRedisTest extends RedisContainerSupport {
+
+	private static final String SCOPE = "challenge-routine-toggle";
+	private static final String KEY = "retry-key";
+	private static final Long USER_ID = 1L;
+	private static final Long ROUTINE_ID = 10L;
+	private static final int DUPLICATE_COUNT = 10;
+
+	private final AtomicInteger executions = new AtomicInteger();
+
+	private RedisTemplate<String, String> redisTemplate;
+	private IdempotentRequestExecutor executor;
+
+	@BeforeEach
+	void setUp() {
+		redisTemplate = createFlushedRedisTemplate();
+		executor = new IdempotentRequestExecutor(
+			new IdempotencyRepository(redisTemplate), new IdempotencyProperties(), new ObjectMapper().findAndRegisterModules());
+	}
+
+	@Test
+	@DisplayName("성공 - 같은 키로 재시도하면 처리하지 않고 첫 응답을 그대로 반환")
+	void replaysStoredResponse() {
+		// given
+		CommonApiResponse<RoutineCompletionResponseDto> first = toggle(KEY);
+
+		// when
+		CommonApiResponse<RoutineCompletionResponseDto> retried = toggle(KEY);
+
+		// then: 두 번째 토글이 완료를 되돌리지 않음
+		assertThat(executions).hasValue(1);
+		assertThat(retried.getCode()).isEqualTo(first.getCode());
+		assertThat(retried.getData()).isEqualTo(first.getData());
+		assertThat(retried.getData().isComplete()).isTrue();
+	}
+
+	@Test
+	@DisplayName("성공 - 키가 다르거나 헤더가 없으면 매번 처리")
+	void processesDistinctKeys() {
+		// when
+		toggle("first-key");
+		toggle("second-key");
+		toggle(null);
+
+		// then
+		assertThat(executions).hasValue(3);
+	}
+
+	@Test
+	@DisplayName("동시성 - 같은 키의 요청이 동시에 들어와도 한 번만 처리하고 나머지는 처리 중 응답 또는 첫 응답")
+	void processesParallelDuplicatesOnce() throws Exception {
+		// given: 첫 요청이 처리 중인 동안 나머지 요청이 도착하도록 처리를 붙잡아 둠
+		CountDownLatch startLatch = new CountDownLatch(1);
+		CountDownLatch releaseLatch = new CountDownLatch(1);
+		ExecutorService pool = Executors.newFixedThreadPool(DUPLICATE_COUNT);
+		List<Future<String>> futures = new ArrayList<>();
+
+		// when
+		try {
+			for (int i = 0; i < DUPLICATE_COUNT; i++) {
+				futures.add(pool.submit(() -> {
+					startLatch.await();
+					return toggleHeldUntil(releaseLatch);
+				}));
+			}
+			startLatch.countDown();
+			Thread.sleep(500);
+			releaseLatch.countDown();
+
+			List<String> results = new ArrayList<>();
+			for (Future<String> future : futures) {
+				results.add(future.get(10, TimeUnit.SECONDS));
+			}
+
+			// then: 처리는 한 번, 처리 중에 도착한 요청은 409 (처리가 끝난 뒤 도착한 요청은 첫 응답)
+			assertThat(executions).hasValue(1);
+			assertThat(results).contains(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS.getCode());
+			assertThat(results).containsOnly("ok", ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS.getCode());
+		} finally {
+			pool.shutdownNow();
+		}
+	}
+
+	@Test
+	@DisplayName("실패 - 같은 키로 다른 요청을 보내면 처리하지 않음")
+	void rejectsKeyReuseWithDifferentRequest() {
+		// given
+		toggle(KEY);
+
+		// when & then
+		assertThatThrownBy(() -> executor.execute(
+			KEY, SCOPE, USER_ID, ROUTINE_ID + 1, RoutineCompletionResponseDto.class, this::complete))
+			.isInstanceOf(BaseException.class)
+			.extracting(e -> ((BaseException) e).getErrorCode())
+			.isEqualTo(ErrorCode.IDEMPOTENCY_KEY_REUSED);
+		assertThat(executions).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("성공 - 처리에 실패하면 잠금을 풀어 같은 키로 다시 시도할 수 있음")
+	void releasesLockOnFailure() {
+		// given
+		assertThatThrownBy(() -> executor.execute(KEY, SCOPE, USER_ID, ROUTINE_ID, RoutineCompletionResponseDto.class,
+			() -> {
+				executions.incrementAndGet();
+				throw new IllegalStateException("DB unavailable");
+			}))
+			.isInstanceOf(IllegalStateException.class);
+
+		// when
+		CommonApiResponse<RoutineCompletionResponseDto> retried = toggle(KEY);
+
+		// then
+		assertThat(executions).hasValue(2);
+		assertThat(retried.getData().isComplete()).isTrue();
+	}
+
+	@Test
+	@DisplayName("성공 - 처리한 뒤 응답을 저장하지 못하면 잠금을 유지하여 재시도를 다시 처리하지 않음")
+	void keepsLockWhenResponseCannotBeStored() {
+		// given: 응답 직렬화에 실패하는 ObjectMapper
+		IdempotencyProperties properties = new IdempotencyProperties();
+		IdempotentRequestExecutor failingExecutor = new IdempotentRequestExecutor(
+			new IdempotencyRepository(redisTemplate), properties, new ObjectMapper() {
+				@Override
+				public String writeValueAsString(Object value) throws JsonProcessingException {
+					throw new JsonMappingException(null, "serialization failed");
+				}
+			});
+		CommonApiResponse<RoutineCompletionResponseDto> first = failingExecutor.execute(
+			KEY, SCOPE, USER_ID, ROUTINE_ID, RoutineCompletionResponseDto.class, this::complete);
+		assertThat(first.getData().isComplete()).isTrue();
+
+		// when & then: 재시도는 처리 중으로 거절되고, 잠금은 응답 보관 시간까지 유지
+		assertThatThrownBy(() -> failingExecutor.execute(
+			KEY, SCOPE, USER_ID, ROUTINE_ID, RoutineCompletionResponseDto.class, this::complete))
+			.isInstanceOf(BaseException.class)
+			.extracting(e -> ((BaseException) e).getErrorCode())
+			.isEqualTo(ErrorCode.IDEMPOTENT_REQUEST_IN_PROGRESS);
+		assertThat(executions).hasValue(1);
+		assertThat(redisTemplate.getExpire("idempotency:" + SCOPE + ":" + USER_ID + ":" + KEY, TimeUnit.SECONDS))
+			.isGreaterThan(properties.getLockLease().toSeconds());
+	}
+
+	@Test
+	@DisplayName("성공 - 같은 키라도 사용자가 다르면 별개의 요청으로 처리")
+	void separatesKeysByUser() {
+		// when
+		toggle(KEY);
+		executor.execute(KEY, SCOPE, USER_ID + 1, ROUTINE_ID, RoutineCompletionResponseDto.class, this::complete);
+
+		// then
+		assertThat(executions).hasValue(2);
+	}
+
+	private CommonApiResponse<RoutineCompletionResponseDto> toggle(String idempotencyKey) {
+		return executor.execute(idempotencyKey, SCOPE, USER_ID, ROUTINE_ID, RoutineCompletionResponseDto.class, this::complete);
+	}
+
+	/**
+	 * 처리를 releaseLatch가 열릴 때까지 붙잡아 두는 토글
+	 *
+	 * @return 처리 또는 첫 응답을 받았으면 "ok", 거절되었으면 에러 코드
+	 */
+	private String toggleHeldUntil(CountDownLatch releaseLatch) {
+		try {
+			executor.execute(KEY, SCOPE, USER_ID, ROUTINE_ID, RoutineCompletionResponseDto.class, () -> {
+				await(releaseLatch);
+				return complete();
+			});
+			return "ok";
+		} catch (BaseException e) {
+			return e.getErrorCode().getCode();
+		}
+	}
+
+	private CommonApiResponse<RoutineCompletionResponseDto> complete() {
+		executions.incrementAndGet();
+		return CommonApiResponse.success(
+			ChallengeSuccessCode.ROUTINE_COMPLETED, new RoutineCompletionResponseDto(ROUTINE_ID, "보습하기", true));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -0,0 +1,6 @@
+-- H2는 부분 인덱스를 지원하지 않으므로 활성 챌린지에만 값이 채워지는 생성 컬럼에 유니크 인덱스를 걸어 V4 마이그레이션을 흉내냅니다.
+-- 유니크 인덱스는 NULL을 중복으로 보지 않으므로 비활성 챌린지는 제약을 받지 않습니다.
+ALTER TABLE challenges ADD COLUMN active_user_id BIGINT GENERATED ALWAYS AS (CASE WHEN is_active THEN user_id END);
+CREATE UNIQUE INDEX uk_challenges_active_user ON challenges (active_user_id);
+ALTER TABLE demo_challenges ADD COLUMN active_user_id BIGINT GENERATED ALWAYS AS (CASE WHEN is_active THEN user_id END);
+CREATE UNIQUE INDEX uk_demo_challenges_active_user ON demo_challenges (active_user_id);